@@ -23,12 +23,14 @@ import org.eclipse.mosaic.fed.application.ambassador.simulation.communication.Re
 import org.eclipse.mosaic.fed.application.ambassador.simulation.navigation.CentralNavigationComponent;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.CentralPerceptionComponent;
 import org.eclipse.mosaic.fed.application.ambassador.util.EventNicenessPriorityRegister;
+import org.eclipse.mosaic.fed.application.app.AbstractApplication;
 import org.eclipse.mosaic.fed.application.app.api.MosaicApplication;
 import org.eclipse.mosaic.fed.application.app.api.TrafficSignAwareApplication;
 import org.eclipse.mosaic.fed.application.app.api.os.OperatingSystem;
 import org.eclipse.mosaic.fed.application.config.CApplicationAmbassador;
 import org.eclipse.mosaic.interactions.application.ApplicationInteraction;
 import org.eclipse.mosaic.interactions.application.SumoTraciResponse;
+import org.eclipse.mosaic.interactions.communication.V2xBulkMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xFullMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
@@ -41,6 +43,7 @@ import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.ServerRegistration;
 import org.eclipse.mosaic.interactions.mapping.TmcRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.mapping.VehicleBulkRegistration;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
 import org.eclipse.mosaic.interactions.mapping.advanced.RoutelessVehicleRegistration;
 import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioVehicleRegistration;
@@ -51,6 +54,7 @@ import org.eclipse.mosaic.interactions.traffic.VehicleTypesInitialization;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.interactions.trafficsigns.VehicleSeenTrafficSignsUpdate;
 import org.eclipse.mosaic.interactions.vehicle.VehicleRouteRegistration;
+import org.eclipse.mosaic.lib.enums.VehicleClass;
 import org.eclipse.mosaic.lib.objects.electricity.ChargingStationData;
 import org.eclipse.mosaic.lib.objects.environment.EnvironmentEvent;
 import org.eclipse.mosaic.lib.objects.traffic.InductionLoopInfo;
@@ -61,13 +65,17 @@ import org.eclipse.mosaic.lib.objects.v2x.etsi.EtsiPayloadConfiguration;
 import org.eclipse.mosaic.lib.objects.vehicle.BatteryData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleDeparture;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 import org.eclipse.mosaic.lib.util.FileUtils;
 import org.eclipse.mosaic.lib.util.objects.ObjectInstantiation;
 import org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.Event;
 import org.eclipse.mosaic.lib.util.scheduling.EventManager;
+import org.eclipse.mosaic.lib.util.scheduling.EventProcessor;
 import org.eclipse.mosaic.lib.util.scheduling.EventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.MultiThreadedEventScheduler;
+import org.eclipse.mosaic.lib.util.scheduling.TimingWheelEventScheduler;
+import org.eclipse.mosaic.lib.util.scheduling.WorkStealingEventScheduler;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.AbstractFederateAmbassador;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
@@ -121,8 +129,14 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                     "Number of eventSchedulerThreads must be greater than zero."
             );
 
-            if (ambassadorConfig.eventSchedulerThreads == 1) {
+            if (ambassadorConfig.eventSchedulerThreads == 1 && ambassadorConfig.useTimingWheelEventScheduler) {
+                eventScheduler = new TimingWheelEventScheduler();
+            } else if (ambassadorConfig.eventSchedulerThreads == 1) {
                 eventScheduler = new DefaultEventScheduler();
+            } else if (ambassadorConfig.useWorkStealingEventScheduler) {
+                eventScheduler = new WorkStealingEventScheduler(ambassadorConfig.eventSchedulerThreads,
+                        ApplicationAmbassador::getEventAffinity, EventNicenessPriorityRegister.getBarriers()
+                );
             } else {
                 eventScheduler = new MultiThreadedEventScheduler(ambassadorConfig.eventSchedulerThreads);
             }
@@ -223,10 +237,29 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 .schedule();
     }
 
+    /**
+     * Returns the simulation unit an event belongs to, so that all events of one unit are processed
+     * by the same thread when using the {@link WorkStealingEventScheduler}.
+     */
+    private static Object getEventAffinity(Event event) {
+        final EventProcessor processor = event.getProcessors().get(0);
+        if (processor instanceof AbstractApplication<?> application) {
+            return application.getOperatingSystem();
+        }
+        if (!(processor instanceof AbstractSimulationUnit) && event.getResource() instanceof AbstractSimulationUnit unit) {
+            return unit;
+        }
+        return processor;
+    }
+
     private void shutdownSimulationUnits(Event event) {
         SimulationKernel.SimulationKernel.setCurrentSimulationTime(event.getTime());
 
         log.debug("remaining events: {}", eventScheduler.getAllEvents());
+        log.info("V2X message cache: {} messages remaining, {} messages removed",
+                SimulationKernel.SimulationKernel.getV2xMessageCache().size(),
+                SimulationKernel.SimulationKernel.getV2xMessageCache().getEvictedItems()
+        );
         UnitSimulator.UnitSimulator.removeAllSimulationUnits();
     }
 
@@ -265,6 +298,8 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 this.process((TrafficLightRegistration) interaction);
             } else if (interaction.getTypeId().startsWith(VehicleRegistration.TYPE_ID)) {
                 this.process((VehicleRegistration) interaction);
+            } else if (interaction.getTypeId().startsWith(VehicleBulkRegistration.TYPE_ID)) {
+                this.process((VehicleBulkRegistration) interaction);
             } else if (interaction.getTypeId().startsWith(ScenarioVehicleRegistration.TYPE_ID)) {
                 this.process((ScenarioVehicleRegistration) interaction);
             } else if (interaction.getTypeId().startsWith(RoutelessVehicleRegistration.TYPE_ID)) {
@@ -279,6 +314,8 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 this.process((ChargingStationUpdate) interaction);
             } else if (interaction.getTypeId().startsWith(VehicleRouteRegistration.TYPE_ID)) {
                 this.process((VehicleRouteRegistration) interaction);
+            } else if (interaction.getTypeId().startsWith(V2xBulkMessageReception.TYPE_ID)) {
+                this.process((V2xBulkMessageReception) interaction);
             } else if (interaction.getTypeId().startsWith(V2xMessageReception.TYPE_ID)) {
                 this.process((V2xMessageReception) interaction);
             } else if (interaction.getTypeId().startsWith(V2xFullMessageReception.TYPE_ID)) {
@@ -380,16 +417,63 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 .registerVehicleType(scenarioVehicleRegistration.getName(), scenarioVehicleRegistration.getVehicleType());
     }
 
+    private void process(final VehicleBulkRegistration vehicleBulkRegistration) {
+        // routeless vehicles are registered again with their calculated routes, using one bulk registration as well
+        final List<VehicleRegistration> routedRegistrations = new ArrayList<>();
+        for (VehicleRegistration vehicleRegistration : vehicleBulkRegistration.getRegistrations()) {
+            if (vehicleRegistration instanceof RoutelessVehicleRegistration) {
+                final VehicleRegistration routedRegistration = createRoutedRegistration((RoutelessVehicleRegistration) vehicleRegistration);
+                if (routedRegistration != null) {
+                    routedRegistrations.add(routedRegistration);
+                }
+            } else {
+                this.process(vehicleRegistration);
+            }
+        }
+        if (routedRegistrations.isEmpty()) {
+            return;
+        }
+        final VehicleBulkRegistration addInteraction = new VehicleBulkRegistration(vehicleBulkRegistration.getTime(), routedRegistrations);
+        log.info("Sending VehicleBulkRegistration Interaction for {} vehicles", routedRegistrations.size());
+        try {
+            rti.triggerInteraction(addInteraction);
+        } catch (InternalFederateException | IllegalValueException e) {
+            log.error(ErrorRegister.AMBASSADOR_ErrorSendInteraction.toString(), e);
+        }
+    }
+
     private void process(final RoutelessVehicleRegistration routelessVehicleRegistration) {
+        final VehicleRegistration addInteraction = createRoutedRegistration(routelessVehicleRegistration);
+        if (addInteraction == null) {
+            return;
+        }
+        log.info("Sending VehicleRegistration Interaction:" + addInteraction);
+        try {
+            rti.triggerInteraction(addInteraction);
+        } catch (InternalFederateException | IllegalValueException e) {
+            log.error(ErrorRegister.AMBASSADOR_ErrorSendInteraction.toString(), e);
+        }
+    }
+
+    /**
+     * Calculates the route of a vehicle registered without route, and creates the actual {@link VehicleRegistration}.
+     *
+     * @return the registration of the vehicle including its route, or {@code null} if no route could be calculated
+     */
+    private VehicleRegistration createRoutedRegistration(final RoutelessVehicleRegistration routelessVehicleRegistration) {
+        final VehicleType vehicleType = routelessVehicleRegistration.getMapping().getVehicleType();
         final VehicleDeparture routeInfo = SimulationKernel.SimulationKernel.getCentralNavigationComponent().createRouteForOdInfo(
-                routelessVehicleRegistration.getTime(), routelessVehicleRegistration.getTrip(), routelessVehicleRegistration.getDeparture()
+                routelessVehicleRegistration.getTime(),
+                routelessVehicleRegistration.getTrip(),
+                routelessVehicleRegistration.getDeparture(),
+                vehicleType != null ? vehicleType.getVehicleClass() : VehicleClass.Car
         );
         if (routeInfo == null) {
             log.error(ErrorRegister.AMBASSADOR_ErrorCalculateDeparture.toString());
-            return;
+            return null;
         }
 
-        final VehicleRegistration addInteraction = new VehicleRegistration(
+        return new VehicleRegistration(
                 routelessVehicleRegistration.getTime(),
                 routelessVehicleRegistration.getMapping().getName(),
                 routelessVehicleRegistration.getMapping().getGroup(),
@@ -397,12 +481,6 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 routeInfo,
                 routelessVehicleRegistration.getMapping().getVehicleType()
         );
-        log.info("Sending VehicleRegistration Interaction:" + addInteraction);
-        try {
-            rti.triggerInteraction(addInteraction);
-        } catch (InternalFederateException | IllegalValueException e) {
-            log.error(ErrorRegister.AMBASSADOR_ErrorSendInteraction.toString(), e);
-        }
     }
 
     private void process(final VehicleSeenTrafficSignsUpdate vehicleSeenTrafficSignsUpdate) {
@@ -414,15 +492,17 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
                 // Call the methods onTrafficSign and onPassedTrafficSign for the respective
                 // vehicles/signs in all TrafficSignHandlingApplications.
                 for (TrafficSignAwareApplication application : simulationUnit.getApplicationsIterator(TrafficSignAwareApplication.class)) {
+                    // the simulation unit is passed as resource to process these events on the same thread as all others of the unit
                     addEvent(new Event(
                             vehicleSeenTrafficSignsUpdate.getTime(),
                             e -> vehicleSeenTrafficSignsUpdate.getNewSigns(vehicleId).forEach(application::onTrafficSignNoticed),
+                            simulationUnit,
                             EventNicenessPriorityRegister.UPDATE_SEEN_TRAFFIC_SIGN
-
                     ));
                     addEvent(new Event(
                             vehicleSeenTrafficSignsUpdate.getTime(),
                             e -> vehicleSeenTrafficSignsUpdate.getPassedSigns(vehicleId).forEach(application::onTrafficSignInvalidated),
+                            simulationUnit,
                             EventNicenessPriorityRegister.UPDATE_SEEN_TRAFFIC_SIGN
                     ));
                 }
@@ -488,6 +568,35 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
         addEvent(event);
     }
 
+    private void process(final V2xBulkMessageReception v2xBulkMessageReception) {
+        // because the sendV2XMessage method put the v2x message in the map and only send a V2XMessageGeneralized around, unmap the message
+        V2xMessage v2XMessage = SimulationKernel.SimulationKernel.getV2xMessageCache().getItem(v2xBulkMessageReception.getMessageId());
+        if (v2XMessage == null) {
+            log.warn("V2XMessage with id {} is unknown", v2xBulkMessageReception.getMessageId());
+            return;
+        }
+
+        for (int i = 0; i < v2xBulkMessageReception.getNumberOfReceivers(); i++) {
+            final AbstractSimulationUnit simulationUnit =
+                    UnitSimulator.UnitSimulator.getUnitFromId(v2xBulkMessageReception.getReceiverName(i));
+            // we don't simulate vehicles without an application
+            if (simulationUnit == null) {
+                continue;
+            }
+            ReceivedV2xMessage receivedV2xMessage = new ReceivedV2xMessage(
+                    v2XMessage,
+                    v2xBulkMessageReception.getReceiverInformation(i));
+            final Event event = new Event(
+                    v2xBulkMessageReception.getReceiveTime(i),
+                    simulationUnit,
+                    receivedV2xMessage,
+                    EventNicenessPriorityRegister.V2X_MESSAGE_RECEPTION
+            );
+
+            addEvent(event);
+        }
+    }
+
     private void process(final V2xFullMessageReception v2xFullMessageReception) {
         final AbstractSimulationUnit simulationUnit = UnitSimulator.UnitSimulator.getUnitFromId(v2xFullMessageReception.getReceiverName());
         // we don't simulate vehicles without an application
@@ -687,7 +796,10 @@ public class ApplicationAmbassador extends AbstractFederateAmbassador implements
          */
         final Event triggerGarbageCollection = new Event(
                 vehicleUpdates.getTime(),
-                e -> SimulationKernel.SimulationKernel.garbageCollection());
+                e -> SimulationKernel.SimulationKernel.garbageCollection(),
+                null,
+                EventNicenessPriorityRegister.GARBAGE_COLLECTION
+        );
         addEvent(triggerGarbageCollection);
     }
 
@@ -42,10 +42,10 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -356,7 +356,7 @@ public enum SimulationKernel {
             // subtract the cache time from the current simulation time to get the last time an interaction should be cached
             long lastTime = SimulationKernel.getCurrentSimulationTime() - getConfiguration().messageCacheTime;
             if (lastTime > 0) {
-                Set<Integer> removedIds = SimulationKernel.getV2xMessageCache().garbageCollection(lastTime);
+                Collection<Integer> removedIds = SimulationKernel.getV2xMessageCache().garbageCollection(lastTime);
                 if (removedIds.isEmpty()) {
                     return;
                 }
@@ -21,6 +21,7 @@ import org.eclipse.mosaic.fed.application.config.CApplicationAmbassador;
 import org.eclipse.mosaic.interactions.traffic.VehicleRoutesInitialization;
 import org.eclipse.mosaic.interactions.vehicle.VehicleRouteChange;
 import org.eclipse.mosaic.interactions.vehicle.VehicleRouteRegistration;
+import org.eclipse.mosaic.lib.enums.VehicleClass;
 import org.eclipse.mosaic.lib.geo.GeoCircle;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.geo.GeoUtils;
@@ -88,6 +89,11 @@ public class CentralNavigationComponent {
      */
     private CApplicationAmbassador.CRoutingByType configuration;
 
+    /**
+     * Candidate routes for origin-destination pairs, {@code null} if routes are calculated for each vehicle.
+     */
+    private OriginDestinationRoutePool routePool;
+
     /**
      * Constructor for the CentralNavigationComponent.
      * Sets the logger and the configuration for navigation.
@@ -123,6 +129,9 @@ public class CentralNavigationComponent {
 
             routing = createFromType(this.configuration != null ? this.configuration.type : null);
             routing.initialize(configuration, applicationAmbassadorParameter.configuration.getParentFile());
+            if (configuration != null && configuration.originDestinationRoutes > 0) {
+                routePool = new OriginDestinationRoutePool(configuration.originDestinationRoutes);
+            }
 
             this.log.info("CNC - Navigation-System initialized");
 
@@ -377,46 +386,79 @@ public class CentralNavigationComponent {
      * @return A {@link VehicleDeparture} if a valid route was found, otherwise {@code null}.
      */
     public VehicleDeparture createRouteForOdInfo(long time, OriginDestinationPair odInfo, VehicleDeparture departure) {
+        return createRouteForOdInfo(time, odInfo, departure, VehicleClass.Car);
+    }
 
-        if (odInfo.origin != null && odInfo.destination != null) {
-            // create request
-            final GeoPoint sourcePoint = chooseGeoPointInCircle(odInfo.origin);
-            final GeoPoint targetPoint = chooseGeoPointInCircle(odInfo.destination);
-            final RoutingParameters params = new RoutingParameters().alternativeRoutes(0).costFunction(RoutingCostFunction.Fastest);
-            final RoutingRequest request = new RoutingRequest(new RoutingPosition(sourcePoint), new RoutingPosition(targetPoint), params);
-
-            // find route
-            final RoutingResponse response = routing.findRoutes(request);
-            // check if best route, matches one of the existing routes and if so choose that existing route
-            if (response.getBestRoute() != null) {
-                VehicleRoute route = null;
-                for (VehicleRoute existingRoute : getAllRoutes().values()) {
-                    if (isNewRouteOnOriginalRoute(response.getBestRoute().getConnectionIds(), existingRoute.getConnectionIds())) {
-                        route = existingRoute;
-                        break;
-                    }
-                }
-                if (route == null) {
-                    try {
-                        route = routing.createRouteForRTI(response.getBestRoute());
-                        propagateRoute(route, time);
-                    } catch (IllegalRouteException e) {
-                        log.error("[CNC.createRouteForODInfo]: Could not create route.", e);
-                        return null;
-                    } catch (InternalFederateException e) {
-                        log.error("[CNC.createRouteForODInfo]: unable to send PropagateRoute message.", e);
-                        return null;
-                    }
-                }
-                return new VehicleDeparture.Builder(route.getId())
-                        .departureLane(departure.getLaneSelectionMode(), departure.getDepartureLane(), departure.getDeparturePos())
-                        .departureSpeed(departure.getDepartureSpeedMode(), departure.getDepartureSpeed())
-                        .create();
-            }
+    /**
+     * This method is called by the {@link ApplicationAmbassador} to create a route for a vehicle
+     * which is spawned using an {@link OriginDestinationPair}. If a route pool is configured
+     * (see {@link CApplicationAmbassador.CRoutingByType#originDestinationRoutes}), the route is chosen
+     * from the candidate routes calculated once for the origin-destination pair.
+     *
+     * @param time         Time of propagation message
+     * @param odInfo       The {@link OriginDestinationPair}, that a route should be created for.
+     * @param departure    Prior departure information read from configuration.
+     * @param vehicleClass The class of the vehicle the route is created for.
+     * @return A {@link VehicleDeparture} if a valid route was found, otherwise {@code null}.
+     */
+    public VehicleDeparture createRouteForOdInfo(long time, OriginDestinationPair odInfo, VehicleDeparture departure,
+                                                 VehicleClass vehicleClass) {
+        if (odInfo.origin == null || odInfo.destination == null) {
+            log.error("[CNC.createRouteForODInfo]: Insufficient or wrong data in OD info.");
+            return null;
+        }
+        final RoutingParameters params = new RoutingParameters()
+                .alternativeRoutes(0)
+                .costFunction(RoutingCostFunction.Fastest)
+                .vehicleClass(vehicleClass);
+
+        final VehicleRoute route;
+        if (routePool != null) {
+            route = routePool.getRoute(odInfo, params.getVehicleClass(), params.getRoutingCostFunction(),
+                    () -> calculateRouteForOdInfo(time, odInfo, params),
+                    SimulationKernel.SimulationKernel.getRandomNumberGenerator()
+            );
+        } else {
+            route = calculateRouteForOdInfo(time, odInfo, params);
+        }
+        if (route == null) {
+            return null;
         }
+        return new VehicleDeparture.Builder(route.getId())
+                .departureLane(departure.getLaneSelectionMode(), departure.getDepartureLane(), departure.getDeparturePos())
+                .departureSpeed(departure.getDepartureSpeedMode(), departure.getDepartureSpeed())
+                .create();
+    }
 
-        log.error("[CNC.createRouteForODInfo]: Insufficient or wrong data in OD info.");
-        return null;
+    private VehicleRoute calculateRouteForOdInfo(long time, OriginDestinationPair odInfo, RoutingParameters params) {
+        // create request
+        final GeoPoint sourcePoint = chooseGeoPointInCircle(odInfo.origin);
+        final GeoPoint targetPoint = chooseGeoPointInCircle(odInfo.destination);
+        final RoutingRequest request = new RoutingRequest(new RoutingPosition(sourcePoint), new RoutingPosition(targetPoint), params);
+
+        // find route
+        final RoutingResponse response = routing.findRoutes(request);
+        if (response.getBestRoute() == null) {
+            log.error("[CNC.createRouteForODInfo]: Insufficient or wrong data in OD info.");
+            return null;
+        }
+        // check if best route, matches one of the existing routes and if so choose that existing route
+        for (VehicleRoute existingRoute : getAllRoutes().values()) {
+            if (isNewRouteOnOriginalRoute(response.getBestRoute().getConnectionIds(), existingRoute.getConnectionIds())) {
+                return existingRoute;
+            }
+        }
+        try {
+            final VehicleRoute route = routing.createRouteForRTI(response.getBestRoute());
+            propagateRoute(route, time);
+            return route;
+        } catch (IllegalRouteException e) {
+            log.error("[CNC.createRouteForODInfo]: Could not create route.", e);
+            return null;
+        } catch (InternalFederateException e) {
+            log.error("[CNC.createRouteForODInfo]: unable to send PropagateRoute message.", e);
+            return null;
+        }
     }
 
     private GeoPoint chooseGeoPointInCircle(GeoCircle origin) {
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador.simulation.navigation;
+
+import org.eclipse.mosaic.lib.enums.VehicleClass;
+import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
+import org.eclipse.mosaic.lib.objects.mapping.OriginDestinationPair;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
+import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Pool of candidate routes for origin-destination pairs. When the first vehicle of an origin-destination pair
+ * requests a route, a fixed number of routes is calculated between random points within the origin and destination
+ * circles. All subsequent vehicles of the same pair, vehicle class, and cost function get one of these candidate
+ * routes assigned randomly. This way, the number of routing requests depends on the number of origin-destination
+ * pairs instead of the number of spawned vehicles.
+ */
+class OriginDestinationRoutePool {
+
+    private final int routesPerPair;
+
+    private final Map<PoolKey, List<VehicleRoute>> candidateRoutes = new HashMap<>();
+
+    /**
+     * Creates a new route pool.
+     *
+     * @param routesPerPair the number of routes to calculate for each origin-destination pair
+     */
+    OriginDestinationRoutePool(int routesPerPair) {
+        Validate.isTrue(routesPerPair > 0, "At least one route has to be calculated for each origin-destination pair.");
+        this.routesPerPair = routesPerPair;
+    }
+
+    /**
+     * Returns a random route out of the candidate routes of the given origin-destination pair. If no candidates
+     * are available yet, they are calculated using the given {@code routeCalculator}, which is called
+     * {@link #routesPerPair} times. Duplicate routes returned by the calculator are only stored once.
+     * If no route could be calculated at all, nothing is stored, so that the next request calculates again.
+     *
+     * @param odPair          the origin-destination pair
+     * @param vehicleClass    the class of the vehicle requesting the route
+     * @param costFunction    the cost function used to calculate the routes
+     * @param routeCalculator calculates a route between random points of the origin-destination pair, or returns {@code null}
+     * @param rng             the random number generator used to choose one of the candidate routes
+     * @return a route for the origin-destination pair, or {@code null} if no route could be calculated
+     */
+    VehicleRoute getRoute(OriginDestinationPair odPair, VehicleClass vehicleClass, RoutingCostFunction costFunction,
+                          Supplier<VehicleRoute> routeCalculator, RandomNumberGenerator rng) {
+        final List<VehicleRoute> routes = candidateRoutes.computeIfAbsent(
+                new PoolKey(odPair, vehicleClass, costFunction),
+                key -> calculateCandidateRoutes(routeCalculator)
+        );
+        if (routes == null) {
+            return null;
+        }
+        return routes.size() == 1 ? routes.get(0) : routes.get(rng.nextInt(routes.size()));
+    }
+
+    private List<VehicleRoute> calculateCandidateRoutes(Supplier<VehicleRoute> routeCalculator) {
+        final List<VehicleRoute> routes = new ArrayList<>(routesPerPair);
+        for (int i = 0; i < routesPerPair; i++) {
+            VehicleRoute route = routeCalculator.get();
+            if (route != null && routes.stream().noneMatch(r -> r.getId().equals(route.getId()))) {
+                routes.add(route);
+            }
+        }
+        return routes.isEmpty() ? null : routes;
+    }
+
+    private static class PoolKey {
+
+        private final OriginDestinationPair odPair;
+        private final VehicleClass vehicleClass;
+        private final RoutingCostFunction costFunction;
+
+        private PoolKey(OriginDestinationPair odPair, VehicleClass vehicleClass, RoutingCostFunction costFunction) {
+            this.odPair = odPair;
+            this.vehicleClass = vehicleClass;
+            this.costFunction = costFunction;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PoolKey other = (PoolKey) o;
+            return Objects.equals(odPair, other.odPair)
+                    && vehicleClass == other.vehicleClass
+                    && Objects.equals(costFunction, other.costFunction);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(odPair, vehicleClass, costFunction);
+        }
+    }
+}
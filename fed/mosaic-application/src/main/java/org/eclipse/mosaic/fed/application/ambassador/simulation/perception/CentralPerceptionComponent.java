@@ -65,12 +65,12 @@ public class CentralPerceptionComponent {
     /**
      * If set to true, the traffic light index will be updated when {@code updateSpatialIndices} is called.
      */
-    private boolean updateVehicleIndex = false;
+    private volatile boolean updateVehicleIndex = false;
 
     /**
      * If set to true, the traffic light index will be updated when {@code updateSpatialIndices} is called.
      */
-    private boolean updateTrafficLightIndex = false;
+    private volatile boolean updateTrafficLightIndex = false;
 
     public CentralPerceptionComponent(CPerception perceptionConfiguration) {
         this.configuration = Validate.notNull(perceptionConfiguration, "perceptionConfiguration must not be null");
@@ -121,19 +121,30 @@ public class CentralPerceptionComponent {
     /**
      * Updates the spatial indices (currently only vehicles).
      * If the positions of vehicles have not changed since last call of this method, nothing is done.
+     * This method may be called by several threads at once. Only the first one updates the indices,
+     * all others wait until the new snapshots of the indices have been published and then query them without locking.
      */
     public void updateSpatialIndices() {
+        if (!updateVehicleIndex && !updateTrafficLightIndex) {
+            return;
+        }
+        synchronized (this) {
+            updateSpatialIndicesExclusively();
+        }
+    }
+
+    private void updateSpatialIndicesExclusively() {
         if (updateVehicleIndex) {
-            // do not update index until next VehicleUpdates interaction is received
-            updateVehicleIndex = false;
             // using Iterables.concat allows iterating over both lists subsequently without creating a new list
             trafficObjectIndex.updateVehicles(Iterables.concat(latestVehicleUpdates.getAdded(), latestVehicleUpdates.getUpdated()));
+            // do not update index until next VehicleUpdates interaction is received, reset only after
+            // the new index has been published, as other threads skip waiting for the update once this flag is unset
+            updateVehicleIndex = false;
         }
         if (updateTrafficLightIndex) {
-            // do not update index until next TrafficLightUpdates interaction is received
-            updateVehicleIndex = false;
-            // using Iterables.concat allows iterating over both lists subsequently without creating a new list
             trafficObjectIndex.updateTrafficLights(latestTrafficLightUpdates.getUpdated());
+            // do not update index until next TrafficLightUpdates interaction is received
+            updateTrafficLightIndex = false;
         }
     }
 
@@ -144,7 +155,7 @@ public class CentralPerceptionComponent {
      * @param vehicleId   id of the vehicle to register
      * @param vehicleType the vehicle type of the vehicle
      */
-    public void registerVehicleType(String vehicleId, VehicleType vehicleType) {
+    public synchronized void registerVehicleType(String vehicleId, VehicleType vehicleType) {
         trafficObjectIndex.registerVehicleType(vehicleId, vehicleType);
     }
 
@@ -153,7 +164,7 @@ public class CentralPerceptionComponent {
      *
      * @param vehicleUpdates the interaction holding all vehicle updates
      */
-    public void updateVehicles(VehicleUpdates vehicleUpdates) {
+    public synchronized void updateVehicles(VehicleUpdates vehicleUpdates) {
         latestVehicleUpdates = vehicleUpdates;
         updateVehicleIndex = true;
         // we need to remove arrived vehicles in every simulation step, otherwise we could have dead vehicles in the index
@@ -178,7 +189,7 @@ public class CentralPerceptionComponent {
      *
      * @param trafficLightUpdates a list of information packages transmitted by the traffic simulator
      */
-    public void updateTrafficLights(TrafficLightUpdates trafficLightUpdates) {
+    public synchronized void updateTrafficLights(TrafficLightUpdates trafficLightUpdates) {
         latestTrafficLightUpdates = trafficLightUpdates;
         updateTrafficLightIndex = true;
     }
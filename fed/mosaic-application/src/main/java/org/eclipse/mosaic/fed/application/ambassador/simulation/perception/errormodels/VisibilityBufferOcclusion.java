@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador.simulation.perception.errormodels;
+
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.PerceptionModuleOwner;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.objects.SpatialObject;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.objects.TrafficLightObject;
+import org.eclipse.mosaic.lib.math.Vector3d;
+import org.eclipse.mosaic.lib.spatial.Edge;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * This {@link PerceptionModifier} combines the {@link WallOcclusion} and the {@link BoundingBoxOcclusion}
+ * by using an angular depth buffer around the ego vehicle. The full circle around the ego vehicle is divided into
+ * bins of {@link #angularResolution}. Each wall and each edge of all perceived objects is drawn into this buffer,
+ * storing the distance of the closest occluder for each bin. Afterwards, a corner of an object is visible if it is not
+ * further away than the closest occluder in the bin it is located in, which can be answered in constant time.
+ * <p/>
+ * As with the {@link BoundingBoxOcclusion}, objects cannot be occluded by their own edges, and traffic lights
+ * are not occluded by other objects. Objects are only occluded by walls, if the perception module provides
+ * surrounding walls (see {@link org.eclipse.mosaic.fed.application.app.api.perception.PerceptionModule#getSurroundingWalls()}).
+ * Since the buffer is discretized, the result may differ slightly from the exact checks of the other modifiers for points
+ * lying close to the border of an occluder.
+ * <p/>
+ * The depth buffers are kept per thread, so one instance of this modifier can be used by several units
+ * which are processed concurrently.
+ */
+public class VisibilityBufferOcclusion implements PerceptionModifier {
+
+    private static final int WALL_OWNER = -1;
+    private static final int NO_OWNER = -2;
+
+    /**
+     * Tolerance used when comparing the distance of a point with the distance of the closest occluder. [m]
+     */
+    private static final double DISTANCE_TOLERANCE = 1e-3;
+
+    /**
+     * The angle covered by one bin of the depth buffer. [rad]
+     * Default: 0.1 degree
+     */
+    private final double angularResolution;
+
+    /**
+     * Threshold that defines how many corners of an object need to be visible in order for the
+     * object to be treated as detected.
+     * Default: 2
+     */
+    private final int detectionThreshold;
+
+    private final int bins;
+    private final double[] binCos;
+    private final double[] binSin;
+
+    /**
+     * The depth buffers of each thread, which are allocated once and reused on each call.
+     */
+    private final ThreadLocal<DepthBuffer> depthBuffers;
+
+    /**
+     * Default constructor for the {@link VisibilityBufferOcclusion}.
+     * Uses an angular resolution of 0.1 degree and {@link #detectionThreshold} = 2 as default values.
+     */
+    public VisibilityBufferOcclusion() {
+        this(0.1, 2);
+    }
+
+    /**
+     * Constructor for {@link VisibilityBufferOcclusion}, validates and sets the parameters.
+     *
+     * @param angularResolution  the angle covered by one bin of the depth buffer [degree]
+     * @param detectionThreshold how many corners have to be visible in order for an object to be treated as detected
+     * @throws IllegalArgumentException if angularResolution or detectionThreshold is configured wrongly
+     */
+    public VisibilityBufferOcclusion(double angularResolution, int detectionThreshold) {
+        Validate.isTrue(angularResolution > 0 && angularResolution <= 45, "The angular resolution has to be in (0, 45] degree.");
+        Validate.isTrue(detectionThreshold >= 1, "At least one point has to be checked for occlusion, else no objects will be occluded");
+        this.bins = (int) Math.ceil(360 / angularResolution);
+        this.angularResolution = 2 * Math.PI / bins;
+        this.detectionThreshold = detectionThreshold;
+
+        this.binCos = new double[bins];
+        this.binSin = new double[bins];
+        for (int bin = 0; bin < bins; bin++) {
+            double centerAngle = (bin + 0.5) * this.angularResolution;
+            binCos[bin] = Math.cos(centerAngle);
+            binSin[bin] = Math.sin(centerAngle);
+        }
+        this.depthBuffers = ThreadLocal.withInitial(() -> new DepthBuffer(bins));
+    }
+
+    @Override
+    public <T extends SpatialObject> List<T> apply(PerceptionModuleOwner owner, List<T> spatialObjects) {
+        if (spatialObjects.isEmpty()) {
+            return spatialObjects;
+        }
+        final Vector3d egoPosition = owner.getVehicleData().getProjectedPosition().toVector3d();
+        final DepthBuffer buffer = depthBuffers.get();
+        buffer.reset();
+
+        final Collection<Edge<Vector3d>> walls = owner.getPerceptionModule().getSurroundingWalls();
+        for (Edge<Vector3d> wall : walls) {
+            drawEdge(buffer, egoPosition, wall.a, wall.b, WALL_OWNER);
+        }
+        for (int i = 0; i < spatialObjects.size(); i++) {
+            T occludingObject = spatialObjects.get(i);
+            // the ego object cannot occlude vision
+            if (occludingObject.getId().equals(owner.getId())) {
+                continue;
+            }
+            // SpatialObjects with PointBoundingBoxes won't occlude anything, as they have no edges defined
+            for (Edge<Vector3d> side : occludingObject.getBoundingBox().getAllEdges()) {
+                drawEdge(buffer, egoPosition, side.a, side.b, i);
+            }
+        }
+
+        final List<T> result = new ArrayList<>();
+        for (int i = 0; i < spatialObjects.size(); i++) {
+            T objectToEvaluate = spatialObjects.get(i);
+            List<Vector3d> pointsToEvaluate = objectToEvaluate.getBoundingBox().getAllCorners();
+            final int requiredVisiblePoints = Math.min(detectionThreshold, pointsToEvaluate.size());
+            // Traffic Lights are treated to not be occluded by other objects
+            final boolean wallsOnly = objectToEvaluate instanceof TrafficLightObject;
+            int numberOfPointsVisible = 0;
+            for (Vector3d point : pointsToEvaluate) {
+                if (isVisible(buffer, egoPosition, point, i, wallsOnly)) {
+                    numberOfPointsVisible++;
+                }
+                // if the required number of points is visible, we don't need to evaluate more
+                if (numberOfPointsVisible == requiredVisiblePoints) {
+                    result.add(objectToEvaluate);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Draws the edge between {@code a} and {@code b} into the depth buffer by intersecting
+     * the center ray of each bin covered by the edge with the edge.
+     */
+    private void drawEdge(DepthBuffer buffer, Vector3d egoPosition, Vector3d a, Vector3d b, int owner) {
+        final double ax = a.x - egoPosition.x;
+        final double az = a.z - egoPosition.z;
+        final double ex = b.x - a.x;
+        final double ez = b.z - a.z;
+        // edges on a line through the ego position occlude nothing
+        final double crossAE = ax * ez - az * ex;
+        if (Math.abs(crossAE) < 1e-9) {
+            return;
+        }
+        double startAngle = toAngle(ax, az);
+        double span = toAngle(b.x - egoPosition.x, b.z - egoPosition.z) - startAngle;
+        if (span < 0) {
+            span += 2 * Math.PI;
+        }
+        if (span > Math.PI) { // edge covers the other way round
+            startAngle = (startAngle + span) % (2 * Math.PI);
+            span = 2 * Math.PI - span;
+        }
+        final int firstBin = (int) (startAngle / angularResolution);
+        final int lastBin = (int) ((startAngle + span) / angularResolution);
+        for (int k = firstBin; k <= lastBin; k++) {
+            final int bin = k % bins;
+            final double denominator = binCos[bin] * ez - binSin[bin] * ex;
+            if (Math.abs(denominator) < 1e-12) {
+                continue;
+            }
+            final double u = (ax * binSin[bin] - az * binCos[bin]) / denominator;
+            if (u < 0 || u > 1) { // center ray of this bin passes by the edge
+                continue;
+            }
+            final double depth = crossAE / denominator;
+            if (depth >= 0) {
+                buffer.insertDepth(bin, depth, owner);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given point is not hidden behind any occluder which does not belong to the given owner.
+     */
+    private boolean isVisible(DepthBuffer buffer, Vector3d egoPosition, Vector3d point, int owner, boolean wallsOnly) {
+        final double px = point.x - egoPosition.x;
+        final double pz = point.z - egoPosition.z;
+        final int bin = Math.min((int) (toAngle(px, pz) / angularResolution), bins - 1);
+        final double occluderDepth;
+        if (wallsOnly) {
+            occluderDepth = buffer.wallDepth[bin];
+        } else {
+            occluderDepth = buffer.nearestOwner[bin] == owner ? buffer.secondDepth[bin] : buffer.nearestDepth[bin];
+        }
+        return Math.sqrt(px * px + pz * pz) <= occluderDepth + DISTANCE_TOLERANCE;
+    }
+
+    /**
+     * Returns the angle of the given vector on the X,Z plane in [0, 2*PI).
+     */
+    private static double toAngle(double x, double z) {
+        double angle = Math.atan2(z, x);
+        return angle < 0 ? angle + 2 * Math.PI : angle;
+    }
+
+    private static class DepthBuffer {
+
+        /**
+         * Distance of the closest occluder of each bin.
+         */
+        private final double[] nearestDepth;
+
+        /**
+         * Index of the object the closest occluder of each bin belongs to, or {@link #WALL_OWNER}.
+         */
+        private final int[] nearestOwner;
+
+        /**
+         * Distance of the closest occluder of each bin, which does not belong to {@link #nearestOwner}.
+         */
+        private final double[] secondDepth;
+
+        /**
+         * Distance of the closest wall of each bin.
+         */
+        private final double[] wallDepth;
+
+        private DepthBuffer(int bins) {
+            this.nearestDepth = new double[bins];
+            this.nearestOwner = new int[bins];
+            this.secondDepth = new double[bins];
+            this.wallDepth = new double[bins];
+        }
+
+        private void reset() {
+            Arrays.fill(nearestDepth, Double.POSITIVE_INFINITY);
+            Arrays.fill(nearestOwner, NO_OWNER);
+            Arrays.fill(secondDepth, Double.POSITIVE_INFINITY);
+            Arrays.fill(wallDepth, Double.POSITIVE_INFINITY);
+        }
+
+        private void insertDepth(int bin, double depth, int owner) {
+            if (owner == WALL_OWNER && depth < wallDepth[bin]) {
+                wallDepth[bin] = depth;
+            }
+            if (depth < nearestDepth[bin]) {
+                if (owner != nearestOwner[bin]) {
+                    secondDepth[bin] = nearestDepth[bin];
+                    nearestOwner[bin] = owner;
+                }
+                nearestDepth[bin] = depth;
+            } else if (owner != nearestOwner[bin] && depth < secondDepth[bin]) {
+                secondDepth[bin] = depth;
+            }
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.geo.CartesianRectangle;
 import org.eclipse.mosaic.lib.spatial.BoundingBox;
 import org.eclipse.mosaic.lib.spatial.Grid;
+import org.eclipse.mosaic.lib.spatial.GridSnapshot;
 
 import org.slf4j.Logger;
 
@@ -39,10 +40,16 @@ public class VehicleGrid extends VehicleIndex {
     private final double cellHeight;
 
     /**
-     * The Grid to be used for spatial search of {@link VehicleObject}s.
+     * The Grid which is kept up to date with all indexed {@link VehicleObject}s.
      */
     private Grid<VehicleObject> vehicleGrid;
 
+    /**
+     * The immutable snapshot of {@link #vehicleGrid} used for spatial search of {@link VehicleObject}s.
+     * It is replaced on each index update, so that queries never need to lock.
+     */
+    private volatile GridSnapshot<VehicleObject> vehicleGridSnapshot;
+
     public VehicleGrid(double cellWidth, double cellHeight) {
         this.cellWidth = cellWidth;
         this.cellHeight = cellHeight;
@@ -57,12 +64,12 @@ public class VehicleGrid extends VehicleIndex {
         BoundingBox boundingArea = new BoundingBox();
         boundingArea.add(bounds.getA().toVector3d(), bounds.getB().toVector3d());
         vehicleGrid = new Grid<>(new SpatialObjectAdapter<>(), cellWidth, cellHeight, boundingArea);
-
+        vehicleGridSnapshot = vehicleGrid.createSnapshot();
     }
 
     @Override
     public List<VehicleObject> getVehiclesInRange(PerceptionModel searchRange) {
-        return vehicleGrid.getItemsInBoundingArea(searchRange.getBoundingBox(), searchRange::isInRange);
+        return vehicleGridSnapshot.getItemsInBoundingArea(searchRange.getBoundingBox(), searchRange::isInRange);
     }
 
     @Override
@@ -73,6 +80,7 @@ public class VehicleGrid extends VehicleIndex {
     @Override
     void onIndexUpdate() {
         vehicleGrid.updateGrid();
+        vehicleGridSnapshot = vehicleGrid.createSnapshot();
     }
 
     @Override
@@ -33,6 +33,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Base class for spatial indices of vehicles. Updates of the index are expected to be performed by one thread at a time
+ * (see {@link org.eclipse.mosaic.fed.application.ambassador.simulation.perception.CentralPerceptionComponent#updateSpatialIndices()}),
+ * whereas {@link #getVehiclesInRange} may be called by many threads concurrently. Therefore, implementations publish
+ * an immutable snapshot of their index in {@link #onIndexUpdate()} which is used for all queries until the next update.
+ */
 public abstract class VehicleIndex {
 
     /**
@@ -101,7 +107,7 @@ public abstract class VehicleIndex {
 
     /**
      * Abstract method to be implemented by vehicle indexes.
-     * Updates the specific data type implemented by the index.
+     * Updates the specific data type implemented by the index and publishes it for subsequent queries.
      */
     abstract void onIndexUpdate();
 
@@ -131,13 +137,18 @@ public abstract class VehicleIndex {
      * @param vehiclesToRemove the list of vehicles to remove from the index
      */
     public void removeVehicles(Iterable<String> vehiclesToRemove) {
-        vehiclesToRemove.forEach(v -> {
-            VehicleObject vehicleObject = indexedVehicles.remove(v);
+        boolean removed = false;
+        for (String vehicleId : vehiclesToRemove) {
+            VehicleObject vehicleObject = indexedVehicles.remove(vehicleId);
             if (vehicleObject != null) {
                 onVehicleRemoved(vehicleObject);
+                removed = true;
             }
-            registeredVehicleTypes.remove(v);
-        });
+            registeredVehicleTypes.remove(vehicleId);
+        }
+        if (removed) {
+            onIndexUpdate();
+        }
     }
 
     /**
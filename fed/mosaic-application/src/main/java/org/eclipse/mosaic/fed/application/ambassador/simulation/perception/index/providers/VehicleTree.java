@@ -48,9 +48,15 @@ public class VehicleTree extends VehicleIndex {
     private final int maxDepth;
 
     /**
-     * The Quad-Tree to be used for spatial search of {@link VehicleObject}s.
+     * The bounds of the Quad-Tree.
      */
-    private QuadTree<VehicleObject> vehicleTree;
+    private BoundingBox boundingArea;
+
+    /**
+     * The Quad-Tree to be used for spatial search of {@link VehicleObject}s. A new tree is built
+     * on each index update and is never modified afterwards, so that queries never need to lock.
+     */
+    private volatile QuadTree<VehicleObject> vehicleTree;
 
     public VehicleTree(int splitSize, int maxDepth) {
         this.splitSize = splitSize;
@@ -64,7 +70,7 @@ public class VehicleTree extends VehicleIndex {
     public void initialize() {
         QuadTree.configure(splitSize, splitSize / 2, maxDepth);
         CartesianRectangle bounds = SimulationKernel.SimulationKernel.getCentralPerceptionComponent().getScenarioBounds();
-        BoundingBox boundingArea = new BoundingBox();
+        boundingArea = new BoundingBox();
         boundingArea.add(bounds.getA().toVector3d(), bounds.getB().toVector3d());
         vehicleTree = new QuadTree<>(new SpatialObjectAdapter<>(), boundingArea);
     }
@@ -76,17 +82,21 @@ public class VehicleTree extends VehicleIndex {
 
     @Override
     void onVehicleAdded(VehicleObject vehicleObject) {
-        vehicleTree.addItem(vehicleObject);
+        // added to the next tree built in onIndexUpdate
     }
 
     @Override
     void onIndexUpdate() {
-        vehicleTree.updateTree();
+        QuadTree<VehicleObject> newVehicleTree = new QuadTree<>(new SpatialObjectAdapter<>(), boundingArea);
+        for (VehicleObject vehicleObject : indexedVehicles.values()) {
+            newVehicleTree.addItem(vehicleObject);
+        }
+        vehicleTree = newVehicleTree;
     }
 
     @Override
     void onVehicleRemoved(VehicleObject vehicleObject) {
-        vehicleTree.removeObject(vehicleObject);
+        // removed from the next tree built in onIndexUpdate
     }
 
     @Override
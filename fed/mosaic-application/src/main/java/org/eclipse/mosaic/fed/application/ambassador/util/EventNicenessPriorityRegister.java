@@ -15,11 +15,15 @@
 
 package org.eclipse.mosaic.fed.application.ambassador.util;
 
+import org.eclipse.mosaic.lib.util.scheduling.Event;
+
 /**
  * top = highest priority. bottom lowest priority.
  */
 public class EventNicenessPriorityRegister {
     public final static long UNIT_REMOVED = 1;
+    // garbage collection of all simulation units and the message cache
+    public final static long GARBAGE_COLLECTION = 2;
     // vehicle
     public final static long VEHICLE_ADDED = -99_999_900;
     public final static long VEHICLE_UPDATED = -99_999_800;
@@ -45,4 +49,21 @@ public class EventNicenessPriorityRegister {
 
     // batteryUpdated
     public final static long BATTERY_UPDATED = -99_998_900;
+
+    /**
+     * Returns the nice values which separate events affecting several simulation units (starting applications,
+     * removing vehicles, shutting down units, and garbage collection) from all other events. Events which only affect one simulation
+     * unit do not require a barrier between their nice values, as long as all events of one simulation unit are
+     * processed in order.
+     *
+     * @return the nice values before which all events with lower nice values must be processed
+     */
+    public static long[] getBarriers() {
+        return new long[]{
+                Event.NICE_MAX_PRIORITY + 1,
+                VEHICLE_REMOVED, VEHICLE_REMOVED + 1,
+                UNIT_REMOVED, UNIT_REMOVED + 1,
+                GARBAGE_COLLECTION, GARBAGE_COLLECTION + 1
+        };
+    }
 }
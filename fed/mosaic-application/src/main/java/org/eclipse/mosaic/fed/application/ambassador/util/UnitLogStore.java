@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador.util;
+
+import org.apache.commons.lang3.Validate;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores the log records of all simulation units in a few binary, memory-mapped segment files, instead of
+ * one log file per unit. Each record carries the log path of the unit (e.g. {@code veh_0/MyApp}), the simulation time,
+ * the wall clock time, and the log level. Log paths are written once per segment and referenced by an id afterwards.
+ * When closing the store, a compact index is written, which lists all log paths and the log paths contained
+ * in each segment. The logs of single units can be extracted using the {@link UnitLogStoreReader}.
+ * <br/><br/>
+ * Segment layout: a sequence of records, each starting with its length (int) and its type (byte), and terminated by
+ * a length of 0 or the end of the file.
+ * <ul>
+ *     <li>{@link #RECORD_PATH}: path id (int), log path (UTF-8)</li>
+ *     <li>{@link #RECORD_LOG}: path id (int), simulation time (long), timestamp (long), level (int), message (UTF-8)</li>
+ * </ul>
+ * This class is not thread-safe.
+ */
+public class UnitLogStore implements Closeable {
+
+    public static final String SEGMENT_FILE_PREFIX = "segment-";
+    public static final String SEGMENT_FILE_SUFFIX = ".bin";
+    public static final String INDEX_FILE = "index.bin";
+
+    static final int INDEX_VERSION = 1;
+
+    static final byte RECORD_PATH = 1;
+    static final byte RECORD_LOG = 2;
+
+    /**
+     * Size of the fixed part of a log record: length, type, path id, simulation time, timestamp, and level.
+     */
+    private static final int LOG_RECORD_HEADER = 4 + 1 + 4 + 8 + 8 + 4;
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final Map<String, Integer> pathIds = new HashMap<>();
+
+    private final List<String> paths = new ArrayList<>();
+
+    /**
+     * The ids of all log paths contained in each segment.
+     */
+    private final List<BitSet> segmentPaths = new ArrayList<>();
+
+    private final List<Integer> segmentLengths = new ArrayList<>();
+
+    private FileChannel segmentChannel;
+
+    private MappedByteBuffer segment;
+
+    private BitSet currentSegmentPaths;
+
+    /**
+     * Creates a new {@link UnitLogStore} writing its files into the given directory.
+     *
+     * @param directory   the directory to write segments and index into, will be created if not existing,
+     *                    files of a previous log store in this directory are deleted
+     * @param segmentSize the size of each segment file. Unit: [bytes].
+     */
+    public UnitLogStore(Path directory, int segmentSize) throws IOException {
+        Validate.isTrue(segmentSize > LOG_RECORD_HEADER, "The segment size must be greater than " + LOG_RECORD_HEADER + " bytes.");
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        // remove files of previous runs, which would otherwise be read as further segments
+        Files.deleteIfExists(directory.resolve(INDEX_FILE));
+        try (DirectoryStream<Path> segmentFiles = Files.newDirectoryStream(directory, SEGMENT_FILE_PREFIX + "*" + SEGMENT_FILE_SUFFIX)) {
+            for (Path segmentFile : segmentFiles) {
+                Files.delete(segmentFile);
+            }
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Appends a log record of a unit.
+     *
+     * @param path           the log path of the unit, usually consisting of the unit id and the name of the logger
+     * @param simulationTime the simulation time the record was logged at. Unit: [ns].
+     * @param timestamp      the wall clock time the record was logged at. Unit: [ms].
+     * @param level          the log level as integer
+     * @param message        the formatted log message
+     */
+    public void append(String path, long simulationTime, long timestamp, int level, String message) throws IOException {
+        final byte[] messageBytes = message.getBytes(StandardCharsets.UTF_8);
+        final int recordLength = LOG_RECORD_HEADER + messageBytes.length;
+        ensureCapacity(recordLength);
+
+        Integer pathId = pathIds.get(path);
+        if (pathId == null) {
+            pathId = paths.size();
+            pathIds.put(path, pathId);
+            paths.add(path);
+        }
+        if (!currentSegmentPaths.get(pathId)) {
+            // each segment defines the paths it uses, so that segments can be read without index
+            final byte[] pathBytes = path.getBytes(StandardCharsets.UTF_8);
+            ensureCapacity(recordLength + 4 + 1 + 4 + pathBytes.length);
+            segment.putInt(1 + 4 + pathBytes.length).put(RECORD_PATH).putInt(pathId).put(pathBytes);
+            currentSegmentPaths.set(pathId);
+        }
+        segment.putInt(recordLength - 4)
+                .put(RECORD_LOG)
+                .putInt(pathId)
+                .putLong(simulationTime)
+                .putLong(timestamp)
+                .putInt(level)
+                .put(messageBytes);
+    }
+
+    private void ensureCapacity(int bytes) throws IOException {
+        // keep space for the terminating length of 0
+        if (segment == null || segment.remaining() < bytes + 4) {
+            closeSegment();
+            openSegment(Math.max(segmentSize, bytes + 4));
+        }
+    }
+
+    private void openSegment(int size) throws IOException {
+        final Path segmentFile = directory.resolve(SEGMENT_FILE_PREFIX + segmentPaths.size() + SEGMENT_FILE_SUFFIX);
+        segmentChannel = FileChannel.open(segmentFile,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE
+        );
+        segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        currentSegmentPaths = new BitSet();
+        segmentPaths.add(currentSegmentPaths);
+        segmentLengths.add(0);
+    }
+
+    private void closeSegment() throws IOException {
+        if (segment == null) {
+            return;
+        }
+        final int length = segment.position();
+        segment.putInt(0);
+        segment.force();
+        segmentLengths.set(segmentLengths.size() - 1, length);
+        try {
+            segmentChannel.truncate(length + 4);
+        } catch (IOException e) {
+            // some platforms do not allow truncating mapped files, the terminating length of 0 marks the end instead
+        }
+        segmentChannel.close();
+        segmentChannel = null;
+        segment = null;
+    }
+
+    /**
+     * Closes the current segment and writes the index.
+     */
+    @Override
+    public void close() throws IOException {
+        closeSegment();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(directory.resolve(INDEX_FILE))))) {
+            out.writeInt(INDEX_VERSION);
+            out.writeInt(paths.size());
+            for (String path : paths) {
+                out.writeUTF(path);
+            }
+            out.writeInt(segmentPaths.size());
+            for (int i = 0; i < segmentPaths.size(); i++) {
+                out.writeInt(segmentLengths.get(i));
+                final BitSet pathsOfSegment = segmentPaths.get(i);
+                out.writeInt(pathsOfSegment.cardinality());
+                for (int pathId = pathsOfSegment.nextSetBit(0); pathId >= 0; pathId = pathsOfSegment.nextSetBit(pathId + 1)) {
+                    out.writeInt(pathId);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador.util;
+
+import org.eclipse.mosaic.fed.application.ambassador.SimulationKernel;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.CoreConstants;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Logback appender which writes the logs of all units into a {@link UnitLogStore}, instead of opening one
+ * file per unit as done by a {@code SiftingAppender}. The log path of the unit is taken from the MDC
+ * key {@code path}, which is set by the {@link UnitLoggerImpl}. The logs of single units can be extracted
+ * using the {@link UnitLogStoreReader}. Example configuration:
+ * <pre>
+ * &lt;appender name="ApplicationLogDelegation" class="org.eclipse.mosaic.fed.application.ambassador.util.UnitLogStoreAppender"&gt;
+ *     &lt;directory&gt;${logDirectory}/apps&lt;/directory&gt;
+ * &lt;/appender&gt;
+ * </pre>
+ */
+public class UnitLogStoreAppender extends AppenderBase<ILoggingEvent> {
+
+    private static final String MDC_PATH = "path";
+
+    private static final String UNKNOWN_PATH = "unknown";
+
+    private String directory;
+
+    /**
+     * The size of each segment file. Unit: [bytes].
+     */
+    private int segmentSize = 16 * 1024 * 1024;
+
+    private UnitLogStore logStore;
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Returns the directory of the log store, or {@code null}, if this appender has not been started.
+     */
+    public Path getLogStoreDirectory() {
+        final UnitLogStore logStore = this.logStore;
+        return logStore != null ? logStore.getDirectory() : null;
+    }
+
+    @Override
+    public void start() {
+        if (directory == null) {
+            addError("No directory set for the appender named [" + name + "].");
+            return;
+        }
+        try {
+            logStore = new UnitLogStore(Paths.get(directory), segmentSize);
+        } catch (IOException | IllegalArgumentException e) {
+            addError("Could not create unit log store in " + directory, e);
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        try {
+            logStore.close();
+        } catch (IOException e) {
+            addError("Could not close unit log store in " + directory, e);
+        }
+        logStore = null;
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        String path = event.getMDCPropertyMap().get(MDC_PATH);
+        if (path == null) {
+            path = UNKNOWN_PATH;
+        }
+        String message = event.getFormattedMessage();
+        final IThrowableProxy throwableProxy = event.getThrowableProxy();
+        if (throwableProxy != null) {
+            message = message + CoreConstants.LINE_SEPARATOR + ThrowableProxyUtil.asString(throwableProxy);
+        }
+        try {
+            logStore.append(path,
+                    SimulationKernel.SimulationKernel.getCurrentSimulationTime(),
+                    event.getTimeStamp(),
+                    event.getLevel().toInt(),
+                    message
+            );
+        } catch (IOException e) {
+            addError("Could not write to unit log store in " + directory, e);
+        }
+    }
+}
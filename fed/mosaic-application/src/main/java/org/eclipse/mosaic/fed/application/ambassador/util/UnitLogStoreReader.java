@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador.util;
+
+import org.eclipse.mosaic.rti.TIME;
+
+import ch.qos.logback.classic.Level;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Extracts the logs of single units out of the files written by the {@link UnitLogStore}. If the index of the
+ * log store is available, only segments containing logs of the requested unit are read. Otherwise, e.g. if the
+ * simulation has been aborted, all segments are read.
+ * <br/><br/>
+ * Can be used from command line: {@code UnitLogStoreReader <directory> <unitId> [<loggerId>]} prints the
+ * logs of the given unit to the standard output.
+ */
+public class UnitLogStoreReader {
+
+    /**
+     * A log record of a unit.
+     */
+    public static class UnitLogRecord {
+
+        /**
+         * The log path of the unit, usually consisting of the unit id and the name of the logger.
+         */
+        public final String path;
+
+        /**
+         * The simulation time the record was logged at. Unit: [ns].
+         */
+        public final long simulationTime;
+
+        /**
+         * The wall clock time the record was logged at. Unit: [ms].
+         */
+        public final long timestamp;
+
+        /**
+         * The log level as integer.
+         */
+        public final int level;
+
+        public final String message;
+
+        UnitLogRecord(String path, long simulationTime, long timestamp, int level, String message) {
+            this.path = path;
+            this.simulationTime = simulationTime;
+            this.timestamp = timestamp;
+            this.level = level;
+            this.message = message;
+        }
+    }
+
+    private final Path directory;
+
+    private final List<String> paths = new ArrayList<>();
+
+    /**
+     * The ids of all log paths contained in each segment, or {@code null}, if there is no index.
+     */
+    private final List<BitSet> segmentPaths;
+
+    /**
+     * Creates a new {@link UnitLogStoreReader} for the files in the given directory.
+     *
+     * @param directory the directory containing the files written by the {@link UnitLogStore}
+     */
+    public UnitLogStoreReader(Path directory) throws IOException {
+        this.directory = directory;
+        final Path indexFile = directory.resolve(UnitLogStore.INDEX_FILE);
+        if (Files.exists(indexFile)) {
+            segmentPaths = new ArrayList<>();
+            readIndex(indexFile);
+        } else {
+            segmentPaths = null;
+        }
+    }
+
+    private void readIndex(Path indexFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            final int version = in.readInt();
+            if (version != UnitLogStore.INDEX_VERSION) {
+                throw new IOException("Unsupported version " + version + " of unit log store index.");
+            }
+            final int pathCount = in.readInt();
+            for (int i = 0; i < pathCount; i++) {
+                paths.add(in.readUTF());
+            }
+            final int segmentCount = in.readInt();
+            for (int i = 0; i < segmentCount; i++) {
+                in.readInt(); // length of segment, the segment itself is terminated as well
+                final BitSet pathsOfSegment = new BitSet();
+                final int pathsInSegment = in.readInt();
+                for (int j = 0; j < pathsInSegment; j++) {
+                    pathsOfSegment.set(in.readInt());
+                }
+                segmentPaths.add(pathsOfSegment);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of all units which have written logs into the store.
+     */
+    public Set<String> getUnitIds() throws IOException {
+        final Set<String> unitIds = new TreeSet<>();
+        if (segmentPaths != null) {
+            for (String path : paths) {
+                unitIds.add(getUnitId(path));
+            }
+        } else {
+            readSegments(path -> true, logRecord -> unitIds.add(getUnitId(logRecord.path)));
+        }
+        return unitIds;
+    }
+
+    /**
+     * Reads all log records of the given unit in the order they have been logged.
+     *
+     * @param unitId   the id of the unit
+     * @param loggerId the name of the logger to read, or {@code null} to read all loggers of the unit
+     * @param consumer receives all log records of the unit
+     */
+    public void read(String unitId, String loggerId, Consumer<UnitLogRecord> consumer) throws IOException {
+        readSegments(path -> getUnitId(path).equals(unitId) && (loggerId == null || getLoggerId(path).equals(loggerId)), consumer);
+    }
+
+    /**
+     * Reads all log records of the given unit in the order they have been logged.
+     *
+     * @param unitId the id of the unit
+     * @return all log records of the unit
+     */
+    public List<UnitLogRecord> read(String unitId) throws IOException {
+        final List<UnitLogRecord> logRecords = new ArrayList<>();
+        read(unitId, null, logRecords::add);
+        return logRecords;
+    }
+
+    private void readSegments(Predicate<String> pathFilter, Consumer<UnitLogRecord> consumer) throws IOException {
+        final BitSet requestedPaths = new BitSet();
+        if (segmentPaths != null) {
+            for (int pathId = 0; pathId < paths.size(); pathId++) {
+                if (pathFilter.test(paths.get(pathId))) {
+                    requestedPaths.set(pathId);
+                }
+            }
+            if (requestedPaths.isEmpty()) {
+                return;
+            }
+        }
+        for (int segment = 0; ; segment++) {
+            final Path segmentFile = directory.resolve(UnitLogStore.SEGMENT_FILE_PREFIX + segment + UnitLogStore.SEGMENT_FILE_SUFFIX);
+            if (!Files.exists(segmentFile)) {
+                return;
+            }
+            if (segmentPaths != null && (segment >= segmentPaths.size() || !segmentPaths.get(segment).intersects(requestedPaths))) {
+                continue;
+            }
+            readSegment(segmentFile, pathFilter, consumer);
+        }
+    }
+
+    private void readSegment(Path segmentFile, Predicate<String> pathFilter, Consumer<UnitLogRecord> consumer) throws IOException {
+        final ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segmentFile)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        final Map<Integer, String> pathsOfSegment = new HashMap<>();
+        final Map<Integer, Boolean> requested = new HashMap<>();
+        while (buffer.remaining() >= 4) {
+            final int length = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                return;
+            }
+            final int end = buffer.position() + length;
+            final byte type = buffer.get();
+            final int pathId = buffer.getInt();
+            if (type == UnitLogStore.RECORD_PATH) {
+                final String path = readString(buffer, end);
+                pathsOfSegment.put(pathId, path);
+                requested.put(pathId, pathFilter.test(path));
+            } else if (type == UnitLogStore.RECORD_LOG && requested.getOrDefault(pathId, false)) {
+                final long simulationTime = buffer.getLong();
+                final long timestamp = buffer.getLong();
+                final int level = buffer.getInt();
+                consumer.accept(new UnitLogRecord(pathsOfSegment.get(pathId), simulationTime, timestamp, level, readString(buffer, end)));
+            }
+            buffer.position(end);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer, int end) {
+        final byte[] bytes = new byte[end - buffer.position()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String getUnitId(String path) {
+        final int separator = indexOfSeparator(path);
+        return separator < 0 ? path : path.substring(0, separator);
+    }
+
+    private static String getLoggerId(String path) {
+        final int separator = indexOfSeparator(path);
+        return separator < 0 ? "" : path.substring(separator + 1);
+    }
+
+    /**
+     * Returns the index of the first file separator within the log path, which might have been written on any platform.
+     */
+    private static int indexOfSeparator(String path) {
+        final int slash = path.indexOf('/');
+        final int backslash = path.indexOf('\\');
+        if (slash < 0 || backslash < 0) {
+            return Math.max(slash, backslash);
+        }
+        return Math.min(slash, backslash);
+    }
+
+    /**
+     * Prints the logs of a unit to the standard output, formatted like the log files written per unit.
+     *
+     * @param args the directory of the log store, the id of the unit, and optionally the name of the logger
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: UnitLogStoreReader <directory> <unitId> [<loggerId>]");
+            System.exit(1);
+            return;
+        }
+        final PrintStream out = System.out;
+        final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss,SSS");
+        new UnitLogStoreReader(Paths.get(args[0])).read(args[1], args.length > 2 ? args[2] : null, logRecord ->
+                out.printf("%s %-5s - %s [%s] (at simulation time %s)%n",
+                        dateFormat.format(new Date(logRecord.timestamp)),
+                        Level.toLevel(logRecord.level),
+                        logRecord.message,
+                        logRecord.path,
+                        TIME.format(logRecord.simulationTime)
+                )
+        );
+    }
+}
@@ -425,6 +425,9 @@ public class UnitLoggerImpl implements UnitLogger {
             if (appender instanceof FileAppender<?> fileAppender) {
                 return new File(fileAppender.getFile()).getParentFile().toPath();
             }
+            if (appender instanceof UnitLogStoreAppender logStoreAppender) {
+                return logStoreAppender.getLogStoreDirectory();
+            }
             if (appender instanceof SiftingAppender siftingAppender) {
                 Appender<ILoggingEvent> delegateAppender = siftingAppender.getAppenderTracker().find(mdcPath);
                 if (delegateAppender instanceof FileAppender<?> fileAppender) {
@@ -18,6 +18,8 @@ package org.eclipse.mosaic.fed.application.config;
 import org.eclipse.mosaic.lib.routing.config.CRouting;
 import org.eclipse.mosaic.lib.util.gson.TimeFieldAdapter;
 import org.eclipse.mosaic.lib.util.scheduling.MultiThreadedEventScheduler;
+import org.eclipse.mosaic.lib.util.scheduling.TimingWheelEventScheduler;
+import org.eclipse.mosaic.lib.util.scheduling.WorkStealingEventScheduler;
 import org.eclipse.mosaic.rti.TIME;
 
 import com.google.gson.annotations.JsonAdapter;
@@ -53,6 +55,22 @@ public class CApplicationAmbassador implements Serializable {
      */
     public int eventSchedulerThreads = 1;
 
+    /**
+     * If set to {@code true}, the {@link TimingWheelEventScheduler} is used instead of the default event scheduler.
+     * It processes all events in the same order, but adds events in constant time, which may
+     * help to improve performance on scenarios with many scheduled events. Only applies if
+     * {@link #eventSchedulerThreads} is set to 1. default: {@code false}
+     */
+    public boolean useTimingWheelEventScheduler = false;
+
+    /**
+     * If set to {@code true}, the {@link WorkStealingEventScheduler} is used instead of the {@link MultiThreadedEventScheduler}.
+     * All events of one simulation unit are processed by the same thread, and threads only wait for each other
+     * before and after events affecting several simulation units. Only applies if {@link #eventSchedulerThreads}
+     * is greater than 1. default: {@code false}
+     */
+    public boolean useWorkStealingEventScheduler = false;
+
     /**
      * Class containing the information for the configuration of the
      * Routing/Navigation (CentralNavigationComponent).
@@ -72,6 +90,13 @@ public class CApplicationAmbassador implements Serializable {
          * or any full-qualified java class name.
          */
         public String type = null;
+
+        /**
+         * The number of candidate routes calculated once for each origin-destination pair of vehicles
+         * spawned by an origin-destination matrix. Each vehicle gets one of these routes assigned randomly.
+         * Default: 0 (a route is calculated for each vehicle)
+         */
+        public int originDestinationRoutes = 0;
     }
 
     /**
@@ -40,6 +40,7 @@ import org.eclipse.mosaic.fed.application.app.TestTrafficManagementCenterApplica
 import org.eclipse.mosaic.fed.application.app.TestVehicleApplication;
 import org.eclipse.mosaic.fed.application.app.api.Application;
 import org.eclipse.mosaic.interactions.application.ApplicationInteraction;
+import org.eclipse.mosaic.interactions.communication.V2xBulkMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.interactions.electricity.VehicleBatteryUpdates;
@@ -354,6 +355,51 @@ public class ApplicationAmbassadorTest {
         ambassador.finishSimulation();
     }
 
+    /**
+     * After a vehicle has been added to the ApplicationAmbassador, it receives an V2xBulkMessageReception Interaction,
+     * which also contains a receiver without any application. Only the application of the added vehicle should
+     * receive the message.
+     */
+    @Test
+    public void processInteraction_V2xBulkMessageReception() throws InternalFederateException, IOException {
+        final ApplicationAmbassador ambassador = createAmbassador();
+
+        // init ambassador
+        ambassador.initialize(0L, END_TIME);
+
+        // add unit to ambassador
+        TestVehicleApplication app = testAddUnit(
+                ambassador,
+                "veh_0",
+                InteractionTestHelper.createVehicleRegistrationInteraction("veh_0", 5, TestVehicleApplication.class)
+        );
+
+        // store mocked message in cache
+        final V2xMessage v2xMessage = mock(V2xMessage.class);
+        SimulationKernel.SimulationKernel.getV2xMessageCache().putItem(9 * TIME.SECOND, v2xMessage);
+
+        // RUN: Send message V2xBulkMessageReception
+        V2xBulkMessageReception v2xBulkMessageReception = new V2xBulkMessageReception(10 * TIME.SECOND, 0,
+                new String[]{"veh_1", "veh_0"},
+                new long[]{10 * TIME.SECOND, 11 * TIME.SECOND},
+                new V2xReceiverInformation[]{
+                        new V2xReceiverInformation(10 * TIME.SECOND), new V2xReceiverInformation(11 * TIME.SECOND)
+                }
+        );
+        ambassador.processInteraction(v2xBulkMessageReception);
+
+        // ASSERT + RUN: process event, which has been created by the ambassador for veh_0
+        assertEquals(11 * TIME.SECOND, recentAdvanceTime);
+        ambassador.processTimeAdvanceGrant(recentAdvanceTime);
+
+        Mockito.verify(app.getApplicationSpy()).onMessageReceived(argThat(argument -> argument.getMessage() == v2xMessage));
+
+        // finish simulation
+        ambassador.processTimeAdvanceGrant(recentAdvanceTime);
+        ambassador.processTimeAdvanceGrant(END_TIME);
+        ambassador.finishSimulation();
+    }
+
     /**
      * After a vehicle has been added to the ApplicationAmbassador, the ambassador received
      * various VehicleUpdates interactions, each with information for added vehicles, updated vehicles,
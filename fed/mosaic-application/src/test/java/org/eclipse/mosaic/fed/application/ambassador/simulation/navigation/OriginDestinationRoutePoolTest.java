@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador.simulation.navigation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.enums.VehicleClass;
+import org.eclipse.mosaic.lib.geo.GeoCircle;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
+import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
+import org.eclipse.mosaic.lib.objects.mapping.OriginDestinationPair;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleRoute;
+import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+public class OriginDestinationRoutePoolTest {
+
+    private final RandomNumberGenerator rng = new DefaultRandomNumberGenerator(23L);
+
+    private final OriginDestinationPair odPairA = new OriginDestinationPair(
+            new GeoCircle(GeoPoint.latLon(52.51, 13.31), 100), new GeoCircle(GeoPoint.latLon(52.52, 13.35), 100)
+    );
+
+    private final OriginDestinationPair odPairB = new OriginDestinationPair(
+            new GeoCircle(GeoPoint.latLon(52.52, 13.35), 100), new GeoCircle(GeoPoint.latLon(52.51, 13.31), 100)
+    );
+
+    private int calculatedRoutes;
+
+    @Before
+    public void setup() {
+        calculatedRoutes = 0;
+    }
+
+    @Test
+    public void routesCalculatedOncePerOriginDestinationPair() {
+        OriginDestinationRoutePool pool = new OriginDestinationRoutePool(3);
+
+        Set<String> chosenRoutes = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            chosenRoutes.add(pool.getRoute(odPairA, VehicleClass.Car, RoutingCostFunction.Fastest, routeCalculator(), rng).getId());
+        }
+
+        assertEquals(3, calculatedRoutes);
+        assertEquals(new HashSet<>(Arrays.asList("0", "1", "2")), chosenRoutes);
+    }
+
+    @Test
+    public void routesCalculatedForEachKey() {
+        OriginDestinationRoutePool pool = new OriginDestinationRoutePool(2);
+
+        pool.getRoute(odPairA, VehicleClass.Car, RoutingCostFunction.Fastest, routeCalculator(), rng);
+        pool.getRoute(odPairB, VehicleClass.Car, RoutingCostFunction.Fastest, routeCalculator(), rng);
+        pool.getRoute(odPairA, VehicleClass.Bicycle, RoutingCostFunction.Fastest, routeCalculator(), rng);
+        pool.getRoute(odPairA, VehicleClass.Car, RoutingCostFunction.Shortest, routeCalculator(), rng);
+        pool.getRoute(odPairA, VehicleClass.Car, RoutingCostFunction.Fastest, routeCalculator(), rng);
+
+        assertEquals(8, calculatedRoutes);
+    }
+
+    @Test
+    public void duplicateRoutesStoredOnce() {
+        OriginDestinationRoutePool pool = new OriginDestinationRoutePool(5);
+        VehicleRoute route = new VehicleRoute("same", Arrays.asList("1_1_2_1"), Arrays.asList("1", "2"), 100);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("same", pool.getRoute(odPairA, VehicleClass.Car, RoutingCostFunction.Fastest, () -> route, rng).getId());
+        }
+    }
+
+    @Test
+    public void noRouteFound() {
+        OriginDestinationRoutePool pool = new OriginDestinationRoutePool(2);
+
+        assertNull(pool.getRoute(odPairA, VehicleClass.Car, RoutingCostFunction.Fastest, () -> null, rng));
+    }
+
+    @Test
+    public void calculatedAgainIfNoRouteFound() {
+        OriginDestinationRoutePool pool = new OriginDestinationRoutePool(2);
+        pool.getRoute(odPairA, VehicleClass.Car, RoutingCostFunction.Fastest, () -> null, rng);
+
+        VehicleRoute route = pool.getRoute(odPairA, VehicleClass.Car, RoutingCostFunction.Fastest, routeCalculator(), rng);
+
+        assertEquals(2, calculatedRoutes);
+        assertTrue(route.getId().equals("0") || route.getId().equals("1"));
+    }
+
+    private Supplier<VehicleRoute> routeCalculator() {
+        return () -> new VehicleRoute(Integer.toString(calculatedRoutes++), Arrays.asList("1_1_2_1"), Arrays.asList("1", "2"), 100);
+    }
+}
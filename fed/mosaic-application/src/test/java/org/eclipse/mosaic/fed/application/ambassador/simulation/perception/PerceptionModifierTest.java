@@ -34,6 +34,7 @@ import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.error
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.errormodels.HeadingModifier;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.errormodels.PositionModifier;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.errormodels.SimpleOcclusion;
+import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.errormodels.VisibilityBufferOcclusion;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.errormodels.WallOcclusion;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.TrafficObjectIndex;
 import org.eclipse.mosaic.fed.application.ambassador.simulation.perception.index.objects.SpatialObject;
@@ -64,8 +65,13 @@ import org.mockito.junit.MockitoRule;
 import org.slf4j.Logger;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 public class PerceptionModifierTest {
@@ -99,6 +105,8 @@ public class PerceptionModifierTest {
 
     public TrafficObjectIndex trafficObjectIndex;
 
+    private VehicleUnit egoVehicleUnit;
+
     private SimplePerceptionModule simplePerceptionModule;
 
     @Before
@@ -119,7 +127,7 @@ public class PerceptionModifierTest {
         when(cpcMock.getTrafficObjectIndex()).thenReturn(trafficObjectIndex);
         // setup perception module
         trafficObjectIndex.registerVehicleType("veh_0", vehicleType);
-        VehicleUnit egoVehicleUnit = spy(new VehicleUnit("veh_0", vehicleType, null));
+        egoVehicleUnit = spy(new VehicleUnit("veh_0", vehicleType, null));
         doReturn(egoVehicleData).when(egoVehicleUnit).getVehicleData();
         simplePerceptionModule = spy(new SimplePerceptionModule(egoVehicleUnit, null, mock(Logger.class)));
         doReturn(simplePerceptionModule).when(egoVehicleUnit).getPerceptionModule();
@@ -309,6 +317,89 @@ public class PerceptionModifierTest {
     }
 
 
+    @Test
+    public void testVisibilityBufferOcclusionModifier() {
+        BoundingBoxOcclusion boundingBoxOcclusion = new BoundingBoxOcclusion();
+        simplePerceptionModule.enable(
+                new SimplePerceptionConfiguration.Builder(VIEWING_ANGLE, VIEWING_RANGE).addModifier(boundingBoxOcclusion).build()
+        );
+        Set<String> perceivedVehiclesBoundingBox = simplePerceptionModule.getPerceivedVehicles()
+                .stream().map(VehicleObject::getId).collect(Collectors.toSet());
+
+        VisibilityBufferOcclusion visibilityBufferOcclusion = new VisibilityBufferOcclusion();
+        simplePerceptionModule.enable(
+                new SimplePerceptionConfiguration.Builder(VIEWING_ANGLE, VIEWING_RANGE).addModifier(visibilityBufferOcclusion).build()
+        );
+        List<VehicleObject> perceivedVehicles = simplePerceptionModule.getPerceivedVehicles();
+        // run a second time to make sure buffers are reset properly
+        assertEquals(perceivedVehicles.size(), simplePerceptionModule.getPerceivedVehicles().size());
+        Set<String> perceivedVehiclesVisibilityBuffer = perceivedVehicles
+                .stream().map(VehicleObject::getId).collect(Collectors.toSet());
+
+        if (PRINT_POSITIONS) {
+            printBoundingBoxes(perceivedVehicles);
+        }
+        assertTrue("The occlusion filter should remove vehicles", VEHICLE_AMOUNT > perceivedVehicles.size());
+        assertEquals("Results should match the BoundingBoxOcclusion", perceivedVehiclesBoundingBox, perceivedVehiclesVisibilityBuffer);
+    }
+
+    @Test
+    public void testVisibilityBufferOcclusionModifierWithWalls() {
+        List<Edge<Vector3d>> surroundingWalls = Lists.newArrayList(
+                new Edge<>(CartesianPoint.xy(10, 10).toVector3d(), CartesianPoint.xy(10, -10).toVector3d())
+        );
+        doReturn(surroundingWalls).when(simplePerceptionModule).getSurroundingWalls();
+
+        VisibilityBufferOcclusion visibilityBufferOcclusion = new VisibilityBufferOcclusion();
+        simplePerceptionModule.enable(
+                new SimplePerceptionConfiguration.Builder(VIEWING_ANGLE, VIEWING_RANGE).addModifier(visibilityBufferOcclusion).build()
+        );
+        Set<String> perceivedVehiclesWithWalls = simplePerceptionModule.getPerceivedVehicles()
+                .stream().map(VehicleObject::getId).collect(Collectors.toSet());
+
+        doReturn(Lists.newArrayList()).when(simplePerceptionModule).getSurroundingWalls();
+        Set<String> perceivedVehiclesWithoutWalls = simplePerceptionModule.getPerceivedVehicles()
+                .stream().map(VehicleObject::getId).collect(Collectors.toSet());
+
+        doReturn(surroundingWalls).when(simplePerceptionModule).getSurroundingWalls();
+        simplePerceptionModule.enable(
+                new SimplePerceptionConfiguration.Builder(VIEWING_ANGLE, VIEWING_RANGE).addModifier(new WallOcclusion()).build()
+        );
+        Set<String> notHiddenByWall = simplePerceptionModule.getPerceivedVehicles()
+                .stream().map(VehicleObject::getId).collect(Collectors.toSet());
+
+        Set<String> hiddenByWall = new HashSet<>(perceivedVehiclesWithoutWalls);
+        hiddenByWall.removeAll(perceivedVehiclesWithWalls);
+        assertFalse("The wall should hide vehicles which are visible otherwise", hiddenByWall.isEmpty());
+        assertTrue("Walls should not reveal vehicles", perceivedVehiclesWithoutWalls.containsAll(perceivedVehiclesWithWalls));
+        assertTrue("Vehicles hidden by the wall should not be perceived", notHiddenByWall.containsAll(perceivedVehiclesWithWalls));
+    }
+
+    @Test
+    public void testVisibilityBufferOcclusionModifierConcurrently() throws Exception {
+        VisibilityBufferOcclusion visibilityBufferOcclusion = new VisibilityBufferOcclusion();
+        simplePerceptionModule.enable(
+                new SimplePerceptionConfiguration.Builder(VIEWING_ANGLE, VIEWING_RANGE).addModifier(visibilityBufferOcclusion).build()
+        );
+        doReturn(Lists.newArrayList()).when(simplePerceptionModule).getSurroundingWalls();
+        List<VehicleObject> allVehicles = getAllVehicles();
+        List<VehicleObject> expected = visibilityBufferOcclusion.apply(egoVehicleUnit, allVehicles);
+
+        // the same modifier instance is shared by units which are processed in parallel
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<VehicleObject>>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executorService.submit(() -> visibilityBufferOcclusion.apply(egoVehicleUnit, allVehicles)));
+            }
+            for (Future<List<VehicleObject>> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     private List<CartesianPoint> createRandomlyDistributedPointsInRange(CartesianPoint origin, double range, int amount) {
         List<CartesianPoint> points = new ArrayList<>();
         for (int i = 0; i < amount; i++) {
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.application.ambassador.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class UnitLogStoreTest {
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    @Test
+    public void readLogsOfSingleUnit() throws IOException {
+        final Path directory = tmpFolder.newFolder("apps").toPath();
+        writeLogs(directory, 1024, true);
+
+        final UnitLogStoreReader reader = new UnitLogStoreReader(directory);
+        assertEquals(100, reader.getUnitIds().size());
+        assertTrue(Files.exists(directory.resolve("segment-1.bin")));
+
+        assertLogsOfUnit(reader, 42);
+        assertLogsOfUnit(reader, 99);
+    }
+
+    @Test
+    public void readLogsOfSingleLogger() throws IOException {
+        final Path directory = tmpFolder.newFolder("apps").toPath();
+        writeLogs(directory, 1024, true);
+
+        final List<UnitLogStoreReader.UnitLogRecord> logRecords = new ArrayList<>();
+        new UnitLogStoreReader(directory).read("veh_7", "OperatingSystem", logRecords::add);
+
+        assertEquals(5, logRecords.size());
+        for (UnitLogStoreReader.UnitLogRecord logRecord : logRecords) {
+            assertEquals("veh_7/OperatingSystem", logRecord.path);
+        }
+    }
+
+    @Test
+    public void readLogsWithoutIndex() throws IOException {
+        final Path directory = tmpFolder.newFolder("apps").toPath();
+        writeLogs(directory, 1024, false);
+
+        final UnitLogStoreReader reader = new UnitLogStoreReader(directory);
+        assertEquals(100, reader.getUnitIds().size());
+        assertLogsOfUnit(reader, 42);
+    }
+
+    @Test
+    public void recordLargerThanSegment() throws IOException {
+        final Path directory = tmpFolder.newFolder("apps").toPath();
+        final String message = "x".repeat(5000);
+        try (UnitLogStore logStore = new UnitLogStore(directory, 1024)) {
+            logStore.append("veh_0/MyApp", 0, 0, 20000, "first");
+            logStore.append("veh_0/MyApp", 1, 0, 20000, message);
+            logStore.append("veh_0/MyApp", 2, 0, 20000, "last");
+        }
+
+        final List<UnitLogStoreReader.UnitLogRecord> logRecords = new UnitLogStoreReader(directory).read("veh_0");
+        assertEquals(3, logRecords.size());
+        assertEquals("first", logRecords.get(0).message);
+        assertEquals(message, logRecords.get(1).message);
+        assertEquals("last", logRecords.get(2).message);
+    }
+
+    /**
+     * Writes 5 log records for each of 100 units and 2 loggers, alternating between units.
+     */
+    private static void writeLogs(Path directory, int segmentSize, boolean close) throws IOException {
+        final UnitLogStore logStore = new UnitLogStore(directory, segmentSize);
+        for (int i = 0; i < 5; i++) {
+            for (int unit = 0; unit < 100; unit++) {
+                logStore.append("veh_" + unit + "/OperatingSystem", i * 1000L, 42L, 20000, "os " + i + " of veh_" + unit);
+                logStore.append("veh_" + unit + "/MyApp", i * 1000L, 42L, 10000, "app " + i + " of veh_" + unit + " äöü");
+            }
+        }
+        if (close) {
+            logStore.close();
+        }
+    }
+
+    private static void assertLogsOfUnit(UnitLogStoreReader reader, int unit) throws IOException {
+        final List<UnitLogStoreReader.UnitLogRecord> logRecords = reader.read("veh_" + unit);
+        assertEquals(10, logRecords.size());
+        for (int i = 0; i < 5; i++) {
+            final UnitLogStoreReader.UnitLogRecord osRecord = logRecords.get(2 * i);
+            assertEquals("veh_" + unit + "/OperatingSystem", osRecord.path);
+            assertEquals("os " + i + " of veh_" + unit, osRecord.message);
+            assertEquals(i * 1000L, osRecord.simulationTime);
+            assertEquals(20000, osRecord.level);
+            final UnitLogStoreReader.UnitLogRecord appRecord = logRecords.get(2 * i + 1);
+            assertEquals("app " + i + " of veh_" + unit + " äöü", appRecord.message);
+            assertEquals(42L, appRecord.timestamp);
+        }
+    }
+}
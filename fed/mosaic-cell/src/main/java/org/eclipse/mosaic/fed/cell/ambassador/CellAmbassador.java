@@ -16,6 +16,7 @@
 package org.eclipse.mosaic.fed.cell.ambassador;
 
 import org.eclipse.mosaic.fed.cell.chain.ChainManager;
+import org.eclipse.mosaic.fed.cell.chain.PartitionedChainManager;
 import org.eclipse.mosaic.fed.cell.config.CCell;
 import org.eclipse.mosaic.fed.cell.config.CNetwork;
 import org.eclipse.mosaic.fed.cell.config.CRegion;
@@ -127,7 +128,12 @@ public class CellAmbassador extends AbstractFederateAmbassador {
 
         final RandomNumberGenerator rng = rti.createRandomNumberGenerator();
 
-        chainManager = new ChainManager(rti, rng, ambassadorParameter);
+        final CCell cellConfig = ConfigurationData.INSTANCE.getCellConfig();
+        if (cellConfig.partitionByRegion) {
+            chainManager = new PartitionedChainManager(rti, rng, ambassadorParameter, cellConfig.regionProcessingThreads);
+        } else {
+            chainManager = new ChainManager(rti, rng, ambassadorParameter);
+        }
 
         initializeBandwidthMeasurements();
 
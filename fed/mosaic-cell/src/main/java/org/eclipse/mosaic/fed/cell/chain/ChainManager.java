@@ -16,6 +16,8 @@
 package org.eclipse.mosaic.fed.cell.chain;
 
 import org.eclipse.mosaic.fed.cell.message.CellModuleMessage;
+import org.eclipse.mosaic.fed.cell.message.GeocasterResult;
+import org.eclipse.mosaic.fed.cell.message.StreamResult;
 import org.eclipse.mosaic.fed.cell.module.CellModule;
 import org.eclipse.mosaic.fed.cell.module.CellModuleNames;
 import org.eclipse.mosaic.fed.cell.module.GeocasterModule;
@@ -26,7 +28,9 @@ import org.eclipse.mosaic.fed.cell.viz.StreamListener.StreamParticipant;
 import org.eclipse.mosaic.fed.cell.viz.StreamListener.StreamProperties;
 import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.lib.enums.DestinationType;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
+import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
 import org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler;
 import org.eclipse.mosaic.lib.util.scheduling.Event;
 import org.eclipse.mosaic.lib.util.scheduling.EventManager;
@@ -43,6 +47,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -52,10 +57,35 @@ import javax.annotation.Nonnull;
  * The ChainManager receives communication dependent interactions from the CellAmbassador
  * and handles the complete interaction between the cell modules internally
  * and also interfaces towards MOSAIC to advance the simulation.
+ * <br/><br/>
+ * Events of the cell modules at the same simulation time are processed in a fixed order, which does not depend on
+ * the order they were added in (see {@link #getEventNice}). Furthermore, the modules draw their random numbers from
+ * generators derived from the processed message (see {@link #getRandomNumberGenerator(int, String)}). Therefore,
+ * the {@link PartitionedChainManager} achieves the same results as this ChainManager.
  */
 public class ChainManager implements EventManager {
 
     private static final Logger log = LoggerFactory.getLogger(ChainManager.class);
+
+    /**
+     * Stage of events which free the capacity of finished transmissions, processed first within a simulation time.
+     */
+    static final int STAGE_FREE_CAPACITY = 1;
+
+    /**
+     * Stage of events which start the transmission of a message in the {@link UpstreamModule}.
+     */
+    static final int STAGE_UPSTREAM = 2;
+
+    /**
+     * Stage of events which determine the receivers of a message in the {@link GeocasterModule}.
+     */
+    static final int STAGE_GEOCASTER = 3;
+
+    /**
+     * Stage of events which transmit a message to its receivers in the {@link DownstreamModule}, processed last within a simulation time.
+     */
+    static final int STAGE_DOWNSTREAM = 4;
     private long lastAdvanceTime = 0;
 
     public RtiAmbassador getRti() {
@@ -77,7 +107,7 @@ public class ChainManager implements EventManager {
     /**
      * The eventScheduler to simulate the (timed) interactions of the cell modules.
      */
-    private final EventScheduler eventScheduler = new DefaultEventScheduler();
+    protected final EventScheduler eventScheduler;
 
     /**
      * Handle to interact with MOSAIC.
@@ -86,19 +116,43 @@ public class ChainManager implements EventManager {
 
     private final RandomNumberGenerator rng;
 
+    /**
+     * The seed all random number generators of the cell modules are derived from.
+     */
+    private final long seed;
+
     /**
      * Initialize the ChainManager, which is the EventManager for the communication dependent events
      * and at the same time the only module in the cell to perform interactions towards MOSAIC.
      *
      * @param rti the reference towards MOSAIC (for requesting timeAdvances and sending interactions).
-     * @param rng the RandomGeneratorObject object that is needed by the Geocaster
+     * @param rng the RandomGeneratorObject object the seed of the cell modules is drawn from
      */
     public ChainManager(RtiAmbassador rti, RandomNumberGenerator rng, AmbassadorParameter ambassadorParameter) {
+        this(rti, rng, rng.nextLong(0, Long.MAX_VALUE), ambassadorParameter, new DefaultEventScheduler(), true);
+    }
+
+    /**
+     * Initialize the ChainManager, optionally without any cell modules, e.g. if the modules
+     * are held by other {@link ChainManager}s the events are delegated to.
+     *
+     * @param rti               the reference towards MOSAIC (for requesting timeAdvances and sending interactions).
+     * @param rng               the RandomGeneratorObject object
+     * @param seed              the seed the random number generators of the cell modules are derived from
+     * @param eventScheduler    the event scheduler to simulate the (timed) interactions of the cell modules
+     * @param initializeModules {@code true}, if the cell modules should be added to this ChainManager
+     */
+    protected ChainManager(RtiAmbassador rti, RandomNumberGenerator rng, long seed, AmbassadorParameter ambassadorParameter,
+                           EventScheduler eventScheduler, boolean initializeModules) {
         log.info("Initialize ChainManager");
         this.rti = rti;
         this.rng = rng;
+        this.seed = seed;
         this.ambassadorParameter = ambassadorParameter;
-        initializeModuleRegistry();
+        this.eventScheduler = eventScheduler;
+        if (initializeModules) {
+            initializeModuleRegistry();
+        }
     }
 
     /**
@@ -152,7 +206,10 @@ public class ChainManager implements EventManager {
                         getFirstModule().getModuleName(),
                         TIME.format(v2xMessageTransmission.getTime()));
             }
-            newEvent(v2xMessageTransmission.getTime(), getFirstModule()).withResource(v2xMessageTransmission.getMessage()).schedule();
+            newEvent(v2xMessageTransmission.getTime(), getFirstModule())
+                    .withResource(v2xMessageTransmission.getMessage())
+                    .withNice(getEventNice(STAGE_UPSTREAM, v2xMessageTransmission.getMessageId(), 0))
+                    .schedule();
         }
     }
 
@@ -165,6 +222,17 @@ public class ChainManager implements EventManager {
      * @param cellModuleMessage result from the modules with further information what to do.
      */
     public void finishEvent(CellModuleMessage cellModuleMessage) {
+        finishEvent(cellModuleMessage, 0);
+    }
+
+    /**
+     * Sets the event for the next module in the chain for the given part of a message,
+     * e.g. if a message is split by the regions of its receivers.
+     *
+     * @param cellModuleMessage result from the modules with further information what to do.
+     * @param part              the index of the part of the message, used to order events of the same message
+     */
+    protected void finishEvent(CellModuleMessage cellModuleMessage, int part) {
         Validate.notNull(
                 cellModuleMessage, "The cellModuleResult message is null and the ChainManager could, therefore, not finish the Event"
         );
@@ -177,8 +245,57 @@ public class ChainManager implements EventManager {
                     cellModuleMessage.getEmittingModule(),
                     nextModule.getModuleName(),
                     TIME.format(cellModuleMessage.getEndTime()));
-            newEvent(cellModuleMessage.getEndTime(), nextModule).withResource(cellModuleMessage).schedule();
+            newEvent(cellModuleMessage.getEndTime(), nextModule)
+                    .withResource(cellModuleMessage)
+                    .withNice(getEventNice(getStage(cellModuleMessage), getMessageId(cellModuleMessage.getResource()), part))
+                    .schedule();
+        }
+    }
+
+    /**
+     * Returns the priority of an event of the cell modules, so that events at the same simulation time are processed
+     * in an order which does not depend on the order they were added in: by their stage, by the id of their message,
+     * and by the part of their message. Other events, e.g. configurations of nodes, have the default priority
+     * and are therefore processed before the events of the cell modules.
+     *
+     * @param stage     the stage of the event, e.g. {@link #STAGE_UPSTREAM}
+     * @param messageId the id of the message the event belongs to
+     * @param part      the index of the part of the message
+     * @return the nice value of the event
+     */
+    static long getEventNice(int stage, int messageId, int part) {
+        return ((long) stage << 52) | (Integer.toUnsignedLong(messageId) << 20) | part;
+    }
+
+    /**
+     * Returns the highest nice value of the events of the given stage.
+     */
+    static long getLastEventNiceOfStage(int stage) {
+        return getEventNice(stage + 1, 0, 0) - 1;
+    }
+
+    private static int getStage(CellModuleMessage cellModuleMessage) {
+        if (cellModuleMessage.getNextModule().equals(cellModuleMessage.getEmittingModule())) {
+            // modules send messages to themselves to free the capacity after the transmission
+            return STAGE_FREE_CAPACITY;
         }
+        return switch (cellModuleMessage.getNextModule()) {
+            case CellModuleNames.GEOCASTER -> STAGE_GEOCASTER;
+            case CellModuleNames.DOWNSTREAM_MODULE -> STAGE_DOWNSTREAM;
+            default -> STAGE_UPSTREAM;
+        };
+    }
+
+    private static int getMessageId(Object resource) {
+        final V2xMessage message;
+        if (resource instanceof StreamResult streamResult) {
+            message = streamResult.getV2xMessage();
+        } else if (resource instanceof GeocasterResult geocasterResult) {
+            message = geocasterResult.getV2xMessage();
+        } else {
+            message = null;
+        }
+        return message != null ? message.getId() : 0;
     }
 
     @Override
@@ -222,6 +339,17 @@ public class ChainManager implements EventManager {
         }
     }
 
+    /**
+     * Updates the available capacity of a node, e.g. to free the bandwidth of a finished transmission.
+     * The update is applied immediately.
+     *
+     * @param nodeId the id of the node whose capacity is updated
+     * @param update the update of the capacity
+     */
+    public void updateNodeCapacity(String nodeId, Runnable update) {
+        update.run();
+    }
+
     /**
      * Helper functions for the navigation in the moduleRegistry.
      *
@@ -259,6 +387,34 @@ public class ChainManager implements EventManager {
         return rng;
     }
 
+    /**
+     * Returns a random number generator for processing the given message. Its numbers only depend on the seed of
+     * this ChainManager, the id of the message, and the given key, but not on the order the messages are processed in.
+     *
+     * @param messageId the id of the processed message
+     * @param key       identifies the processing step, e.g. by the transmission mode and the id of the node
+     * @return a new random number generator
+     */
+    public RandomNumberGenerator getRandomNumberGenerator(int messageId, String key) {
+        return new DefaultRandomNumberGenerator(mix(mix(seed + messageId) + key.hashCode()));
+    }
+
+    /**
+     * Scrambles the bits of the given value (finalizer of SplitMix64), so that similar keys lead to unrelated seeds.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Returns the seed the random number generators of the cell modules are derived from.
+     */
+    long getSeed() {
+        return seed;
+    }
+
     /**
      * Registers a new {@link StreamListener} which is called when a message finished
      * all stream modules, i.e. a message is sent to its target.
@@ -287,12 +443,25 @@ public class ChainManager implements EventManager {
      * Print statistics about processedMessages for each module.
      */
     public void printStatistics() {
-        for (CellModule module : moduleRegistry.values()) {
-            log.info("[{}] Processed messages: {}", module.getModuleName(), module.getProcessedMessages());
+        for (Map.Entry<String, Long> processedMessages : getProcessedMessages().entrySet()) {
+            log.info("[{}] Processed messages: {}", processedMessages.getKey(), processedMessages.getValue());
         }
 
         for (StreamListener streamListener : streamListeners) {
             streamListener.finish();
         }
     }
+
+    /**
+     * Returns the number of processed messages for each module.
+     *
+     * @return the number of processed messages with the name of the module as key
+     */
+    protected Map<String, Long> getProcessedMessages() {
+        final Map<String, Long> processedMessages = new LinkedHashMap<>();
+        for (CellModule module : moduleRegistry.values()) {
+            processedMessages.put(module.getModuleName(), module.getProcessedMessages());
+        }
+        return processedMessages;
+    }
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.cell.chain;
+
+import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
+import org.eclipse.mosaic.fed.cell.utility.RegionUtility;
+import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
+import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
+import org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.IllegalValueException;
+import org.eclipse.mosaic.rti.api.RtiAmbassador;
+import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link ChainManager} which partitions the events of the cell modules by region. Each region (including the
+ * global network and the server regions) is handled by a {@link RegionChainManager} with its own modules and event scheduler.
+ * Within a time step, the regions process their events in parallel, while everything affecting other regions or MOSAIC
+ * is applied afterwards on the calling thread, in the order a single {@link ChainManager} would have processed the events.
+ * As the random numbers only depend on the processed message (see {@link ChainManager#getRandomNumberGenerator(int, String)}),
+ * the results are the same as the results of the {@link ChainManager} with the same seed, for any number of threads.
+ * <br/><br/>
+ * A time step is processed as follows:
+ * <ol>
+ *     <li/> Events added by the ambassador, e.g. configurations of nodes, are processed on the calling thread.
+ *           New messages are passed to the region of their sender.
+ *     <li/> The events of the time step are processed in three passes, which ensure that no region processes an event
+ *           before all events of other regions which precede it (see {@link ChainManager#getEventNice}) have been applied:
+ *           first the capacity of finished transmissions is freed, then the upstream and geocaster events
+ *           are processed, and at last the downstream events.
+ *     <li/> In each pass, all regions with events process them in parallel. Afterwards, the interactions,
+ *           stream listener notifications, and messages for receivers in other regions are applied in the order of
+ *           the processed events of all regions, i.e. by the nice value of the event they were created in.
+ * </ol>
+ */
+public class PartitionedChainManager extends ChainManager {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionedChainManager.class);
+
+    /**
+     * The highest nice value of the events processed within each pass of a time step.
+     */
+    private static final long[] PASSES = {
+            getLastEventNiceOfStage(STAGE_FREE_CAPACITY),
+            getLastEventNiceOfStage(STAGE_GEOCASTER),
+            Long.MAX_VALUE
+    };
+
+    /**
+     * The {@link RegionChainManager}s of all regions, with the id of the region as key, in the order of their creation.
+     */
+    private final Map<String, RegionChainManager> regionChainManagers = new LinkedHashMap<>();
+
+    /**
+     * Thread pool used to process the regions in parallel, {@code null} if they are processed sequentially.
+     */
+    private final ExecutorService executorService;
+
+    /**
+     * Initialize the PartitionedChainManager with a {@link RegionChainManager} for each configured region.
+     *
+     * @param rti     the reference towards MOSAIC (for requesting timeAdvances and sending interactions).
+     * @param rng     the random number generator the seed of the cell modules is drawn from
+     * @param threads the number of threads to process the regions with
+     */
+    public PartitionedChainManager(RtiAmbassador rti, RandomNumberGenerator rng, AmbassadorParameter ambassadorParameter, int threads) {
+        super(rti, rng, rng.nextLong(0, Long.MAX_VALUE), ambassadorParameter, new DefaultEventScheduler(), false);
+        for (CNetworkProperties region : RegionUtility.getAllRegions(true, true)) {
+            getRegionChainManager(region);
+        }
+        if (threads > 1) {
+            final AtomicInteger threadCounter = new AtomicInteger();
+            this.executorService = Executors.newFixedThreadPool(threads, r -> {
+                final Thread thread = new Thread(r, String.format("CellRegion-%04d", threadCounter.incrementAndGet()));
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executorService = null;
+        }
+        log.info("Partitioned cell modules into {} regions, processed by {} thread(s)", regionChainManagers.size(), Math.max(1, threads));
+    }
+
+    /**
+     * Returns the {@link RegionChainManager} of the given region, which is created if not existing yet.
+     * Must only be called by the thread calling {@link #advanceTime}.
+     */
+    RegionChainManager getRegionChainManager(CNetworkProperties region) {
+        return regionChainManagers.computeIfAbsent(region.id, id -> new RegionChainManager(this, region));
+    }
+
+    @Override
+    public void advanceTime(long time) {
+        super.advanceTime(time);
+
+        // regions of nodes must not be assigned while processing the regions in parallel
+        RegionUtility.assignRegionsOfNodes();
+
+        for (long maxNice : PASSES) {
+            List<RegionChainManager> dueRegions = getRegionsWithEventsAt(time, maxNice);
+            while (!dueRegions.isEmpty()) {
+                processRegions(dueRegions, time, maxNice);
+                applyPendingActions(dueRegions);
+                dueRegions = getRegionsWithEventsAt(time, maxNice);
+            }
+        }
+        requestNextAdvanceTime();
+    }
+
+    /**
+     * Passes the message to the region of its sender when the transmission starts, as the region
+     * of the sender can change until then.
+     */
+    @Override
+    public void startEvent(V2xMessageTransmission v2xMessageTransmission) {
+        if (v2xMessageTransmission.getMessage().getRouting().getDestination().getType().isCell()) {
+            addEvent(v2xMessageTransmission.getTime(), e -> {
+                final String senderId = v2xMessageTransmission.getMessage().getRouting().getSource().getSourceName();
+                getRegionChainManager(RegionUtility.getRegionForNode(senderId)).startEvent(v2xMessageTransmission);
+            });
+        }
+    }
+
+    private List<RegionChainManager> getRegionsWithEventsAt(long time, long maxNice) {
+        final List<RegionChainManager> regions = new ArrayList<>();
+        for (RegionChainManager region : regionChainManagers.values()) {
+            if (region.hasEventsAt(time, maxNice)) {
+                regions.add(region);
+            }
+        }
+        return regions;
+    }
+
+    private void processRegions(List<RegionChainManager> regions, long time, long maxNice) {
+        if (executorService == null || regions.size() == 1) {
+            for (RegionChainManager region : regions) {
+                region.advanceTime(time, maxNice);
+            }
+            return;
+        }
+        final List<Callable<Void>> tasks = new ArrayList<>(regions.size());
+        for (RegionChainManager region : regions) {
+            tasks.add(() -> {
+                region.advanceTime(time, maxNice);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> result : executorService.invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while processing the regions at t=" + TIME.format(time), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Could not process the regions at t=" + TIME.format(time), e.getCause());
+        }
+    }
+
+    /**
+     * Applies the actions collected by the given regions in the order a single {@link ChainManager} would have created them.
+     * A single ChainManager always processes the event with the lowest nice value next. Therefore, the processed events
+     * of the regions are merged by always taking the event with the lowest nice value among the next events of each region.
+     */
+    private void applyPendingActions(List<RegionChainManager> regions) {
+        final int[] nextEventIndices = new int[regions.size()];
+        while (true) {
+            RegionChainManager.ProcessedEvent nextEvent = null;
+            int nextRegion = -1;
+            for (int i = 0; i < regions.size(); i++) {
+                final List<RegionChainManager.ProcessedEvent> processedEvents = regions.get(i).getProcessedEvents();
+                if (nextEventIndices[i] < processedEvents.size()
+                        && (nextEvent == null || processedEvents.get(nextEventIndices[i]).getNice() < nextEvent.getNice())) {
+                    nextEvent = processedEvents.get(nextEventIndices[i]);
+                    nextRegion = i;
+                }
+            }
+            if (nextEvent == null) {
+                break;
+            }
+            nextEventIndices[nextRegion]++;
+            nextEvent.applyPendingActions();
+        }
+        for (RegionChainManager region : regions) {
+            region.clearProcessedEvents();
+        }
+    }
+
+    /**
+     * Requests the time of the earliest event of all regions, the regions do not request any time advances by themselves.
+     */
+    private void requestNextAdvanceTime() {
+        long nextEventTime = Long.MAX_VALUE;
+        for (RegionChainManager region : regionChainManagers.values()) {
+            nextEventTime = Math.min(nextEventTime, region.getNextEventTime());
+        }
+        if (nextEventTime == Long.MAX_VALUE) {
+            return;
+        }
+        try {
+            getRti().requestAdvanceTime(nextEventTime);
+        } catch (IllegalValueException ex) {
+            throw new RuntimeException("Could not request advanceTime from RTI.", ex);
+        }
+    }
+
+    @Override
+    protected Map<String, Long> getProcessedMessages() {
+        final Map<String, Long> processedMessages = new LinkedHashMap<>();
+        for (RegionChainManager region : regionChainManagers.values()) {
+            region.getProcessedMessages().forEach((module, messages) -> processedMessages.merge(module, messages, Long::sum));
+        }
+        return processedMessages;
+    }
+
+    /**
+     * Prints the statistics summed up over all regions and shuts down the thread pool.
+     */
+    @Override
+    public void printStatistics() {
+        super.printStatistics();
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+}
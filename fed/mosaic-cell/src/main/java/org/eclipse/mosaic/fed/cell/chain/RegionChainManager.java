@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.cell.chain;
+
+import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
+import org.eclipse.mosaic.fed.cell.data.SimulationData;
+import org.eclipse.mosaic.fed.cell.message.CellModuleMessage;
+import org.eclipse.mosaic.fed.cell.message.GeocasterResult;
+import org.eclipse.mosaic.fed.cell.module.CellModuleNames;
+import org.eclipse.mosaic.fed.cell.viz.StreamListener.StreamParticipant;
+import org.eclipse.mosaic.fed.cell.viz.StreamListener.StreamProperties;
+import org.eclipse.mosaic.lib.util.scheduling.DefaultEventScheduler;
+import org.eclipse.mosaic.lib.util.scheduling.Event;
+import org.eclipse.mosaic.lib.util.scheduling.EventProcessor;
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.Multimap;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * Processes the events of the cell modules for all nodes within a single region, as part of a
+ * {@link PartitionedChainManager}. Each {@link RegionChainManager} holds its own modules and event scheduler,
+ * so that the events of different regions can be processed in parallel.
+ * Everything which affects other regions or MOSAIC (interactions, stream listeners, messages for receivers
+ * in other regions, and the capacity of nodes which have changed their region) is collected for each processed
+ * event and applied by the {@link PartitionedChainManager} after all regions have processed their events.
+ */
+class RegionChainManager extends ChainManager {
+
+    private final PartitionedChainManager partitionedChainManager;
+
+    private final CNetworkProperties region;
+
+    private final RegionEventScheduler regionEventScheduler;
+
+    /**
+     * All events processed since the pending actions have been applied the last time, in the order they were processed.
+     */
+    private final List<ProcessedEvent> processedEvents = new ArrayList<>();
+
+    RegionChainManager(PartitionedChainManager partitionedChainManager, CNetworkProperties region) {
+        this(partitionedChainManager, region, new RegionEventScheduler());
+    }
+
+    private RegionChainManager(PartitionedChainManager partitionedChainManager, CNetworkProperties region,
+                               RegionEventScheduler eventScheduler) {
+        super(partitionedChainManager.getRti(), partitionedChainManager.getRandomNumberGenerator(), partitionedChainManager.getSeed(),
+                partitionedChainManager.getAmbassadorParameter(), eventScheduler, true);
+        this.partitionedChainManager = partitionedChainManager;
+        this.region = region;
+        this.regionEventScheduler = eventScheduler;
+    }
+
+    CNetworkProperties getRegion() {
+        return region;
+    }
+
+    /**
+     * Returns {@code true}, if this region has events to be processed at the given time with a nice value up to the given one.
+     */
+    boolean hasEventsAt(long time, long maxNice) {
+        return regionEventScheduler.hasEventsAt(time, maxNice);
+    }
+
+    /**
+     * Processes all events at the given time with a nice value up to the given one.
+     */
+    void advanceTime(long time, long maxNice) {
+        regionEventScheduler.scheduleEvents(time, maxNice);
+    }
+
+    /**
+     * Returns the time of the next event of this region, or {@link Long#MAX_VALUE}, if there are no events left.
+     */
+    long getNextEventTime() {
+        return eventScheduler.isEmpty() ? Long.MAX_VALUE : eventScheduler.getNextEventTime();
+    }
+
+    /**
+     * Returns all events processed since the last call of {@link #clearProcessedEvents()},
+     * together with the actions collected while processing them.
+     */
+    List<ProcessedEvent> getProcessedEvents() {
+        return processedEvents;
+    }
+
+    void clearProcessedEvents() {
+        processedEvents.clear();
+    }
+
+    /**
+     * Schedules the event within this region only. The time advance is requested by the {@link PartitionedChainManager}.
+     * Each processed event is recorded, so that the actions collected while processing it can be applied in the order
+     * of the events of all regions.
+     */
+    @Override
+    public void addEvent(@Nonnull Event event) {
+        final List<EventProcessor> processors = event.getProcessors();
+        eventScheduler.addEvent(new Event(event.getTime(), e -> {
+            processedEvents.add(new ProcessedEvent(e.getNice()));
+            for (EventProcessor processor : processors) {
+                if (processor.canProcessEvent()) {
+                    processor.processEvent(e);
+                }
+            }
+        }, event.getResource(), event.getNice()));
+    }
+
+    /**
+     * Chains the message through to the next module. Messages for the {@link CellModuleNames#DOWNSTREAM_MODULE}
+     * are split by the regions of their receivers, and each part is passed to the region of its receivers.
+     */
+    @Override
+    public void finishEvent(CellModuleMessage cellModuleMessage) {
+        if (!CellModuleNames.DOWNSTREAM_MODULE.equals(cellModuleMessage.getNextModule())
+                || !(cellModuleMessage.getResource() instanceof GeocasterResult geocasterResult)) {
+            super.finishEvent(cellModuleMessage);
+            return;
+        }
+        final Multimap<CNetworkProperties, String> receivers = geocasterResult.getReceivers();
+        if (receivers.keySet().size() == 1 && isThisRegion(receivers.keySet().iterator().next())) {
+            super.finishEvent(cellModuleMessage);
+            return;
+        }
+        // the parts are numbered in the order a single DownstreamModule would process them
+        int part = 0;
+        for (CNetworkProperties receiverRegion : receivers.keySet()) {
+            final Multimap<CNetworkProperties, String> receiversOfRegion =
+                    ArrayListMultimap.create(1, receivers.get(receiverRegion).size());
+            receiversOfRegion.putAll(receiverRegion, receivers.get(receiverRegion));
+            final CellModuleMessage messageOfRegion = new CellModuleMessage.Builder(
+                    cellModuleMessage.getEmittingModule(), cellModuleMessage.getNextModule()
+            )
+                    .startTime(cellModuleMessage.getStartTime())
+                    .endTime(cellModuleMessage.getEndTime())
+                    .resource(new GeocasterResult(
+                            receiversOfRegion,
+                            geocasterResult.getDownstreamMode(),
+                            geocasterResult.getV2xMessage(),
+                            geocasterResult.isFullMessage()
+                    ))
+                    .build();
+            final int partOfRegion = part++;
+            if (isThisRegion(receiverRegion)) {
+                super.finishEvent(messageOfRegion, partOfRegion);
+            } else {
+                addPendingAction(() ->
+                        partitionedChainManager.getRegionChainManager(receiverRegion).finishEvent(messageOfRegion, partOfRegion));
+            }
+        }
+    }
+
+    @Override
+    public void sendInteractionToRti(Interaction interaction) {
+        addPendingAction(() -> partitionedChainManager.sendInteractionToRti(interaction));
+    }
+
+    @Override
+    public void notifyStreamListeners(StreamParticipant sender, StreamParticipant receiver, StreamProperties properties) {
+        addPendingAction(() -> partitionedChainManager.notifyStreamListeners(sender, receiver, properties));
+    }
+
+    /**
+     * Updates the capacity of the node immediately, if the node is currently located in this region. Otherwise,
+     * the capacity of the node might be used by another region at the same time, and the update is postponed.
+     */
+    @Override
+    public void updateNodeCapacity(String nodeId, Runnable update) {
+        if (nodeId == null || isThisRegion(SimulationData.INSTANCE.getRegionOfNode(nodeId))) {
+            update.run();
+        } else {
+            addPendingAction(update);
+        }
+    }
+
+    private void addPendingAction(Runnable action) {
+        if (processedEvents.isEmpty()) {
+            processedEvents.add(new ProcessedEvent(Event.NICE_MAX_PRIORITY));
+        }
+        processedEvents.get(processedEvents.size() - 1).pendingActions.add(action);
+    }
+
+    private boolean isThisRegion(CNetworkProperties otherRegion) {
+        return otherRegion != null && region.id.equals(otherRegion.id);
+    }
+
+    /**
+     * An event processed by a region, with all actions to be applied after processing the events of all regions.
+     */
+    static class ProcessedEvent {
+
+        private final long nice;
+
+        private final List<Runnable> pendingActions = new ArrayList<>(0);
+
+        private ProcessedEvent(long nice) {
+            this.nice = nice;
+        }
+
+        long getNice() {
+            return nice;
+        }
+
+        void applyPendingActions() {
+            for (Runnable pendingAction : pendingActions) {
+                pendingAction.run();
+            }
+        }
+    }
+
+    /**
+     * Event scheduler which processes the events of a simulation time in several passes,
+     * each processing only the events up to a given nice value.
+     */
+    private static class RegionEventScheduler extends DefaultEventScheduler {
+
+        private boolean hasEventsAt(long time, long maxNice) {
+            final Event nextEvent = eventQueue.peek();
+            return nextEvent != null && nextEvent.getTime() == time && nextEvent.getNice() <= maxNice;
+        }
+
+        private void scheduleEvents(long time, long maxNice) {
+            scheduledTime = time;
+            while (hasEventsAt(time, maxNice)) {
+                final Event event = eventQueue.remove();
+                for (EventProcessor processor : event.getProcessors()) {
+                    if (!processor.canProcessEvent()) {
+                        continue;
+                    }
+                    try {
+                        processor.processEvent(event);
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -55,6 +55,28 @@ public final class CCell {
      */
     public List<CBandwidthMeasurement> bandwidthMeasurements = new ArrayList<>();
 
+    /**
+     * If enabled, all receivers of a multicast message within a region are combined in one
+     * {@code V2xBulkMessageReception} interaction, instead of sending one {@code V2xMessageReception}
+     * per receiver (default: false). All federates receiving messages, e.g. the application simulator,
+     * must subscribe to {@code V2xBulkMessageReception} in this case.
+     */
+    public boolean bulkMessageReceptions = false;
+
+    /**
+     * If enabled, the events of the cell modules are partitioned by the region of the involved nodes,
+     * and the regions are processed in parallel within each time step (default: false).
+     * The results are the same as the results of the non-partitioned processing with the same random seed.
+     *
+     * @see #regionProcessingThreads
+     */
+    public boolean partitionByRegion = false;
+
+    /**
+     * Number of threads used to process the regions in parallel, if {@link #partitionByRegion} is enabled (default: 1).
+     */
+    public int regionProcessingThreads = 1;
+
     /**
      * relative path to the network configuration file (default: network.json)
      */
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.cell.data;
+
+import org.eclipse.mosaic.lib.geo.Area;
+import org.eclipse.mosaic.lib.geo.Bounds;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uniform grid of quadratic cells holding the positions of all nodes, which is used to find all nodes
+ * within a destination area without checking the position of every single node. The grid is not bound
+ * to the extent of the scenario, since only occupied cells are stored.
+ */
+class NodePositionGrid {
+
+    /**
+     * The size of each cell in meters.
+     */
+    private static final double CELL_SIZE = 250d;
+
+    /**
+     * The bounds of each searched area are extended by this value in meters,
+     * in order to not miss nodes directly on the border due to rounding errors.
+     */
+    private static final double BOUNDS_TOLERANCE = 1e-3;
+
+    /**
+     * All occupied cells, with the column and row of the cell packed into one key.
+     */
+    private final Map<Long, Map<String, CartesianPoint>> cells = new HashMap<>();
+
+    /**
+     * The key of the cell each node is currently located in.
+     */
+    private final Map<String, Long> cellOfNode = new HashMap<>();
+
+    /**
+     * Adds the node to the grid, or moves it to the cell matching its new position, if it's already known.
+     *
+     * @param nodeId   the id of the node
+     * @param position the current position of the node
+     */
+    void addOrUpdate(String nodeId, CartesianPoint position) {
+        final long newCellKey = toCellKey(toCellIndex(position.getX()), toCellIndex(position.getY()));
+        final Long oldCellKey = cellOfNode.put(nodeId, newCellKey);
+        if (oldCellKey != null && oldCellKey != newCellKey) {
+            removeFromCell(oldCellKey, nodeId);
+        }
+        cells.computeIfAbsent(newCellKey, k -> new HashMap<>()).put(nodeId, position);
+    }
+
+    /**
+     * Removes the node from the grid.
+     *
+     * @param nodeId the id of the node
+     */
+    void remove(String nodeId) {
+        final Long cellKey = cellOfNode.remove(nodeId);
+        if (cellKey != null) {
+            removeFromCell(cellKey, nodeId);
+        }
+    }
+
+    /**
+     * Collects the ids of all nodes whose position is within the given area. Only cells which
+     * intersect with the bounding box of the area are considered.
+     *
+     * @param area   the area to search the nodes in
+     * @param result the list to add the ids of all nodes within the area to
+     * @return the result list
+     */
+    List<String> getNodesInArea(Area<CartesianPoint> area, List<String> result) {
+        final Bounds<CartesianPoint> bounds = area.getBounds();
+        final long minCol = toCellIndex(bounds.getSideD() - BOUNDS_TOLERANCE);
+        final long maxCol = toCellIndex(bounds.getSideB() + BOUNDS_TOLERANCE);
+        final long minRow = toCellIndex(bounds.getSideA() - BOUNDS_TOLERANCE);
+        final long maxRow = toCellIndex(bounds.getSideC() + BOUNDS_TOLERANCE);
+
+        if ((maxCol - minCol + 1) * (maxRow - minRow + 1) > cells.size()) {
+            // the area covers more cells than are occupied
+            for (Map<String, CartesianPoint> cell : cells.values()) {
+                addNodesInArea(cell, area, result);
+            }
+            return result;
+        }
+
+        for (long col = minCol; col <= maxCol; col++) {
+            for (long row = minRow; row <= maxRow; row++) {
+                final Map<String, CartesianPoint> cell = cells.get(toCellKey(col, row));
+                if (cell != null) {
+                    addNodesInArea(cell, area, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void addNodesInArea(Map<String, CartesianPoint> cell, Area<CartesianPoint> area, List<String> result) {
+        for (Map.Entry<String, CartesianPoint> entry : cell.entrySet()) {
+            if (area.contains(entry.getValue())) {
+                result.add(entry.getKey());
+            }
+        }
+    }
+
+    private void removeFromCell(long cellKey, String nodeId) {
+        final Map<String, CartesianPoint> cell = cells.get(cellKey);
+        cell.remove(nodeId);
+        if (cell.isEmpty()) {
+            cells.remove(cellKey);
+        }
+    }
+
+    private static long toCellIndex(double coordinate) {
+        return (long) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private static long toCellKey(long col, long row) {
+        return (col << 32) | (row & 0xFFFFFFFFL);
+    }
+}
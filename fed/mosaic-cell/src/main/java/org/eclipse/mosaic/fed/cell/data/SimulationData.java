@@ -16,6 +16,7 @@
 package org.eclipse.mosaic.fed.cell.data;
 
 import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
+import org.eclipse.mosaic.lib.geo.Area;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.objects.communication.CellConfiguration;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
@@ -24,7 +25,11 @@ import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nonnull;
@@ -35,6 +40,7 @@ import javax.annotation.Nonnull;
  * <ul>
  * <li/>the current simulation time
  * <li/>the position of each known node
+ * <li/>the region of each known node, and the nodes within each region
  * <li/>the vehicle speeds (rsus, tl, cs have a speed of 0)
  * </ul>
  */
@@ -55,6 +61,22 @@ public enum SimulationData {
 
     private final Map<String, SimulationNode> simulationNodeMap = new HashMap<>();
 
+    /**
+     * The ids of all nodes per region, with the id of the region as key. Kept in sync with
+     * the region of each node, in order to resolve the nodes of a region without checking all nodes.
+     */
+    private final Map<String, Set<String>> nodesPerRegion = new HashMap<>();
+
+    /**
+     * The ids of all nodes which haven't been assigned to any region yet.
+     */
+    private final Set<String> nodesWithoutRegion = new LinkedHashSet<>();
+
+    /**
+     * Spatial index of the positions of all nodes.
+     */
+    private final NodePositionGrid nodePositionGrid = new NodePositionGrid();
+
     /**
      * Set or update the position for a node.
      * To be only called by the CellAmbassador (throw exception when anything is wrong).
@@ -65,6 +87,7 @@ public enum SimulationData {
     public void setPositionOfNode(String nodeId, CartesianPoint position) {
         if (nodeId != null && position != null) {
             getOrCreate(nodeId).position = position;
+            nodePositionGrid.addOrUpdate(nodeId, position);
         } else {
             throw new RuntimeException(
                     "Unable to setPositionOfNode for nodeId=" + nodeId + ", position=" + position);
@@ -81,7 +104,18 @@ public enum SimulationData {
         Validate.notNull(region, "Unable to setRegionOfNode for nodeId=" + nodeId + ", because the given region is null");
         Validate.notNull(nodeId, "Unable to setRegionOfNode for nodeId=" + nodeId + ", region=" + region.id);
 
-        getOrCreate(nodeId).region = region;
+        final SimulationNode node = getOrCreate(nodeId);
+        if (node.region != null) {
+            if (node.region.id.equals(region.id)) {
+                node.region = region;
+                return;
+            }
+            removeFromRegion(nodeId, node.region);
+        } else {
+            nodesWithoutRegion.remove(nodeId);
+        }
+        node.region = region;
+        nodesPerRegion.computeIfAbsent(region.id, k -> new LinkedHashSet<>()).add(nodeId);
     }
 
     /**
@@ -125,6 +159,7 @@ public enum SimulationData {
         if (node == null) {
             node = new SimulationNode();
             simulationNodeMap.put(nodeId, node);
+            nodesWithoutRegion.add(nodeId);
         }
         return node;
     }
@@ -136,7 +171,26 @@ public enum SimulationData {
      * @param nodeId the id of the node to remove.
      */
     public void removeNode(String nodeId) {
-        simulationNodeMap.remove(nodeId);
+        final SimulationNode node = simulationNodeMap.remove(nodeId);
+        if (node == null) {
+            return;
+        }
+        if (node.region != null) {
+            removeFromRegion(nodeId, node.region);
+        } else {
+            nodesWithoutRegion.remove(nodeId);
+        }
+        nodePositionGrid.remove(nodeId);
+    }
+
+    private void removeFromRegion(String nodeId, CNetworkProperties region) {
+        final Set<String> nodesOfRegion = nodesPerRegion.get(region.id);
+        if (nodesOfRegion != null) {
+            nodesOfRegion.remove(nodeId);
+            if (nodesOfRegion.isEmpty()) {
+                nodesPerRegion.remove(region.id);
+            }
+        }
     }
 
     /**
@@ -148,6 +202,37 @@ public enum SimulationData {
         return simulationNodeMap.keySet();
     }
 
+    /**
+     * Gets all nodes which are currently assigned to the given region.
+     *
+     * @param regionId the id of the region
+     * @return an unmodifiable view on the ids of all nodes within the region
+     */
+    public Set<String> getNodesOfRegion(String regionId) {
+        final Set<String> nodesOfRegion = nodesPerRegion.get(regionId);
+        return nodesOfRegion != null ? Collections.unmodifiableSet(nodesOfRegion) : Collections.emptySet();
+    }
+
+    /**
+     * Gets all nodes which haven't been assigned to any region yet, e.g. nodes whose region
+     * is determined by their position on first access.
+     *
+     * @return an unmodifiable view on the ids of all nodes without a region
+     */
+    public Set<String> getNodesWithoutRegion() {
+        return Collections.unmodifiableSet(nodesWithoutRegion);
+    }
+
+    /**
+     * Gets all nodes whose position is within the given area.
+     *
+     * @param area the area to search the nodes in
+     * @return list of all nodes within the area
+     */
+    public List<String> getNodesInArea(Area<CartesianPoint> area) {
+        return nodePositionGrid.getNodesInArea(area, new ArrayList<>());
+    }
+
     /**
      * Returns the position of a node from the position table.
      * Returns null if the node is non existing.
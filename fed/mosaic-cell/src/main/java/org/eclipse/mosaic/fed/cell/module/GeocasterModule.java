@@ -28,7 +28,6 @@ import org.eclipse.mosaic.lib.enums.DestinationType;
 import org.eclipse.mosaic.lib.enums.NegativeAckReason;
 import org.eclipse.mosaic.lib.enums.ProtocolType;
 import org.eclipse.mosaic.lib.geo.GeoArea;
-import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
 import org.eclipse.mosaic.lib.objects.addressing.DestinationAddressContainer;
 import org.eclipse.mosaic.lib.objects.addressing.IpResolver;
 import org.eclipse.mosaic.lib.objects.addressing.NetworkAddress;
@@ -53,7 +52,6 @@ public final class GeocasterModule extends CellModule {
 
     private static final Logger log = LoggerFactory.getLogger(GeocasterModule.class);
 
-    private final RandomNumberGenerator rng;
     private long processedMessages = 0;
 
     /**
@@ -63,7 +61,6 @@ public final class GeocasterModule extends CellModule {
      */
     public GeocasterModule(ChainManager chainManager) {
         super(CellModuleNames.GEOCASTER, chainManager);
-        this.rng = chainManager.getRandomNumberGenerator();
     }
 
     @Override
@@ -185,7 +182,7 @@ public final class GeocasterModule extends CellModule {
         List<String> receiverNodes = RegionUtility.getNodesForDestinationArea(Objects.requireNonNull(geoArea));
         log.debug("CellGeoUnicast receiverNodes={}", receiverNodes);
         // shuffle for fairness, when capacity is exceeded and certain destination nodes are unable to receive
-        rng.shuffle(receiverNodes);
+        chainManager.getRandomNumberGenerator(v2xMessage.getId(), getModuleName()).shuffle(receiverNodes);
         log.debug("CellGeoUnicast receiverNodes(shuffled)={}", receiverNodes);
 
         // Second, match the regions, which can be multiple ones as there are also multiple receivers
@@ -48,7 +48,7 @@ public abstract class AbstractStreamModule extends CellModule {
     AbstractStreamModule(String moduleName, ChainManager chainManager, Logger log) {
         super(moduleName, chainManager);
         this.log = log;
-        this.streamProcessor = new StreamProcessor(log, chainManager.getRandomNumberGenerator());
+        this.streamProcessor = new StreamProcessor(log, chainManager);
     }
 
     @Override
@@ -131,7 +131,9 @@ public abstract class AbstractStreamModule extends CellModule {
             throw new RuntimeException("Tried to free bandwidth but the resource of the result message was not a StreamResultMessage");
         }
         TransmissionMode mode = streamResult.getMode();
-        freeBandwidthForNode(streamResult.getInvolvedNode(), streamResult.getConsumedBandwidth(), mode);
+        chainManager.updateNodeCapacity(streamResult.getInvolvedNode(),
+                () -> freeBandwidthForNode(streamResult.getInvolvedNode(), streamResult.getConsumedBandwidth(), mode)
+        );
         CNetworkProperties region = RegionUtility.getRegionByName(streamResult.getRegionId());
         freeBandwidthForRegion(region, streamResult.getConsumedBandwidth(), mode);
     }
@@ -17,6 +17,7 @@ package org.eclipse.mosaic.fed.cell.module.streammodules;
 
 import org.eclipse.mosaic.fed.cell.chain.ChainManager;
 import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
+import org.eclipse.mosaic.fed.cell.data.ConfigurationData;
 import org.eclipse.mosaic.fed.cell.message.CellModuleMessage;
 import org.eclipse.mosaic.fed.cell.message.GeocasterResult;
 import org.eclipse.mosaic.fed.cell.message.StreamResult;
@@ -24,6 +25,7 @@ import org.eclipse.mosaic.fed.cell.module.CellModuleNames;
 import org.eclipse.mosaic.fed.cell.utility.RegionUtility;
 import org.eclipse.mosaic.fed.cell.viz.StreamListener.StreamParticipant;
 import org.eclipse.mosaic.fed.cell.viz.StreamListener.StreamProperties;
+import org.eclipse.mosaic.interactions.communication.V2xBulkMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xFullMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
@@ -38,6 +40,9 @@ import org.eclipse.mosaic.rti.api.InternalFederateException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 /**
  * This module simulates the Downlink in the RAN-Part of the cellular network.
  * When messages successfully passed the Downlink module, they go to the receiver applications.
@@ -159,13 +164,23 @@ public final class DownstreamModule extends AbstractStreamModule {
                 V2xReceiverInformation receiverInformation = extractReceiverInformation(processingResult, messageStartTime);
 
                 // TODO: better ReceiverInformation handling
-                for (String receiver : geocasterResult.getReceivers().get(region)) {
-                    sendReceptionInteraction(
-                            geocasterResult.isFullMessage(),
-                            processingResult.getMessageEndTime(), receiver,
+                if (!geocasterResult.isFullMessage() && ConfigurationData.INSTANCE.getCellConfig().bulkMessageReceptions) {
+                    // all receivers of the region receive the message at the same time
+                    sendBulkReceptionInteraction(
+                            processingResult.getMessageEndTime(),
+                            geocasterResult.getReceivers().get(region),
                             processingInput.getV2xMessage(),
                             receiverInformation
                     );
+                } else {
+                    for (String receiver : geocasterResult.getReceivers().get(region)) {
+                        sendReceptionInteraction(
+                                geocasterResult.isFullMessage(),
+                                processingResult.getMessageEndTime(), receiver,
+                                processingInput.getV2xMessage(),
+                                receiverInformation
+                        );
+                    }
                 }
                 notifyStreamListeners(processingInput, processingResult, cellModuleMessage);
                 // sendAck(input, processingResult); // no ack is sent in multicast TODO get confirmed
@@ -192,6 +207,20 @@ public final class DownstreamModule extends AbstractStreamModule {
         }
     }
 
+    private void sendBulkReceptionInteraction(long messageEndTime, Collection<String> receiverIds,
+                                              V2xMessage message, V2xReceiverInformation receiverInformation) {
+        if (receiverIds.isEmpty()) {
+            return;
+        }
+        final long[] receiveTimes = new long[receiverIds.size()];
+        Arrays.fill(receiveTimes, messageEndTime);
+        final V2xReceiverInformation[] receiverInformationPerReceiver = new V2xReceiverInformation[receiverIds.size()];
+        Arrays.fill(receiverInformationPerReceiver, receiverInformation);
+        chainManager.sendInteractionToRti(new V2xBulkMessageReception(
+                messageEndTime, message.getId(), receiverIds.toArray(new String[0]), receiveTimes, receiverInformationPerReceiver
+        ));
+    }
+
     private void notifyStreamListeners(StreamProcessor.Input parameters, StreamProcessor.Result result, CellModuleMessage cellModuleMessage) throws InternalFederateException {
         String senderId = parameters.getV2xMessage().getRouting().getSource().getSourceName();
         String senderRegion = RegionUtility.getRegionForNode(senderId).id;
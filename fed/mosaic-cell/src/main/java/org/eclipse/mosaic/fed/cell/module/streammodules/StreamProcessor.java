@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.fed.cell.module.streammodules;
 
+import org.eclipse.mosaic.fed.cell.chain.ChainManager;
 import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
 import org.eclipse.mosaic.fed.cell.config.model.TransmissionMode;
 import org.eclipse.mosaic.fed.cell.utility.CapacityUtility;
@@ -43,19 +44,19 @@ import java.util.List;
 public class StreamProcessor {
 
     private final Logger log;
-    private final RandomNumberGenerator randomNumberGenerator;
+    private final ChainManager chainManager;
 
     private int processedMessages;
 
     /**
      * Creates a new {@link StreamProcessor} object.
      *
-     * @param log                   Logger object
-     * @param randomNumberGenerator A random number.
+     * @param log          Logger object
+     * @param chainManager Provides the random number generators for each processed message.
      */
-    StreamProcessor(Logger log, RandomNumberGenerator randomNumberGenerator) {
+    StreamProcessor(Logger log, ChainManager chainManager) {
         this.log = log;
-        this.randomNumberGenerator = randomNumberGenerator;
+        this.chainManager = chainManager;
     }
 
     /**
@@ -93,13 +94,18 @@ public class StreamProcessor {
     }
 
     private void calculateTransmissionModels(Input input, Result result) throws InternalFederateException {
+        // random numbers only depend on the message and the node (or region in case of multicasts), not on the processing order
+        final RandomNumberGenerator randomNumberGenerator = chainManager.getRandomNumberGenerator(
+                input.v2xMessage.getId(), input.mode + ":" + (input.nodeId != null ? input.nodeId : input.region.id)
+        );
+
         // 1) CoreDelay-model
         // * get core delay according to parameters.getMode() - constant, simple random, gammas
         final long coreDelayInNs = DelayUtility.calculateDelay(input.region, input.mode, input.nodeId, randomNumberGenerator);
 
         // 2) Pr/Pl-model
         // * check if packet can be transmitted and how many attempts are needed
-        int prPlAttempts = calculateRetransmissionLossModel(input, result, coreDelayInNs);
+        int prPlAttempts = calculateRetransmissionLossModel(input, result, coreDelayInNs, randomNumberGenerator);
 
         // 3) Capacity-model
         // * consume bandwidth according to delays and
@@ -126,12 +132,14 @@ public class StreamProcessor {
     /**
      * Attempts of packet retransmission in case of packet loss.
      *
-     * @param input         Input data includes transmission related information.
-     * @param result        Result of the message transmission.
-     * @param coreDelayInNs Delay of the core network [ns].
+     * @param input                 Input data includes transmission related information.
+     * @param result                Result of the message transmission.
+     * @param coreDelayInNs         Delay of the core network [ns].
+     * @param randomNumberGenerator Random number generator for the transmission of the message.
      * @return Number of attempts.
      */
-    private int calculateRetransmissionLossModel(Input input, Result result, long coreDelayInNs) {
+    private int calculateRetransmissionLossModel(Input input, Result result, long coreDelayInNs,
+                                                 RandomNumberGenerator randomNumberGenerator) {
         final TransmissionResult transmissionResult =
                 RetransmissionLossUtility.determineTransmissionAttempts(randomNumberGenerator, input.region, input.mode);
 
@@ -20,7 +20,6 @@ import org.eclipse.mosaic.fed.cell.config.model.CMobileNetworkProperties;
 import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
 import org.eclipse.mosaic.fed.cell.data.ConfigurationData;
 import org.eclipse.mosaic.fed.cell.data.SimulationData;
-import org.eclipse.mosaic.lib.geo.CartesianArea;
 import org.eclipse.mosaic.lib.geo.CartesianCircle;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.geo.CartesianPolygon;
@@ -59,16 +58,21 @@ public class RegionUtility {
      * @return list of all nodes.
      */
     public static List<String> getNodesForRegion(CNetworkProperties region) {
-        final List<String> nodesForRegion = new ArrayList<>();
-        final Set<String> allNodes = SimulationData.INSTANCE.getAllNodesInSimulation();
-        for (String node : allNodes) {
-            final String regionForNode = RegionUtility.getRegionForNode(node).id;
-            if (regionForNode.equals(region.id)) {
-                nodesForRegion.add(node);
+        // nodes without region get their region assigned by their position first
+        assignRegionsOfNodes();
+        return new ArrayList<>(SimulationData.INSTANCE.getNodesOfRegion(region.id));
+    }
+
+    /**
+     * Assigns a region to all nodes which haven't been assigned to any region yet, based on their position.
+     */
+    public static void assignRegionsOfNodes() {
+        final Set<String> nodesWithoutRegion = SimulationData.INSTANCE.getNodesWithoutRegion();
+        if (!nodesWithoutRegion.isEmpty()) {
+            for (String node : new ArrayList<>(nodesWithoutRegion)) {
+                RegionUtility.getRegionForNode(node);
             }
         }
-
-        return nodesForRegion;
     }
 
     /**
@@ -88,7 +92,10 @@ public class RegionUtility {
 
         if (region == null) {
             region = getRegionForPosition(SimulationData.INSTANCE.getPositionOfNode(node));
-            SimulationData.INSTANCE.setRegionOfNode(node, region);
+            // nodes which are unknown, e.g. already removed ones, are not added to the simulation data again
+            if (SimulationData.INSTANCE.getAllNodesInSimulation().contains(node)) {
+                SimulationData.INSTANCE.setRegionOfNode(node, region);
+            }
         }
         log.trace("Getting region for node {} at region {}", node, region.id);
         return region;
@@ -138,16 +145,7 @@ public class RegionUtility {
      * @return list of all nodes within the destination area.
      */
     public static List<String> getNodesForDestinationArea(GeoArea geoArea) {
-        final CartesianArea area = geoArea.toCartesian();
-        List<String> nodes = new ArrayList<>();
-        for (String n : SimulationData.INSTANCE.getAllNodesInSimulation()) {
-            CartesianPoint nodePos = SimulationData.INSTANCE.getPositionOfNode(n);
-            if (nodePos != null && area.contains(nodePos)) {
-                nodes.add(n);
-            }
-        }
-
-        return nodes;
+        return SimulationData.INSTANCE.getNodesInArea(geoArea.toCartesian());
     }
 
     /**
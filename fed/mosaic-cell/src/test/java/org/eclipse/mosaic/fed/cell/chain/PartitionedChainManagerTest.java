@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.cell.chain;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+
+import org.eclipse.mosaic.fed.cell.config.model.CNetworkProperties;
+import org.eclipse.mosaic.fed.cell.data.SimulationData;
+import org.eclipse.mosaic.fed.cell.junit.CellConfigurationRule;
+import org.eclipse.mosaic.fed.cell.junit.CellSimulationRule;
+import org.eclipse.mosaic.fed.cell.utility.RegionUtility;
+import org.eclipse.mosaic.interactions.communication.V2xBulkMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.GeoRectangle;
+import org.eclipse.mosaic.lib.geo.UtmPoint;
+import org.eclipse.mosaic.lib.geo.UtmZone;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.junit.IpResolverRule;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
+import org.eclipse.mosaic.lib.model.delay.SimpleRandomDelay;
+import org.eclipse.mosaic.lib.model.transmission.CTransmission;
+import org.eclipse.mosaic.lib.objects.addressing.CellMessageRoutingBuilder;
+import org.eclipse.mosaic.lib.objects.addressing.IpResolver;
+import org.eclipse.mosaic.lib.objects.communication.CellConfiguration;
+import org.eclipse.mosaic.lib.objects.v2x.MessageRouting;
+import org.eclipse.mosaic.lib.objects.v2x.V2xMessage;
+import org.eclipse.mosaic.rti.DATA;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.IllegalValueException;
+import org.eclipse.mosaic.rti.api.Interaction;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.RtiAmbassador;
+import org.eclipse.mosaic.rti.api.parameters.AmbassadorParameter;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+public class PartitionedChainManagerTest {
+
+    private final static long SEED = 182931861823L;
+
+    private final static int VEHICLES = 30;
+
+    private final static GeoPoint IN_TIERGARTEN = GeoPoint.lonLat(13.349933624267578, 52.51388868388495);
+    private final static GeoPoint IN_KREUZBERG = GeoPoint.lonLat(13.404693603515625, 52.50038549553871);
+    private final static GeoPoint OUTSIDE_REGIONS = GeoPoint.lonLat(13.386154174804688, 52.47065170749479);
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule().strictness(Strictness.LENIENT);
+
+    @Mock
+    public RtiAmbassador rti;
+
+    @Rule
+    public IpResolverRule ipResolverRule = new IpResolverRule();
+
+    private final GeoProjectionRule transformationRule = new GeoProjectionRule(
+            UtmPoint.eastNorth(UtmZone.from(GeoPoint.lonLat(13.3856, 52.5415)), 388405.53, 5820063.64)
+    );
+
+    private final CellConfigurationRule configRule = new CellConfigurationRule()
+            .withNetworkConfig("configs/network_for_moduletest.json")
+            .withRegionConfig("configs/regions_for_moduletest.json");
+
+    @Rule
+    public RuleChain ruleChain = RuleChain.outerRule(transformationRule).around(configRule);
+
+    @Rule
+    public CellSimulationRule simulationRule = new CellSimulationRule();
+
+    private final TreeSet<Long> requestedTimes = new TreeSet<>();
+    private final List<Interaction> rtiInteractionsSent = new ArrayList<>();
+
+    private AmbassadorParameter ambassadorParameter;
+
+    @Before
+    public void setup() throws IllegalValueException, InternalFederateException {
+        ambassadorParameter = new AmbassadorParameter("Cell", new File("cell_config.json"));
+
+        doAnswer(
+                invocationOnMock -> requestedTimes.add((Long) invocationOnMock.getArguments()[0])
+        ).when(rti).requestAdvanceTime(anyLong());
+        doAnswer(
+                invocationOnMock -> rtiInteractionsSent.add((Interaction) invocationOnMock.getArguments()[0])
+        ).when(rti).triggerInteraction(ArgumentMatchers.isA(Interaction.class));
+
+        for (int i = 0; i < VEHICLES; i++) {
+            IpResolver.getSingleton().registerHost("veh_" + i);
+        }
+
+        // random delays and packet losses, so that the results depend on the random numbers drawn
+        for (CNetworkProperties region : RegionUtility.getAllRegions(true, true)) {
+            region.uplink.delay = createRandomDelay();
+            region.uplink.transmission = createLossyTransmission();
+            region.downlink.unicast.delay = createRandomDelay();
+            region.downlink.unicast.transmission = createLossyTransmission();
+            if (region.downlink.multicast != null) {
+                region.downlink.multicast.delay = createRandomDelay();
+            }
+        }
+    }
+
+    @Test
+    public void sameResultsAsChainManager() {
+        // RUN
+        final List<String> sequentialResults = simulate(false, 1);
+        final List<String> partitionedResults = simulate(true, 4);
+
+        // ASSERT
+        assertTrue(sequentialResults.stream().anyMatch(result -> result.contains("reception")));
+        assertTrue(sequentialResults.stream().anyMatch(result -> result.contains("PACKET_LOSS")));
+        assertEquals(sequentialResults, partitionedResults);
+    }
+
+    @Test
+    public void sameResultsWithMultipleThreads() {
+        // RUN
+        final List<String> sequentialResults = simulate(true, 1);
+        final List<String> parallelResults = simulate(true, 4);
+
+        // ASSERT
+        assertTrue(sequentialResults.stream().anyMatch(result -> result.contains("reception")));
+        assertTrue(sequentialResults.stream().anyMatch(result -> result.contains("acknowledgement")));
+        assertEquals(sequentialResults, parallelResults);
+    }
+
+    @Test
+    public void sameResultsInRepeatedRuns() {
+        // RUN
+        final List<String> firstResults = simulate(true, 4);
+        final List<String> secondResults = simulate(true, 4);
+
+        // ASSERT
+        assertEquals(firstResults, secondResults);
+    }
+
+    @Test
+    public void regionsForAllNetworks() {
+        // RUN
+        final PartitionedChainManager chainManager =
+                new PartitionedChainManager(rti, new DefaultRandomNumberGenerator(SEED), ambassadorParameter, 2);
+
+        // ASSERT
+        for (CNetworkProperties region : RegionUtility.getAllRegions(true, true)) {
+            assertEquals(region, chainManager.getRegionChainManager(region).getRegion());
+        }
+        chainManager.printStatistics();
+    }
+
+    /**
+     * Lets each vehicle send messages in 10 consecutive time steps, using topocasts (UDP and TCP) to single vehicles
+     * and geocasts to an area covering several regions. Some vehicles change their region between the time steps.
+     * The messages have the same ids in each run.
+     *
+     * @param partitioned {@code true}, if the {@link PartitionedChainManager} should be used instead of the {@link ChainManager}
+     * @param threads     the number of threads of the {@link PartitionedChainManager}
+     * @return descriptions of all interactions sent to the RTI, in the order they were sent
+     */
+    private List<String> simulate(boolean partitioned, int threads) {
+        requestedTimes.clear();
+        rtiInteractionsSent.clear();
+
+        for (int i = 0; i < VEHICLES; i++) {
+            SimulationData.INSTANCE.removeNode("veh_" + i);
+            moveVehicle(i, i % 3);
+            SimulationData.INSTANCE.setCellConfigurationOfNode("veh_" + i,
+                    new CellConfiguration("veh_" + i, true, 20 * DATA.KILOBIT, 20 * DATA.KILOBIT)
+            );
+        }
+
+        final ChainManager chainManager = partitioned
+                ? new PartitionedChainManager(rti, new DefaultRandomNumberGenerator(SEED), ambassadorParameter, threads)
+                : new ChainManager(rti, new DefaultRandomNumberGenerator(SEED), ambassadorParameter);
+        final GeoRectangle destinationArea = new GeoRectangle(
+                GeoPoint.lonLat(13.333625793457031, 52.51563064800963),
+                GeoPoint.lonLat(13.421859741210938, 52.4953554452214)
+        );
+        for (int step = 0; step < 10; step++) {
+            final long time = TIME.SECOND + step * 100 * TIME.MILLI_SECOND;
+            moveVehicle(step, step + 1);
+
+            for (int i = 0; i < VEHICLES; i++) {
+                final CellMessageRoutingBuilder routingBuilder = new CellMessageRoutingBuilder("veh_" + i, null);
+                final MessageRouting routing = switch (i % 4) {
+                    case 0 -> routingBuilder.udp().topoCast("veh_" + ((i + step + 1) % VEHICLES));
+                    case 1 -> routingBuilder.tcp().topoCast("veh_" + ((i + 2 * step + 5) % VEHICLES));
+                    case 2 -> routingBuilder.geoBroadcastBasedOnUnicast(destinationArea);
+                    default -> routingBuilder.geoBroadcastMbms(destinationArea);
+                };
+                final V2xMessage message = new SampleV2xMessage(routing, step * VEHICLES + i, 5 * DATA.BYTE);
+                chainManager.startEvent(new V2xMessageTransmission(time, message));
+            }
+            while (!requestedTimes.isEmpty() && requestedTimes.first() <= time) {
+                chainManager.advanceTime(requestedTimes.pollFirst());
+            }
+        }
+        while (!requestedTimes.isEmpty()) {
+            chainManager.advanceTime(requestedTimes.pollFirst());
+        }
+        chainManager.printStatistics();
+
+        final List<String> results = new ArrayList<>();
+        for (Interaction interaction : rtiInteractionsSent) {
+            results.add(describe(interaction));
+        }
+        return results;
+    }
+
+    private static SimpleRandomDelay createRandomDelay() {
+        final SimpleRandomDelay delay = new SimpleRandomDelay();
+        delay.steps = 5;
+        delay.minDelay = 20 * TIME.MILLI_SECOND;
+        delay.maxDelay = 100 * TIME.MILLI_SECOND;
+        return delay;
+    }
+
+    private static CTransmission createLossyTransmission() {
+        final CTransmission transmission = new CTransmission();
+        transmission.lossProbability = 0.2;
+        transmission.maxRetries = 1;
+        return transmission;
+    }
+
+    private void moveVehicle(int vehicle, int location) {
+        final CartesianPoint position = switch (location % 3) {
+            case 0 -> IN_TIERGARTEN.toCartesian();
+            case 1 -> IN_KREUZBERG.toCartesian();
+            default -> OUTSIDE_REGIONS.toCartesian();
+        };
+        SimulationData.INSTANCE.setPositionOfNode("veh_" + vehicle, position);
+        SimulationData.INSTANCE.setRegionOfNode("veh_" + vehicle, RegionUtility.getRegionForPosition(position));
+    }
+
+    private static String describe(Interaction interaction) {
+        if (interaction instanceof V2xMessageReception reception) {
+            return String.format("%d: reception of msg-%d by %s, %d bps", interaction.getTime(),
+                    reception.getMessageId(), reception.getReceiverName(),
+                    reception.getReceiverInformation().getNeededBandwidth());
+        }
+        if (interaction instanceof V2xBulkMessageReception reception) {
+            final StringBuilder receivers = new StringBuilder();
+            for (int i = 0; i < reception.getNumberOfReceivers(); i++) {
+                receivers.append(' ').append(reception.getReceiverName(i));
+            }
+            return String.format("%d: bulk reception of msg-%d by%s", interaction.getTime(),
+                    reception.getMessageId(), receivers);
+        }
+        if (interaction instanceof V2xMessageAcknowledgement acknowledgement) {
+            return String.format("%d: acknowledgement of msg-%d, %s %s", interaction.getTime(),
+                    acknowledgement.getOriginatingMessageId(),
+                    acknowledgement.isAcknowledged(), acknowledgement.getNegativeReasons());
+        }
+        return interaction.getTime() + ": " + interaction.getTypeId();
+    }
+}
@@ -33,6 +33,11 @@ public class SampleV2xMessage extends V2xMessage {
         this.payload = new EncodedPayload((int)(messageLengthInBits / DATA.BYTE));
     }
 
+    public SampleV2xMessage(MessageRouting routing, int id, long messageLengthInBits) {
+        super(routing, id);
+        this.payload = new EncodedPayload((int)(messageLengthInBits / DATA.BYTE));
+    }
+
     @Nonnull
     @Override
     public EncodedPayload getPayload() {
@@ -36,6 +36,7 @@ import org.eclipse.mosaic.fed.cell.message.StreamResult;
 import org.eclipse.mosaic.fed.cell.module.streammodules.DownstreamModule;
 import org.eclipse.mosaic.fed.cell.utility.NodeCapacityUtility;
 import org.eclipse.mosaic.fed.cell.utility.RegionUtility;
+import org.eclipse.mosaic.interactions.communication.V2xBulkMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.lib.enums.NegativeAckReason;
@@ -126,6 +127,7 @@ public class DownstreamModuleStreamingTest {
     private final List<CellModuleMessage> cellModuleMessages = new ArrayList<>();
     private final List<Interaction> rtiInteractionsSent = new ArrayList<>();
     private final List<Interaction> rtiV2xReceptionsSent = new ArrayList<>();
+    private final List<V2xBulkMessageReception> rtiBulkReceptionsSent = new ArrayList<>();
     private final List<Interaction> rtiV2xAcknowledgementsSent = new ArrayList<>();
     private final AtomicReference<MessageRouting> routing = new AtomicReference<>();
     private static final long DELAY_VALUE_IN_MS = 50 * TIME.MILLI_SECOND;
@@ -147,6 +149,14 @@ public class DownstreamModuleStreamingTest {
         doAnswer(
                 invocationOnMock -> {
                     Interaction interaction = (Interaction) invocationOnMock.getArguments()[0];
+                    if (interaction.getTypeId().equals(V2xBulkMessageReception.TYPE_ID)) {
+                        // bulk receptions are unpacked to check each reception individually
+                        rtiBulkReceptionsSent.add((V2xBulkMessageReception) interaction);
+                        List<V2xMessageReception> receptions = ((V2xBulkMessageReception) interaction).toSingleReceptions();
+                        rtiInteractionsSent.addAll(receptions);
+                        rtiV2xReceptionsSent.addAll(receptions);
+                        return null;
+                    }
                     rtiInteractionsSent.add(interaction);
                     if (interaction.getTypeId().equals(V2xMessageReception.TYPE_ID)) {
                         rtiV2xReceptionsSent.add((V2xMessageReception) invocationOnMock.getArguments()[0]);
@@ -36,6 +36,7 @@ import org.eclipse.mosaic.fed.cell.message.StreamResult;
 import org.eclipse.mosaic.fed.cell.module.streammodules.DownstreamModule;
 import org.eclipse.mosaic.fed.cell.utility.NodeCapacityUtility;
 import org.eclipse.mosaic.fed.cell.utility.RegionUtility;
+import org.eclipse.mosaic.interactions.communication.V2xBulkMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageAcknowledgement;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.lib.enums.NegativeAckReason;
@@ -119,6 +120,7 @@ public class DownstreamModuleTest {
     private final List<CellModuleMessage> cellModuleMessages = new ArrayList<>();
     private final List<Interaction> rtiInteractionsSent = new ArrayList<>();
     private final List<Interaction> rtiV2xReceptionsSent = new ArrayList<>();
+    private final List<V2xBulkMessageReception> rtiBulkReceptionsSent = new ArrayList<>();
     private final List<Interaction> rtiV2xAcknowledgementsSent = new ArrayList<>();
     private final AtomicReference<MessageRouting> routing = new AtomicReference<>();
     private static final long DELAY_VALUE_IN_MS = 50 * TIME.MILLI_SECOND;
@@ -140,6 +142,14 @@ public class DownstreamModuleTest {
         doAnswer(
                 invocationOnMock -> {
                     Interaction interaction = (Interaction) invocationOnMock.getArguments()[0];
+                    if (interaction.getTypeId().equals(V2xBulkMessageReception.TYPE_ID)) {
+                        // bulk receptions are unpacked to check each reception individually
+                        rtiBulkReceptionsSent.add((V2xBulkMessageReception) interaction);
+                        List<V2xMessageReception> receptions = ((V2xBulkMessageReception) interaction).toSingleReceptions();
+                        rtiInteractionsSent.addAll(receptions);
+                        rtiV2xReceptionsSent.addAll(receptions);
+                        return null;
+                    }
                     rtiInteractionsSent.add(interaction);
                     if (interaction.getTypeId().equals(V2xMessageReception.TYPE_ID)) {
                         rtiV2xReceptionsSent.add((V2xMessageReception) invocationOnMock.getArguments()[0]);
@@ -179,6 +189,7 @@ public class DownstreamModuleTest {
         downstreamModule.processEvent(event);
 
         // ASSERT
+        assertEquals(0, rtiBulkReceptionsSent.size());
         assertEquals(3, rtiInteractionsSent.size());
         assertEquals(3, rtiV2xReceptionsSent.size());
         assertEquals(1, cellModuleMessages.size());
@@ -195,6 +206,36 @@ public class DownstreamModuleTest {
         assertEquals((42000 - 8960) * DATA.BIT, ConfigurationData.INSTANCE.getNetworkConfig().globalNetwork.downlink.capacity);
     }
 
+    @Test
+    public void testProcessMessage_regularMessageMulticast_bulkReceptions() throws Exception {
+        // SETUP
+        ConfigurationData.INSTANCE.getCellConfig().bulkMessageReceptions = true;
+        routing.set(new CellMessageRoutingBuilder("veh_0", null).topoCast(new byte[]{1, 2, 3, 4}));
+        SampleV2xMessage sampleV2XMessage = new SampleV2xMessage(routing.get(), 10 * DATA.BYTE);
+        final Multimap<CNetworkProperties, String> receiverMap = ArrayListMultimap.create();
+        String[] receivers = {"veh_0", "veh_1", "veh_2"};
+        for (String receiver : receivers) {
+            CNetworkProperties region = RegionUtility.getRegionForNode(receiver);
+            receiverMap.put(region, receiver);
+            CellConfiguration cellConfiguration = new CellConfiguration(receiver, true);
+            SimulationData.INSTANCE.setCellConfigurationOfNode(receiver, cellConfiguration);
+        }
+
+        Event event = createMulticastEvent(receiverMap, sampleV2XMessage);
+
+        // RUN
+        downstreamModule.processEvent(event);
+
+        // ASSERT
+        assertEquals(1, rtiBulkReceptionsSent.size());
+        assertEquals(3, rtiBulkReceptionsSent.get(0).getNumberOfReceivers());
+        assertEquals(3, rtiV2xReceptionsSent.size());
+        long endTime = 10 * TIME.SECOND + DELAY_VALUE_IN_MS;
+        for (int i = 0; i < receivers.length; i++) {
+            testRtiV2xMessages(i, receivers[i], endTime, sampleV2XMessage.getId());
+        }
+    }
+
     @Test
     public void testProcessMessage_regularMessageMulticast_NodeLimited() throws Exception {
         // SETUP
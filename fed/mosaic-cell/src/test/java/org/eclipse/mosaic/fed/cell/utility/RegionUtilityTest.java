@@ -38,6 +38,9 @@ import org.junit.Test;
 import org.junit.rules.RuleChain;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 /**
@@ -166,4 +169,50 @@ public class RegionUtilityTest {
         assertEquals(sampleRegion3.id, RegionUtility.getRegionForNode("nodeWithinBoundary3").id);
         assertEquals(GLOBAL_NETWORK_ID, RegionUtility.getRegionForNode("nodeOutsideBoundary3").id);
     }
+
+    /**
+     * Tests if the nodes of a region are updated after handovers and removals.
+     */
+    @Test
+    public void testGetNodesForRegion() {
+        CMobileNetworkProperties sampleRegion1 = ConfigurationData.INSTANCE.getRegionConfig().regions.get(1);
+        CMobileNetworkProperties sampleRegion2 = ConfigurationData.INSTANCE.getRegionConfig().regions.get(2);
+
+        // region of veh_0 and veh_1 is determined by their position on first access
+        SimulationData.INSTANCE.setPositionOfNode("veh_0", GeoPoint.lonLat(13.64, 52.57).toCartesian());
+        SimulationData.INSTANCE.setPositionOfNode("veh_1", GeoPoint.lonLat(13.34, 52.53).toCartesian());
+        SimulationData.INSTANCE.setPositionOfNode("veh_2", GeoPoint.lonLat(13.34, 52.53).toCartesian());
+        SimulationData.INSTANCE.setRegionOfNode("veh_2", sampleRegion2);
+
+        assertEquals(Collections.singletonList("veh_0"), RegionUtility.getNodesForRegion(sampleRegion1));
+        assertEquals(new HashSet<>(Arrays.asList("veh_1", "veh_2")), new HashSet<>(RegionUtility.getNodesForRegion(sampleRegion2)));
+
+        // handover of veh_2 and removal of veh_1
+        SimulationData.INSTANCE.setRegionOfNode("veh_2", sampleRegion1);
+        SimulationData.INSTANCE.removeNode("veh_1");
+
+        assertEquals(new HashSet<>(Arrays.asList("veh_0", "veh_2")), new HashSet<>(RegionUtility.getNodesForRegion(sampleRegion1)));
+        assertEquals(Collections.emptyList(), RegionUtility.getNodesForRegion(sampleRegion2));
+    }
+
+    /**
+     * Tests if the nodes within a destination area are found, also after they've moved.
+     */
+    @Test
+    public void testGetNodesForDestinationArea() {
+        GeoPoint center = GeoPoint.lonLat(13.34, 52.54);
+        GeoCircle destinationArea = new GeoCircle(center, 1000);
+
+        SimulationData.INSTANCE.setPositionOfNode("veh_0", GeoPoint.lonLat(13.341, 52.541).toCartesian());
+        SimulationData.INSTANCE.setPositionOfNode("veh_1", GeoPoint.lonLat(13.36, 52.54).toCartesian());
+        SimulationData.INSTANCE.setPositionOfNode("veh_2", GeoPoint.lonLat(13.6, 52.6).toCartesian());
+
+        assertEquals(Collections.singletonList("veh_0"), RegionUtility.getNodesForDestinationArea(destinationArea));
+
+        // veh_1 moves into the area, veh_0 is removed
+        SimulationData.INSTANCE.setPositionOfNode("veh_1", GeoPoint.lonLat(13.345, 52.54).toCartesian());
+        SimulationData.INSTANCE.removeNode("veh_0");
+
+        assertEquals(Collections.singletonList("veh_1"), RegionUtility.getNodesForDestinationArea(destinationArea));
+    }
 }
@@ -36,6 +36,8 @@ import org.eclipse.mosaic.fed.mapping.config.units.CTrafficLight;
 import org.eclipse.mosaic.fed.mapping.config.units.CTrafficManagementCenter;
 import org.eclipse.mosaic.fed.mapping.config.units.CVehicle;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.mapping.VehicleBulkRegistration;
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
 import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioTrafficLightRegistration;
 import org.eclipse.mosaic.interactions.traffic.VehicleTypesInitialization;
 import org.eclipse.mosaic.lib.math.RandomNumberGenerator;
@@ -75,6 +77,12 @@ public class SpawningFramework {
     private final List<Spawner> spawners = new ArrayList<>();
     private final CMappingConfiguration config;
 
+    /**
+     * Collects the registrations of all vehicles spawned within the current time step, if
+     * {@link CMappingConfiguration#batchVehicleRegistrations} is enabled. Otherwise, this is {@code null}.
+     */
+    private final List<VehicleRegistration> batchedVehicleRegistrations;
+
     private ScenarioTrafficLightRegistration scenarioTrafficLightRegistration;
 
     /**
@@ -112,6 +120,7 @@ public class SpawningFramework {
         this.rti = rti;
         // config refers to meta parameters like start-/end-time, flow noise etc.
         this.config = mappingConfiguration.config;
+        this.batchedVehicleRegistrations = config != null && config.batchVehicleRegistrations ? new ArrayList<>() : null;
 
         // Prototypes
         if (mappingConfiguration.prototypes != null) {
@@ -224,6 +233,28 @@ public class SpawningFramework {
         return rti;
     }
 
+    /**
+     * Returns {@code true}, if the registrations of all vehicles spawned within one time step are sent
+     * together after all {@link VehicleFlowGenerator}s have been advanced.
+     */
+    boolean isBatchingVehicleRegistrations() {
+        return batchedVehicleRegistrations != null;
+    }
+
+    /**
+     * Sends the registration of a newly spawned vehicle to the RTI. If registrations are batched,
+     * the registration is sent within one {@link VehicleBulkRegistration} at the end of the current time advance.
+     *
+     * @param vehicleRegistration the registration of the spawned vehicle
+     */
+    void registerVehicle(VehicleRegistration vehicleRegistration) throws IllegalValueException, InternalFederateException {
+        if (batchedVehicleRegistrations != null) {
+            batchedVehicleRegistrations.add(vehicleRegistration);
+        } else {
+            rti.triggerInteraction(vehicleRegistration);
+        }
+    }
+
     void setScenarioTrafficLightRegistration(ScenarioTrafficLightRegistration trafficLightsRegistration) {
         this.scenarioTrafficLightRegistration = trafficLightsRegistration;
     }
@@ -479,6 +510,35 @@ public class SpawningFramework {
                 iterator.remove();
             }
         }
+
+        if (batchedVehicleRegistrations != null) {
+            sendBatchedVehicleRegistrations(time, rti);
+        }
+    }
+
+    /**
+     * Sends all vehicle registrations collected during the current time advance within one {@link VehicleBulkRegistration},
+     * and requests a single time advance for the earliest next spawning time of all {@link VehicleFlowGenerator}s.
+     */
+    private void sendBatchedVehicleRegistrations(long time, RtiAmbassador rti) throws InternalFederateException {
+        long nextSpawnTime = Long.MAX_VALUE;
+        for (VehicleFlowGenerator vehicleFlowGenerator : vehicleFlowGenerators) {
+            nextSpawnTime = Math.min(nextSpawnTime, vehicleFlowGenerator.getNextSpawnTime());
+        }
+        try {
+            if (!batchedVehicleRegistrations.isEmpty()) {
+                LOG.debug("Registering {} vehicles at time {}", batchedVehicleRegistrations.size(), time);
+                rti.triggerInteraction(new VehicleBulkRegistration(time, batchedVehicleRegistrations));
+            }
+            if (nextSpawnTime != Long.MAX_VALUE) {
+                rti.requestAdvanceTime(nextSpawnTime);
+            }
+        } catch (IllegalValueException e) {
+            LOG.error("Couldn't send {} vehicle registrations at time {}", batchedVehicleRegistrations.size(), time, e);
+            throw new InternalFederateException(e);
+        } finally {
+            batchedVehicleRegistrations.clear();
+        }
     }
 
     private void initTrafficLights(long time, RtiAmbassador rti, RandomNumberGenerator rng) throws InternalFederateException {
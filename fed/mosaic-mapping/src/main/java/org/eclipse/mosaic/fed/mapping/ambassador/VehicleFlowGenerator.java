@@ -40,7 +40,6 @@ import org.eclipse.mosaic.lib.objects.vehicle.VehicleDeparture;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleType;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.IllegalValueException;
-import org.eclipse.mosaic.rti.api.Interaction;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import com.google.common.collect.Iterables;
@@ -347,12 +346,7 @@ public class VehicleFlowGenerator {
         // now determine if a vehicle has to be spawned
         if (nextSpawnTime == -1) { // init some variables before the first time advance
             nextSpawnTime = spawningMode.getNextSpawningTime(framework.getTime());
-            try {
-                framework.getRti().requestAdvanceTime(nextSpawnTime);
-            } catch (IllegalValueException e) {
-                LOG.error("Exception while requesting time advance in VehicleStreamGenerator.timeAdvance()", e);
-                throw new InternalFederateException("Exception while requesting time advance in VehicleStreamGenerator.timeAdvance()", e);
-            }
+            requestAdvanceTime(framework);
         }
         // check if we really need to spawn something right now
         if (nextSpawnTime != framework.getTime()) {
@@ -360,12 +354,7 @@ public class VehicleFlowGenerator {
         }
 
         nextSpawnTime = spawningMode.getNextSpawningTime(framework.getTime());
-        try {
-            framework.getRti().requestAdvanceTime(nextSpawnTime);
-        } catch (IllegalValueException e) {
-            LOG.error("Exception in VehicleStreamGenerator.timeAdvance()", e);
-            throw new InternalFederateException("Exception in VehicleStreamGenerator.timeAdvance()", e);
-        }
+        requestAdvanceTime(framework);
 
         // If maxNumberVehicles wasn't given in mapping, we assume that it should be an endless flow, so
         // we set it to Integer.MAX_VALUE and don't reduce the max number of vehicles in this case
@@ -385,6 +374,29 @@ public class VehicleFlowGenerator {
         return false;
     }
 
+    /**
+     * Requests a time advance for the next spawning time. If the vehicle registrations are batched,
+     * the {@link SpawningFramework} requests one time advance for all {@link VehicleFlowGenerator}s instead.
+     */
+    private void requestAdvanceTime(SpawningFramework framework) throws InternalFederateException {
+        if (framework.isBatchingVehicleRegistrations()) {
+            return;
+        }
+        try {
+            framework.getRti().requestAdvanceTime(nextSpawnTime);
+        } catch (IllegalValueException e) {
+            LOG.error("Exception while requesting time advance in VehicleStreamGenerator.timeAdvance()", e);
+            throw new InternalFederateException("Exception while requesting time advance in VehicleStreamGenerator.timeAdvance()", e);
+        }
+    }
+
+    /**
+     * Returns the time the next vehicle of this flow is spawned, or {@code -1}, if this flow has not been advanced yet. [ns]
+     */
+    long getNextSpawnTime() {
+        return nextSpawnTime;
+    }
+
     private boolean notInTimeFrame(long time) {
         return time < start || time >= end;
     }
@@ -405,7 +417,7 @@ public class VehicleFlowGenerator {
                 .departureSpeed(departureSpeedMode, departSpeed)
                 .create();
 
-        Interaction interaction;
+        VehicleRegistration interaction;
         if (origin != null) {
             interaction = new RoutelessVehicleRegistration(
                     framework.getTime(), name, spawningGroup, type.getApplications(), vehicleDeparture, type.convertType(), odInfo
@@ -420,7 +432,7 @@ public class VehicleFlowGenerator {
             LOG.info("Creating Vehicle: time={},name={},route={},laneSelectionMode={},lane={},departConnectionIndex={},pos={},type={},departSpeed={},applications={}",
                     framework.getTime(), name, route, laneSelectionMode, lane,
                     departConnectionIndex, pos, type.getPrototypeName(), departSpeed, type.getApplications());
-            framework.getRti().triggerInteraction(interaction);
+            framework.registerVehicle(interaction);
         } catch (IllegalValueException e) {
             LOG.error("Couldn't send an {} interaction in VehicleStreamGenerator.timeAdvance()", interaction.getTypeId(), e);
             throw new InternalFederateException("Exception in VehicleStreamGenerator.timeAdvance()", e);
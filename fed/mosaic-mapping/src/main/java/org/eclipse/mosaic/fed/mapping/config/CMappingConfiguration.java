@@ -75,4 +75,12 @@ public class CMappingConfiguration {
      * If set to {@code true}, the configured weights of all types are slightly randomized by {@code +-1%} of the sum of all weights.
      */
     public boolean randomizeWeights = false;
+
+    /**
+     * If set to {@code true}, all vehicles spawned within the same time step are registered with one
+     * {@code VehicleBulkRegistration} instead of one {@code VehicleRegistration} per vehicle, and only one time
+     * advance is requested for the next spawning time of all vehicle spawners. All federates receiving
+     * vehicle registrations need to subscribe to {@code VehicleBulkRegistration} then.
+     */
+    public boolean batchVehicleRegistrations = false;
 }
@@ -18,12 +18,14 @@ package org.eclipse.mosaic.fed.mapping.ambassador;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import org.eclipse.mosaic.fed.mapping.config.CMappingAmbassador;
+import org.eclipse.mosaic.fed.mapping.config.CMappingConfiguration;
 import org.eclipse.mosaic.fed.mapping.config.CPrototype;
 import org.eclipse.mosaic.fed.mapping.config.units.CChargingStation;
 import org.eclipse.mosaic.fed.mapping.config.units.CRoadSideUnit;
@@ -36,6 +38,7 @@ import org.eclipse.mosaic.interactions.mapping.RsuRegistration;
 import org.eclipse.mosaic.interactions.mapping.ServerRegistration;
 import org.eclipse.mosaic.interactions.mapping.TmcRegistration;
 import org.eclipse.mosaic.interactions.mapping.TrafficLightRegistration;
+import org.eclipse.mosaic.interactions.mapping.VehicleBulkRegistration;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
 import org.eclipse.mosaic.interactions.mapping.advanced.ScenarioTrafficLightRegistration;
 import org.eclipse.mosaic.interactions.traffic.VehicleTypesInitialization;
@@ -52,6 +55,7 @@ import com.google.common.collect.Lists;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -180,6 +184,42 @@ public class SpawningFrameworkTest {
         verify(rti, times(7)).triggerInteraction(isA(VehicleRegistration.class));
     }
 
+    @Test
+    public void batchVehicleRegistrations() throws IllegalValueException, InternalFederateException {
+        //SETUP
+        CMappingAmbassador framework = new CMappingAmbassador();
+        framework.config = new CMappingConfiguration();
+        framework.config.batchVehicleRegistrations = true;
+        framework.prototypes = Lists.newArrayList(newPrototype("prototype1"), newPrototype("prototype2"));
+        framework.vehicles = Lists.newArrayList(newSpawner("prototype1"), newSpawner("prototype2"));
+        framework.vehicles.get(1).targetFlow = 600;
+
+        SpawningFramework spawningFramework = new SpawningFramework(framework, null, rti, rng);
+        ArgumentCaptor<VehicleBulkRegistration> bulkRegistrations = ArgumentCaptor.forClass(VehicleBulkRegistration.class);
+
+        //RUN + ASSERT: both spawners spawn at 0s, next spawning time is 3s
+        spawningFramework.timeAdvance(0, rti, rng);
+        verify(rti, times(1)).triggerInteraction(bulkRegistrations.capture());
+        verify(rti, times(1)).requestAdvanceTime(anyLong());
+        verify(rti).requestAdvanceTime(3 * TIME.SECOND);
+        assertEquals(2, bulkRegistrations.getValue().getRegistrations().size());
+
+        //RUN + ASSERT: only first spawner spawns at 3s, next spawning time is 6s
+        spawningFramework.timeAdvance(3 * TIME.SECOND, rti, rng);
+        verify(rti, times(2)).triggerInteraction(bulkRegistrations.capture());
+        verify(rti).requestAdvanceTime(6 * TIME.SECOND);
+        assertEquals(1, bulkRegistrations.getValue().getRegistrations().size());
+
+        //RUN + ASSERT: both spawners spawn at 6s
+        spawningFramework.timeAdvance(6 * TIME.SECOND, rti, rng);
+        verify(rti, times(3)).triggerInteraction(bulkRegistrations.capture());
+        assertEquals(2, bulkRegistrations.getValue().getRegistrations().size());
+        assertEquals(6 * TIME.SECOND, bulkRegistrations.getValue().getTime());
+
+        verify(rti, times(3)).requestAdvanceTime(anyLong());
+        verify(rti, never()).triggerInteraction(isA(VehicleRegistration.class));
+    }
+
     private CTrafficManagementCenter newTmc(String prototype) {
         CTrafficManagementCenter trafficManagementCenterConfiguration = new CTrafficManagementCenter();
         trafficManagementCenterConfiguration.name = prototype;
@@ -15,6 +15,10 @@
 
 package org.eclipse.mosaic.fed.output.ambassador;
 
+import org.eclipse.mosaic.interactions.communication.V2xBulkMessageReception;
+import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
+import org.eclipse.mosaic.interactions.mapping.VehicleBulkRegistration;
+import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
 import org.eclipse.mosaic.lib.math.MathUtils;
 import org.eclipse.mosaic.lib.util.XmlUtils;
 import org.eclipse.mosaic.rti.TIME;
@@ -188,6 +192,20 @@ public class OutputAmbassador extends AbstractFederateAmbassador {
 
     @Override
     public void processInteraction(Interaction interaction) {
+        if (interaction instanceof V2xBulkMessageReception) {
+            // output generators are subscribed to single receptions, therefore hand over each reception individually
+            for (V2xMessageReception reception : ((V2xBulkMessageReception) interaction).toSingleReceptions()) {
+                processInteraction(reception);
+            }
+            return;
+        }
+        if (interaction instanceof VehicleBulkRegistration) {
+            // output generators are subscribed to single registrations, therefore hand over each registration individually
+            for (VehicleRegistration registration : ((VehicleBulkRegistration) interaction).getRegistrations()) {
+                processInteraction(registration);
+            }
+            return;
+        }
         String type = interaction.getTypeId();
         long interactionTime = interaction.getTime();
         log.trace("Process interaction with type '{}' at time: {}", type, interactionTime);
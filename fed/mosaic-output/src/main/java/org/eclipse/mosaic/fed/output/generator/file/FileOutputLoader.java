@@ -21,6 +21,7 @@ import org.eclipse.mosaic.fed.output.ambassador.OutputGeneratorLoader;
 import org.eclipse.mosaic.fed.output.generator.file.format.InteractionFormatter;
 import org.eclipse.mosaic.fed.output.generator.file.write.Write;
 import org.eclipse.mosaic.fed.output.generator.file.write.WriteByFile;
+import org.eclipse.mosaic.fed.output.generator.file.write.WriteByFileAsync;
 import org.eclipse.mosaic.fed.output.generator.file.write.WriteByFileCompress;
 import org.eclipse.mosaic.fed.output.generator.file.write.WriteByLog;
 
@@ -53,6 +54,7 @@ public class FileOutputLoader extends OutputGeneratorLoader {
     /* Configuration values */
     private static final String WRITE_BY_FILE = "file";
     private static final String WRITE_BY_FILE_COMPRESS = "file+compress";
+    private static final String WRITE_BY_FILE_ASYNC = "file+async";
     private static final String WRITE_BY_LOG = "log";
     private static final String WRITE_BY_DEFAULT = WRITE_BY_LOG;
     private static final boolean APPEND_DEFAULT = true;
@@ -143,6 +145,7 @@ public class FileOutputLoader extends OutputGeneratorLoader {
             case WRITE_BY_LOG -> new WriteByLog(outputFile, append);
             case WRITE_BY_FILE -> new WriteByFile(outputFile, append);
             case WRITE_BY_FILE_COMPRESS -> new WriteByFileCompress(outputFile, append);
+            case WRITE_BY_FILE_ASYNC -> new WriteByFileAsync(outputFile, append);
             default -> throw new IllegalArgumentException("No such write method '" + write + "'");
         };
         return ret;
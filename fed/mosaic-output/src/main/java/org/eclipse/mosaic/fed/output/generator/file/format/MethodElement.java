@@ -23,18 +23,26 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A {@link MethodElement} defines a specific method, including the name
  * of the method to be called and from which level of the iterate
  * structure (That means, within an iterate, there can be another
  * embedded iterate.) comes the object, to which the method belongs.
+ * <p/>
+ * All methods are resolved once and converted to {@link MethodHandle}s when the
+ * element is created, so that formatting an interaction doesn't require any reflective lookups.
  */
 class MethodElement {
 
@@ -48,8 +56,15 @@ class MethodElement {
     private final String constantValue;
 
     private ArrayList<Method> methodList;
+    private ArrayList<MethodHandle> methodHandleList;
     private ArrayList<Filter> filterList;
 
+    /**
+     * Handles of all methods of the {@link ExtendedMethodSet} which are used if a basic method returns {@code null},
+     * with the name of the basic method and the class of the object as key.
+     */
+    private final Map<String, Map<Class<?>, List<MethodHandle>>> extendedMethodHandles = new HashMap<>();
+
     /**
      * Constructs a method element with sanity checking.
      *
@@ -88,6 +103,7 @@ class MethodElement {
         }
 
         this.methodList = new ArrayList<>();
+        this.methodHandleList = new ArrayList<>();
         this.filterList = new ArrayList<>();
 
         for (int i = 0, begin = 0, end = methods.indexOf("."); begin != -1; i++) {
@@ -116,6 +132,7 @@ class MethodElement {
                 );
             }
             this.methodList.add(m);
+            this.methodHandleList.add(toMethodHandle(m));
             cl = m.getReturnType();
 
             for (String filterDef : filterDefs.split(",")) {
@@ -126,6 +143,53 @@ class MethodElement {
         }
     }
 
+    /**
+     * Converts the given method to a handle of type {@code (Object)Object}, which either calls the method
+     * on the given object, or, in case of a method of the {@link ExtendedMethodSet}, passes the object as argument.
+     *
+     * @param method the method to convert
+     * @return the method handle
+     */
+    private static MethodHandle toMethodHandle(Method method) throws NoSuchMethodException {
+        final MethodType genericType = MethodType.methodType(Object.class, Object.class);
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(genericType);
+        } catch (IllegalAccessException e) {
+            // e.g. public methods declared by a non-public class
+            try {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method).asType(genericType);
+            } catch (IllegalAccessException | RuntimeException e1) {
+                throw new NoSuchMethodException("Method(" + method.getName() + ") of "
+                        + method.getDeclaringClass().getName() + " is not accessible");
+            }
+        }
+    }
+
+    /**
+     * Returns the handles of all methods of the {@link ExtendedMethodSet} with the given name, which accept
+     * the given class or one of its superclasses, in the order of the class hierarchy. The result is cached.
+     *
+     * @param methodName the name of the method
+     * @param clazz      the class of the object to pass to the extended method
+     * @return list of method handles, which is empty if no such method exists
+     */
+    private List<MethodHandle> getExtendedMethodHandles(String methodName, Class<?> clazz) {
+        return extendedMethodHandles
+                .computeIfAbsent(methodName, k -> new HashMap<>())
+                .computeIfAbsent(clazz, k -> {
+                    final List<MethodHandle> handles = new ArrayList<>();
+                    for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+                        try {
+                            handles.add(toMethodHandle(ExtendedMethodSet.class.getMethod(methodName, c)));
+                        } catch (NoSuchMethodException e) {
+                            //be quiet as we try until we find something suitable
+                        }
+                    }
+                    return handles;
+                });
+    }
+
     /**
      * Returns method from class.
      *
@@ -224,27 +288,19 @@ class MethodElement {
         Class<?> declareClass = declareObj.getClass();
 
         // cascaded method
-        for (Method m : methodList) {
-            String simpleName = m.getName();
+        for (int i = 0; i < methodList.size(); i++) {
+            Method m = methodList.get(i);
 
-            // extended method
-            if (m.getDeclaringClass() == ExtendedMethodSet.class) {
-                ret = m.invoke(null, declareObj);
-            } else {
-                // basic method
-                ret = m.invoke(declareObj);
+            // extended methods take the object as argument, basic methods are called on the object
+            ret = invoke(methodHandleList.get(i), declareObj);
 
-                // if basic method returns null, then try the extended method
-                if (ret == null) {
-                    for (Class<?> c = declareClass; c != null; c = c.getSuperclass()) {
-                        try {
-                            Method extMet = ExtendedMethodSet.class.getMethod(simpleName, c);
-                            ret = extMet.invoke(null, declareObj);
-                        } catch (NoSuchMethodException e) {
-                            //be quiet as we try until we find something suitable
-                        } catch (Exception e) {
-                            log.debug("Exception occurred", e);
-                        }
+            // if basic method returns null, then try the extended method
+            if (ret == null && m.getDeclaringClass() != ExtendedMethodSet.class) {
+                for (MethodHandle extMet : getExtendedMethodHandles(m.getName(), declareClass)) {
+                    try {
+                        ret = invoke(extMet, declareObj);
+                    } catch (Exception e) {
+                        log.debug("Exception occurred", e);
                     }
                 }
             }
@@ -261,6 +317,14 @@ class MethodElement {
         return ret;
     }
 
+    private static Object invoke(MethodHandle methodHandle, Object declareObj) throws InvocationTargetException {
+        try {
+            return methodHandle.invokeExact(declareObj);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
     public boolean isAcceptedByFilter(final List<Object> objList) {
         if (constantValue != null) {
             return true;
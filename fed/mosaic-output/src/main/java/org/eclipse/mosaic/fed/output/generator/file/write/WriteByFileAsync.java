@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.file.write;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes into a file using a dedicated writer thread. The content passed to {@link #write(String)} is put
+ * into a bounded queue, which is drained by the writer thread. All content available in the queue is encoded
+ * into one large direct buffer and written to the file at once. If the writer thread can't keep up, {@link #write(String)}
+ * blocks until there is space in the queue again. {@link #close()} returns after all queued content has been written.
+ */
+public class WriteByFileAsync implements Write {
+
+    /**
+     * Maximum number of entries waiting to be written.
+     */
+    private static final int QUEUE_CAPACITY = 16 * 1024;
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private final FileChannel channel;
+
+    private final Thread writerThread;
+
+    private volatile boolean closing = false;
+
+    private volatile IOException writeException = null;
+
+    public WriteByFileAsync(File file, boolean append) throws IOException {
+        channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING
+        );
+        writerThread = new Thread(this::writeQueuedContent, "FileOutput-" + file.getName());
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void write(String content) throws IOException {
+        if (closing) {
+            throw new IOException("Writer is already closed");
+        }
+        throwWriteException();
+        try {
+            queue.put(content);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the writer thread");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closing) {
+            return;
+        }
+        closing = true;
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the writer thread");
+        } finally {
+            channel.close();
+        }
+        throwWriteException();
+    }
+
+    private void throwWriteException() throws IOException {
+        if (writeException != null) {
+            throw writeException;
+        }
+    }
+
+    /**
+     * Main loop of the writer thread, which runs until the writer is closed and all content has been written.
+     */
+    private void writeQueuedContent() {
+        final List<String> batch = new ArrayList<>(QUEUE_CAPACITY);
+        final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try {
+            while (true) {
+                final String first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (closing && queue.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch);
+                if (writeException == null) {
+                    try {
+                        for (String content : batch) {
+                            encode(content, encoder, buffer);
+                        }
+                        writeBuffer(buffer);
+                    } catch (IOException e) {
+                        // remaining content is discarded, the exception is thrown on next write or close
+                        writeException = e;
+                    }
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            writeException = new InterruptedIOException("Writer thread has been interrupted");
+        }
+    }
+
+    private void encode(String content, CharsetEncoder encoder, ByteBuffer buffer) throws IOException {
+        final CharBuffer in = CharBuffer.wrap(content);
+        encoder.reset();
+        CoderResult result;
+        while ((result = encoder.encode(in, buffer, true)).isOverflow()) {
+            writeBuffer(buffer);
+        }
+        if (result.isError()) {
+            result.throwException();
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            writeBuffer(buffer);
+        }
+    }
+
+    private void writeBuffer(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
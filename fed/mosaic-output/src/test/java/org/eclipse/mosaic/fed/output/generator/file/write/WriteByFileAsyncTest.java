@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.output.generator.file.write;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class WriteByFileAsyncTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void allContentWrittenAfterClose() throws IOException {
+        File file = temporaryFolder.newFile("output.csv");
+
+        StringBuilder expected = new StringBuilder();
+        Write writer = new WriteByFileAsync(file, false);
+        for (int i = 0; i < 100_000; i++) {
+            String line = "VEHICLE_UPDATES;" + i + ";veh_" + i + ";Straße\n";
+            writer.write(line);
+            expected.append(line);
+        }
+        writer.close();
+
+        assertEquals(expected.toString(), new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void contentLargerThanBuffer() throws IOException {
+        File file = temporaryFolder.newFile("output.csv");
+        String content = StringUtils.repeat("äöü;", 1_000_000);
+
+        Write writer = new WriteByFileAsync(file, false);
+        writer.write(content);
+        writer.write("\n");
+        writer.close();
+
+        assertEquals(content + "\n", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void appendToExistingFile() throws IOException {
+        File file = temporaryFolder.newFile("output.csv");
+        Files.write(file.toPath(), "first\n".getBytes(StandardCharsets.UTF_8));
+
+        Write writer = new WriteByFileAsync(file, true);
+        writer.write("second\n");
+        writer.close();
+
+        assertEquals("first\nsecond\n", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = IOException.class)
+    public void writeAfterClose() throws IOException {
+        Write writer = new WriteByFileAsync(temporaryFolder.newFile("output.csv"), false);
+        writer.close();
+        writer.write("content");
+    }
+}
@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.fed.sns.ambassador;
 
+import org.eclipse.mosaic.lib.geo.Area;
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 
 import java.util.HashMap;
@@ -36,6 +37,11 @@ enum SimulationEntities {
      */
     private final HashMap<String, CartesianPoint> offlineNodes = new HashMap<>();
 
+    /**
+     * Spatial index of all online nodes, which is updated with every change of {@link #onlineNodes}.
+     */
+    private final SimulationNodeGrid onlineNodesGrid = new SimulationNodeGrid();
+
     /**
      * Gets all nodes currently known as online (initialized, Wifi enabled) in the simulation.
      *
@@ -54,6 +60,17 @@ enum SimulationEntities {
         return onlineNodes.get(nodeName);
     }
 
+    /**
+     * Gets all nodes currently known as online whose position is within the given area. The result
+     * equals checking the position of each node of {@link #getAllOnlineNodes()}, but uses a spatial index instead.
+     *
+     * @param area the area to search the nodes in
+     * @return a new map containing all online nodes within the area
+     */
+    public Map<String, SimulationNode> getOnlineNodesInArea(Area<CartesianPoint> area) {
+        return onlineNodesGrid.getNodesInArea(area, new HashMap<>());
+    }
+
     public boolean isNodeSimulated(String nodeName) {
         return onlineNodes.containsKey(nodeName) || offlineNodes.containsKey(nodeName);
     }
@@ -79,6 +96,7 @@ enum SimulationEntities {
             nodeData.setPosition(position);
             nodeData.setRadius(radius);
             onlineNodes.put(nodeName, nodeData);
+            onlineNodesGrid.addOrUpdate(nodeName, nodeData);
         } else {
             throw new RuntimeException("Unable to move node=" + nodeName + " to position=" + position);
         }
@@ -92,7 +110,9 @@ enum SimulationEntities {
      */
     public void updateOnlineNode(String nodeName, CartesianPoint position) {
         if (nodeName != null && position != null) {
-            onlineNodes.get(nodeName).setPosition(position);
+            SimulationNode nodeData = onlineNodes.get(nodeName);
+            nodeData.setPosition(position);
+            onlineNodesGrid.addOrUpdate(nodeName, nodeData);
         } else {
             throw new RuntimeException("Unable to update node=" + nodeName + " to position=" + position);
         }
@@ -117,6 +137,7 @@ enum SimulationEntities {
      */
     public void removeNode(String nodeId) {
         onlineNodes.remove(nodeId);
+        onlineNodesGrid.remove(nodeId);
         offlineNodes.remove(nodeId);
     }
 
@@ -132,9 +153,12 @@ enum SimulationEntities {
             nodeData.setPosition(offlineNodes.get(nodeName));
             nodeData.setRadius(communicationRadius);
             onlineNodes.put(nodeName, nodeData);
+            onlineNodesGrid.addOrUpdate(nodeName, nodeData);
             offlineNodes.remove(nodeName);
         } else {
-            onlineNodes.get(nodeName).setRadius(communicationRadius);
+            SimulationNode nodeData = onlineNodes.get(nodeName);
+            nodeData.setRadius(communicationRadius);
+            onlineNodesGrid.addOrUpdate(nodeName, nodeData);
         }
     }
 
@@ -147,6 +171,7 @@ enum SimulationEntities {
         if (isNodeOnline(nodeName)) {
             offlineNodes.put(nodeName, onlineNodes.get(nodeName).getPosition());
             onlineNodes.remove(nodeName);
+            onlineNodesGrid.remove(nodeName);
         }
     }
 
@@ -155,6 +180,7 @@ enum SimulationEntities {
      */
     public void reset() {
         onlineNodes.clear();
+        onlineNodesGrid.clear();
         offlineNodes.clear();
     }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import org.eclipse.mosaic.lib.geo.Area;
+import org.eclipse.mosaic.lib.geo.Bounds;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Uniform grid of quadratic cells holding the positions of all online nodes, which is used to find
+ * all nodes within a certain area without checking every single node. The grid is not bound to the
+ * extent of the scenario, since only occupied cells are stored. The size of the cells equals the
+ * largest communication radius known so far, so that the single hop reach of a node
+ * covers at most 3x3 cells.
+ */
+class SimulationNodeGrid {
+
+    /**
+     * The minimum size of a cell in meters, used if nodes have no or a very small communication radius.
+     */
+    private static final double MIN_CELL_SIZE = 10d;
+
+    /**
+     * The bounds of each searched area are extended by this value in meters,
+     * in order to not miss nodes directly on the border due to rounding errors.
+     */
+    private static final double BOUNDS_TOLERANCE = 1e-3;
+
+    /**
+     * All occupied cells, with the column and row of the cell packed into one key.
+     */
+    private final Map<Long, Map<String, SimulationNode>> cells = new HashMap<>();
+
+    /**
+     * The key of the cell each node is currently located in.
+     */
+    private final Map<String, Long> cellOfNode = new HashMap<>();
+
+    private double cellSize = MIN_CELL_SIZE;
+
+    /**
+     * Adds the node to the grid, or moves it to the cell matching its current position, if it's already known.
+     *
+     * @param nodeName identifier of the node
+     * @param node     the node holding the position and the communication radius
+     */
+    void addOrUpdate(String nodeName, SimulationNode node) {
+        if (node.getRadius() > cellSize) {
+            cellSize = node.getRadius();
+            rebuild();
+        }
+        final long newCellKey = toCellKey(node.getPosition());
+        final Long oldCellKey = cellOfNode.put(nodeName, newCellKey);
+        if (oldCellKey != null) {
+            if (oldCellKey == newCellKey) {
+                // the node object may have been replaced
+                cells.get(newCellKey).put(nodeName, node);
+                return;
+            }
+            removeFromCell(oldCellKey, nodeName);
+        }
+        cells.computeIfAbsent(newCellKey, k -> new HashMap<>()).put(nodeName, node);
+    }
+
+    /**
+     * Removes the node from the grid.
+     *
+     * @param nodeName identifier of the node
+     */
+    void remove(String nodeName) {
+        final Long cellKey = cellOfNode.remove(nodeName);
+        if (cellKey != null) {
+            removeFromCell(cellKey, nodeName);
+        }
+    }
+
+    void clear() {
+        cells.clear();
+        cellOfNode.clear();
+        cellSize = MIN_CELL_SIZE;
+    }
+
+    /**
+     * Collects all nodes whose position is within the given area. Only cells which
+     * intersect with the bounding box of the area are considered.
+     *
+     * @param area   the area to search the nodes in
+     * @param result the map to add all nodes within the area to
+     * @return the result map
+     */
+    Map<String, SimulationNode> getNodesInArea(Area<CartesianPoint> area, Map<String, SimulationNode> result) {
+        final Bounds<CartesianPoint> bounds = area.getBounds();
+        final long minCol = toCellIndex(bounds.getSideD() - BOUNDS_TOLERANCE);
+        final long maxCol = toCellIndex(bounds.getSideB() + BOUNDS_TOLERANCE);
+        final long minRow = toCellIndex(bounds.getSideA() - BOUNDS_TOLERANCE);
+        final long maxRow = toCellIndex(bounds.getSideC() + BOUNDS_TOLERANCE);
+
+        if ((maxCol - minCol + 1) * (maxRow - minRow + 1) > cells.size()) {
+            // the area covers more cells than are occupied, e.g. for large geocast areas
+            for (Map<String, SimulationNode> cell : cells.values()) {
+                addNodesInArea(cell, area, result);
+            }
+            return result;
+        }
+
+        for (long col = minCol; col <= maxCol; col++) {
+            for (long row = minRow; row <= maxRow; row++) {
+                final Map<String, SimulationNode> cell = cells.get(toCellKey(col, row));
+                if (cell != null) {
+                    addNodesInArea(cell, area, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void addNodesInArea(Map<String, SimulationNode> cell, Area<CartesianPoint> area, Map<String, SimulationNode> result) {
+        for (Map.Entry<String, SimulationNode> entry : cell.entrySet()) {
+            if (area.contains(entry.getValue().getPosition())) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void removeFromCell(long cellKey, String nodeName) {
+        final Map<String, SimulationNode> cell = cells.get(cellKey);
+        cell.remove(nodeName);
+        if (cell.isEmpty()) {
+            cells.remove(cellKey);
+        }
+    }
+
+    /**
+     * Redistributes all nodes after the cell size has changed.
+     */
+    private void rebuild() {
+        final Map<String, SimulationNode> allNodes = new HashMap<>(cellOfNode.size());
+        cells.values().forEach(allNodes::putAll);
+        cells.clear();
+        cellOfNode.clear();
+        allNodes.forEach((nodeName, node) -> {
+            final long cellKey = toCellKey(node.getPosition());
+            cellOfNode.put(nodeName, cellKey);
+            cells.computeIfAbsent(cellKey, k -> new HashMap<>()).put(nodeName, node);
+        });
+    }
+
+    private long toCellKey(CartesianPoint position) {
+        return toCellKey(toCellIndex(position.getX()), toCellIndex(position.getY()));
+    }
+
+    private long toCellIndex(double coordinate) {
+        return (long) Math.floor(coordinate / cellSize);
+    }
+
+    private static long toCellKey(long col, long row) {
+        return (col << 32) | (row & 0xFFFFFFFFL);
+    }
+}
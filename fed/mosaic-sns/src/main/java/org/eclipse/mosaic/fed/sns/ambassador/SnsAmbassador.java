@@ -17,6 +17,7 @@ package org.eclipse.mosaic.fed.sns.ambassador;
 
 import org.eclipse.mosaic.fed.sns.config.CSns;
 import org.eclipse.mosaic.interactions.communication.AdHocCommunicationConfiguration;
+import org.eclipse.mosaic.interactions.communication.V2xBulkMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.interactions.mapping.ChargingStationRegistration;
@@ -69,6 +70,11 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
      */
     private double singlehopRadius;
 
+    /**
+     * If {@code true}, all receivers of a message are combined in one {@link V2xBulkMessageReception}.
+     */
+    private boolean bulkMessageReceptions;
+
     /**
      * Stores the latest {@link VehicleUpdates} interaction, so it can be used
      * to look up the last known position of vehicle which wants to enable its adhoc module.
@@ -99,6 +105,7 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
                 log.info("Detected GammaSpeedDelay for. The SNS is currently ignoring speed of entities in its evaluation of delay values");
             }
             this.singlehopRadius = configuration.singlehopRadius;
+            this.bulkMessageReceptions = configuration.bulkMessageReceptions;
             final RandomNumberGenerator rng = rti.createRandomNumberGenerator();
             transmissionSimulator = new TransmissionSimulator(rng, configuration);
         } catch (InstantiationException e) {
@@ -264,7 +271,8 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
 
     /**
      * Create the {@link V2xMessageReception}s to be sent to the RTI, the Application Simulator and accordingly
-     * applications of possible receivers.
+     * applications of possible receivers. If configured, all successful receivers of the message are combined
+     * in one {@link V2xBulkMessageReception} instead.
      *
      * @param transmissionResults    Set of successful receivers
      * @param v2xMessageTransmission Originally sent message (for messageId and sending time)
@@ -274,6 +282,10 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
         if (transmissionResults == null) {
             return;
         }
+        if (bulkMessageReceptions) {
+            prepareV2xBulkMessageReception(transmissionResults, v2xMessageTransmission);
+            return;
+        }
         for (Map.Entry<String, TransmissionResult> transmissionResultEntry : transmissionResults.entrySet()) {
             if (transmissionResultEntry.getValue().success) {
                 long receiveTime = v2xMessageTransmission.getTime() + transmissionResultEntry.getValue().delay;
@@ -297,7 +309,55 @@ public class SnsAmbassador extends AbstractFederateAmbassador {
 
             }
         }
+    }
+
+    /**
+     * Create the {@link V2xBulkMessageReception} to be sent to the RTI, the Application Simulator and accordingly
+     * applications of possible receivers. All successful receivers of the message are combined in one interaction.
+     *
+     * @param transmissionResults    Set of successful receivers
+     * @param v2xMessageTransmission Originally sent message (for messageId and sending time)
+     */
+    private void prepareV2xBulkMessageReception(Map<String, TransmissionResult> transmissionResults,
+                                                V2xMessageTransmission v2xMessageTransmission) throws InternalFederateException {
+        final int numberOfResults = transmissionResults.size();
+        final String[] receiverNames = new String[numberOfResults];
+        final long[] receiveTimes = new long[numberOfResults];
+        final V2xReceiverInformation[] receiverInformation = new V2xReceiverInformation[numberOfResults];
+        long earliestReceiveTime = Long.MAX_VALUE;
+        int numberOfReceivers = 0;
+
+        for (Map.Entry<String, TransmissionResult> transmissionResultEntry : transmissionResults.entrySet()) {
+            if (transmissionResultEntry.getValue().success) {
+                long receiveTime = v2xMessageTransmission.getTime() + transmissionResultEntry.getValue().delay;
+                if (log.isDebugEnabled()) {
+                    log.debug("Receive v2xMessage.id={} on node={} @time={}",
+                            v2xMessageTransmission.getMessageId(), transmissionResultEntry.getKey(), TIME.format(receiveTime)
+                    );
+                }
+                receiverNames[numberOfReceivers] = transmissionResultEntry.getKey();
+                receiveTimes[numberOfReceivers] = receiveTime;
+                receiverInformation[numberOfReceivers] = new V2xReceiverInformation(receiveTime).sendTime(v2xMessageTransmission.getTime());
+                earliestReceiveTime = Math.min(earliestReceiveTime, receiveTime);
+                numberOfReceivers++;
+            }
+        }
+        if (numberOfReceivers == 0) {
+            return;
+        }
 
+        final V2xBulkMessageReception v2xBulkMessageReception = new V2xBulkMessageReception(
+                earliestReceiveTime,
+                v2xMessageTransmission.getMessageId(),
+                Arrays.copyOf(receiverNames, numberOfReceivers),
+                Arrays.copyOf(receiveTimes, numberOfReceivers),
+                Arrays.copyOf(receiverInformation, numberOfReceivers)
+        );
+        try {
+            rti.triggerInteraction(v2xBulkMessageReception);
+        } catch (IllegalValueException | InternalFederateException e) {
+            throw new InternalFederateException(e);
+        }
     }
 
     @Override
@@ -180,7 +180,8 @@ public class TransmissionSimulator {
                 randomNumberGenerator,
                 config.singlehopDelay,
                 config.singlehopTransmission,
-                SINGLE_HOP_TTL
+                SINGLE_HOP_TTL,
+                true
         );
         return transmissionModel.simulateTopocast(
                 senderName, allPotentialReceivers, transmissionParameter, SimulationEntities.INSTANCE.getAllOnlineNodes()
@@ -225,7 +226,8 @@ public class TransmissionSimulator {
                 randomNumberGenerator,
                 config.singlehopDelay,
                 config.singlehopTransmission,
-                ttl
+                ttl,
+                true
         );
         return transmissionModel.simulateGeocast(
                 senderName, allReceivers, transmissionParameter, SimulationEntities.INSTANCE.getAllOnlineNodes()
@@ -243,7 +245,18 @@ public class TransmissionSimulator {
      * @return a map containing the
      */
     private Map<String, SimulationNode> getPotentialBroadcastReceivers(Area<CartesianPoint> destinationArea) {
-        return getEntitiesInArea(SimulationEntities.INSTANCE.getAllOnlineNodes(), destinationArea);
+        return SimulationEntities.INSTANCE.getOnlineNodesInArea(destinationArea);
+    }
+
+    /**
+     * Collects all online nodes within the given area, using the spatial index of the online nodes.
+     * It is static because it is also required in some of the {@link AdhocTransmissionModel}s.
+     *
+     * @param range the area within which the nodes should be
+     * @return A map of all online nodes, which are in the given area.
+     */
+    public static Map<String, SimulationNode> getOnlineNodesInArea(Area<CartesianPoint> range) {
+        return SimulationEntities.INSTANCE.getOnlineNodesInArea(range);
     }
 
     /**
@@ -58,4 +58,11 @@ public class CSns {
      * Transmission configuration for a single hop.
      */
     public CTransmission singlehopTransmission = new CTransmission();
+
+    /**
+     * If enabled, all receivers of a message are combined in one {@code V2xBulkMessageReception} interaction,
+     * instead of sending one {@code V2xMessageReception} per receiver (default: false). All federates receiving
+     * messages, e.g. the application simulator, must subscribe to {@code V2xBulkMessageReception} in this case.
+     */
+    public boolean bulkMessageReceptions = false;
 }
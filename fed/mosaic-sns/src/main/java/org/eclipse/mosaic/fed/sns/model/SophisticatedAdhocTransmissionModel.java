@@ -192,8 +192,9 @@ public class SophisticatedAdhocTransmissionModel extends AdhocTransmissionModel
                     currentEntity.getRadius()
             );
             // get all reachable entities within singlehop range and remove sender
-            Map<String, SimulationNode> reachableEntities =
-                    TransmissionSimulator.getEntitiesInArea(currentNodes, singleHopReach);
+            Map<String, SimulationNode> reachableEntities = transmissionParameter.useOnlineNodesIndex
+                    ? TransmissionSimulator.getOnlineNodesInArea(singleHopReach)
+                    : TransmissionSimulator.getEntitiesInArea(currentNodes, singleHopReach);
             reachableEntities.remove(senderName);
             // try to find entity to build "pipeline" to destination area
             String forwardingEntityName = getForwardingEntity(reachableEntities, receivers);
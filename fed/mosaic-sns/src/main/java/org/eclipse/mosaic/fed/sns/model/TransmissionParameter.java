@@ -43,6 +43,13 @@ public class TransmissionParameter {
      */
     public int ttl;
 
+    /**
+     * If {@code true}, the current nodes passed to the {@link AdhocTransmissionModel} are all online nodes
+     * of the SNS, and nodes within an area are looked up using their spatial index instead of checking each node
+     * (see {@link org.eclipse.mosaic.fed.sns.ambassador.TransmissionSimulator#getOnlineNodesInArea}).
+     */
+    public boolean useOnlineNodesIndex;
+
     /**
      * Creates a {@link TransmissionParameter}-object.
      *
@@ -58,4 +65,18 @@ public class TransmissionParameter {
         this.transmission = transmission;
         this.ttl = ttl;
     }
+
+    /**
+     * Creates a {@link TransmissionParameter}-object.
+     *
+     * @param randomNumberGenerator {@link RandomNumberGenerator} to be used for transmission calculation
+     * @param delay                 delay for the transmission
+     * @param ttl                   time to live for the transmission
+     * @param useOnlineNodesIndex   {@code true}, if the current nodes are all online nodes of the SNS
+     */
+    public TransmissionParameter(RandomNumberGenerator randomNumberGenerator, Delay delay, CTransmission transmission,
+                                 int ttl, boolean useOnlineNodesIndex) {
+        this(randomNumberGenerator, delay, transmission, ttl);
+        this.useOnlineNodesIndex = useOnlineNodesIndex;
+    }
 }
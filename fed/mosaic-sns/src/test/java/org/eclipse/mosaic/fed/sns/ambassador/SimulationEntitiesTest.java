@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sns.ambassador;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.fed.sns.model.SophisticatedAdhocTransmissionModel;
+import org.eclipse.mosaic.fed.sns.model.TransmissionParameter;
+import org.eclipse.mosaic.lib.geo.Area;
+import org.eclipse.mosaic.lib.geo.CartesianCircle;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.CartesianPolygon;
+import org.eclipse.mosaic.lib.geo.CartesianRectangle;
+import org.eclipse.mosaic.lib.math.DefaultRandomNumberGenerator;
+import org.eclipse.mosaic.lib.model.delay.ConstantDelay;
+import org.eclipse.mosaic.lib.model.transmission.CTransmission;
+import org.eclipse.mosaic.lib.model.transmission.TransmissionResult;
+
+import org.apache.commons.lang3.time.StopWatch;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class SimulationEntitiesTest {
+
+    private final Random random = new Random(4711);
+
+    @After
+    public void tearDown() {
+        SimulationEntities.INSTANCE.reset();
+    }
+
+    @Test
+    public void nodesInAreaEqualToScanningAllNodes() {
+        createRandomNodes(2000, 5000, 300);
+
+        for (int i = 0; i < 200; i++) {
+            assertSameNodesInArea(randomCircle(5000, 500));
+        }
+        assertSameNodesInArea(new CartesianRectangle(CartesianPoint.xy(1000, 1000), CartesianPoint.xy(2500, 1800)));
+        assertSameNodesInArea(new CartesianPolygon(Arrays.asList(
+                CartesianPoint.xy(100, 100), CartesianPoint.xy(4000, 300), CartesianPoint.xy(2000, 4500)
+        )));
+        // area exceeding the scenario by far
+        assertSameNodesInArea(new CartesianCircle(CartesianPoint.xy(2500, 2500), 100_000));
+    }
+
+    @Test
+    public void nodesInAreaAfterMovementAndWifiChanges() {
+        createRandomNodes(1000, 3000, 100);
+
+        for (int i = 0; i < 1000; i += 2) {
+            SimulationEntities.INSTANCE.updateOnlineNode("veh_" + i, randomPosition(3000));
+        }
+        for (int i = 0; i < 1000; i += 7) {
+            SimulationEntities.INSTANCE.disableWifi("veh_" + i);
+        }
+        for (int i = 0; i < 1000; i += 14) {
+            SimulationEntities.INSTANCE.enableWifi("veh_" + i, 150);
+        }
+        for (int i = 0; i < 1000; i += 11) {
+            SimulationEntities.INSTANCE.removeNode("veh_" + i);
+        }
+        // larger radius leads to resized grid cells
+        SimulationEntities.INSTANCE.enableWifi("veh_1", 800);
+
+        for (int i = 0; i < 200; i++) {
+            assertSameNodesInArea(randomCircle(3000, 800));
+        }
+    }
+
+    @Test
+    public void nodeOnBorderOfArea() {
+        SimulationEntities.INSTANCE.createOnlineNode("rsu_0", CartesianPoint.xy(0, 0), 100);
+        SimulationEntities.INSTANCE.createOnlineNode("rsu_1", CartesianPoint.xy(100, 0), 100);
+        SimulationEntities.INSTANCE.createOnlineNode("rsu_2", CartesianPoint.xy(-100.01, 0), 100);
+
+        Map<String, SimulationNode> nodesInArea =
+                SimulationEntities.INSTANCE.getOnlineNodesInArea(new CartesianCircle(CartesianPoint.xy(0, 0), 100));
+
+        assertEquals(2, nodesInArea.size());
+        assertTrue(nodesInArea.containsKey("rsu_0"));
+        assertTrue(nodesInArea.containsKey("rsu_1"));
+    }
+
+    /**
+     * Compares the range query of the spatial index with scanning all online nodes, for 1.000, 10.000 and 50.000 nodes
+     * distributed over an area with constant density, using a communication range of 300 meters.
+     */
+    @Test
+    public void rangeQueryPerformance() {
+        for (int numberOfNodes : new int[]{1_000, 10_000, 50_000}) {
+            SimulationEntities.INSTANCE.reset();
+            final double extent = Math.sqrt(numberOfNodes) * 100;
+            createRandomNodes(numberOfNodes, extent, 300);
+
+            final int numberOfQueries = 1_000;
+            final Area<CartesianPoint>[] areas = new CartesianCircle[numberOfQueries];
+            for (int i = 0; i < numberOfQueries; i++) {
+                areas[i] = randomCircle(extent, 300);
+            }
+
+            // warm up
+            queryByIndex(areas);
+            queryByScan(areas);
+
+            StopWatch sw = new StopWatch();
+            sw.start();
+            int found = queryByIndex(areas);
+            sw.stop();
+            final long indexDuration = sw.getTime();
+
+            sw.reset();
+            sw.start();
+            assertEquals(found, queryByScan(areas));
+            sw.stop();
+            final long scanDuration = sw.getTime();
+
+            System.out.format("Range queries on %d nodes: spatial index: %dms, scanning all nodes: %dms%n",
+                    numberOfNodes, indexDuration, scanDuration
+            );
+        }
+    }
+
+    @Test
+    public void geocastForwardingUsingOnlineNodesIndex() {
+        createRandomNodes(2000, 5000, 300);
+        SimulationEntities.INSTANCE.createOnlineNode("rsu_0", CartesianPoint.xy(0, 0), 300);
+        final Area<CartesianPoint> destinationArea = new CartesianCircle(CartesianPoint.xy(4000, 4000), 500);
+
+        final Map<String, TransmissionResult> resultsByScan = simulateGeocast("rsu_0", destinationArea, false);
+        final Map<String, TransmissionResult> resultsByIndex = simulateGeocast("rsu_0", destinationArea, true);
+
+        assertTrue(resultsByScan.values().stream().anyMatch(result -> result.success));
+        assertEquals(resultsByScan.keySet(), resultsByIndex.keySet());
+        for (Map.Entry<String, TransmissionResult> resultByScan : resultsByScan.entrySet()) {
+            final TransmissionResult resultByIndex = resultsByIndex.get(resultByScan.getKey());
+            assertEquals(resultByScan.getValue().success, resultByIndex.success);
+            assertEquals(resultByScan.getValue().numberOfHops, resultByIndex.numberOfHops);
+            assertEquals(resultByScan.getValue().delay, resultByIndex.delay);
+        }
+    }
+
+    private int queryByIndex(Area<CartesianPoint>[] areas) {
+        int found = 0;
+        for (Area<CartesianPoint> area : areas) {
+            found += SimulationEntities.INSTANCE.getOnlineNodesInArea(area).size();
+        }
+        return found;
+    }
+
+    private int queryByScan(Area<CartesianPoint>[] areas) {
+        int found = 0;
+        for (Area<CartesianPoint> area : areas) {
+            found += scanAllNodes(area).size();
+        }
+        return found;
+    }
+
+    private void assertSameNodesInArea(Area<CartesianPoint> area) {
+        assertEquals(scanAllNodes(area), SimulationEntities.INSTANCE.getOnlineNodesInArea(area));
+    }
+
+    private static Map<String, SimulationNode> scanAllNodes(Area<CartesianPoint> area) {
+        Map<String, SimulationNode> result = new HashMap<>();
+        for (Map.Entry<String, SimulationNode> entry : SimulationEntities.INSTANCE.getAllOnlineNodes().entrySet()) {
+            if (area.contains(entry.getValue().getPosition())) {
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    private Map<String, TransmissionResult> simulateGeocast(String senderName, Area<CartesianPoint> destinationArea,
+                                                            boolean useOnlineNodesIndex) {
+        final ConstantDelay delay = new ConstantDelay();
+        delay.delay = 1;
+        final CTransmission transmission = new CTransmission();
+        transmission.lossProbability = 0.0;
+        transmission.maxRetries = 0;
+        final TransmissionParameter transmissionParameter = new TransmissionParameter(
+                new DefaultRandomNumberGenerator(4711), delay, transmission, 50, useOnlineNodesIndex
+        );
+        return new SophisticatedAdhocTransmissionModel().simulateGeocast(senderName,
+                SimulationEntities.INSTANCE.getOnlineNodesInArea(destinationArea),
+                transmissionParameter,
+                SimulationEntities.INSTANCE.getAllOnlineNodes()
+        );
+    }
+
+    private void createRandomNodes(int numberOfNodes, double extent, double radius) {
+        for (int i = 0; i < numberOfNodes; i++) {
+            SimulationEntities.INSTANCE.createOnlineNode("veh_" + i, randomPosition(extent), radius);
+        }
+    }
+
+    private CartesianCircle randomCircle(double extent, double maxRadius) {
+        return new CartesianCircle(randomPosition(extent), random.nextDouble() * maxRadius);
+    }
+
+    private CartesianPoint randomPosition(double extent) {
+        return CartesianPoint.xy(random.nextDouble() * extent, random.nextDouble() * extent);
+    }
+}
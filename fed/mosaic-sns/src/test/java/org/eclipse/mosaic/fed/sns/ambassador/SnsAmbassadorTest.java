@@ -22,6 +22,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 
 import org.eclipse.mosaic.interactions.communication.AdHocCommunicationConfiguration;
+import org.eclipse.mosaic.interactions.communication.V2xBulkMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageReception;
 import org.eclipse.mosaic.interactions.communication.V2xMessageTransmission;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
@@ -58,6 +59,7 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -91,26 +93,35 @@ public class SnsAmbassadorTest {
 
     private final Map<String, GeoPoint> vehToPosition = new HashMap<>();
     private final List<V2xMessageReception> messagesSent = new ArrayList<>();
+    private final List<V2xBulkMessageReception> bulkMessagesSent = new ArrayList<>();
 
     @Before
     public void setup() throws Exception {
         final File configurationFile =
                 new File(Objects.requireNonNull(this.getClass().getClassLoader().getResource("sns_config_complex_multihop.json")).toURI());
 
-        final AmbassadorParameter ambassadorParameter = new AmbassadorParameter("sns", configurationFile);
-
         when(rtiMock.createRandomNumberGenerator()).thenReturn(new DefaultRandomNumberGenerator(89989123L));
 
-        // Reset TransmissionSimulator
-        ambassador = new SnsAmbassador(ambassadorParameter);
-        ambassador.setRtiAmbassador(rtiMock);
-        ambassador.initialize(0, 1000 * TIME.SECOND);
-
         doAnswer((invocationOnMock) -> {
             messagesSent.add(((V2xMessageReception) invocationOnMock.getArguments()[0]));
             return null;
         }).when(rtiMock).triggerInteraction(isA(V2xMessageReception.class));
+        doAnswer((invocationOnMock) -> {
+            bulkMessagesSent.add(((V2xBulkMessageReception) invocationOnMock.getArguments()[0]));
+            messagesSent.addAll(((V2xBulkMessageReception) invocationOnMock.getArguments()[0]).toSingleReceptions());
+            return null;
+        }).when(rtiMock).triggerInteraction(isA(V2xBulkMessageReception.class));
 
+        initializeAmbassador(configurationFile);
+    }
+
+    private void initializeAmbassador(File configurationFile) throws InternalFederateException {
+        final AmbassadorParameter ambassadorParameter = new AmbassadorParameter("sns", configurationFile);
+
+        // Reset TransmissionSimulator
+        ambassador = new SnsAmbassador(ambassadorParameter);
+        ambassador.setRtiAmbassador(rtiMock);
+        ambassador.initialize(0, 1000 * TIME.SECOND);
     }
 
     @After
@@ -181,6 +192,34 @@ public class SnsAmbassadorTest {
 
     }
 
+    @Test
+    public void geoBroadcast_bulkMessageReceptions() throws Exception {
+        // PREPARE
+        final File configurationFile = temporaryFolder.newFile("sns_config.json");
+        Files.writeString(configurationFile.toPath(), "{ \"bulkMessageReceptions\": true }");
+        initializeAmbassador(configurationFile);
+
+        addVehicle("veh_0");
+        addVehicle("veh_1");
+        addVehicle("veh_2");
+        configureAdHoc("veh_0", 500d);
+        configureAdHoc("veh_1", 500d);
+        configureAdHoc("veh_2", 500d);
+
+        moveVehicle("veh_0", GeoPoint.latLon(52.31, 13.401));
+        moveVehicle("veh_1", GeoPoint.latLon(52.31, 13.40));
+        moveVehicle("veh_2", GeoPoint.latLon(52.31, 13.399));
+
+        // RUN
+        AdHocMessageRoutingBuilder adHocMessageRoutingBuilder = new AdHocMessageRoutingBuilder("veh_0", vehToPosition.get("veh_0"));
+        sendMessage(adHocMessageRoutingBuilder.viaChannel(AdHocChannel.CCH).topoBroadCast());
+
+        // ASSERT
+        assertReceivedMessages("veh_1", "veh_2");
+        assertEquals(1, bulkMessagesSent.size());
+        assertEquals(2, bulkMessagesSent.get(0).getNumberOfReceivers());
+    }
+
     private void assertReceivedMessages(String... vehicleNames) {
         Set<String> sent = new HashSet<>();
         for (V2xMessageReception message : messagesSent) {
@@ -195,6 +234,7 @@ public class SnsAmbassadorTest {
 
     private void sendMessage(MessageRouting routing) throws InternalFederateException {
         messagesSent.clear();
+        bulkMessagesSent.clear();
 
         V2xMessage v2xMessage = new V2xMessage(routing) {
             @Nonnull
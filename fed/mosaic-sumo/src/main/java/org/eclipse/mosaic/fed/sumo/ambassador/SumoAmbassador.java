@@ -17,6 +17,7 @@ package org.eclipse.mosaic.fed.sumo.ambassador;
 
 import org.eclipse.mosaic.fed.sumo.util.SumoVehicleClassMapping;
 import org.eclipse.mosaic.fed.sumo.util.SumoVehicleTypesWriter;
+import org.eclipse.mosaic.interactions.mapping.VehicleBulkRegistration;
 import org.eclipse.mosaic.interactions.mapping.VehicleRegistration;
 import org.eclipse.mosaic.interactions.traffic.VehicleRoutesInitialization;
 import org.eclipse.mosaic.interactions.traffic.VehicleTypesInitialization;
@@ -105,6 +106,8 @@ public class SumoAmbassador extends AbstractSumoAmbassador {
             this.receiveInteraction((VehicleTypesInitialization) interaction);
         } else if (interaction.getTypeId().equals(VehicleRegistration.TYPE_ID)) {
             this.receiveInteraction((VehicleRegistration) interaction);
+        } else if (interaction.getTypeId().equals(VehicleBulkRegistration.TYPE_ID)) {
+            this.receiveInteraction((VehicleBulkRegistration) interaction);
         } else {
             // ... everything else is saved for later
             super.processInteraction(interaction);
@@ -161,6 +164,20 @@ public class SumoAmbassador extends AbstractSumoAmbassador {
         }
     }
 
+    /**
+     * Handles each {@link VehicleRegistration} of the {@link VehicleBulkRegistration}. Registrations of vehicles
+     * without route are ignored, since those are registered again by the navigation component after calculating their route.
+     *
+     * @param vehicleBulkRegistration {@link VehicleBulkRegistration} containing the definitions of many vehicles.
+     */
+    private void receiveInteraction(VehicleBulkRegistration vehicleBulkRegistration) {
+        for (VehicleRegistration vehicleRegistration : vehicleBulkRegistration.getRegistrations()) {
+            if (vehicleRegistration.getTypeId().equals(VehicleRegistration.TYPE_ID)) {
+                receiveInteraction(vehicleRegistration);
+            }
+        }
+    }
+
     /**
      * This processes a {@link VehicleRouteRegistration} that have been dynamically created.
      *
@@ -107,6 +107,7 @@ public class LibSumoBridge implements Bridge {
 
     @Override
     public void close() {
+        simulationControl.close();
         Simulation.close();
     }
 
@@ -23,6 +23,7 @@ import org.eclipse.mosaic.fed.sumo.bridge.facades.RouteFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.SimulationFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.TrafficLightFacade;
 import org.eclipse.mosaic.fed.sumo.bridge.facades.VehicleFacade;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.TraciCommandPipeline;
 import org.eclipse.mosaic.fed.sumo.config.CSumo;
 import org.eclipse.mosaic.lib.objects.traffic.SumoTraciResult;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
@@ -33,6 +34,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.DataInputStream;
@@ -42,6 +44,7 @@ import java.net.Socket;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * Implementation of the bridge between MOSAIC and SUMO using an own TraCI client implementation.
@@ -55,6 +58,7 @@ public class TraciClientBridge implements Bridge {
     private final Socket sumoServerSocket;
     private final DataInputStream in;
     private final DataOutputStream out;
+    private final TraciCommandPipeline commandPipeline;
 
     private final SimulationFacade simulationControl;
     private final VehicleFacade vehicleControl;
@@ -93,11 +97,13 @@ public class TraciClientBridge implements Bridge {
             inCapture = new ByteArrayOutputStream();
             outCapture = new ByteArrayOutputStream();
             this.in = new DataInputStream(new TeeInputStream(new BufferedInputStream(sumoServerSocket.getInputStream()), inCapture));
-            this.out = new DataOutputStream(new TeeOutputStream(sumoServerSocket.getOutputStream(), outCapture));
+            this.out = new DataOutputStream(new TeeOutputStream(new BufferedOutputStream(sumoServerSocket.getOutputStream()), outCapture));
         } else {
             this.in = new DataInputStream(new BufferedInputStream(sumoServerSocket.getInputStream()));
-            this.out = new DataOutputStream(sumoServerSocket.getOutputStream());
+            // each command flushes the stream after writing the complete message
+            this.out = new DataOutputStream(new BufferedOutputStream(sumoServerSocket.getOutputStream()));
         }
+        this.commandPipeline = sumoConfiguration.pipelineTraciCommands ? new TraciCommandPipeline() : null;
         this.sumoServerSocket = sumoServerSocket;
         this.commandRegister = commandRegister;
         this.commandRegister.setBridge(this);
@@ -154,6 +160,16 @@ public class TraciClientBridge implements Bridge {
         return poiControl;
     }
 
+    /**
+     * Returns the pipeline which collects commands without result in order to send them within one message.
+     *
+     * @return the command pipeline, or {@code null} if pipelining of TraCI commands is disabled
+     */
+    @Nullable
+    public TraciCommandPipeline getCommandPipeline() {
+        return commandPipeline;
+    }
+
     /**
      * Sends a custom byte array to the traci channel.
      *
@@ -180,6 +196,7 @@ public class TraciClientBridge implements Bridge {
         } catch (Exception e) {
             log.error("Simulation could not be closed properly.", e);
         } finally {
+            simulationControl.close();
             closeStreamsAndSockets();
         }
     }
@@ -225,6 +242,7 @@ public class TraciClientBridge implements Bridge {
     @Override
     public void emergencyExit(Throwable e) {
         log.error("Close all TraCI streams due to an error", e);
+        simulationControl.close();
         closeStreamsAndSockets();
     }
 
@@ -52,6 +52,8 @@ import org.eclipse.mosaic.interactions.traffic.TrafficLightUpdates;
 import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
 import org.eclipse.mosaic.lib.enums.DriveDirection;
 import org.eclipse.mosaic.lib.enums.VehicleStopMode;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.objects.road.IRoadPosition;
 import org.eclipse.mosaic.lib.objects.road.SimpleRoadPosition;
 import org.eclipse.mosaic.lib.objects.traffic.InductionLoopInfo;
@@ -69,6 +71,7 @@ import org.eclipse.mosaic.lib.objects.vehicle.VehicleSensors;
 import org.eclipse.mosaic.lib.objects.vehicle.VehicleSignals;
 import org.eclipse.mosaic.lib.objects.vehicle.sensor.DistanceSensor;
 import org.eclipse.mosaic.lib.objects.vehicle.sensor.RadarSensor;
+import org.eclipse.mosaic.lib.transform.GeoProjection;
 import org.eclipse.mosaic.lib.util.objects.Position;
 import org.eclipse.mosaic.rti.TIME;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
@@ -79,9 +82,12 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 public class SimulationFacade {
 
@@ -91,6 +97,24 @@ public class SimulationFacade {
      */
     private final static double FUEL_DENSITY = 0.74; // g/m^3
 
+    /**
+     * Bits of the encoded vehicle signals which are decoded into {@link VehicleSignals} (blinkers, brake light, reverse drive).
+     */
+    private final static int RELEVANT_SIGNAL_BITS = 0b10001111;
+
+    /**
+     * Sensor data of vehicles without any activated sensor, shared by all of those vehicles.
+     */
+    private final static VehicleSensors NO_SENSORS = new VehicleSensors(
+            new DistanceSensor(-1d, -1d, -1d, -1d),
+            new RadarSensor(-1d)
+    );
+
+    /**
+     * Minimum number of vehicle subscription results processed by one task, if vehicles are processed in parallel.
+     */
+    private final static int MIN_VEHICLES_PER_TASK = 256;
+
     private final Logger log = LoggerFactory.getLogger(this.getClass());
 
     private final Bridge bridge;
@@ -127,6 +151,24 @@ public class SimulationFacade {
      */
     private List<String> currentTeleportingList;
 
+    /**
+     * Buffers used to convert the positions of all vehicles of one simulation step at once. Grown on demand.
+     */
+    private double[] positionBufferX = new double[0];
+    private double[] positionBufferY = new double[0];
+    private double[] positionBufferZ = new double[0];
+
+    /**
+     * Decoded {@link VehicleSignals}, indexed by the relevant bits of the encoded signals. Since those are immutable,
+     * vehicles with the same signals share the same object instead of decoding them in each simulation step.
+     */
+    private final VehicleSignals[] decodedVehicleSignals = new VehicleSignals[RELEVANT_SIGNAL_BITS + 1];
+
+    /**
+     * Thread pool used to process vehicle subscription results in parallel, {@code null} if they are processed sequentially.
+     */
+    private final ForkJoinPool vehicleProcessingPool;
+
     private static class SumoVehicleState {
         private final String id;
         private VehicleData currentVehicleData = null;
@@ -192,6 +234,16 @@ public class SimulationFacade {
 
         this.vehicleSubscribeSurrounding = bridge.getCommandRegister().getOrCreate(VehicleSubscribeSurroundingVehicle.class);
         this.vehicleSubscriptionFilterFieldOfVision = bridge.getCommandRegister().getOrCreate(VehicleSubscriptionSetFieldOfVision.class);
+
+        // decode all possible signals beforehand, so that the decoded signals can be read concurrently
+        for (int signalsEncoded = 0; signalsEncoded <= RELEVANT_SIGNAL_BITS; signalsEncoded++) {
+            if ((signalsEncoded & RELEVANT_SIGNAL_BITS) == signalsEncoded) {
+                decodedVehicleSignals[signalsEncoded] = createVehicleSignals(signalsEncoded);
+            }
+        }
+        this.vehicleProcessingPool = sumoConfiguration.vehicleProcessingThreads > 1
+                ? new ForkJoinPool(sumoConfiguration.vehicleProcessingThreads)
+                : null;
     }
 
     /**
@@ -438,27 +490,16 @@ public class SimulationFacade {
             sumoVehicles.values().forEach(v -> v.lastVehicleData = v.currentVehicleData);
 
             final Map<String, String> vehicleSegmentInfo = calculateVehicleSegmentInfo(subscriptions);
+            convertVehiclePositions(subscriptions);
 
-            final List<VehicleData> addedVehicles = new LinkedList<>();
-            final List<VehicleData> updatedVehicles = new LinkedList<>();
-
+            final List<VehicleSubscriptionResult> vehicleResults = new ArrayList<>();
             final List<InductionLoopInfo> updatedInductionLoops = new ArrayList<>();
             final List<LaneAreaDetectorInfo> updatedLaneAreas = new ArrayList<>();
             final Map<String, TrafficLightGroupInfo> trafficLightGroupInfos = new HashMap<>();
 
             for (AbstractSubscriptionResult subscriptionResult : subscriptions) {
                 if (subscriptionResult instanceof VehicleSubscriptionResult result) {
-                    final SumoVehicleState sumoVehicle = processVehicleSubscriptionResult(
-                            time, result, vehicleSegmentInfo
-                    );
-                    if (sumoVehicle == null) {
-                        continue;
-                    }
-                    if (sumoVehicle.isAdded()) {
-                        addedVehicles.add(sumoVehicle.currentVehicleData);
-                    } else if (sumoVehicle.isUpdated()) {
-                        updatedVehicles.add(sumoVehicle.currentVehicleData);
-                    }
+                    vehicleResults.add(result);
                 } else if (subscriptionResult instanceof InductionLoopSubscriptionResult result) {
                     final InductionLoopInfo inductionLoopInfo = processInductionLoopSubscriptionResult(time, result);
                     updatedInductionLoops.add(inductionLoopInfo);
@@ -471,6 +512,20 @@ public class SimulationFacade {
                 }
             }
 
+            final SumoVehicleState[] processedVehicles = processVehicleSubscriptionResults(time, vehicleResults, vehicleSegmentInfo);
+            final List<VehicleData> addedVehicles = new ArrayList<>();
+            final List<VehicleData> updatedVehicles = new ArrayList<>(processedVehicles.length);
+            for (SumoVehicleState sumoVehicle : processedVehicles) {
+                if (sumoVehicle == null) {
+                    continue;
+                }
+                if (sumoVehicle.isAdded()) {
+                    addedVehicles.add(sumoVehicle.currentVehicleData);
+                } else if (sumoVehicle.isUpdated()) {
+                    updatedVehicles.add(sumoVehicle.currentVehicleData);
+                }
+            }
+
             for (AbstractSubscriptionResult subscriptionResult : subscriptions) {
                 if (subscriptionResult instanceof VehicleContextSubscriptionResult result) {
                     // needs to be done in a subsequent loop, as previously created VehicleData is updated here
@@ -492,12 +547,84 @@ public class SimulationFacade {
         }
     }
 
+    /**
+     * Processes the subscription results of all vehicles of the current simulation step. If a thread pool is
+     * configured and enough vehicles are simulated, the results are processed in chunks in parallel. Everything
+     * which accesses shared state is done on the calling thread beforehand, i.e. creating new vehicle states,
+     * fetching the list of teleporting vehicles, and requesting the SUMO version. Vehicles only read the data of other
+     * vehicles from the previous simulation step (see {@link #createSensorData}), therefore the result does not depend
+     * on the order in which vehicles are processed.
+     *
+     * @param time               Time step.
+     * @param vehicleResults     The subscription results of all vehicles.
+     * @param vehicleSegmentInfo Maps vehicles to their current lane area.
+     * @return the state of each vehicle at the index of its subscription result, or {@code null} if the vehicle has been skipped
+     */
+    private SumoVehicleState[] processVehicleSubscriptionResults(final long time,
+                                                                 final List<VehicleSubscriptionResult> vehicleResults,
+                                                                 final Map<String, String> vehicleSegmentInfo
+    ) throws CommandException, InternalFederateException {
+        final SumoVehicleState[] processedVehicles = new SumoVehicleState[vehicleResults.size()];
+        if (vehicleProcessingPool == null || vehicleResults.size() < 2 * MIN_VEHICLES_PER_TASK) {
+            for (int i = 0; i < processedVehicles.length; i++) {
+                final VehicleSubscriptionResult veh = vehicleResults.get(i);
+                processedVehicles[i] = processVehicleSubscriptionResult(time, getOrCreateVehicleState(veh.id), veh, vehicleSegmentInfo);
+            }
+            return processedVehicles;
+        }
+
+        final SumoVehicleState[] vehicleStates = new SumoVehicleState[vehicleResults.size()];
+        boolean hasPotentiallyTeleportingVehicles = false;
+        for (int i = 0; i < vehicleStates.length; i++) {
+            final VehicleSubscriptionResult veh = vehicleResults.get(i);
+            vehicleStates[i] = getOrCreateVehicleState(veh.id);
+            hasPotentiallyTeleportingVehicles |= (veh.position == null || !veh.position.isValid())
+                    && vehicleStates[i].lastVehicleData != null;
+        }
+        if (hasPotentiallyTeleportingVehicles && currentTeleportingList == null) {
+            currentTeleportingList = getTeleportingList.execute(bridge);
+        }
+        bridge.getCurrentVersion(); // the version is requested via TraCI on first access, which must not happen concurrently
+
+        final int chunkSize = Math.max(MIN_VEHICLES_PER_TASK,
+                vehicleResults.size() / (vehicleProcessingPool.getParallelism() * 4) + 1);
+        final List<Callable<Void>> tasks = new ArrayList<>();
+        for (int chunkStart = 0; chunkStart < vehicleResults.size(); chunkStart += chunkSize) {
+            final int from = chunkStart;
+            final int to = Math.min(chunkStart + chunkSize, vehicleResults.size());
+            tasks.add(() -> {
+                for (int i = from; i < to; i++) {
+                    processedVehicles[i] =
+                            processVehicleSubscriptionResult(time, vehicleStates[i], vehicleResults.get(i), vehicleSegmentInfo);
+                }
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> result : vehicleProcessingPool.invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalFederateException("Interrupted while processing vehicle subscription results", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CommandException commandException) {
+                throw commandException;
+            }
+            if (e.getCause() instanceof InternalFederateException internalFederateException) {
+                throw internalFederateException;
+            }
+            throw new InternalFederateException("Could not process vehicle subscription results", e);
+        }
+        return processedVehicles;
+    }
+
     private SumoVehicleState processVehicleSubscriptionResult(final long time,
+                                                              final SumoVehicleState sumoVehicle,
                                                               final VehicleSubscriptionResult veh,
                                                               final Map<String, String> vehicleSegmentInfo
     ) throws CommandException, InternalFederateException {
 
-        final SumoVehicleState sumoVehicle = getOrCreateVehicleState(veh.id);
         final VehicleStopMode vehicleStopMode = VehicleStopMode.fromSumoInt(veh.stoppedStateEncoded);
         final boolean isParking = vehicleStopMode.isParking();
         final boolean hasInvalidPosition = veh.position == null || !veh.position.isValid();
@@ -584,7 +711,7 @@ public class SimulationFacade {
     }
 
     private List<String> findRemovedVehicles(long time) throws CommandException, InternalFederateException {
-        final List<String> removedVehicles = new LinkedList<>();
+        final List<String> removedVehicles = new ArrayList<>();
         for (Iterator<SumoVehicleState> vehicleIt = sumoVehicles.values().iterator(); vehicleIt.hasNext(); ) {
             SumoVehicleState vehicle = vehicleIt.next();
             if (vehicle.isNotUpdated()) {
@@ -682,6 +809,8 @@ public class SimulationFacade {
 
     /**
      * Creates an immutable object holding front and rear distance sensor data based on leading vehicle information.
+     * The speed of the leading vehicle is taken from its data of the previous simulation step, since its data of the
+     * current simulation step may not have been processed yet.
      *
      * @param vehicleState    The state of the vehicle the VehicleSensors object should be created for
      * @param leadingVehicle  Information about the leading vehicle.
@@ -695,6 +824,9 @@ public class SimulationFacade {
 
         boolean hasFrontSensorActivated = vehicleState.frontSensorDistance != null;
         boolean hasBackSensorActivated = vehicleState.rearSensorDistance != null;
+        if (!hasFrontSensorActivated && !hasBackSensorActivated) {
+            return NO_SENSORS;
+        }
 
         double frontDistance = hasFrontSensorActivated ? Double.POSITIVE_INFINITY : -1;
         double leaderSpeed = hasFrontSensorActivated ? Double.POSITIVE_INFINITY : -1;
@@ -704,7 +836,8 @@ public class SimulationFacade {
                 && leadingVehicle.getDistance() < vehicleState.frontSensorDistance
         ) {
             frontDistance = leadingVehicle.getDistance() + minGap;
-            VehicleData leadingVehicleData = getLastKnownVehicleData(leadingVehicle.getOtherVehicleId());
+            SumoVehicleState leadingVehicleState = sumoVehicles.get(leadingVehicle.getOtherVehicleId());
+            VehicleData leadingVehicleData = leadingVehicleState != null ? leadingVehicleState.lastVehicleData : null;
             leaderSpeed = leadingVehicleData != null ? leadingVehicleData.getSpeed() : -1;
         }
         if (hasBackSensorActivated
@@ -738,6 +871,50 @@ public class SimulationFacade {
         return vehicleToSegmentMap;
     }
 
+    /**
+     * Calculates the geographic positions of all vehicles of the current simulation step at once, which
+     * allows the {@link GeoProjection} to use its bulk conversion instead of converting each position separately.
+     *
+     * @param subscriptions Subscription data.
+     */
+    private void convertVehiclePositions(List<AbstractSubscriptionResult> subscriptions) {
+        int length = 0;
+        for (AbstractSubscriptionResult subscriptionResult : subscriptions) {
+            if (subscriptionResult instanceof VehicleSubscriptionResult result && result.position != null && result.position.isValid()) {
+                length++;
+            }
+        }
+        if (length == 0) {
+            return;
+        }
+        if (positionBufferX.length < length) {
+            positionBufferX = new double[length];
+            positionBufferY = new double[length];
+            positionBufferZ = new double[length];
+        }
+        int i = 0;
+        for (AbstractSubscriptionResult subscriptionResult : subscriptions) {
+            if (subscriptionResult instanceof VehicleSubscriptionResult result && result.position != null && result.position.isValid()) {
+                final CartesianPoint projectedPosition = result.position.getProjectedPosition();
+                positionBufferX[i] = projectedPosition.getX();
+                positionBufferY[i] = projectedPosition.getY();
+                positionBufferZ[i] = projectedPosition.getZ();
+                i++;
+            }
+        }
+        GeoProjection.getInstance().cartesianToGeographic(positionBufferX, positionBufferY, positionBufferZ, length);
+        i = 0;
+        for (AbstractSubscriptionResult subscriptionResult : subscriptions) {
+            if (subscriptionResult instanceof VehicleSubscriptionResult result && result.position != null && result.position.isValid()) {
+                result.position = new Position(
+                        result.position.getProjectedPosition(),
+                        GeoPoint.latLon(positionBufferX[i], positionBufferY[i], positionBufferZ[i])
+                );
+                i++;
+            }
+        }
+    }
+
     private SumoVehicleState getOrCreateVehicleState(String id) {
         return sumoVehicles.computeIfAbsent(id, SumoVehicleState::new);
     }
@@ -852,9 +1029,13 @@ public class SimulationFacade {
      * This method decodes the vehicle signals.
      *
      * @param signalsEncoded Encoded number indicating the vehicle signals.
-     * @return a new {@link VehicleSignals} object
+     * @return the decoded {@link VehicleSignals} object, which may be shared with other vehicles
      */
     private VehicleSignals decodeVehicleSignals(int signalsEncoded) {
+        return decodedVehicleSignals[signalsEncoded & RELEVANT_SIGNAL_BITS];
+    }
+
+    private VehicleSignals createVehicleSignals(int signalsEncoded) {
         boolean blinkerRight = getBit(signalsEncoded, 0);
         boolean blinkerLeft = getBit(signalsEncoded, 1);
         boolean blinkerEmergency = getBit(signalsEncoded, 2);
@@ -891,6 +1072,15 @@ public class SimulationFacade {
         return vehicle != null ? vehicle.currentVehicleData : null;
     }
 
+    /**
+     * Releases all resources held by this facade, i.e. the thread pool used to process vehicle subscription results.
+     */
+    public void close() {
+        if (vehicleProcessingPool != null) {
+            vehicleProcessingPool.shutdownNow();
+        }
+    }
+
     /**
      * This method removes vehicles from the simulation.
      *
@@ -18,6 +18,7 @@ package org.eclipse.mosaic.fed.sumo.bridge.traci;
 import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
 import org.eclipse.mosaic.fed.sumo.bridge.CommandException;
 import org.eclipse.mosaic.fed.sumo.bridge.SumoVersion;
+import org.eclipse.mosaic.fed.sumo.bridge.TraciClientBridge;
 import org.eclipse.mosaic.fed.sumo.bridge.TraciVersion;
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.Status;
 import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.SumoVar;
@@ -46,7 +47,11 @@ import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nullable;
@@ -63,6 +68,11 @@ public abstract class AbstractTraciCommand<T> {
     private static final CommandLengthReader COMMAND_LENGTH_READER = new CommandLengthReader();
     private static final StatusReader STATUS_READER = new StatusReader();
 
+    /**
+     * Buffer used to discard unused bytes of responses. Its content is never read.
+     */
+    private static final byte[] DISCARD_BUFFER = new byte[512];
+
     /**
      * A list of writers which are used to construct the message.
      */
@@ -78,6 +88,11 @@ public abstract class AbstractTraciCommand<T> {
      */
     private final VersionSupport support;
 
+    /**
+     * If {@code true}, this command may be queued in the {@link TraciCommandPipeline} of the bridge.
+     */
+    private boolean pipelined = false;
+
     protected AbstractTraciCommand(@Nullable SumoVersion since) {
         this.support = (current) -> (since == null || current.getCurrentVersion().isGreaterOrEqualThan(since)
         );
@@ -101,15 +116,32 @@ public abstract class AbstractTraciCommand<T> {
         return new TraciCommandResultReaderBuilder(this);
     }
 
+    /**
+     * Call this method in the constructor of commands which don't read any result, and whose failure
+     * does not need to be handled by the caller. If pipelining is enabled for the bridge, such commands are
+     * queued and sent as one message right before the next command which is not queued.
+     */
+    protected void allowPipelining() {
+        Validate.isTrue(readers.isEmpty(), "Commands reading a result can not be pipelined.");
+        this.pipelined = true;
+    }
+
     /**
      * Call this method to execute the command with the given arguments. The order of arguments must match
      * the order of parameter writers which have been defined in the constructor. No result is returned.
+     * If this command allows pipelining and the bridge has a {@link TraciCommandPipeline}, the command is
+     * only queued and no {@link CommandException} is thrown.
      *
      * @throws CommandException          if the status code of the response is ERROR. The connection to SUMO is still available.
      * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
      */
     protected void execute(Bridge bridge, Object... arguments) throws CommandException, InternalFederateException {
         if (checkVersion(bridge)) {
+            final TraciCommandPipeline pipeline = getCommandPipeline(bridge);
+            if (pipelined && pipeline != null) {
+                queueMessage(bridge, pipeline, arguments);
+                return;
+            }
             sendMessageToTraci(bridge, arguments);
             readResults(bridge, false);
         }
@@ -162,58 +194,104 @@ public abstract class AbstractTraciCommand<T> {
         return true;
     }
 
+    private static TraciCommandPipeline getCommandPipeline(Bridge bridge) {
+        return bridge instanceof TraciClientBridge ? ((TraciClientBridge) bridge).getCommandPipeline() : null;
+    }
+
     /**
-     * Writes the provided arguments to the {@link java.io.DataOutputStream} of the {@link Bridge}
-     * in the way it has been defined by the constructor of the extending command implementation.
-     * All configured {@link AbstractTraciParameterWriter}s are sequentially called to write
-     * their actual content as bytes to the {@link java.io.DataOutputStream}. If a writer
-     * is variable, the next argument from the list of given arguments is used accordingly.
-     * This implies, that the length of the passed arguments array must match the length of the writers which
-     * are supposed to write variable content.
+     * Sends the command with the provided arguments as a single message to TraCI. If there are
+     * commands queued in the {@link TraciCommandPipeline} of the bridge, those are sent beforehand.
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private void sendMessageToTraci(Bridge bridge, Object[] arguments) throws InternalFederateException {
+        final TraciCommandPipeline pipeline = getCommandPipeline(bridge);
+        if (pipeline != null) {
+            pipeline.flush(bridge);
+        }
         try {
+            final int contentLength = getContentLength(arguments);
+            bridge.getOut().writeInt(4 + getCommandLength(contentLength));
+            writeCommand(bridge.getOut(), contentLength, arguments);
+            bridge.getOut().flush();
+        } catch (Exception t) {
+            bridge.emergencyExit(t);
+            throw new InternalFederateException("Error during executing TraCI command " + this.getClass().getSimpleName(), t);
+        }
+    }
 
-            int messageLength = 0;
-            int i = 0;
-            for (AbstractTraciParameterWriter block : writers) {
-                if (block.isVariable()) {
-                    Validate.isTrue(i < arguments.length,
-                            "Too many arguments given. Please revise writer configuration in the constructor."
-                    );
-                    messageLength += block.getVariableLength(arguments[i++]);
-                } else {
-                    messageLength += block.getLength();
-                }
-            }
-
-            Validate.isTrue(i == arguments.length,
-                    "Too few arguments given. Please revise writer configuration in the constructor."
-            );
+    /**
+     * Writes the command with the provided arguments to the given {@link TraciCommandPipeline}
+     * without sending it to TraCI.
+     */
+    private void queueMessage(Bridge bridge, TraciCommandPipeline pipeline, Object[] arguments) throws InternalFederateException {
+        try {
+            writeCommand(pipeline.getOut(), getContentLength(arguments), arguments);
+            pipeline.onCommandQueued(this.getClass().getSimpleName());
+        } catch (Exception t) {
+            bridge.emergencyExit(t);
+            throw new InternalFederateException("Error during queuing TraCI command " + this.getClass().getSimpleName(), t);
+        }
+    }
 
-            if (messageLength < 255) {
-                bridge.getOut().writeInt(4 + 1 + messageLength);
-                bridge.getOut().writeByte(1 + messageLength);
+    /**
+     * Calculates the number of bytes the configured {@link AbstractTraciParameterWriter}s will write
+     * for the given arguments.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int getContentLength(Object[] arguments) {
+        int contentLength = 0;
+        int i = 0;
+        for (AbstractTraciParameterWriter block : writers) {
+            if (block.isVariable()) {
+                Validate.isTrue(i < arguments.length,
+                        "Too many arguments given. Please revise writer configuration in the constructor."
+                );
+                contentLength += block.getVariableLength(arguments[i++]);
             } else {
-                // 255 is the maximum possible command length. Other cases require to set the
-                // command length to zero and use an integer field instead.
-                bridge.getOut().writeInt(4 + 1 + 4 + messageLength);
-                bridge.getOut().writeByte(0);
-                bridge.getOut().writeInt(1 + 4 + messageLength);
+                contentLength += block.getLength();
             }
+        }
 
-            i = 0;
-            for (AbstractTraciParameterWriter block : writers) {
-                if (block.isVariable()) {
-                    block.writeVariableArgument(bridge.getOut(), arguments[i++]);
-                } else {
-                    block.write(bridge.getOut());
-                }
+        Validate.isTrue(i == arguments.length,
+                "Too few arguments given. Please revise writer configuration in the constructor."
+        );
+        return contentLength;
+    }
+
+    /**
+     * Returns the length of the complete command including its length field.
+     */
+    private static int getCommandLength(int contentLength) {
+        // 255 is the maximum possible command length. Other cases require to set the
+        // command length to zero and use an integer field instead.
+        return contentLength < 255 ? 1 + contentLength : 1 + 4 + contentLength;
+    }
+
+    /**
+     * Writes the provided arguments to the given {@link DataOutputStream}
+     * in the way it has been defined by the constructor of the extending command implementation.
+     * After the command length, all configured {@link AbstractTraciParameterWriter}s are sequentially called to write
+     * their actual content as bytes to the {@link DataOutputStream}. If a writer
+     * is variable, the next argument from the list of given arguments is used accordingly.
+     * This implies, that the length of the passed arguments array must match the length of the writers which
+     * are supposed to write variable content.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void writeCommand(DataOutputStream out, int contentLength, Object[] arguments) throws IOException {
+        final int commandLength = getCommandLength(contentLength);
+        if (contentLength < 255) {
+            out.writeByte(commandLength);
+        } else {
+            out.writeByte(0);
+            out.writeInt(commandLength);
+        }
+
+        int i = 0;
+        for (AbstractTraciParameterWriter block : writers) {
+            if (block.isVariable()) {
+                block.writeVariableArgument(out, arguments[i++]);
+            } else {
+                block.write(out);
             }
-        } catch (Exception t) {
-            bridge.emergencyExit(t);
-            throw new InternalFederateException("Error during executing TraCI command " + this.getClass().getSimpleName(), t);
         }
     }
 
@@ -230,7 +308,6 @@ public abstract class AbstractTraciCommand<T> {
      * @param listMode with this mode enabled, the readers are iterated several times as the result message requires.
      * @return a list of results. If listMode is disabled, this list contains only ONE item.
      */
-    @SuppressWarnings(value = "RR_NOT_CHECKED", justification = "It's fine to ignore some of the bytes when reading the stream.")
     private List<T> readResults(Bridge bridge, boolean listMode) throws CommandException, InternalFederateException {
         try {
             int messageBytesLeft = bridge.getIn().readInt() - 4;
@@ -245,7 +322,7 @@ public abstract class AbstractTraciCommand<T> {
             Status status = STATUS_READER.read(bridge.getIn(), messageBytesLeft);
             messageBytesLeft -= STATUS_READER.getNumberOfBytesRead();
 
-            final List<T> results = new ArrayList<>();
+            final List<T> results;
             if (status.getResultType() == Status.STATUS_OK) {
 
                 int iterations = 1;
@@ -253,6 +330,7 @@ public abstract class AbstractTraciCommand<T> {
                     iterations = bridge.getIn().readInt();
                     messageBytesLeft -= 4;
                 }
+                results = new ArrayList<>(Math.max(0, iterations));
 
                 while (iterations > 0 && messageBytesLeft > 0) {
                     iterations--;
@@ -263,22 +341,23 @@ public abstract class AbstractTraciCommand<T> {
 
                     int actualBytesRead = COMMAND_LENGTH_READER.getNumberOfBytesRead();
 
-                    ArrayList<Object> resultObjects = new ArrayList<>();
+                    final Object[] resultObjects = new Object[readers.size()];
+                    int numberOfResultObjects = 0;
                     for (AbstractTraciResultReader<?> reader : readers) {
                         Object o = reader.read(bridge.getIn(), commandLength - actualBytesRead);
                         actualBytesRead += reader.getNumberOfBytesRead();
                         if (o != null) {
-                            resultObjects.add(o);
+                            resultObjects[numberOfResultObjects++] = o;
                         }
                     }
-                    if (resultObjects.size() > 0) {
-                        results.add(constructResult(status, resultObjects.toArray(new Object[0])));
+                    if (numberOfResultObjects > 0) {
+                        results.add(constructResult(status, numberOfResultObjects == resultObjects.length
+                                ? resultObjects
+                                : Arrays.copyOf(resultObjects, numberOfResultObjects)));
                     }
 
                     if (actualBytesRead < commandLength) {
-                        //discard any unused bytes
-                        //noinspection ResultOfMethodCallIgnored, reasoning: just flush buffer
-                        bridge.getIn().read(new byte[commandLength - actualBytesRead]);
+                        discardBytes(bridge.getIn(), commandLength - actualBytesRead);
                     }
                 }
 
@@ -297,6 +376,19 @@ public abstract class AbstractTraciCommand<T> {
         }
     }
 
+    /**
+     * Reads and ignores the given number of bytes. The bytes are read instead of skipped, so that they
+     * are still written to the capture of the input stream, if any.
+     */
+    private static void discardBytes(DataInputStream in, int length) throws IOException {
+        int bytesLeft = length;
+        while (bytesLeft > 0) {
+            final int chunk = Math.min(bytesLeft, DISCARD_BUFFER.length);
+            in.readFully(DISCARD_BUFFER, 0, chunk);
+            bytesLeft -= chunk;
+        }
+    }
+
     /**
      * This method is called during reading the command response when all readers have been executed.
      * The results of the readers are passed to this method.
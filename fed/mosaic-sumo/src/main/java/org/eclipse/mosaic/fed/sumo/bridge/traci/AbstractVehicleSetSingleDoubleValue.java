@@ -37,6 +37,7 @@ public abstract class AbstractVehicleSetSingleDoubleValue extends AbstractTraciC
                 .variable(variable)
                 .writeVehicleIdParam()
                 .writeDoubleParamWithType();
+        allowPipelining();
     }
 
     /**
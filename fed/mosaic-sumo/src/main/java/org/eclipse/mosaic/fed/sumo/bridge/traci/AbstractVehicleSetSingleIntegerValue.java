@@ -43,6 +43,7 @@ public abstract class AbstractVehicleSetSingleIntegerValue extends AbstractTraci
                 .variable(variable)
                 .writeVehicleIdParam()
                 .writeIntParamWithType();
+        allowPipelining();
     }
 
     public void execute(Bridge bridge, String vehicleId, int value) throws CommandException, InternalFederateException {
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.Status;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.reader.CommandLengthReader;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.reader.StatusReader;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+
+import edu.umd.cs.findbugs.annotations.SuppressWarnings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects TraCI commands which don't return any result (e.g. {@link VehicleSetSpeed} or {@link VehicleSetChangeLane}),
+ * in order to send them as one multi-command TraCI message instead of one message per command. TraCI
+ * processes all commands of such a message in order and answers with one message containing the status
+ * of each command. Therefore, all queued commands cost only one round trip to SUMO.
+ * <p/>
+ * Since the caller of a queued command doesn't wait for its response, failing commands can't be reported
+ * by a {@link org.eclipse.mosaic.fed.sumo.bridge.CommandException}, but are logged when the pipeline is flushed.
+ * The pipeline is flushed by {@link AbstractTraciCommand} before each command which is not queued, which
+ * preserves the order of all commands sent to SUMO.
+ */
+public class TraciCommandPipeline {
+
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+
+    private final CommandLengthReader commandLengthReader = new CommandLengthReader();
+    private final StatusReader statusReader = new StatusReader();
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+    private final DataOutputStream out = new DataOutputStream(buffer);
+
+    /**
+     * The names of all queued commands, in the order they have been queued.
+     */
+    private final List<String> queuedCommands = new ArrayList<>();
+
+    /**
+     * Returns the stream the commands are written to before being queued.
+     */
+    DataOutputStream getOut() {
+        return out;
+    }
+
+    /**
+     * Marks the command which has just been written to {@link #getOut()} as queued.
+     *
+     * @param commandName the name of the command, used for logging
+     */
+    void onCommandQueued(String commandName) {
+        queuedCommands.add(commandName);
+    }
+
+    /**
+     * Returns the number of commands which have been queued since the last flush.
+     */
+    public int getNumberOfQueuedCommands() {
+        return queuedCommands.size();
+    }
+
+    /**
+     * Sends all queued commands as one message to SUMO and reads the status of each command from the response.
+     * Does nothing, if no command has been queued.
+     *
+     * @param bridge the bridge holding the connection to SUMO
+     * @throws InternalFederateException if some serious error occurs during writing or reading. The TraCI connection is shut down.
+     */
+    public void flush(Bridge bridge) throws InternalFederateException {
+        if (queuedCommands.isEmpty()) {
+            return;
+        }
+        try {
+            try {
+                bridge.getOut().writeInt(4 + buffer.size());
+                buffer.writeTo(bridge.getOut());
+                bridge.getOut().flush();
+            } catch (Exception e) {
+                bridge.emergencyExit(e);
+                throw new InternalFederateException("Error during sending " + queuedCommands.size() + " pipelined TraCI commands", e);
+            }
+            readStatuses(bridge);
+        } finally {
+            buffer.reset();
+            queuedCommands.clear();
+        }
+    }
+
+    @SuppressWarnings(value = "RR_NOT_CHECKED", justification = "It's fine to ignore some of the bytes when reading the stream.")
+    private void readStatuses(Bridge bridge) throws InternalFederateException {
+        try {
+            final DataInputStream in = bridge.getIn();
+            int messageBytesLeft = in.readInt() - 4;
+
+            for (String commandName : queuedCommands) {
+                int commandLength = commandLengthReader.read(in, messageBytesLeft);
+                messageBytesLeft -= commandLength;
+
+                // requested command variable
+                in.readUnsignedByte();
+                int actualBytesRead = commandLengthReader.getNumberOfBytesRead() + 1;
+
+                Status status = statusReader.read(in, commandLength - actualBytesRead);
+                actualBytesRead += statusReader.getNumberOfBytesRead();
+
+                if (actualBytesRead < commandLength) {
+                    //discard any unused bytes
+                    //noinspection ResultOfMethodCallIgnored, reasoning: just flush buffer
+                    in.read(new byte[commandLength - actualBytesRead]);
+                }
+
+                if (status.getResultType() != Status.STATUS_OK) {
+                    log.warn("Pipelined TraCI command {} failed: {}", commandName, status.getDescription());
+                }
+            }
+        } catch (Exception e) {
+            bridge.emergencyExit(e);
+            throw new InternalFederateException(
+                    "Error during reading response from " + queuedCommands.size() + " pipelined TraCI commands.", e);
+        } finally {
+            bridge.onCommandCompleted();
+        }
+    }
+}
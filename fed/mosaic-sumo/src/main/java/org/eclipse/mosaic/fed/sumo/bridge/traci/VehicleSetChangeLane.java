@@ -49,6 +49,7 @@ public class VehicleSetChangeLane
                 .writeInt(2)
                 .writeByteParamWithType() // lane index
                 .writeDoubleParamWithType(); // duration in s
+        allowPipelining();
     }
 
     /**
@@ -49,6 +49,7 @@ public class VehicleSetColor
                 .writeByteParam()
                 .writeByteParam()
                 .writeByteParam();
+        allowPipelining();
     }
 
     public void execute(Bridge bridge, String vehicleId, int red, int green, int blue, int alpha) throws CommandException, InternalFederateException {
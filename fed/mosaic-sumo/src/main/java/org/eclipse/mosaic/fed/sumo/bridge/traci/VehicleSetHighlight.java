@@ -52,6 +52,7 @@ public class VehicleSetHighlight
                 .writeByte(TraciDatatypes.DOUBLE).writeDouble(5d) // radius of the circle
                 .writeByte(TraciDatatypes.UBYTE).writeByte(0) // alpha value
                 .writeByte(TraciDatatypes.DOUBLE).writeDouble(10d); // the duration of the circle to show as a highlight
+        allowPipelining();
     }
 
     /**
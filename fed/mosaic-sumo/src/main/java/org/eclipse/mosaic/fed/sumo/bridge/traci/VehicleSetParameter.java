@@ -50,6 +50,7 @@ public class VehicleSetParameter
                 .writeInt(2)
                 .writeStringParamWithType() // parameter name
                 .writeStringParamWithType(); // parameter value
+        allowPipelining();
     }
 
     /**
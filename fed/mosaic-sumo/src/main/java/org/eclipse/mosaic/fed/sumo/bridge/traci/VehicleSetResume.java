@@ -44,6 +44,7 @@ public class VehicleSetResume
                 .writeVehicleIdParam()
                 .writeByte(TraciDatatypes.COMPOUND)
                 .writeInt(0);
+        allowPipelining();
     }
 
     /**
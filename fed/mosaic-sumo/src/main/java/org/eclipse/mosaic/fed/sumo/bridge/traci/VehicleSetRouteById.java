@@ -42,6 +42,7 @@ public class VehicleSetRouteById
                 .variable(CommandChangeVehicleValue.VAR_CHANGE_ROUTE_BY_ID)
                 .writeVehicleIdParam()
                 .writeStringParamWithType(); // route id;
+        allowPipelining();
     }
 
     /**
@@ -47,6 +47,7 @@ public class VehicleSetSlowDown
                 .writeInt(2)
                 .writeDoubleParamWithType()
                 .writeDoubleParamWithType();
+        allowPipelining();
     }
 
     /**
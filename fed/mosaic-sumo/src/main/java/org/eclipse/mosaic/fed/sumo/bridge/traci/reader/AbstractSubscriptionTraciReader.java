@@ -16,6 +16,7 @@
 package org.eclipse.mosaic.fed.sumo.bridge.traci.reader;
 
 import org.eclipse.mosaic.fed.sumo.bridge.api.complex.AbstractSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.TraciDatatypes;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,8 +49,20 @@ public abstract class AbstractSubscriptionTraciReader<T extends AbstractSubscrip
         for (int i = 0; i < varCount; i++) {
             int varId = readUnsignedByte(in);
             int varStatus = readUnsignedByte(in);
+            int varType = readByte(in);
+
+            // read the most common primitive values directly to avoid boxing them
+            if (varStatus == 0x00 && varType == TraciDatatypes.DOUBLE) {
+                handleDoubleSubscriptionVariable(result, varId, readDouble(in));
+                continue;
+            }
+            if (varStatus == 0x00 && varType == TraciDatatypes.INTEGER) {
+                handleIntegerSubscriptionVariable(result, varId, readInt(in));
+                continue;
+            }
+
             typeBasedTraciReader.setNextCompoundVarId(varId);
-            Object varValue = typeBasedTraciReader.read(in, totalBytesLeft - numBytesRead);
+            Object varValue = typeBasedTraciReader.readValueOfType(in, varType, totalBytesLeft - numBytesRead);
             this.numBytesRead += typeBasedTraciReader.getNumberOfBytesRead();
 
             if (varStatus == 0x00) {
@@ -63,4 +76,20 @@ public abstract class AbstractSubscriptionTraciReader<T extends AbstractSubscrip
     }
 
     protected abstract void handleSubscriptionVariable(T result, int varId, Object varValue);
+
+    /**
+     * Handles a subscription variable of type double. Per default, the value is passed
+     * to {@link #handleSubscriptionVariable(AbstractSubscriptionResult, int, Object)}.
+     */
+    protected void handleDoubleSubscriptionVariable(T result, int varId, double varValue) {
+        handleSubscriptionVariable(result, varId, varValue);
+    }
+
+    /**
+     * Handles a subscription variable of type integer. Per default, the value is passed
+     * to {@link #handleSubscriptionVariable(AbstractSubscriptionResult, int, Object)}.
+     */
+    protected void handleIntegerSubscriptionVariable(T result, int varId, int varValue) {
+        handleSubscriptionVariable(result, varId, varValue);
+    }
 }
@@ -42,6 +42,11 @@ public abstract class AbstractTraciResultReader<T> {
      */
     protected int totalBytesLeft = 0;
 
+    /**
+     * Buffer used to decode all strings read by this reader, to avoid allocating a byte array per string. Grown on demand.
+     */
+    private byte[] stringBuffer = new byte[64];
+
     /**
      * Creates a new AbstractTraciResultReader.
      *
@@ -118,8 +123,12 @@ public abstract class AbstractTraciResultReader<T> {
 
     protected String readString(DataInputStream in) throws IOException {
         int len = readInt(in);
-        byte[] bytes = readFullyByLength(in, len);
-        return new String(bytes, StandardCharsets.UTF_8);
+        if (stringBuffer.length < len) {
+            stringBuffer = new byte[Math.max(len, 2 * stringBuffer.length)];
+        }
+        in.readFully(stringBuffer, 0, len);
+        numBytesRead += len;
+        return new String(stringBuffer, 0, len, StandardCharsets.UTF_8);
     }
 
     public interface Matcher<T> {
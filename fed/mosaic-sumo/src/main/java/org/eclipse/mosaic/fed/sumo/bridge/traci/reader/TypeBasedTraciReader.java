@@ -51,8 +51,25 @@ public class TypeBasedTraciReader extends AbstractTraciResultReader<Object> {
 
     @Override
     protected Object readFromStream(DataInputStream in) throws IOException {
-        int varReturnType = readByte(in);
+        return readValue(in, readByte(in));
+    }
+
+    /**
+     * Reads a value whose type identifier has already been read from the stream, e.g. by the
+     * {@link AbstractSubscriptionTraciReader}, which reads primitive values directly.
+     *
+     * @param inputStream   the stream which is used to read the bytes from
+     * @param varReturnType the type identifier of the value
+     * @param bytesLeft     the total number of bytes left on the stream to read
+     * @return the value read from the stream
+     */
+    Object readValueOfType(DataInputStream inputStream, int varReturnType, int bytesLeft) throws IOException {
+        totalBytesLeft = bytesLeft;
+        numBytesRead = 0;
+        return readValue(inputStream, varReturnType);
+    }
 
+    private Object readValue(DataInputStream in, int varReturnType) throws IOException {
         switch (varReturnType) {
             case TraciDatatypes.FLOAT:
                 return readFloat(in);
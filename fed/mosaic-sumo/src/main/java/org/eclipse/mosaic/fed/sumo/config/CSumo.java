@@ -92,6 +92,21 @@ public class CSumo implements Serializable {
      */
     public boolean debugTraciCalls = false;
 
+    /**
+     * If set to {@code true}, TraCI commands which only change the state of vehicles (e.g. set speed, change lane, or
+     * change route) are not sent one by one, but are queued and sent as one message right before the next
+     * command which requires a response (e.g. the next simulation step). Therefore, all queued commands cost only
+     * one additional round trip. Failures of such queued commands are only logged. Has no effect when using libsumo.
+     */
+    public boolean pipelineTraciCommands = false;
+
+    /**
+     * Number of threads used to create the vehicle data out of the subscription results after each simulation step.
+     * If set to a value greater than 1, large numbers of vehicles are processed in chunks on a separate thread pool.
+     * The resulting vehicle updates are the same in either case.
+     */
+    public int vehicleProcessingThreads = 1;
+
     /**
      * A optional list of subscriptions for each vehicle in the simulation. The less subscriptions given,
      * the faster the simulation. Per default (if this list is set to null), all subscriptions are activated.
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.facades;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.fed.sumo.bridge.Bridge;
+import org.eclipse.mosaic.fed.sumo.bridge.CommandRegister;
+import org.eclipse.mosaic.fed.sumo.bridge.SumoVersion;
+import org.eclipse.mosaic.fed.sumo.bridge.api.SimulationSimulateStep;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.AbstractSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.LeadFollowVehicle;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.config.CSumo;
+import org.eclipse.mosaic.interactions.traffic.VehicleUpdates;
+import org.eclipse.mosaic.lib.geo.CartesianPoint;
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.UtmPoint;
+import org.eclipse.mosaic.lib.geo.UtmZone;
+import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
+import org.eclipse.mosaic.lib.objects.vehicle.VehicleData;
+import org.eclipse.mosaic.lib.util.objects.Position;
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SimulationFacadeTest {
+
+    @Rule
+    public final GeoProjectionRule transformRule = new GeoProjectionRule(
+            UtmPoint.eastNorth(
+                    UtmZone.from(GeoPoint.lonLat(13.0, 52.0)),
+                    -385281.94,
+                    -5817994.50
+            )
+    );
+
+    @Test
+    public void parallelProcessingOfVehiclesEqualsSequentialProcessing() throws Exception {
+        final List<VehicleUpdates> sequentialUpdates = simulate(1, -1);
+        final List<VehicleUpdates> parallelUpdates = simulate(4, -1);
+
+        assertEquals(5000, parallelUpdates.get(0).getAdded().size());
+        assertEquals(4900, parallelUpdates.get(1).getUpdated().size());
+        for (int step = 0; step < sequentialUpdates.size(); step++) {
+            assertEquals(sequentialUpdates.get(step).getAdded(), parallelUpdates.get(step).getAdded());
+            assertEquals(sequentialUpdates.get(step).getUpdated(), parallelUpdates.get(step).getUpdated());
+            assertEquals(sequentialUpdates.get(step).getRemovedNames(), parallelUpdates.get(step).getRemovedNames());
+        }
+    }
+
+    @Test
+    public void leaderSpeedIsTakenFromPreviousStepIfLeaderIsProcessedAfterFollower() throws Exception {
+        final List<VehicleUpdates> sequentialUpdates = simulate(1, 1);
+        final List<VehicleUpdates> parallelUpdates = simulate(4, 1);
+
+        assertEquals(sequentialUpdates.get(1).getUpdated(), parallelUpdates.get(1).getUpdated());
+        for (VehicleData vehicleData : parallelUpdates.get(1).getUpdated()) {
+            final int i = Integer.parseInt(vehicleData.getName().substring("veh_".length()));
+            if (i % 10 == 0 && i < 4999) {
+                // speed of the leading vehicle within the first step
+                assertEquals((i + 1) % 14, vehicleData.getVehicleSensors().radar.speedFrontVehicle, 0.0001d);
+            }
+        }
+    }
+
+    /**
+     * Simulates two steps. Within the first step, vehicles 0 to 4999 are simulated, within the second step
+     * vehicles 100 to 5099, i.e. 100 vehicles are removed and 100 vehicles are added. Each tenth vehicle
+     * has a front distance sensor which detects the vehicle with the given offset in the result list as leader.
+     */
+    private List<VehicleUpdates> simulate(int threads, int leaderOffset) throws Exception {
+        final CSumo sumoConfiguration = new CSumo();
+        sumoConfiguration.vehicleProcessingThreads = threads;
+
+        final SimulationSimulateStep simulateStep = mock(SimulationSimulateStep.class);
+        when(simulateStep.execute(any(), anyLong())).thenReturn(
+                createVehicleResults(0, 5000, 0, leaderOffset), createVehicleResults(100, 5100, 1, leaderOffset)
+        );
+        final CommandRegister commandRegister = mock(CommandRegister.class);
+        when(commandRegister.getOrCreate(any())).thenAnswer(invocation -> mock((Class<?>) invocation.getArgument(0)));
+        when(commandRegister.getOrCreate(SimulationSimulateStep.class)).thenReturn(simulateStep);
+        final Bridge bridge = mock(Bridge.class);
+        when(bridge.getCommandRegister()).thenReturn(commandRegister);
+        when(bridge.getCurrentVersion()).thenReturn(SumoVersion.HIGHEST);
+
+        final SimulationFacade simulationFacade = new SimulationFacade(bridge, sumoConfiguration);
+        for (int i = 0; i < 5100; i += 10) {
+            simulationFacade.configureDistanceSensors("veh_" + i, 100, true, false);
+        }
+
+        final List<VehicleUpdates> vehicleUpdates = new ArrayList<>();
+        vehicleUpdates.add(simulationFacade.simulateUntil(TIME.SECOND).getVehicleUpdates());
+        vehicleUpdates.add(simulationFacade.simulateUntil(2 * TIME.SECOND).getVehicleUpdates());
+        return vehicleUpdates;
+    }
+
+    private static List<AbstractSubscriptionResult> createVehicleResults(int from, int to, int step, int leaderOffset) {
+        final List<AbstractSubscriptionResult> results = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            final VehicleSubscriptionResult result = new VehicleSubscriptionResult();
+            result.id = "veh_" + i;
+            result.position = new Position(CartesianPoint.xy(i, 10 * step));
+            result.speed = (i + step) % 14;
+            result.distanceDriven = 10 * step;
+            result.signalsEncoded = (i + step) % 16;
+            result.routeId = "route_" + i % 7;
+            result.edgeId = "1_2_3";
+            result.co2 = i % 5;
+            result.fuel = i % 3;
+            if (i + leaderOffset >= from && i + leaderOffset < to) {
+                result.leadingVehicle = new LeadFollowVehicle("veh_" + (i + leaderOffset), 20);
+            }
+            results.add(result);
+        }
+        return results;
+    }
+}
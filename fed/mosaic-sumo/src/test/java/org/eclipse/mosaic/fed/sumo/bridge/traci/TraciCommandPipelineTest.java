@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.eclipse.mosaic.fed.sumo.bridge.SumoVersion;
+import org.eclipse.mosaic.fed.sumo.bridge.TraciClientBridge;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.Status;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandChangeVehicleValue;
+import org.eclipse.mosaic.lib.enums.VehicleStopMode;
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+public class TraciCommandPipelineTest {
+
+    private final ByteArrayOutputStream sentBytes = new ByteArrayOutputStream();
+
+    private final ByteArrayOutputStream responseBytes = new ByteArrayOutputStream();
+
+    private final TraciCommandPipeline pipeline = new TraciCommandPipeline();
+
+    private TraciClientBridge bridge;
+
+    @Before
+    public void setup() {
+        bridge = mock(TraciClientBridge.class);
+        when(bridge.getCurrentVersion()).thenReturn(SumoVersion.HIGHEST);
+        when(bridge.getCommandPipeline()).thenReturn(pipeline);
+        when(bridge.getOut()).thenReturn(new DataOutputStream(sentBytes));
+    }
+
+    @Test
+    public void commandsWithoutResultAreQueued() throws Exception {
+        // RUN
+        new VehicleSetSpeed().execute(bridge, "veh_0", 10d);
+        new VehicleSetChangeLane().execute(bridge, "veh_1", 1, 2 * TIME.SECOND);
+        new VehicleSetRouteById().execute(bridge, "veh_2", "route_1");
+
+        // ASSERT
+        assertEquals(3, pipeline.getNumberOfQueuedCommands());
+        assertEquals(0, sentBytes.size());
+    }
+
+    @Test
+    public void queuedCommandsAreSentWithinOneMessage() throws Exception {
+        // SETUP
+        new VehicleSetSpeed().execute(bridge, "veh_0", 10d);
+        new VehicleSetChangeLane().execute(bridge, "veh_1", 1, 2 * TIME.SECOND);
+        writeResponse(Status.STATUS_OK, Status.STATUS_ERR);
+        useResponses();
+
+        // RUN
+        pipeline.flush(bridge);
+
+        // ASSERT
+        assertEquals(0, pipeline.getNumberOfQueuedCommands());
+        DataInputStream sent = new DataInputStream(new ByteArrayInputStream(sentBytes.toByteArray()));
+        assertEquals(sentBytes.size(), sent.readInt());
+        assertEquals(2, readCommandIds(sent));
+        verify(bridge, never()).emergencyExit(any());
+    }
+
+    @Test
+    public void queuedCommandsAreSentBeforeNextCommand() throws Exception {
+        // SETUP
+        new VehicleSetSpeed().execute(bridge, "veh_0", 10d);
+        writeResponse(Status.STATUS_OK);
+        writeResponse(Status.STATUS_OK);
+        useResponses();
+
+        // RUN
+        new VehicleSetStop().execute(bridge, "veh_0", "edge_0", 10d, 0, 5 * TIME.SECOND, VehicleStopMode.toSumoInt(VehicleStopMode.STOP));
+
+        // ASSERT
+        assertEquals(0, pipeline.getNumberOfQueuedCommands());
+        DataInputStream sent = new DataInputStream(new ByteArrayInputStream(sentBytes.toByteArray()));
+        // the pipelined message containing VehicleSetSpeed
+        sent.readInt();
+        assertEquals(1, readCommandIds(sent, 1));
+        // the single message containing VehicleSetStop
+        sent.readInt();
+        assertEquals(1, readCommandIds(sent));
+    }
+
+    /**
+     * Writes one message containing the given status for each command into the response buffer.
+     */
+    private void writeResponse(byte... statuses) throws IOException {
+        final ByteArrayOutputStream message = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(message);
+        for (byte status : statuses) {
+            final String description = status == Status.STATUS_OK ? "" : "Vehicle 'veh_1' is not known";
+            out.writeByte(1 + 1 + 1 + 4 + description.length());
+            out.writeByte(CommandChangeVehicleValue.COMMAND);
+            out.writeByte(status);
+            out.writeInt(description.length());
+            out.writeBytes(description);
+        }
+        final DataOutputStream response = new DataOutputStream(responseBytes);
+        response.writeInt(4 + message.size());
+        message.writeTo(response);
+    }
+
+    private void useResponses() {
+        when(bridge.getIn()).thenReturn(new DataInputStream(new ByteArrayInputStream(responseBytes.toByteArray())));
+    }
+
+    private static int readCommandIds(DataInputStream in) throws IOException {
+        return readCommandIds(in, Integer.MAX_VALUE);
+    }
+
+    private static int readCommandIds(DataInputStream in, int maxCommands) throws IOException {
+        int commands = 0;
+        while (commands < maxCommands && in.available() > 0) {
+            int commandLength = in.readUnsignedByte();
+            int headerLength = 1;
+            if (commandLength == 0) {
+                commandLength = in.readInt();
+                headerLength += 4;
+            }
+            assertEquals(CommandChangeVehicleValue.COMMAND, in.readUnsignedByte());
+            in.skipBytes(commandLength - headerLength - 1);
+            commands++;
+        }
+        return commands;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.fed.sumo.bridge.traci.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.LeadFollowVehicle;
+import org.eclipse.mosaic.fed.sumo.bridge.api.complex.VehicleSubscriptionResult;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.CommandRetrieveVehicleState;
+import org.eclipse.mosaic.fed.sumo.bridge.traci.constants.TraciDatatypes;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class VehicleSubscriptionTraciReaderTest {
+
+    @Test
+    public void readVehicleSubscription() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        writeString(out, "veh_0");
+        out.writeByte(5);
+        writeVariable(out, CommandRetrieveVehicleState.VAR_SPEED.var, TraciDatatypes.DOUBLE);
+        out.writeDouble(13.5);
+        writeVariable(out, CommandRetrieveVehicleState.VAR_SIGNAL_STATES.var, TraciDatatypes.INTEGER);
+        out.writeInt(8);
+        writeVariable(out, CommandRetrieveVehicleState.VAR_ROAD_ID.var, TraciDatatypes.STRING);
+        writeString(out, "1_2_3");
+        writeVariable(out, CommandRetrieveVehicleState.VAR_LEADER.var, TraciDatatypes.COMPOUND);
+        out.writeInt(2);
+        out.writeByte(TraciDatatypes.STRING);
+        writeString(out, "");
+        out.writeByte(TraciDatatypes.DOUBLE);
+        out.writeDouble(-1d);
+        writeVariable(out, CommandRetrieveVehicleState.VAR_DISTANCE.var, TraciDatatypes.DOUBLE);
+        out.writeDouble(120.25);
+        out.flush();
+
+        final VehicleSubscriptionTraciReader reader = new VehicleSubscriptionTraciReader();
+        final VehicleSubscriptionResult result = reader.read(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), bytes.size()
+        );
+
+        assertEquals(bytes.size(), reader.getNumberOfBytesRead());
+        assertEquals(13.5, result.speed, 0d);
+        assertEquals(8, result.signalsEncoded);
+        assertEquals("1_2_3", result.edgeId);
+        assertSame(LeadFollowVehicle.NONE, result.leadingVehicle);
+        assertEquals(120.25, result.distanceDriven, 0d);
+    }
+
+    private static void writeVariable(DataOutputStream out, int varId, int varType) throws IOException {
+        out.writeByte(varId);
+        out.writeByte(0x00);
+        out.writeByte(varType);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -22,6 +22,7 @@ import org.eclipse.mosaic.lib.database.persistence.OutdatedDatabaseException;
 import org.eclipse.mosaic.lib.database.persistence.SQLiteReader;
 import org.eclipse.mosaic.lib.database.persistence.SQLiteTypeDetector;
 import org.eclipse.mosaic.lib.database.persistence.SQLiteWriter;
+import org.eclipse.mosaic.lib.database.road.CompactRoadNetwork;
 import org.eclipse.mosaic.lib.database.road.Connection;
 import org.eclipse.mosaic.lib.database.road.Node;
 import org.eclipse.mosaic.lib.database.road.Restriction;
@@ -141,6 +142,12 @@ public class Database {
     private final MutableGeoPoint minBounds = new MutableGeoPoint(90, 180);
     private final MutableGeoPoint maxBounds = new MutableGeoPoint(-90, -180);
 
+    /**
+     * If set, all {@link Node}s, {@link Way}s, and {@link Connection}s are stored in this compact
+     * representation instead of {@link #nodes}, {@link #ways}, and {@link #connections}.
+     */
+    private CompactRoadNetwork compactNetwork = null;
+
     private transient List<String> borderNodes = null;
 
     /**
@@ -166,6 +173,19 @@ public class Database {
         return Database.Builder.loadFromFile(file).build();
     }
 
+    /**
+     * This method loads tries to load a database object from
+     * the given {@link File}, which should refer to a database-file.
+     *
+     * @param file    the database-file
+     * @param compact if {@code true}, the road network is stored in a read-only {@link CompactRoadNetwork}
+     * @return the loaded database
+     */
+    public static Database loadFromFile(File file, boolean compact) {
+        Database.Builder builder = Database.Builder.loadFromFile(file);
+        return compact ? builder.buildCompact() : builder.build();
+    }
+
     /**
      * This method loads tries to load a database object from
      * the given filename, which should refer to a database-file.
@@ -230,7 +250,7 @@ public class Database {
      * @return Requested node.
      */
     public Node getNode(String id) {
-        return nodes.get(id);
+        return compactNetwork != null ? compactNetwork.getNode(id) : nodes.get(id);
     }
 
     /**
@@ -240,7 +260,7 @@ public class Database {
      * @return Way with the given Id.
      */
     public Way getWay(String id) {
-        return ways.get(id);
+        return compactNetwork != null ? compactNetwork.getWay(id) : ways.get(id);
     }
 
     /**
@@ -250,7 +270,7 @@ public class Database {
      * @return Connection with the given Id.
      */
     public Connection getConnection(String id) {
-        return connections.get(id);
+        return compactNetwork != null ? compactNetwork.getConnection(id) : connections.get(id);
     }
 
     /**
@@ -298,7 +318,7 @@ public class Database {
      * @return Nodes as {@link Collection}.
      */
     public Collection<Node> getNodes() {
-        return Collections.unmodifiableCollection(nodes.values());
+        return compactNetwork != null ? compactNetwork.getNodes() : Collections.unmodifiableCollection(nodes.values());
     }
 
     /**
@@ -322,7 +342,7 @@ public class Database {
      * @return All ways as {@link Collection}.
      */
     public Collection<Way> getWays() {
-        return Collections.unmodifiableCollection(ways.values());
+        return compactNetwork != null ? compactNetwork.getWays() : Collections.unmodifiableCollection(ways.values());
     }
 
     /**
@@ -331,7 +351,9 @@ public class Database {
      * @return All connections as {@link Collection}.
      */
     public Collection<Connection> getConnections() {
-        return Collections.unmodifiableCollection(connections.values());
+        return compactNetwork != null
+                ? compactNetwork.getConnections()
+                : Collections.unmodifiableCollection(connections.values());
     }
 
     /**
@@ -386,7 +408,7 @@ public class Database {
 
             // group all items according to their from node for counting
             HashMap<String, Integer> groupMap = new HashMap<>();
-            for (Connection conn : connections.values()) {
+            for (Connection conn : getConnections()) {
                 // make sure there is an entry in the map
                 groupMap.put(
                         conn.getFrom().getId(),
@@ -867,6 +889,60 @@ public class Database {
             return database;
         }
 
+        /**
+         * Builds the database like {@link #build()}, but stores all {@link Node}s, {@link Way}s, and {@link Connection}s
+         * in a read-only {@link CompactRoadNetwork}, which requires far less memory for large road networks.
+         * The relations between nodes and connections are not completed on the elements added to this builder,
+         * but are computed directly into the compact network, including all restrictions.
+         * Routes, roundabouts, and restrictions are rebuilt to reference the elements of the compact network.
+         * The builder must not be used to modify the road network afterwards.
+         *
+         * @return the build {@link Database}
+         */
+        public Database buildCompact() {
+            final Database raw = database;
+            // restrictions are applied before unused elements are removed, as in build()
+            final List<Restriction> allRestrictions = new ArrayList<>(raw.restrictions.values());
+            cleanUnusedWays();
+            cleanUnusedRelations();
+            cleanUnusedNodes();
+            final CompactRoadNetwork network = CompactRoadNetwork.create(
+                    raw.nodes.values(), raw.ways.values(), raw.connections.values(), allRestrictions
+            );
+
+            final Database compact = new Database(raw.getVersion());
+            compact.compactNetwork = network;
+            compact.properties.putAll(raw.properties);
+            compact.buildings.putAll(raw.buildings);
+            compact.minBounds.set(raw.minBounds.getLatitude(), raw.minBounds.getLongitude(), raw.minBounds.getAltitude());
+            compact.maxBounds.set(raw.maxBounds.getLatitude(), raw.maxBounds.getLongitude(), raw.maxBounds.getAltitude());
+            for (Route route : raw.routes.values()) {
+                Route compactRoute = new Route(route.getId());
+                for (Connection connection : route.getConnections()) {
+                    compactRoute.addConnection(network.getConnection(connection.getId()));
+                }
+                compact.routes.put(compactRoute.getId(), compactRoute);
+            }
+            for (Roundabout roundabout : raw.roundabouts) {
+                List<Node> compactNodes = new ArrayList<>(roundabout.getNodes().size());
+                for (Node node : roundabout.getNodes()) {
+                    compactNodes.add(network.getNode(node.getId()));
+                }
+                compact.roundabouts.add(new Roundabout(roundabout.getId(), compactNodes));
+            }
+            for (Restriction restriction : raw.restrictions.values()) {
+                compact.restrictions.put(restriction.getId(), new Restriction(
+                        restriction.getId(),
+                        restriction.getType(),
+                        network.getWay(restriction.getSource().getId()),
+                        network.getNode(restriction.getVia().getId()),
+                        network.getWay(restriction.getTarget().getId())
+                ));
+            }
+            database = compact;
+            return compact;
+        }
+
         /**
          * Cleans the database of detected graphs, used for importing purposes.
          */
@@ -228,7 +228,7 @@ public class DatabaseUtils {
                 result[1] = nodeOnWay.getId();
                 break;
             }
-            if (nodeOnWay == node) {
+            if (nodeOnWay.getId().equals(node.getId())) {
                 found = true;
             }
             if (!found) {
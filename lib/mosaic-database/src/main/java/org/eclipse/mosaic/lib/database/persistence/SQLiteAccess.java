@@ -157,6 +157,27 @@ class SQLiteAccess {
         return result;
     }
 
+    /**
+     * Executes the given query and passes each row of the result directly to the given {@link RowHandler},
+     * without collecting all rows beforehand. The handler accesses the columns of the current row by
+     * their position in the select clause. Connects and disconnects each time.
+     *
+     * @param statementString SQL query to be executed
+     * @param rowHandler      handler which is called for each row of the result
+     * @throws SQLException Exception that provides information on a database access error or other errors.
+     */
+    protected void executeQuery(String statementString, RowHandler rowHandler) throws SQLException {
+        Statement statement = connect();
+        try (ResultSet resultSet = statement.executeQuery(statementString)) {
+            while (resultSet.next()) {
+                rowHandler.handleRow(resultSet);
+            }
+        } finally {
+            // close connection (already includes a statement.close())
+            disconnect(statement);
+        }
+    }
+
     private List<ResultRow> readRows(ResultSet rs) throws SQLException {
         List<ResultRow> re = new ArrayList<>();
 
@@ -176,6 +197,15 @@ class SQLiteAccess {
         return re;
     }
 
+    /**
+     * Handles a single row of a query result, see {@link #executeQuery(String, RowHandler)}.
+     */
+    @FunctionalInterface
+    interface RowHandler {
+
+        void handleRow(ResultSet resultSet) throws SQLException;
+    }
+
     static class ResultRow {
 
         private final Object[] fields;
@@ -262,6 +292,72 @@ class SQLiteAccess {
         }
     }
 
+    /**
+     * Reads the value of the given column of the current row, which must not be {@code null}.
+     *
+     * @param resultSet the result set pointing to the current row
+     * @param column    the position of the column, starting with 1
+     * @return the value of the column as string
+     */
+    static String getString(ResultSet resultSet, int column) throws SQLException {
+        return Objects.requireNonNull(resultSet.getString(column), "Value in column " + column + " must be non null.");
+    }
+
+    /**
+     * Reads the value of the given column of the current row, which must not be {@code null}.
+     *
+     * @param resultSet the result set pointing to the current row
+     * @param column    the position of the column, starting with 1
+     * @return the value of the column as int
+     */
+    static int getInt(ResultSet resultSet, int column) throws SQLException {
+        final int value = resultSet.getInt(column);
+        if (resultSet.wasNull()) {
+            throw new NullPointerException("Value in column " + column + " must be non null.");
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of the given column of the current row, which must not be {@code null}.
+     *
+     * @param resultSet the result set pointing to the current row
+     * @param column    the position of the column, starting with 1
+     * @return the value of the column as double
+     */
+    static double getDouble(ResultSet resultSet, int column) throws SQLException {
+        final double value = resultSet.getDouble(column);
+        if (resultSet.wasNull()) {
+            throw new NullPointerException("Value in column " + column + " must be non null.");
+        }
+        return value;
+    }
+
+    /**
+     * Reads the value of the given column of the current row, or returns the given default value if it is {@code null}.
+     *
+     * @param resultSet    the result set pointing to the current row
+     * @param column       the position of the column, starting with 1
+     * @param defaultValue the value to return if the column is {@code null}
+     * @return the value of the column as double
+     */
+    static double getDouble(ResultSet resultSet, int column, double defaultValue) throws SQLException {
+        final double value = resultSet.getDouble(column);
+        return resultSet.wasNull() ? defaultValue : value;
+    }
+
+    /**
+     * Reads the value of the given column of the current row, which must not be {@code null}.
+     * Booleans may be stored as integers or as text, depending on the tool which has written the database.
+     *
+     * @param resultSet the result set pointing to the current row
+     * @param column    the position of the column, starting with 1
+     * @return the value of the column as boolean
+     */
+    static boolean getBoolean(ResultSet resultSet, int column) throws SQLException {
+        return getAsBoolean(Objects.requireNonNull(resultSet.getObject(column), "Value in column " + column + " must be non null."));
+    }
+
     /**
      * This tries to apply the correct cast to the given object.
      *
@@ -33,12 +33,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import javax.annotation.Nonnull;
 
 /**
- * This reads all objects from an SQLite database into the given object database.
+ * This reads all objects from an SQLite database into the given object database. Each table is read
+ * with a single query, whose rows are passed directly to the {@link Database.Builder}.
  */
 public class SQLiteReader {
 
@@ -46,6 +50,11 @@ public class SQLiteReader {
 
     private final SQLiteAccess sqlite = new SQLiteAccess();
 
+    /**
+     * Holds shared instances of strings which occur in many rows, only used while loading.
+     */
+    private final Map<String, String> stringPool = new HashMap<>();
+
     /**
      * Holds the current stable version of the database file format.
      * This can be used either to check against when loading a file,
@@ -91,6 +100,7 @@ public class SQLiteReader {
      * @throws OutdatedDatabaseException if there is an error while reading version from database or the read version is older than stable version.
      */
     public Database.Builder loadFromFile(@Nonnull String dbFilename) throws OutdatedDatabaseException {
+        final long startTime = System.currentTimeMillis();
         sqlite.setDatabaseFile(dbFilename);
         log.debug("checking version...");
         Database.Builder builder = new Database.Builder(checkVersion());
@@ -114,8 +124,11 @@ public class SQLiteReader {
         loadBuildings(builder);
         log.debug("Loading routes...");
         loadRoutes(builder);
-        log.debug("Database loaded");
         sqlite.disconnect(null);
+        stringPool.clear();
+        final Runtime runtime = Runtime.getRuntime();
+        log.info("Loaded database {} in {} ms (used heap: {} MB)",
+                dbFilename, System.currentTimeMillis() - startTime, (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
         return builder;
     }
 
@@ -144,29 +157,19 @@ public class SQLiteReader {
     }
 
     /**
-     * Loads all {@link Node}s from the persistence and writes to the given {@link Database}.
+     * Loads all properties from the persistence and writes to the given {@link Database}.
      *
      * @param databaseBuilder Database from which to load.
      */
     private void loadProperties(Database.Builder databaseBuilder) {
-
         try {
-            // get all properties
-            List<SQLiteAccess.ResultRow> propertyList = sqlite.executeStatement(
-                    "SELECT id, value FROM " + TABLES.PROPERTIES
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow propertyEntry : propertyList) {
-
-                // read files from entry, mind index order (see columns above)
-                String id = propertyEntry.getString("id");
-                if (id.equals(Database.PROPERTY_VERSION)) {
-                    continue;
+            sqlite.executeQuery("SELECT id, value FROM " + TABLES.PROPERTIES, row -> {
+                // read fields from row, mind index order (see columns above)
+                String id = SQLiteAccess.getString(row, 1);
+                if (!id.equals(Database.PROPERTY_VERSION)) {
+                    databaseBuilder.addProperty(id, row.getString(2));
                 }
-                String value = propertyEntry.getString("value", null);
-                databaseBuilder.addProperty(id, value);
-            }
+            });
         } catch (SQLException e) {
             log.warn("Error loading properties: {}. Skipping", e.getMessage());
         }
@@ -179,34 +182,29 @@ public class SQLiteReader {
      * @param databaseBuilder Database builder from which to load.
      */
     private void loadNodes(Database.Builder databaseBuilder) {
-
         try {
-            // get all nodes
-            List<SQLiteAccess.ResultRow> nodeList = sqlite.executeStatement(
-                    "SELECT id, lat, lon, ele, is_traffic_light, is_intersection, is_generated FROM " + TABLES.NODE
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow nodeEntry : nodeList) {
-
-                // read files from entry, mind index order (see columns above)
-                String id = nodeEntry.getString("id");
-                double latitude = nodeEntry.getDouble("lat");
-                double longitude = nodeEntry.getDouble("lon");
-                double elevation = nodeEntry.getDouble("ele", 0d);
-                boolean isTrafficLight = nodeEntry.getBoolean("is_traffic_light");
-                boolean isIntersection = nodeEntry.getBoolean("is_intersection");
-                boolean isGenerated = nodeEntry.getBoolean("is_generated");
-
-                // create object and save to db
-                Node node = databaseBuilder.addNode(
-                        id,
-                        GeoPoint.lonLat(longitude, latitude, elevation),
-                        isTrafficLight
-                );
-                node.setIntersection(isIntersection);
-                node.setGenerated(isGenerated);
-            }
+            sqlite.executeQuery(
+                    "SELECT id, lat, lon, ele, is_traffic_light, is_intersection, is_generated FROM " + TABLES.NODE,
+                    row -> {
+                        // read fields from row, mind index order (see columns above)
+                        String id = SQLiteAccess.getString(row, 1);
+                        double latitude = SQLiteAccess.getDouble(row, 2);
+                        double longitude = SQLiteAccess.getDouble(row, 3);
+                        double elevation = SQLiteAccess.getDouble(row, 4, 0d);
+                        boolean isTrafficLight = SQLiteAccess.getBoolean(row, 5);
+                        boolean isIntersection = SQLiteAccess.getBoolean(row, 6);
+                        boolean isGenerated = SQLiteAccess.getBoolean(row, 7);
+
+                        // create object and save to db
+                        Node node = databaseBuilder.addNode(
+                                id,
+                                GeoPoint.lonLat(longitude, latitude, elevation),
+                                isTrafficLight
+                        );
+                        node.setIntersection(isIntersection);
+                        node.setGenerated(isGenerated);
+                    }
+            );
         } catch (SQLException e) {
             log.warn("Error loading nodes: {}. Skipping", e.getMessage());
         }
@@ -220,29 +218,25 @@ public class SQLiteReader {
      */
     private void loadWays(Database.Builder databaseBuilder) {
         try {
-            // get all ways
-            List<SQLiteAccess.ResultRow> wayList = sqlite.executeStatement(
-                    "SELECT id, name, type, speed, lanesForward, lanesBackward, oneway FROM " + TABLES.WAY
-            ).getRows();
-
-            for (SQLiteAccess.ResultRow wayEntry : wayList) {
-
-                String id = wayEntry.getString("id");
-                String name = wayEntry.getString("name", null);
-                String type = wayEntry.getString("type", null);
-                double speed = wayEntry.getDouble("speed");
-                int lanesForward = wayEntry.getInt("lanesForward");
-                int lanesBackward = wayEntry.getInt("lanesBackward");
-                boolean oneway = wayEntry.getBoolean("oneway");
-
-                // create object and save to database
-                Way way = databaseBuilder.addWay(id, name, type);
-                way.setMaxSpeedInMs(speed);
-                way.setLanes(lanesForward, lanesBackward);
-                way.setIsOneway(oneway);
-
-            }
-
+            sqlite.executeQuery(
+                    "SELECT id, name, type, speed, lanesForward, lanesBackward, oneway FROM " + TABLES.WAY,
+                    row -> {
+                        String id = SQLiteAccess.getString(row, 1);
+                        // names and types are shared by many ways
+                        String name = intern(row.getString(2));
+                        String type = intern(row.getString(3));
+                        double speed = SQLiteAccess.getDouble(row, 4);
+                        int lanesForward = SQLiteAccess.getInt(row, 5);
+                        int lanesBackward = SQLiteAccess.getInt(row, 6);
+                        boolean oneway = SQLiteAccess.getBoolean(row, 7);
+
+                        // create object and save to database
+                        Way way = databaseBuilder.addWay(id, name, type);
+                        way.setMaxSpeedInMs(speed);
+                        way.setLanes(lanesForward, lanesBackward);
+                        way.setIsOneway(oneway);
+                    }
+            );
         } catch (IllegalArgumentException iae) {
             log.error("could not read way from DB please check for consistency");
         } catch (SQLException e) {
@@ -257,17 +251,10 @@ public class SQLiteReader {
      */
     private void loadWayNodes(Database.Builder databaseBuilder) {
         try {
-            List<SQLiteAccess.ResultRow> consists = sqlite.executeStatement(
-                    "SELECT way_id, node_id FROM " + TABLES.WAY_CONSISTS_OF+ " ORDER BY sequence_number"
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow consistsEntry : consists) {
-                String wayId = consistsEntry.getString("way_id");
-                String nodeId = consistsEntry.getString("node_id");
-                databaseBuilder.addNodeToWay(wayId, nodeId);
-            }
-
+            sqlite.executeQuery(
+                    "SELECT way_id, node_id FROM " + TABLES.WAY_CONSISTS_OF + " ORDER BY sequence_number",
+                    row -> databaseBuilder.addNodeToWay(SQLiteAccess.getString(row, 1), SQLiteAccess.getString(row, 2))
+            );
         } catch (SQLException e) {
             log.warn("Error loading way <--> node relations: {}. Skipping", e.getMessage());
         }
@@ -280,22 +267,18 @@ public class SQLiteReader {
      */
     private void loadConnections(Database.Builder databaseBuilder) {
         try {
-            List<SQLiteAccess.ResultRow> connections = sqlite.executeStatement(
-                    "SELECT id, way_id, lanes, length FROM " + TABLES.CONNECTION
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow connectionEntry : connections) {
-
-                String id = connectionEntry.getString("id");
-                String wayId = connectionEntry.getString("way_id");
-                int lanes = connectionEntry.getInt("lanes");
-                double length = connectionEntry.getDouble("length");
-
-                // create object and save to db
-                databaseBuilder.addConnection(id, wayId).setLanes(lanes).setLength(length);
-            }
-
+            sqlite.executeQuery(
+                    "SELECT id, way_id, lanes, length FROM " + TABLES.CONNECTION,
+                    row -> {
+                        String id = SQLiteAccess.getString(row, 1);
+                        String wayId = SQLiteAccess.getString(row, 2);
+                        int lanes = SQLiteAccess.getInt(row, 3);
+                        double length = SQLiteAccess.getDouble(row, 4);
+
+                        // create object and save to db
+                        databaseBuilder.addConnection(id, wayId).setLanes(lanes).setLength(length);
+                    }
+            );
         } catch (SQLException e) {
             log.warn("Error loading connections: {}. Skipping", e.getMessage());
         }
@@ -308,72 +291,50 @@ public class SQLiteReader {
      */
     private void loadConnectionNodes(Database.Builder databaseBuilder) {
         try {
-            List<SQLiteAccess.ResultRow> consists = sqlite.executeStatement(
-                    "SELECT connection_id, node_id FROM " + TABLES.CONNECTION_CONSISTS_OF + " ORDER BY sequence_number"
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow consistsEntry : consists) {
-
-                // read files from entry, mind index order (see columns above)
-                String connectionId = consistsEntry.getString("connection_id");
-                String nodeId = consistsEntry.getString("node_id");
-
-                // create object and save to db
-                databaseBuilder.addNodeToConnection(connectionId, nodeId);
-            }
-
+            sqlite.executeQuery(
+                    "SELECT connection_id, node_id FROM " + TABLES.CONNECTION_CONSISTS_OF + " ORDER BY sequence_number",
+                    row -> databaseBuilder.addNodeToConnection(SQLiteAccess.getString(row, 1), SQLiteAccess.getString(row, 2))
+            );
         } catch (SQLException e) {
             log.warn("Error loading connection <--> node relations: {}. Skipping", e.getMessage());
         }
     }
 
     /**
-     * This loads {@link Roundabout}s.
+     * This loads {@link Roundabout}s and the references to their {@link Node}s, which are read at once
+     * for all roundabouts, ordered by roundabout and sequence number.
      *
      * @param databaseBuilder Database builder from which to load.
      */
     private void loadRoundabouts(Database.Builder databaseBuilder) {
+        final Map<String, List<Node>> roundabouts = new LinkedHashMap<>();
         try {
-            List<SQLiteAccess.ResultRow> roundabouts = sqlite.executeStatement(
-                    "SELECT id FROM " + TABLES.ROUNDABOUT
-            ).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow roundaboutEntry : roundabouts) {
-
-                // read files from entry, mind index order (see columns above)
-                String id = roundaboutEntry.getString("id");
-
-                // create object and save to db
-                List<Node> nodes = loadRoundaboutNodes(id, databaseBuilder);
-                databaseBuilder.addRoundabout(id, nodes);
-            }
+            sqlite.executeQuery(
+                    "SELECT id FROM " + TABLES.ROUNDABOUT,
+                    row -> roundabouts.put(SQLiteAccess.getString(row, 1), new ArrayList<>())
+            );
         } catch (Exception e) {
             log.warn("No roundabouts were found in the scenario database. Note that roundabouts in this scenario may be treated as ordinary crossings.");
+            return;
+        }
+        if (roundabouts.isEmpty()) {
+            return;
         }
-    }
-
-    /**
-     * This loads {@link Node}-References (IDs) that are part of the {@link Roundabout} with id `roundaboutId`.
-     *
-     * @param roundaboutId Id of the roundabout from which to load the nodes.
-     */
-    private List<Node> loadRoundaboutNodes(String roundaboutId, Database.Builder databaseBuilder) {
         try {
-            List<SQLiteAccess.ResultRow> restrictions = sqlite.executeStatement(
-                    "SELECT node_id FROM " + TABLES.ROUNDABOUT_CONSISTS_OF + " WHERE roundabout_id = \""
-                            + roundaboutId + "\" ORDER BY sequence_number ASC"
-            ).getRows();
-            List<Node> restrictionNodes = new ArrayList<>();
-            for (SQLiteAccess.ResultRow restriction : restrictions) {
-                restrictionNodes.add(databaseBuilder.getNode(restriction.getString("id")));
-            }
-            return restrictionNodes;
+            sqlite.executeQuery(
+                    "SELECT roundabout_id, node_id FROM " + TABLES.ROUNDABOUT_CONSISTS_OF + " ORDER BY roundabout_id, sequence_number",
+                    row -> {
+                        List<Node> nodes = roundabouts.get(SQLiteAccess.getString(row, 1));
+                        Node node = databaseBuilder.getNode(SQLiteAccess.getString(row, 2));
+                        if (nodes != null && node != null) {
+                            nodes.add(node);
+                        }
+                    }
+            );
         } catch (Exception e) {
             log.warn("Error loading roundabout nodes: {}. Skipping", e.getMessage());
         }
-        return new ArrayList<>();
+        roundabouts.forEach(databaseBuilder::addRoundabout);
     }
 
     /**
@@ -385,57 +346,60 @@ public class SQLiteReader {
         databaseBuilder.completeConnections();
 
         try {
-            List<SQLiteAccess.ResultRow> restrictions = sqlite.executeStatement(
-                    "SELECT id, source_way_id, via_node_id, target_way_id, type FROM " + TABLES.RESTRICTION
-            ).getRows();
-
-            for (SQLiteAccess.ResultRow restrictionEntry : restrictions) {
-                String restrictionId = restrictionEntry.getString("id");
-                String sourceWayId = restrictionEntry.getString("source_way_id");
-                String viaNodeId = restrictionEntry.getString("via_node_id");
-                String targetWayId = restrictionEntry.getString("target_way_id");
-                Restriction.Type type = Restriction.Type.convertTypeFromString(restrictionEntry.getString("type"));
-
-                databaseBuilder.addRestriction(restrictionId, type, sourceWayId, viaNodeId, targetWayId);
-            }
-
+            sqlite.executeQuery(
+                    "SELECT id, source_way_id, via_node_id, target_way_id, type FROM " + TABLES.RESTRICTION,
+                    row -> {
+                        String restrictionId = SQLiteAccess.getString(row, 1);
+                        String sourceWayId = SQLiteAccess.getString(row, 2);
+                        String viaNodeId = SQLiteAccess.getString(row, 3);
+                        String targetWayId = SQLiteAccess.getString(row, 4);
+                        Restriction.Type type = Restriction.Type.convertTypeFromString(SQLiteAccess.getString(row, 5));
+
+                        databaseBuilder.addRestriction(restrictionId, type, sourceWayId, viaNodeId, targetWayId);
+                    }
+            );
         } catch (SQLException e) {
             log.warn("Error loading restrictions: {}, Skipping", e.getMessage());
         }
     }
 
     /**
-     * This loads the {@link Building}s from the database.
+     * This loads the {@link Building}s and their corners from the database. The corners are read
+     * at once for all buildings, ordered by building and sequence number.
      *
      * @param databaseBuilder Database from which to load the buildings.
      */
     private void loadBuildings(Database.Builder databaseBuilder) {
+        final Map<String, BuildingRow> buildings = new LinkedHashMap<>();
         try {
-            List<SQLiteAccess.ResultRow> buildingEntries = sqlite.executeStatement("SELECT id, name, height FROM " + TABLES.BUILDING).getRows();
-
-            // rework into objects
-            for (SQLiteAccess.ResultRow buildingEntry : buildingEntries) {
-                String id = buildingEntry.getString("id");
-                String name = buildingEntry.getString("name");
-                double height = buildingEntry.getDouble("height");
-
-                List<SQLiteAccess.ResultRow> cornerEntries = sqlite.executeStatement(
-                        "SELECT lat, lon FROM " + TABLES.BUILDING_CONSISTS_OF + " WHERE building_id = \"" + id + "\" ORDER BY sequence_number"
-                ).getRows();
-
-                final GeoPoint[] corners = new GeoPoint[cornerEntries.size()];
-                int i = 0;
-                for (SQLiteAccess.ResultRow cornerEntry : cornerEntries) {
-                    corners[i++] = GeoPoint.latLon(cornerEntry.getDouble("lat"), cornerEntry.getDouble("lon"));
-                }
-
-                // create building and save to db
-                databaseBuilder.addBuilding(id, name, height, corners);
+            sqlite.executeQuery(
+                    "SELECT id, name, height FROM " + TABLES.BUILDING,
+                    row -> buildings.put(
+                            SQLiteAccess.getString(row, 1),
+                            new BuildingRow(SQLiteAccess.getString(row, 2), SQLiteAccess.getDouble(row, 3))
+                    )
+            );
+            if (buildings.isEmpty()) {
+                return;
             }
-
+            sqlite.executeQuery(
+                    "SELECT building_id, lat, lon FROM " + TABLES.BUILDING_CONSISTS_OF + " ORDER BY building_id, sequence_number",
+                    row -> {
+                        BuildingRow building = buildings.get(SQLiteAccess.getString(row, 1));
+                        if (building != null) {
+                            building.corners.add(GeoPoint.latLon(SQLiteAccess.getDouble(row, 2), SQLiteAccess.getDouble(row, 3)));
+                        }
+                    }
+            );
         } catch (SQLException e) {
             log.warn("Error loading buildings: {}. Skipping", e.getMessage());
+            return;
         }
+
+        // create buildings and save to db
+        buildings.forEach((id, building) ->
+                databaseBuilder.addBuilding(id, building.name, building.height, building.corners.toArray(new GeoPoint[0]))
+        );
     }
 
     /**
@@ -444,38 +408,73 @@ public class SQLiteReader {
      * @param databaseBuilder Database from which to load the routes.
      */
     private void loadRoutes(Database.Builder databaseBuilder) {
+        final GroupedRows<String> route = new GroupedRows<>();
         try {
-            List<SQLiteAccess.ResultRow> routes = sqlite.executeStatement(
-                    "SELECT id, connection_id FROM " + TABLES.ROUTE + " ORDER BY id, sequence_number"
-            ).getRows();
+            sqlite.executeQuery(
+                    "SELECT id, connection_id FROM " + TABLES.ROUTE + " ORDER BY id, sequence_number",
+                    row -> {
+                        // read fields from row, mind index order (see columns above)
+                        String id = SQLiteAccess.getString(row, 1);
+                        // we need to group into our route object
+                        if (!id.equals(route.id)) {
+                            if (route.id != null) {
+                                addRoute(databaseBuilder, route);
+                            }
+                            route.start(id);
+                        }
+                        route.values.add(SQLiteAccess.getString(row, 2));
+                    }
+            );
+            if (route.id != null) {
+                addRoute(databaseBuilder, route);
+            }
+        } catch (SQLException e) {
+            log.warn("Error loading routes: {}. Skipping", e.getMessage());
+        }
+    }
 
-            String lastId = null;
-            Database.RouteBuilder routeBuilder = null;
+    private void addRoute(Database.Builder databaseBuilder, GroupedRows<String> route) {
+        Database.RouteBuilder routeBuilder = databaseBuilder.addRoute(route.id);
+        for (String connectionId : route.values) {
+            routeBuilder.addConnection(connectionId);
+        }
+        routeBuilder.create();
+    }
 
-            // rework into objects
-            for (SQLiteAccess.ResultRow routeEntry : routes) {
+    /**
+     * Returns a shared instance of the given string, so that values which occur
+     * in many rows (e.g. types of ways) are held only once in memory.
+     */
+    private String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        return stringPool.computeIfAbsent(value, v -> v);
+    }
 
-                // read files from entry, mind index order (see columns above)
-                String id = routeEntry.getString("id");
-                String connectionId = routeEntry.getString("connection_id");
+    /**
+     * Collects the consecutive rows of a result set which belong to the same owner, e.g. all connections of a route.
+     */
+    private static class GroupedRows<T> {
 
-                // we need to group into our route object
-                if (!id.equals(lastId)) {
-                    if (routeBuilder != null) {
-                        routeBuilder.create();
-                    }
-                    routeBuilder = databaseBuilder.addRoute(id);
-                    lastId = id;
-                }
-                routeBuilder.addConnection(connectionId);
-            }
+        private String id;
+        private final List<T> values = new ArrayList<>();
 
-            if (routeBuilder != null) {
-                routeBuilder.create();
-            }
-        } catch (SQLException e) {
-            log.warn("Error loading routes: {}. Skipping", e.getMessage());
+        private void start(String id) {
+            this.id = id;
+            this.values.clear();
         }
     }
 
+    private static class BuildingRow {
+
+        private final String name;
+        private final double height;
+        private final List<GeoPoint> corners = new ArrayList<>();
+
+        private BuildingRow(String name, double height) {
+            this.name = name;
+            this.height = height;
+        }
+    }
 }
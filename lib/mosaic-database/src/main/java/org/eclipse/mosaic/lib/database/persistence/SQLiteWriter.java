@@ -275,7 +275,7 @@ public class SQLiteWriter {
             prep.setDouble(2, node.getPosition().getLongitude());
             prep.setDouble(3, node.getPosition().getLatitude());
             prep.setDouble(4, node.getPosition().getAltitude());
-            prep.setBoolean(5, node.getClass().equals(TrafficLightNode.class));
+            prep.setBoolean(5, node instanceof TrafficLightNode);
             prep.setBoolean(6, node.isIntersection());
             prep.setBoolean(7, node.isGenerated());
             prep.executeUpdate();
@@ -0,0 +1,817 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.database.road;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nonnull;
+
+/**
+ * Read-only representation of the road network which stores all {@link Node}s, {@link Way}s and
+ * {@link Connection}s in flat primitive arrays instead of an object graph. Each element is identified by
+ * its index in the sorted array of its ids, and all relations between elements are stored as index lists
+ * (compressed sparse rows, see {@link Adjacency}).
+ * <p/>
+ * Elements are accessed via lightweight views, which are created on each access and implement the same
+ * accessors as the regular {@link Node}, {@link Way}, and {@link Connection} objects. The views only hold the
+ * index of their element and read all values from the arrays of this network. Nodes delegate to a
+ * {@link NodeView}, so that regular nodes and traffic light nodes share the same view. Views of the same element
+ * are equal to each other, but not identical. All methods which would modify a view throw an
+ * {@link UnsupportedOperationException}.
+ */
+public final class CompactRoadNetwork {
+
+    private static final Logger log = LoggerFactory.getLogger(CompactRoadNetwork.class);
+
+    private static final byte FLAG_TRAFFIC_LIGHT = 1;
+    private static final byte FLAG_INTERSECTION = 1 << 1;
+    private static final byte FLAG_GENERATED = 1 << 2;
+
+    private static final int AMBIGUOUS = -2;
+
+    private final String[] nodeIds;
+    private final double[] nodeLatitudes;
+    private final double[] nodeLongitudes;
+    private final double[] nodeElevations;
+    private final byte[] nodeFlags;
+    private final Adjacency nodeWays;
+    private final Adjacency nodeOutgoingConnections;
+    private final Adjacency nodeIncomingConnections;
+    private final Adjacency nodePartOfConnections;
+
+    private final String[] wayIds;
+    private final String[] wayNames;
+    private final String[] wayTypes;
+    private final double[] wayMaxSpeeds;
+    private final int[] wayLanesForward;
+    private final int[] wayLanesBackward;
+    private final boolean[] wayOneway;
+    private final Adjacency wayNodes;
+    private final Adjacency wayConnections;
+
+    private final String[] connectionIds;
+    private final int[] connectionWays;
+    private final int[] connectionLanes;
+    private final double[] connectionLengths;
+    private final Adjacency connectionNodes;
+    private final Adjacency connectionOutgoingConnections;
+    private final Adjacency connectionIncomingConnections;
+
+    private CompactRoadNetwork(Node[] nodes, Way[] ways, Connection[] connections,
+                               Collection<Connection> connectionsInOrder, Collection<Restriction> restrictions) {
+        nodeIds = new String[nodes.length];
+        nodeLatitudes = new double[nodes.length];
+        nodeLongitudes = new double[nodes.length];
+        nodeElevations = new double[nodes.length];
+        nodeFlags = new byte[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            final Node node = nodes[i];
+            nodeIds[i] = node.getId();
+            nodeLatitudes[i] = node.getPosition().getLatitude();
+            nodeLongitudes[i] = node.getPosition().getLongitude();
+            nodeElevations[i] = node.getPosition().getAltitude();
+            nodeFlags[i] = (byte) ((node instanceof TrafficLightNode ? FLAG_TRAFFIC_LIGHT : 0)
+                    | (node.isIntersection() ? FLAG_INTERSECTION : 0)
+                    | (node.isGenerated() ? FLAG_GENERATED : 0));
+        }
+
+        wayIds = new String[ways.length];
+        wayNames = new String[ways.length];
+        wayTypes = new String[ways.length];
+        wayMaxSpeeds = new double[ways.length];
+        wayLanesForward = new int[ways.length];
+        wayLanesBackward = new int[ways.length];
+        wayOneway = new boolean[ways.length];
+        for (int i = 0; i < ways.length; i++) {
+            final Way way = ways[i];
+            wayIds[i] = way.getId();
+            wayNames[i] = way.getName();
+            wayTypes[i] = way.getType();
+            wayMaxSpeeds[i] = way.getMaxSpeedInMs();
+            wayLanesForward[i] = way.getNumberOfLanesForward();
+            wayLanesBackward[i] = way.getNumberOfLanesBackward();
+            wayOneway[i] = way.isOneway();
+        }
+
+        connectionIds = new String[connections.length];
+        connectionWays = new int[connections.length];
+        connectionLanes = new int[connections.length];
+        connectionLengths = new double[connections.length];
+        for (int i = 0; i < connections.length; i++) {
+            final Connection connection = connections[i];
+            connectionIds[i] = connection.getId();
+            connectionWays[i] = indexOf(wayIds, connection.getWay().getId());
+            connectionLanes[i] = connection.getLanes();
+            connectionLengths[i] = connection.getLength();
+        }
+
+        final ToIntFunction<Node> nodeIndex = node -> indexOf(nodeIds, node.getId());
+        final ToIntFunction<Way> wayIndex = way -> indexOf(wayIds, way.getId());
+        final ToIntFunction<Connection> connectionIndex = connection -> indexOf(connectionIds, connection.getId());
+
+        nodeWays = Adjacency.create(nodes, Node::getWays, wayIndex);
+        wayNodes = Adjacency.create(ways, Way::getNodes, nodeIndex);
+        wayConnections = Adjacency.create(ways, Way::getConnections, connectionIndex);
+        connectionNodes = Adjacency.create(connections, Connection::getNodes, nodeIndex);
+
+        // the relations of nodes to connections are derived from the nodes of each connection (see Node#addConnection)
+        final AdjacencyBuilder outgoing = new AdjacencyBuilder();
+        final AdjacencyBuilder incoming = new AdjacencyBuilder();
+        final AdjacencyBuilder partOf = new AdjacencyBuilder();
+        for (Connection connection : connectionsInOrder) {
+            final int connectionIdx = connectionIndex.applyAsInt(connection);
+            final List<Node> connectionNodeList = connection.getNodes();
+            if (connectionIdx < 0 || connectionNodeList.isEmpty()) {
+                continue;
+            }
+            final String fromId = connectionNodeList.get(0).getId();
+            final String toId = connectionNodeList.get(connectionNodeList.size() - 1).getId();
+            for (Node node : connectionNodeList) {
+                final int nodeIdx = nodeIndex.applyAsInt(node);
+                if (nodeIdx < 0) {
+                    continue;
+                }
+                if (node.getId().equals(fromId)) {
+                    outgoing.add(nodeIdx, connectionIdx);
+                } else if (node.getId().equals(toId)) {
+                    incoming.add(nodeIdx, connectionIdx);
+                } else {
+                    partOf.add(nodeIdx, connectionIdx);
+                }
+            }
+        }
+        nodeOutgoingConnections = outgoing.build(nodes.length);
+        nodeIncomingConnections = incoming.build(nodes.length);
+        nodePartOfConnections = partOf.build(nodes.length);
+
+        // the relations between connections are derived from their first and last node and are then
+        // filtered by the turn restrictions (see Connection#applyTurnRestriction)
+        final Set<Long> removedOutgoing = new HashSet<>();
+        final Set<Long> removedIncoming = new HashSet<>();
+        for (Restriction restriction : restrictions) {
+            applyRestriction(restriction, removedOutgoing, removedIncoming);
+        }
+        final AdjacencyBuilder connectionOutgoing = new AdjacencyBuilder();
+        final AdjacencyBuilder connectionIncoming = new AdjacencyBuilder();
+        for (int connectionIdx = 0; connectionIdx < connections.length; connectionIdx++) {
+            final int size = connectionNodes.size(connectionIdx);
+            if (size == 0) {
+                continue;
+            }
+            final int to = connectionNodes.get(connectionIdx, size - 1);
+            for (int i = 0; i < nodeOutgoingConnections.size(to); i++) {
+                final int other = nodeOutgoingConnections.get(to, i);
+                if (!removedOutgoing.contains(relation(connectionIdx, other))) {
+                    connectionOutgoing.add(connectionIdx, other);
+                }
+            }
+            final int from = connectionNodes.get(connectionIdx, 0);
+            for (int i = 0; i < nodeIncomingConnections.size(from); i++) {
+                final int other = nodeIncomingConnections.get(from, i);
+                if (!removedIncoming.contains(relation(connectionIdx, other))) {
+                    connectionIncoming.add(connectionIdx, other);
+                }
+            }
+        }
+        connectionOutgoingConnections = connectionOutgoing.build(connections.length);
+        connectionIncomingConnections = connectionIncoming.build(connections.length);
+    }
+
+    /**
+     * Creates a compact network from the given network elements, as they are added to the
+     * {@link org.eclipse.mosaic.lib.database.Database.Builder}. The relations of {@link Node}s to {@link Connection}s
+     * and between {@link Connection}s are not required to be completed, as they are derived from the nodes of each
+     * connection and the given restrictions. Relations to elements which are not part of the given collections are dropped.
+     *
+     * @param nodes        all nodes of the network
+     * @param ways         all ways of the network
+     * @param connections  all connections of the network
+     * @param restrictions all turn restrictions to apply on the relations between connections
+     * @return the compact network
+     */
+    public static CompactRoadNetwork create(Collection<Node> nodes, Collection<Way> ways, Collection<Connection> connections,
+                                            Collection<Restriction> restrictions) {
+        final Node[] sortedNodes = nodes.toArray(new Node[0]);
+        Arrays.sort(sortedNodes, Comparator.comparing(Node::getId));
+        final Way[] sortedWays = ways.toArray(new Way[0]);
+        Arrays.sort(sortedWays, Comparator.comparing(Way::getId));
+        final Connection[] sortedConnections = connections.toArray(new Connection[0]);
+        Arrays.sort(sortedConnections, Comparator.comparing(Connection::getId));
+        return new CompactRoadNetwork(sortedNodes, sortedWays, sortedConnections, connections, restrictions);
+    }
+
+    /**
+     * Collects the relations between connections which are removed by the given restriction (see {@link Restriction#applyRestriction()}).
+     */
+    private void applyRestriction(Restriction restriction, Set<Long> removedOutgoing, Set<Long> removedIncoming) {
+        final int via = indexOf(nodeIds, restriction.getVia().getId());
+        final int source = indexOf(wayIds, restriction.getSource().getId());
+        final int target = indexOf(wayIds, restriction.getTarget().getId());
+        if (via < 0 || source < 0 || target < 0) {
+            return;
+        }
+        final int from = findSingleConnectionOfWay(nodeIncomingConnections, via, source);
+        final int to = findSingleConnectionOfWay(nodeOutgoingConnections, via, target);
+        if (from == AMBIGUOUS || to == AMBIGUOUS) {
+            log.error("The ways referenced in restriction '{}' do not start or end at the 'via' node ({}), please check OSM input.",
+                    restriction.getId(), restriction.getVia().getId());
+            return;
+        }
+        if (from < 0 || to < 0) {
+            return;
+        }
+        switch (restriction.getType()) {
+            case Only:
+                for (int i = 0; i < nodeOutgoingConnections.size(via); i++) {
+                    final int other = nodeOutgoingConnections.get(via, i);
+                    if (other != to) {
+                        removedOutgoing.add(relation(from, other));
+                        removedIncoming.add(relation(other, from));
+                    }
+                }
+                removedOutgoing.remove(relation(from, to));
+                break;
+            case Not:
+                removedOutgoing.add(relation(from, to));
+                removedIncoming.add(relation(to, from));
+                break;
+            default:
+                throw new IllegalStateException("Unexpected value: " + restriction.getType());
+        }
+    }
+
+    /**
+     * Returns the index of the only connection of the given node which belongs to the given way,
+     * {@code -1} if there is no such connection, or {@link #AMBIGUOUS} if there are several.
+     */
+    private int findSingleConnectionOfWay(Adjacency nodeConnections, int node, int way) {
+        int result = -1;
+        for (int i = 0; i < nodeConnections.size(node); i++) {
+            final int connection = nodeConnections.get(node, i);
+            if (connectionWays[connection] == way) {
+                if (result >= 0) {
+                    return AMBIGUOUS;
+                }
+                result = connection;
+            }
+        }
+        return result;
+    }
+
+    private long relation(int fromConnection, int toConnection) {
+        return (long) fromConnection * connectionIds.length + toConnection;
+    }
+
+    /**
+     * Returns a view of the {@link Node} with the given id.
+     *
+     * @param id Id of the node.
+     * @return the node, or {@code null} if no such node exists
+     */
+    public Node getNode(String id) {
+        final int index = indexOf(nodeIds, id);
+        return index < 0 ? null : node(index);
+    }
+
+    /**
+     * Returns a view of the {@link Way} with the given id.
+     *
+     * @param id Id of the way.
+     * @return the way, or {@code null} if no such way exists
+     */
+    public Way getWay(String id) {
+        final int index = indexOf(wayIds, id);
+        return index < 0 ? null : way(index);
+    }
+
+    /**
+     * Returns a view of the {@link Connection} with the given id.
+     *
+     * @param id Id of the connection.
+     * @return the connection, or {@code null} if no such connection exists
+     */
+    public Connection getConnection(String id) {
+        final int index = indexOf(connectionIds, id);
+        return index < 0 ? null : connection(index);
+    }
+
+    /**
+     * Returns all {@link Node}s of this network, ordered by their ids.
+     */
+    public Collection<Node> getNodes() {
+        return new IndexCollection<>(nodeIds.length, this::node);
+    }
+
+    /**
+     * Returns all {@link Way}s of this network, ordered by their ids.
+     */
+    public Collection<Way> getWays() {
+        return new IndexCollection<>(wayIds.length, this::way);
+    }
+
+    /**
+     * Returns all {@link Connection}s of this network, ordered by their ids.
+     */
+    public Collection<Connection> getConnections() {
+        return new IndexCollection<>(connectionIds.length, this::connection);
+    }
+
+    private Node node(int index) {
+        final NodeView view = new NodeView(index);
+        return hasFlag(index, FLAG_TRAFFIC_LIGHT) ? new TrafficLightNode(nodeIds[index], view) : new Node(nodeIds[index], view);
+    }
+
+    private Way way(int index) {
+        return new CompactWay(index);
+    }
+
+    private Connection connection(int index) {
+        return new CompactConnection(index);
+    }
+
+    private boolean hasFlag(int nodeIndex, byte flag) {
+        return (nodeFlags[nodeIndex] & flag) != 0;
+    }
+
+    private static int indexOf(String[] sortedIds, String id) {
+        return id == null ? -1 : Arrays.binarySearch(sortedIds, id);
+    }
+
+    static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Elements of a compact road network can not be modified.");
+    }
+
+    /**
+     * Stores a list of element indices for each owner element. The list of owner {@code i} is stored
+     * in {@link #values} between {@code offsets[i]} (inclusive) and {@code offsets[i + 1]} (exclusive).
+     */
+    private static final class Adjacency {
+
+        private final int[] offsets;
+        private final int[] values;
+
+        private Adjacency(int[] offsets, int[] values) {
+            this.offsets = offsets;
+            this.values = values;
+        }
+
+        private static <T, C> Adjacency create(T[] owners, Function<T, ? extends Collection<C>> children, ToIntFunction<C> indexOf) {
+            int total = 0;
+            for (T owner : owners) {
+                total += children.apply(owner).size();
+            }
+            final int[] offsets = new int[owners.length + 1];
+            int[] values = new int[total];
+            int count = 0;
+            for (int i = 0; i < owners.length; i++) {
+                offsets[i] = count;
+                for (C child : children.apply(owners[i])) {
+                    int index = indexOf.applyAsInt(child);
+                    if (index >= 0) {
+                        values[count++] = index;
+                    }
+                }
+            }
+            offsets[owners.length] = count;
+            if (count < total) {
+                values = Arrays.copyOf(values, count);
+            }
+            return new Adjacency(offsets, values);
+        }
+
+        private int size(int owner) {
+            return offsets[owner + 1] - offsets[owner];
+        }
+
+        private int get(int owner, int position) {
+            return values[offsets[owner] + position];
+        }
+
+        private <T> List<T> view(int owner, IntFunction<T> factory) {
+            return new AbstractList<>() {
+                @Override
+                public T get(int position) {
+                    if (position < 0 || position >= size()) {
+                        throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size());
+                    }
+                    return factory.apply(Adjacency.this.get(owner, position));
+                }
+
+                @Override
+                public int size() {
+                    return Adjacency.this.size(owner);
+                }
+            };
+        }
+    }
+
+    /**
+     * Collects pairs of owner and element indices and creates an {@link Adjacency} from them. The order in
+     * which the elements of each owner have been added is kept, duplicates are dropped.
+     */
+    private static final class AdjacencyBuilder {
+
+        private int[] owners = new int[16];
+        private int[] values = new int[16];
+        private int size = 0;
+
+        private void add(int owner, int value) {
+            if (size == owners.length) {
+                owners = Arrays.copyOf(owners, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            owners[size] = owner;
+            values[size] = value;
+            size++;
+        }
+
+        private Adjacency build(int numberOfOwners) {
+            final int[] offsets = new int[numberOfOwners + 1];
+            for (int i = 0; i < size; i++) {
+                offsets[owners[i] + 1]++;
+            }
+            for (int owner = 0; owner < numberOfOwners; owner++) {
+                offsets[owner + 1] += offsets[owner];
+            }
+            final int[] fill = Arrays.copyOf(offsets, numberOfOwners);
+            final int[] sorted = new int[size];
+            for (int i = 0; i < size; i++) {
+                sorted[fill[owners[i]]++] = values[i];
+            }
+            // drop duplicates within the list of each owner
+            final int[] compactOffsets = new int[numberOfOwners + 1];
+            int count = 0;
+            for (int owner = 0; owner < numberOfOwners; owner++) {
+                compactOffsets[owner] = count;
+                for (int i = offsets[owner]; i < offsets[owner + 1]; i++) {
+                    boolean duplicate = false;
+                    for (int j = compactOffsets[owner]; j < count && !duplicate; j++) {
+                        duplicate = sorted[j] == sorted[i];
+                    }
+                    if (!duplicate) {
+                        sorted[count++] = sorted[i];
+                    }
+                }
+            }
+            compactOffsets[numberOfOwners] = count;
+            return new Adjacency(compactOffsets, count < size ? Arrays.copyOf(sorted, count) : sorted);
+        }
+    }
+
+    /**
+     * Read-only collection which creates its elements from the indices {@code 0..size-1}.
+     */
+    private static final class IndexCollection<T> extends AbstractCollection<T> {
+
+        private final int size;
+        private final IntFunction<T> factory;
+
+        private IndexCollection(int size, IntFunction<T> factory) {
+            this.size = size;
+            this.factory = factory;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public T next() {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return factory.apply(next++);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * View on the values of a single node of this network. Regular {@link Node}s and {@link TrafficLightNode}s
+     * of this network both delegate all their accessors to such a view.
+     */
+    final class NodeView {
+
+        private final int index;
+
+        private NodeView(int index) {
+            this.index = index;
+        }
+
+        double getElevation() {
+            return nodeElevations[index];
+        }
+
+        GeoPoint getPosition() {
+            return GeoPoint.lonLat(nodeLongitudes[index], nodeLatitudes[index], nodeElevations[index]);
+        }
+
+        boolean isGenerated() {
+            return hasFlag(index, FLAG_GENERATED);
+        }
+
+        boolean isIntersection() {
+            return hasFlag(index, FLAG_INTERSECTION);
+        }
+
+        List<Connection> getIncomingConnections() {
+            return nodeIncomingConnections.view(index, CompactRoadNetwork.this::connection);
+        }
+
+        List<Connection> getOutgoingConnections() {
+            return nodeOutgoingConnections.view(index, CompactRoadNetwork.this::connection);
+        }
+
+        List<Connection> getPartOfConnections() {
+            return nodePartOfConnections.view(index, CompactRoadNetwork.this::connection);
+        }
+
+        List<Way> getWays() {
+            return nodeWays.view(index, CompactRoadNetwork.this::way);
+        }
+
+        boolean isConnectionNode() {
+            return nodeOutgoingConnections.size(index) > 0 || nodePartOfConnections.size(index) > 0;
+        }
+
+        private CompactRoadNetwork network() {
+            return CompactRoadNetwork.this;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof NodeView other && other.index == index && other.network() == network();
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+
+        @Override
+        public String toString() {
+            return "Node{"
+                    + "id='" + nodeIds[index] + '\''
+                    + ", position=" + getPosition()
+                    + ", intersection=" + isIntersection()
+                    + '}';
+        }
+    }
+
+    private final class CompactWay extends Way {
+
+        private final int index;
+
+        private CompactWay(int index) {
+            super(wayIds[index]);
+            this.index = index;
+        }
+
+        @Nonnull
+        @Override
+        public String getName() {
+            return wayNames[index];
+        }
+
+        @Nonnull
+        @Override
+        public String getType() {
+            return wayTypes[index];
+        }
+
+        @Override
+        public double getMaxSpeedInMs() {
+            return wayMaxSpeeds[index];
+        }
+
+        @Override
+        public double getMaxSpeedInKmh() {
+            return wayMaxSpeeds[index] * 3.6;
+        }
+
+        @Override
+        public int getNumberOfLanesForward() {
+            return wayLanesForward[index];
+        }
+
+        @Override
+        public int getNumberOfLanesBackward() {
+            return wayLanesBackward[index];
+        }
+
+        @Override
+        public boolean isOneway() {
+            return wayOneway[index];
+        }
+
+        @Nonnull
+        @Override
+        public List<Node> getNodes() {
+            return wayNodes.view(index, CompactRoadNetwork.this::node);
+        }
+
+        @Nonnull
+        @Override
+        public List<Connection> getConnections() {
+            return wayConnections.view(index, CompactRoadNetwork.this::connection);
+        }
+
+        @Override
+        public void setIsOneway(boolean oneway) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setMaxSpeedInKmh(double maxSpeedInKmh) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setMaxSpeedInMs(double maxSpeedInMs) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setLanes(int forward, int backward) {
+            throw readOnly();
+        }
+
+        @Override
+        public void addNode(@Nonnull Node node) {
+            throw readOnly();
+        }
+
+        @Override
+        public void addConnection(@Nonnull Connection connection) {
+            throw readOnly();
+        }
+
+        private CompactRoadNetwork network() {
+            return CompactRoadNetwork.this;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CompactWay other && other.index == index && other.network() == network();
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+    }
+
+    private final class CompactConnection extends Connection {
+
+        private final int index;
+
+        private CompactConnection(int index) {
+            super(connectionIds[index]);
+            this.index = index;
+        }
+
+        @Nonnull
+        @Override
+        public Way getWay() {
+            return way(connectionWays[index]);
+        }
+
+        @Override
+        public double getMaxSpeedInKmh() {
+            return wayMaxSpeeds[connectionWays[index]] * 3.6;
+        }
+
+        @Override
+        public double getMaxSpeedInMs() {
+            return wayMaxSpeeds[connectionWays[index]];
+        }
+
+        @Override
+        public Node getFrom() {
+            return connectionNodes.size(index) == 0 ? null : node(connectionNodes.get(index, 0));
+        }
+
+        @Override
+        public Node getTo() {
+            final int size = connectionNodes.size(index);
+            return size == 0 ? null : node(connectionNodes.get(index, size - 1));
+        }
+
+        @Override
+        public int getLanes() {
+            return connectionLanes[index];
+        }
+
+        @Override
+        public double getLength() {
+            return connectionLengths[index];
+        }
+
+        @Nonnull
+        @Override
+        public List<Node> getNodes() {
+            return connectionNodes.view(index, CompactRoadNetwork.this::node);
+        }
+
+        @Nonnull
+        @Override
+        public Collection<Connection> getOutgoingConnections() {
+            return connectionOutgoingConnections.view(index, CompactRoadNetwork.this::connection);
+        }
+
+        @Nonnull
+        @Override
+        public Collection<Connection> getIncomingConnections() {
+            return connectionIncomingConnections.view(index, CompactRoadNetwork.this::connection);
+        }
+
+        @Override
+        public Connection setLength(double length) {
+            throw readOnly();
+        }
+
+        @Override
+        public Connection setLanes(int lanes) {
+            throw readOnly();
+        }
+
+        @Override
+        public void addNode(@Nonnull Node node) {
+            throw readOnly();
+        }
+
+        @Override
+        public void addNodes(@Nonnull List<Node> node) {
+            throw readOnly();
+        }
+
+        @Override
+        public void addOutgoingConnection(@Nonnull Connection connection) {
+            throw readOnly();
+        }
+
+        @Override
+        public void addIncomingConnection(@Nonnull Connection connection) {
+            throw readOnly();
+        }
+
+        @Override
+        public void applyTurnRestriction(@Nonnull Restriction.Type type, @Nonnull Connection target) {
+            throw readOnly();
+        }
+
+        private CompactRoadNetwork network() {
+            return CompactRoadNetwork.this;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CompactConnection other && other.index == index && other.network() == network();
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+    }
+}
@@ -38,9 +38,9 @@ public class Connection {
     private int lanes;
     private double length;
 
-    private final List<Node> nodes = new ArrayList<>();
-    private final Map<String, Connection> outgoing = new HashMap<>();
-    private final Map<String, Connection> incoming = new HashMap<>();
+    private final List<Node> nodes;
+    private final Map<String, Connection> outgoing;
+    private final Map<String, Connection> incoming;
 
     /** Cached first node */
     private transient Node from;
@@ -62,11 +62,28 @@ public class Connection {
         // parameters
         this.id = Objects.requireNonNull(id);
         this.way = Objects.requireNonNull(way);
+        this.nodes = new ArrayList<>();
+        this.outgoing = new HashMap<>();
+        this.incoming = new HashMap<>();
 
         // dependant values
         lanes = (isBackward) ? way.getNumberOfLanesBackward() : way.getNumberOfLanesForward();
     }
 
+    /**
+     * Constructor for read-only views of connections which are stored elsewhere (see {@link CompactRoadNetwork}).
+     * Neither the way nor any relations are allocated, hence the view has to override all accessors.
+     *
+     * @param id Unique identifier of the connection.
+     */
+    protected Connection(@Nonnull String id) {
+        this.id = Objects.requireNonNull(id);
+        this.way = null;
+        this.nodes = Collections.emptyList();
+        this.outgoing = Collections.emptyMap();
+        this.incoming = Collections.emptyMap();
+    }
+
     /**
      * Returns the ID of this connection.
      *
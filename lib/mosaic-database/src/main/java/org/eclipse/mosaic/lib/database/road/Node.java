@@ -53,10 +53,15 @@ public class Node {
      */
     private boolean intersection = false;
 
-    private final List<Way> ways = new ArrayList<>();
-    private final List<Connection> outgoingConnections = new ArrayList<>();
-    private final List<Connection> incomingConnections = new ArrayList<>();
-    private final List<Connection> partOfConnections = new ArrayList<>();
+    private final List<Way> ways;
+    private final List<Connection> outgoingConnections;
+    private final List<Connection> incomingConnections;
+    private final List<Connection> partOfConnections;
+
+    /**
+     * The view which provides all values of this node, if it is stored in a {@link CompactRoadNetwork}.
+     */
+    private final CompactRoadNetwork.NodeView view;
 
     /**
      * Default constructor.
@@ -67,13 +72,38 @@ public class Node {
     public Node(@Nonnull String id, @Nonnull GeoPoint position) {
         this.id = Objects.requireNonNull(id);
         this.position = Objects.requireNonNull(position);
+        this.ways = new ArrayList<>();
+        this.outgoingConnections = new ArrayList<>();
+        this.incomingConnections = new ArrayList<>();
+        this.partOfConnections = new ArrayList<>();
+        this.view = null;
+    }
+
+    /**
+     * Constructor for read-only nodes which are stored in a {@link CompactRoadNetwork}.
+     * No position and no relations are allocated, as all accessors delegate to the given view.
+     *
+     * @param id   The ID of this node.
+     * @param view The view on the values of this node.
+     */
+    Node(@Nonnull String id, @Nonnull CompactRoadNetwork.NodeView view) {
+        this.id = Objects.requireNonNull(id);
+        this.ways = Collections.emptyList();
+        this.outgoingConnections = Collections.emptyList();
+        this.incomingConnections = Collections.emptyList();
+        this.partOfConnections = Collections.emptyList();
+        this.view = Objects.requireNonNull(view);
     }
 
     public double getElevation() {
+        if (view != null) {
+            return view.getElevation();
+        }
         return position.getAltitude();
     }
     
     public void setElevation(double elevation) {
+        checkModifiable();
         double longitude = this.position.getLongitude();
         double latitude = this.position.getLatitude();
         this.position = GeoPoint.lonLat(longitude, latitude, elevation);
@@ -98,10 +128,14 @@ public class Node {
      */
     @Nonnull
     public GeoPoint getPosition() {
+        if (view != null) {
+            return view.getPosition();
+        }
         return position;
     }
 
     public void setPosition(GeoPoint position) {
+        checkModifiable();
         this.position = position;
     }
 
@@ -111,6 +145,9 @@ public class Node {
      * @return True if this node has been generated, false otherwise.
      */
     public boolean isGenerated() {
+        if (view != null) {
+            return view.isGenerated();
+        }
         return generated;
     }
     
@@ -120,6 +157,7 @@ public class Node {
      * @param isGenerated true if this node has been generated, false otherwise.
      */
     public void setGenerated(boolean isGenerated) {
+        checkModifiable();
         generated = isGenerated;
     }
 
@@ -131,6 +169,9 @@ public class Node {
      * @return True if this node is an intersection, false otherwise.
      */
     public boolean isIntersection() {
+        if (view != null) {
+            return view.isIntersection();
+        }
         return intersection;
     }
 
@@ -141,6 +182,9 @@ public class Node {
      */
     @Nonnull
     public List<Connection> getIncomingConnections() {
+        if (view != null) {
+            return view.getIncomingConnections();
+        }
         return Collections.unmodifiableList(incomingConnections);
     }
 
@@ -151,6 +195,9 @@ public class Node {
      */
     @Nonnull
     public List<Connection> getOutgoingConnections() {
+        if (view != null) {
+            return view.getOutgoingConnections();
+        }
         return Collections.unmodifiableList(outgoingConnections);
     }
 
@@ -161,6 +208,9 @@ public class Node {
      */
     @Nonnull
     public List<Connection> getPartOfConnections() {
+        if (view != null) {
+            return view.getPartOfConnections();
+        }
         return Collections.unmodifiableList(partOfConnections);
     }
 
@@ -171,6 +221,9 @@ public class Node {
      */
     @Nonnull
     public List<Way> getWays() {
+        if (view != null) {
+            return view.getWays();
+        }
         return Collections.unmodifiableList(ways);
     }
 
@@ -180,6 +233,7 @@ public class Node {
      * @param isIntersection set to true if the node is an intersection
      */
     public void setIntersection(boolean isIntersection) {
+        checkModifiable();
         this.intersection = isIntersection;
     }
 
@@ -190,6 +244,7 @@ public class Node {
      * @param way The {@link Way} to add.
      */
     public void addWay(@Nonnull Way way) {
+        checkModifiable();
         Objects.requireNonNull(way);
         if (!ways.contains(way)) {
             ways.add(way);
@@ -202,6 +257,7 @@ public class Node {
      * @param way The {@link Way} to remove.
      */
     public void removeWay(Way way) {
+        checkModifiable();
         Objects.requireNonNull(way);
         ways.remove(way);
     }
@@ -213,6 +269,7 @@ public class Node {
      * @param connection The {@link Connection} to add.
      */
     public void addConnection(@Nonnull Connection connection) {
+        checkModifiable();
         Objects.requireNonNull(connection);
 
         // determine type of connection and add (once)
@@ -238,11 +295,23 @@ public class Node {
      * @return True if this node is part of any connection, false otherwise.
      */
     public boolean isConnectionNode() {
+        if (view != null) {
+            return view.isConnectionNode();
+        }
         return !outgoingConnections.isEmpty() || !partOfConnections.isEmpty();
     }
 
+    private void checkModifiable() {
+        if (view != null) {
+            throw CompactRoadNetwork.readOnly();
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
+        if (view != null) {
+            return obj instanceof Node other && view.equals(other.view);
+        }
         if (obj == null) return false; 
         if (obj == this) return true;
         if (obj.getClass() != getClass()) return false;
@@ -261,6 +330,9 @@ public class Node {
 
     @Override
     public int hashCode() {
+        if (view != null) {
+            return view.hashCode();
+        }
         return new HashCodeBuilder(5, 31)
                         .append(id)
                         .append(position)
@@ -274,6 +346,9 @@ public class Node {
 
     @Override
     public String toString() {
+        if (view != null) {
+            return view.toString();
+        }
         return "Node{"
                 + "id='" + id + '\''
                 + ", position=" + position
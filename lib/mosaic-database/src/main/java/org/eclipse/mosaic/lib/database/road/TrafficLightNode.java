@@ -34,6 +34,16 @@ public class TrafficLightNode extends Node {
         super(id, position);
     }
 
+    /**
+     * Constructor for read-only traffic light nodes which are stored in a {@link CompactRoadNetwork}.
+     *
+     * @param id   the id of the node
+     * @param view the view on the values of the node
+     */
+    TrafficLightNode(String id, CompactRoadNetwork.NodeView view) {
+        super(id, view);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -37,9 +37,9 @@ public class Way {
     private int lanesForward = 0;
     private int lanesBackward = 0;
 
-    private final List<Node> nodes = new ArrayList<>();
+    private final List<Node> nodes;
 
-    private final List<Connection> connections = new ArrayList<>();
+    private final List<Connection> connections;
 
     /**
      * Tells whether the way is a oneway.
@@ -57,6 +57,22 @@ public class Way {
         this.id = Objects.requireNonNull(id);
         this.name = (name != null) ? name : "";
         this.type = Objects.requireNonNull(type);
+        this.nodes = new ArrayList<>();
+        this.connections = new ArrayList<>();
+    }
+
+    /**
+     * Constructor for read-only views of ways which are stored elsewhere (see {@link CompactRoadNetwork}).
+     * No relations are allocated, hence the view has to override all accessors.
+     *
+     * @param id The ID of this way.
+     */
+    protected Way(@Nonnull String id) {
+        this.id = Objects.requireNonNull(id);
+        this.name = "";
+        this.type = "";
+        this.nodes = Collections.emptyList();
+        this.connections = Collections.emptyList();
     }
 
     /**
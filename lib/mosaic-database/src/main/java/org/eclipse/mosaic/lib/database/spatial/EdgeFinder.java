@@ -118,7 +118,7 @@ public class EdgeFinder {
         Edge edge0 = result.get(0).edge;
         Edge edge1 = result.get(1).edge;
         // check if roads are adjacent
-        if (edge0.getPreviousNode() == edge1.getNextNode() && edge0.getNextNode() == edge1.getPreviousNode()
+        if (edge0.getPreviousNode().equals(edge1.getNextNode()) && edge0.getNextNode().equals(edge1.getPreviousNode())
                 && edge0.getConnection().getNodes().size() == edge1.getConnection().getNodes().size()) {
             final Vector3d locationVector = location.toVector3d();
             final Vector3d origin0 = edge0.getPreviousNode().getPosition().toVector3d();
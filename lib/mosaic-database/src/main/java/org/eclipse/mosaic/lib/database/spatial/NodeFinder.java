@@ -80,12 +80,12 @@ public class NodeFinder {
         public boolean equals(Object o) {
             return super.equals(o)
                     && o instanceof NodeWrapper
-                    && ((NodeWrapper) o).node == node;
+                    && ((NodeWrapper) o).node.getId().equals(node.getId());
         }
 
         @Override
         public int hashCode() {
-            return super.hashCode() * 31 + node.hashCode();
+            return super.hashCode() * 31 + node.getId().hashCode();
         }
     }
 
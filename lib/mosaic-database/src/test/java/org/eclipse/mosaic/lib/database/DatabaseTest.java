@@ -19,10 +19,13 @@ import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import org.eclipse.mosaic.lib.database.road.Connection;
 import org.eclipse.mosaic.lib.database.road.Node;
+import org.eclipse.mosaic.lib.database.road.Restriction;
+import org.eclipse.mosaic.lib.database.road.TrafficLightNode;
 import org.eclipse.mosaic.lib.database.road.Way;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.geo.GeoRectangle;
@@ -35,6 +38,11 @@ import org.junit.rules.TemporaryFolder;
 import java.io.File;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * This checks the database class for correct function.
@@ -125,6 +133,130 @@ public class DatabaseTest {
         assertEquals("Connection without restriction has to have outgoing connections", 2, connection.getOutgoingConnections().size());
     }
 
+    /**
+     * This test loads the simple database into a compact road network and checks if it
+     * provides the same network as the regular representation.
+     */
+    @Test
+    public void testLoadCompactFromFile() {
+        Database database = Database.loadFromFile(basicDatabase);
+        Database compact = Database.loadFromFile(basicDatabase, true);
+
+        assertEquals(database.getNodes().size(), compact.getNodes().size());
+        assertEquals(database.getWays().size(), compact.getWays().size());
+        assertEquals(database.getConnections().size(), compact.getConnections().size());
+        assertEquals(database.getRestrictions().size(), compact.getRestrictions().size());
+        assertEquals(database.getRoutes().size(), compact.getRoutes().size());
+
+        for (Node node : database.getNodes()) {
+            Node compactNode = compact.getNode(node.getId());
+            assertEquals(node.getPosition(), compactNode.getPosition());
+            assertEquals(node.isIntersection(), compactNode.isIntersection());
+            assertEquals(node.getClass() != Node.class, compactNode instanceof TrafficLightNode);
+            assertEquals(ids(node.getWays(), Way::getId), ids(compactNode.getWays(), Way::getId));
+            assertEquals(ids(node.getIncomingConnections(), Connection::getId),
+                    ids(compactNode.getIncomingConnections(), Connection::getId));
+            assertEquals(ids(node.getOutgoingConnections(), Connection::getId),
+                    ids(compactNode.getOutgoingConnections(), Connection::getId));
+            assertEquals(ids(node.getPartOfConnections(), Connection::getId), ids(compactNode.getPartOfConnections(), Connection::getId));
+            assertEquals(compactNode, compact.getNode(node.getId()));
+        }
+        for (Way way : database.getWays()) {
+            Way compactWay = compact.getWay(way.getId());
+            assertEquals(way.getName(), compactWay.getName());
+            assertEquals(way.getMaxSpeedInMs(), compactWay.getMaxSpeedInMs(), 0.0001d);
+            assertEquals(way.getNumberOfLanesForward(), compactWay.getNumberOfLanesForward());
+            assertEquals(way.getNumberOfLanesBackward(), compactWay.getNumberOfLanesBackward());
+            assertEquals(way.isOneway(), compactWay.isOneway());
+            assertEquals(ids(way.getNodes(), Node::getId), ids(compactWay.getNodes(), Node::getId));
+        }
+        for (Connection connection : database.getConnections()) {
+            Connection compactConnection = compact.getConnection(connection.getId());
+            assertEquals(connection.getWay().getId(), compactConnection.getWay().getId());
+            assertEquals(connection.getLanes(), compactConnection.getLanes());
+            assertEquals(connection.getLength(), compactConnection.getLength(), 0.0001d);
+            assertEquals(connection.getFrom().getId(), compactConnection.getFrom().getId());
+            assertEquals(connection.getTo().getId(), compactConnection.getTo().getId());
+            assertEquals(ids(connection.getNodes(), Node::getId), ids(compactConnection.getNodes(), Node::getId));
+            assertEquals(
+                    new HashSet<>(ids(connection.getOutgoingConnections(), Connection::getId)),
+                    new HashSet<>(ids(compactConnection.getOutgoingConnections(), Connection::getId))
+            );
+            assertEquals(
+                    new HashSet<>(ids(connection.getIncomingConnections(), Connection::getId)),
+                    new HashSet<>(ids(compactConnection.getIncomingConnections(), Connection::getId))
+            );
+        }
+        assertEquals(
+                database.getRoutes().iterator().next().getConnectionIds(),
+                compact.getRoutes().iterator().next().getConnectionIds()
+        );
+        assertEquals(1, compact.getConnection("2_4_2").getOutgoingConnections().size());
+        assertNull(compact.getNode("unknown"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCompactNetworkIsReadOnly() {
+        Database compact = Database.loadFromFile(basicDatabase, true);
+        compact.getConnection("2_4_2").setLength(10);
+    }
+
+    /**
+     * This test builds a junction with a turn restriction directly into a compact road network and checks
+     * that the relations between connections are computed as in the regular representation.
+     */
+    @Test
+    public void testBuildCompactAppliesRestrictions() {
+        Database database = createJunction().build();
+        Database compact = createJunction().buildCompact();
+
+        for (Connection connection : database.getConnections()) {
+            Connection compactConnection = compact.getConnection(connection.getId());
+            assertEquals(
+                    new HashSet<>(ids(connection.getOutgoingConnections(), Connection::getId)),
+                    new HashSet<>(ids(compactConnection.getOutgoingConnections(), Connection::getId))
+            );
+            assertEquals(
+                    new HashSet<>(ids(connection.getIncomingConnections(), Connection::getId)),
+                    new HashSet<>(ids(compactConnection.getIncomingConnections(), Connection::getId))
+            );
+        }
+        for (Node node : database.getNodes()) {
+            Node compactNode = compact.getNode(node.getId());
+            assertEquals(ids(node.getIncomingConnections(), Connection::getId),
+                    ids(compactNode.getIncomingConnections(), Connection::getId));
+            assertEquals(ids(node.getOutgoingConnections(), Connection::getId),
+                    ids(compactNode.getOutgoingConnections(), Connection::getId));
+        }
+        assertEquals(List.of("c"), ids(compact.getConnection("a").getOutgoingConnections(), Connection::getId));
+        assertEquals(List.of(), ids(compact.getConnection("b").getIncomingConnections(), Connection::getId));
+        assertNull(compact.getNode("unused"));
+    }
+
+    private static Database.Builder createJunction() {
+        Database.Builder dbBuilder = new Database.Builder();
+        dbBuilder.addNode("1", GeoPoint.lonLat(13.0, 52.0));
+        dbBuilder.addNode("2", GeoPoint.lonLat(13.1, 52.0));
+        dbBuilder.addNode("3", GeoPoint.lonLat(13.2, 52.0));
+        dbBuilder.addNode("4", GeoPoint.lonLat(13.1, 52.1));
+        dbBuilder.addNode("unused", GeoPoint.lonLat(13.1, 52.1));
+        String[][] ways = {{"a", "1", "2"}, {"b", "2", "3"}, {"c", "2", "4"}};
+        for (String[] way : ways) {
+            dbBuilder.addWay(way[0], way[0], "primary");
+            dbBuilder.addNodeToWay(way[0], way[1]);
+            dbBuilder.addNodeToWay(way[0], way[2]);
+            dbBuilder.addConnection(way[0], way[0]);
+            dbBuilder.addNodeToConnection(way[0], way[1]);
+            dbBuilder.addNodeToConnection(way[0], way[2]);
+        }
+        dbBuilder.addRestriction("r", Restriction.Type.Not, "a", "2", "b");
+        return dbBuilder;
+    }
+
+    private static <T> List<String> ids(Collection<T> elements, Function<T, String> id) {
+        return elements.stream().map(id).collect(Collectors.toList());
+    }
+
     /**
      * Test of detectIntersections method, of class Database.
      * The test scenario is as follows
@@ -23,12 +23,16 @@ import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.database.building.Building;
 import org.eclipse.mosaic.lib.database.road.Connection;
 import org.eclipse.mosaic.lib.database.road.Node;
+import org.eclipse.mosaic.lib.database.road.Roundabout;
 import org.eclipse.mosaic.lib.database.road.Way;
 import org.eclipse.mosaic.lib.util.junit.TestFileRule;
 
 import org.junit.Rule;
 import org.junit.Test;
 
+import java.io.File;
+import java.util.Arrays;
+
 /**
  * Tests the loader class for SQLite Databases.
  */
@@ -94,4 +98,29 @@ public class SQLiteReaderTest {
                 building.getWalls().get(6).getToCorner()
         );
     }
+
+    @Test
+    public void testLoadRoundaboutNodes() throws OutdatedDatabaseException {
+        // SETUP
+        String path = testFileRule.get("butzbach.db").getAbsolutePath();
+        Database.Builder builder = new SQLiteReader().loadFromFile(path);
+        builder.addRoundabout("roundabout_1", Arrays.asList(
+                builder.getNode("265306324"), builder.getNode("264506252"), builder.getNode("265306279")
+        ));
+        String copyPath = new File(testFileRule.getRoot(), "butzbachCopy.db").getAbsolutePath();
+        new SQLiteWriter().saveToFile(builder.build(), copyPath);
+
+        // RUN
+        Database result = new SQLiteReader().loadFromFile(copyPath).build();
+
+        // ASSERT
+        assertEquals("Wrong roundabouts amount in the database", 2, result.getRoundabouts().size());
+        Roundabout roundabout = result.getRoundabouts().stream()
+                .filter(r -> r.getId().equals("roundabout_1"))
+                .findFirst().orElseThrow();
+        assertEquals("Wrong amount of nodes for roundabout_1", 3, roundabout.getNodes().size());
+        assertEquals("265306324", roundabout.getNodes().get(0).getId());
+        assertEquals("264506252", roundabout.getNodes().get(1).getId());
+        assertEquals("265306279", roundabout.getNodes().get(2).getId());
+    }
 }
@@ -153,6 +153,39 @@ public class Grid<T> {
         }
     }
 
+    /**
+     * Creates an immutable copy of the current content of this grid. Later changes of this grid
+     * are not reflected in the returned snapshot, which can be queried concurrently without locking.
+     *
+     * @return a {@link GridSnapshot} holding all items currently stored in this grid
+     */
+    public GridSnapshot<T> createSnapshot() {
+        synchronized (tmpIndexA) {
+            final int[] cellOffsets = new int[colAmount * rowAmount + 1];
+            int index = 0;
+            for (int col = 0; col < colAmount; col++) {
+                for (int row = 0; row < rowAmount; row++) {
+                    cellOffsets[col * rowAmount + row] = index;
+                    index += getGridCell(col, row).size();
+                }
+            }
+            cellOffsets[colAmount * rowAmount] = index;
+
+            final Object[] snapshotItems = new Object[index];
+            for (int col = 0; col < colAmount; col++) {
+                for (int row = 0; row < rowAmount; row++) {
+                    final GridCell<T> cell = getGridCell(col, row);
+                    index = cellOffsets[col * rowAmount + row];
+                    for (int i = 0; i < cell.size(); i++) {
+                        snapshotItems[index++] = cell.get(i);
+                    }
+                }
+            }
+            return new GridSnapshot<>(adapter, cellWidth, cellHeight, colAmount, rowAmount,
+                    minX, maxX, minZ, maxZ, cellOffsets, snapshotItems);
+        }
+    }
+
     private CellIndex toCellIndex(double x, double z, CellIndex resultIndex) {
         // also looking at special case where item is directly on the max borders
         resultIndex.col = x < minX ? 0 : x >= maxX ? colAmount - 1 : (int) ((x - minX) / cellWidth);
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.spatial;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An immutable copy of the content of a {@link Grid}, created via {@link Grid#createSnapshot()}. All items
+ * are stored cell by cell in one flat array, together with the positions they had when the snapshot has been taken.
+ * Since a snapshot is never modified after its creation, it can be queried by many threads at the same time without any locking.
+ */
+public class GridSnapshot<T> {
+
+    private final SpatialItemAdapter<T> adapter;
+    private final double cellWidth;
+    private final double cellHeight;
+    private final int colAmount;
+    private final int rowAmount;
+    private final double minX;
+    private final double maxX;
+    private final double minZ;
+    private final double maxZ;
+
+    /**
+     * Start index of each cell in {@link #items}, the items of cell {@code (col, row)} are stored
+     * between {@code cellOffsets[col * rowAmount + row]} (inclusive) and {@code cellOffsets[col * rowAmount + row + 1]} (exclusive).
+     */
+    private final int[] cellOffsets;
+    private final Object[] items;
+    private final double[] centers;
+
+    GridSnapshot(SpatialItemAdapter<T> adapter, double cellWidth, double cellHeight, int colAmount, int rowAmount,
+                 double minX, double maxX, double minZ, double maxZ, int[] cellOffsets, Object[] items) {
+        this.adapter = adapter;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.colAmount = colAmount;
+        this.rowAmount = rowAmount;
+        this.minX = minX;
+        this.maxX = maxX;
+        this.minZ = minZ;
+        this.maxZ = maxZ;
+        this.cellOffsets = cellOffsets;
+        this.items = items;
+        this.centers = new double[items.length * 3];
+        for (int i = 0; i < items.length; i++) {
+            T item = getItem(i);
+            centers[i * 3] = adapter.getCenterX(item);
+            centers[i * 3 + 1] = adapter.getCenterY(item);
+            centers[i * 3 + 2] = adapter.getCenterZ(item);
+        }
+    }
+
+    /**
+     * Returns the number of items stored in this snapshot.
+     */
+    public int getSize() {
+        return items.length;
+    }
+
+    /**
+     * Searches all objects within the given bounding area.
+     *
+     * @param area   the rectangle area for range search
+     * @param filter a predicate to exclude certain objects from the result list
+     * @return the list of results
+     */
+    public List<T> getItemsInBoundingArea(BoundingBox area, Predicate<T> filter) {
+        return getItemsInBoundingArea(area, filter, new ArrayList<>());
+    }
+
+    /**
+     * Searches all objects within the given bounding area. The positions of the items at
+     * the time this snapshot has been created are used to check if they are within the area.
+     *
+     * @param area   the rectangle area for range search
+     * @param filter a predicate to exclude certain objects from the result list
+     * @param result the list of results
+     * @return the list of results
+     */
+    public List<T> getItemsInBoundingArea(BoundingBox area, Predicate<T> filter, List<T> result) {
+        final int minCol = toCol(Math.max(area.min.x, minX));
+        final int maxCol = toCol(Math.min(area.max.x, maxX));
+        final int minRow = toRow(Math.max(area.min.z, minZ));
+        final int maxRow = toRow(Math.min(area.max.z, maxZ));
+
+        for (int col = minCol; col <= maxCol; col++) {
+            for (int row = minRow; row <= maxRow; row++) {
+                final int cell = col * rowAmount + row;
+                for (int i = cellOffsets[cell]; i < cellOffsets[cell + 1]; i++) {
+                    if (area.contains(centers[i * 3], centers[i * 3 + 1], centers[i * 3 + 2])) {
+                        T item = getItem(i);
+                        if (filter == null || filter.test(item)) {
+                            result.add(item);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private int toCol(double x) {
+        // also looking at special case where item is directly on the max borders
+        return x < minX ? 0 : x >= maxX ? colAmount - 1 : (int) ((x - minX) / cellWidth);
+    }
+
+    private int toRow(double z) {
+        return z < minZ ? 0 : z >= maxZ ? rowAmount - 1 : (int) ((z - minZ) / cellHeight);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T getItem(int index) {
+        return (T) items[index];
+    }
+}
@@ -50,6 +50,8 @@ public abstract class GeoProjection {
 
     private volatile GeoCalculator geoCalculator = null;
 
+    private volatile LocalTangentPlane localTangentPlane = null;
+
     public GeoProjection setGeoCalculator(GeoCalculator geoCalculator) {
         if (this.geoCalculator != null) {
             throw new IllegalStateException("GeoCalculator has already been defined.");
@@ -69,6 +71,94 @@ public abstract class GeoProjection {
         return geoCalculator;
     }
 
+    /**
+     * Enables an approximation of this projection on a local tangent plane around the given reference point, which is used by the
+     * bulk conversion methods {@link #geographicToCartesian(double[], double[], double[], int)} and
+     * {@link #cartesianToGeographic(double[], double[], double[], int)}. The approximation is only applied to points
+     * close to the reference point, in which it deviates less than {@code maxError} from the exact projection. All other points
+     * are converted using the exact projection. This is especially useful for small scenarios.
+     *
+     * @param reference the point around which the projection is approximated, usually the center of the scenario
+     * @param maxError  the maximum allowed deviation from the exact projection [m]
+     * @return this projection
+     */
+    public GeoProjection enableLocalTangentPlane(GeoPoint reference, double maxError) {
+        if (maxError <= 0) {
+            throw new IllegalArgumentException("The maximum error of the local tangent plane must be greater than 0.");
+        }
+        this.localTangentPlane = LocalTangentPlane.create(this, reference, maxError);
+        return this;
+    }
+
+    /**
+     * Returns the radius around the reference point, in which the bulk conversion methods use the
+     * approximation enabled by {@link #enableLocalTangentPlane(GeoPoint, double)}, or 0 if not enabled. [m]
+     */
+    public double getLocalTangentPlaneRadius() {
+        final LocalTangentPlane plane = localTangentPlane;
+        return plane != null ? plane.getValidRadius() : 0;
+    }
+
+    /**
+     * Converts many geographic WGS84 coordinates into local coordinates at once. The conversion is done in place, that means,
+     * the given arrays holding the geographic coordinates are overwritten by the resulting local coordinates.
+     *
+     * @param latitudesToX   the latitudes to convert, will contain the x coordinates afterwards
+     * @param longitudesToY  the longitudes to convert, will contain the y coordinates afterwards
+     * @param altitudesToZ   the altitudes to convert, will contain the z coordinates afterwards, may be {@code null}
+     * @param length         the number of coordinates to convert, starting at the first index of the arrays
+     */
+    public void geographicToCartesian(final double[] latitudesToX, final double[] longitudesToY, final double[] altitudesToZ,
+                                      final int length) {
+        final LocalTangentPlane plane = localTangentPlane;
+        final double[] approximated = new double[3];
+        final MutableGeoPoint geographic = new MutableGeoPoint();
+        final MutableCartesianPoint cartesian = new MutableCartesianPoint();
+        for (int i = 0; i < length; i++) {
+            final double altitude = altitudesToZ != null ? altitudesToZ[i] : 0;
+            if (plane != null && plane.geographicToCartesian(latitudesToX[i], longitudesToY[i], altitude, approximated)) {
+                cartesian.set(approximated[0], approximated[1], approximated[2]);
+            } else {
+                geographicToCartesian(geographic.set(latitudesToX[i], longitudesToY[i], altitude), cartesian);
+            }
+            latitudesToX[i] = cartesian.getX();
+            longitudesToY[i] = cartesian.getY();
+            if (altitudesToZ != null) {
+                altitudesToZ[i] = cartesian.getZ();
+            }
+        }
+    }
+
+    /**
+     * Converts many local coordinates into geographic WGS84 coordinates at once. The conversion is done in place, that means,
+     * the given arrays holding the local coordinates are overwritten by the resulting geographic coordinates.
+     *
+     * @param xToLatitudes   the x coordinates to convert, will contain the latitudes afterwards
+     * @param yToLongitudes  the y coordinates to convert, will contain the longitudes afterwards
+     * @param zToAltitudes   the z coordinates to convert, will contain the altitudes afterwards, may be {@code null}
+     * @param length         the number of coordinates to convert, starting at the first index of the arrays
+     */
+    public void cartesianToGeographic(final double[] xToLatitudes, final double[] yToLongitudes, final double[] zToAltitudes,
+                                      final int length) {
+        final LocalTangentPlane plane = localTangentPlane;
+        final double[] approximated = new double[3];
+        final MutableCartesianPoint cartesian = new MutableCartesianPoint();
+        final MutableGeoPoint geographic = new MutableGeoPoint();
+        for (int i = 0; i < length; i++) {
+            final double z = zToAltitudes != null ? zToAltitudes[i] : 0;
+            if (plane != null && plane.cartesianToGeographic(xToLatitudes[i], yToLongitudes[i], z, approximated)) {
+                geographic.set(approximated[0], approximated[1], approximated[2]);
+            } else {
+                cartesianToGeographic(cartesian.set(xToLatitudes[i], yToLongitudes[i], z), geographic);
+            }
+            xToLatitudes[i] = geographic.getLatitude();
+            yToLongitudes[i] = geographic.getLongitude();
+            if (zToAltitudes != null) {
+                zToAltitudes[i] = geographic.getAltitude();
+            }
+        }
+    }
+
     /**
      * Converts a geographic WGS84 coordinate depicted by a {@link GeoPoint} into UTM coordinates.
      *
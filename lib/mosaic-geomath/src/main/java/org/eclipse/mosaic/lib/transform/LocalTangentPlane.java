@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.transform;
+
+import org.eclipse.mosaic.lib.geo.GeoPoint;
+import org.eclipse.mosaic.lib.geo.MutableCartesianPoint;
+import org.eclipse.mosaic.lib.geo.MutableGeoPoint;
+
+/**
+ * Approximation of a {@link GeoProjection} on a plane tangent to a reference point. Both directions of the
+ * projection are approximated by second order polynomials, which are derived numerically from the projection itself.
+ * The approximation is only applied to points within a radius around the reference point, in which the deviation
+ * from the exact projection does not exceed the configured error bound.
+ */
+final class LocalTangentPlane {
+
+    /**
+     * Step size used to derive the polynomials from the geographic to the cartesian coordinates. [degree]
+     */
+    private final static double GEOGRAPHIC_STEP = 1e-3;
+
+    /**
+     * Step size used to derive the polynomials from the cartesian to the geographic coordinates. [m]
+     */
+    private final static double CARTESIAN_STEP = 100;
+
+    /**
+     * The approximation is never applied for points further away from the reference point than this. [m]
+     */
+    private final static double MAX_RADIUS = 100_000;
+
+    private final static double MIN_RADIUS = 10;
+
+    private final static int SAMPLE_DIRECTIONS = 16;
+
+    private final double referenceLatitude;
+    private final double referenceLongitude;
+    private final double referenceAltitude;
+    private final double referenceX;
+    private final double referenceY;
+    private final double referenceZ;
+
+    private final Polynomial x;
+    private final Polynomial y;
+    private final Polynomial latitude;
+    private final Polynomial longitude;
+
+    private final double validRadiusSquared;
+
+    private LocalTangentPlane(GeoProjection projection, GeoPoint reference) {
+        final MutableGeoPoint geo = new MutableGeoPoint(reference);
+        final MutableCartesianPoint cartesian = projection.geographicToCartesian(geo, new MutableCartesianPoint());
+        referenceLatitude = geo.getLatitude();
+        referenceLongitude = geo.getLongitude();
+        referenceAltitude = geo.getAltitude();
+        referenceX = cartesian.getX();
+        referenceY = cartesian.getY();
+        referenceZ = cartesian.getZ();
+
+        final double[][] samples = new double[9][];
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                projection.geographicToCartesian(
+                        geo.set(referenceLatitude + i * GEOGRAPHIC_STEP, referenceLongitude + j * GEOGRAPHIC_STEP, referenceAltitude),
+                        cartesian
+                );
+                samples[(i + 1) * 3 + j + 1] = new double[]{cartesian.getX() - referenceX, cartesian.getY() - referenceY};
+            }
+        }
+        x = Polynomial.derive(samples, 0, GEOGRAPHIC_STEP);
+        y = Polynomial.derive(samples, 1, GEOGRAPHIC_STEP);
+
+        for (int i = -1; i <= 1; i++) {
+            for (int j = -1; j <= 1; j++) {
+                projection.cartesianToGeographic(
+                        cartesian.set(referenceX + i * CARTESIAN_STEP, referenceY + j * CARTESIAN_STEP, referenceZ),
+                        geo
+                );
+                samples[(i + 1) * 3 + j + 1] = new double[]{geo.getLatitude() - referenceLatitude, geo.getLongitude() - referenceLongitude};
+            }
+        }
+        latitude = Polynomial.derive(samples, 0, CARTESIAN_STEP);
+        longitude = Polynomial.derive(samples, 1, CARTESIAN_STEP);
+
+        validRadiusSquared = 0;
+    }
+
+    private LocalTangentPlane(LocalTangentPlane other, double validRadius) {
+        referenceLatitude = other.referenceLatitude;
+        referenceLongitude = other.referenceLongitude;
+        referenceAltitude = other.referenceAltitude;
+        referenceX = other.referenceX;
+        referenceY = other.referenceY;
+        referenceZ = other.referenceZ;
+        x = other.x;
+        y = other.y;
+        latitude = other.latitude;
+        longitude = other.longitude;
+        validRadiusSquared = validRadius * validRadius;
+    }
+
+    /**
+     * Creates the approximation of the given projection. The radius around the reference point in which
+     * the approximation is applied is searched by sampling points on circles of increasing size.
+     *
+     * @param projection the exact projection
+     * @param reference  the point around which the projection is approximated
+     * @param maxError   the maximum allowed deviation from the exact projection [m]
+     * @return the approximation, which is applied within the radius in which the deviation does not exceed {@code maxError}
+     */
+    static LocalTangentPlane create(GeoProjection projection, GeoPoint reference, double maxError) {
+        final LocalTangentPlane plane = new LocalTangentPlane(projection, reference);
+        double validRadius = 0;
+        double invalidRadius = MAX_RADIUS;
+        // double radius until error is exceeded
+        for (double radius = MIN_RADIUS; radius <= MAX_RADIUS; radius *= 2) {
+            if (plane.getMaxError(projection, radius) > maxError) {
+                invalidRadius = radius;
+                break;
+            }
+            validRadius = radius;
+        }
+        if (validRadius == 0) {
+            return new LocalTangentPlane(plane, 0);
+        }
+        // bisect between last valid and first invalid radius
+        for (int i = 0; i < 10 && invalidRadius > validRadius; i++) {
+            double radius = (validRadius + invalidRadius) / 2;
+            if (plane.getMaxError(projection, radius) > maxError) {
+                invalidRadius = radius;
+            } else {
+                validRadius = radius;
+            }
+        }
+        return new LocalTangentPlane(plane, validRadius);
+    }
+
+    private double getMaxError(GeoProjection projection, double radius) {
+        final MutableGeoPoint geo = new MutableGeoPoint();
+        final MutableCartesianPoint cartesian = new MutableCartesianPoint();
+        final double[] approximated = new double[3];
+        double maxError = 0;
+        for (int i = 0; i < SAMPLE_DIRECTIONS; i++) {
+            double angle = 2 * Math.PI * i / SAMPLE_DIRECTIONS;
+            double sampleX = referenceX + radius * Math.cos(angle);
+            double sampleY = referenceY + radius * Math.sin(angle);
+
+            // geographic to cartesian
+            projection.cartesianToGeographic(cartesian.set(sampleX, sampleY, referenceZ), geo);
+            projection.geographicToCartesian(geo, cartesian);
+            geographicToCartesian(geo.getLatitude(), geo.getLongitude(), geo.getAltitude(), approximated);
+            maxError = Math.max(maxError, Math.hypot(approximated[0] - cartesian.getX(), approximated[1] - cartesian.getY()));
+
+            // cartesian to geographic, error is measured in the cartesian space
+            cartesianToGeographic(sampleX, sampleY, referenceZ, approximated);
+            projection.geographicToCartesian(geo.set(approximated[0], approximated[1], approximated[2]), cartesian);
+            maxError = Math.max(maxError, Math.hypot(sampleX - cartesian.getX(), sampleY - cartesian.getY()));
+        }
+        return maxError;
+    }
+
+    /**
+     * Approximates the cartesian coordinates of the given geographic coordinates.
+     *
+     * @return {@code true}, if the point lies within the valid radius of this approximation and {@code result} has been written
+     */
+    boolean geographicToCartesian(double latitude, double longitude, double altitude, double[] result) {
+        final double dLat = latitude - referenceLatitude;
+        final double dLon = longitude - referenceLongitude;
+        final double dX = x.evaluate(dLat, dLon);
+        final double dY = y.evaluate(dLat, dLon);
+        result[0] = referenceX + dX;
+        result[1] = referenceY + dY;
+        result[2] = referenceZ + altitude - referenceAltitude;
+        return dX * dX + dY * dY <= validRadiusSquared;
+    }
+
+    /**
+     * Approximates the geographic coordinates of the given cartesian coordinates.
+     *
+     * @return {@code true}, if the point lies within the valid radius of this approximation and {@code result} has been written
+     */
+    boolean cartesianToGeographic(double x, double y, double z, double[] result) {
+        final double dX = x - referenceX;
+        final double dY = y - referenceY;
+        result[0] = referenceLatitude + latitude.evaluate(dX, dY);
+        result[1] = referenceLongitude + longitude.evaluate(dX, dY);
+        result[2] = referenceAltitude + z - referenceZ;
+        return dX * dX + dY * dY <= validRadiusSquared;
+    }
+
+    /**
+     * Returns the radius around the reference point, in which this approximation is applied. [m]
+     */
+    double getValidRadius() {
+        return Math.sqrt(validRadiusSquared);
+    }
+
+    /**
+     * Second order polynomial {@code f(u, v) = u * (cu + cuu * u + cuv * v) + v * (cv + cvv * v)}.
+     */
+    private static final class Polynomial {
+
+        private final double cu;
+        private final double cv;
+        private final double cuu;
+        private final double cuv;
+        private final double cvv;
+
+        private Polynomial(double cu, double cv, double cuu, double cuv, double cvv) {
+            this.cu = cu;
+            this.cv = cv;
+            this.cuu = cuu;
+            this.cuv = cuv;
+            this.cvv = cvv;
+        }
+
+        /**
+         * Derives the polynomial from samples on a 3x3 grid around the reference point using central differences.
+         *
+         * @param samples   the sampled values, index {@code (i + 1) * 3 + j + 1} holds the sample at {@code (i * step, j * step)}
+         * @param dimension the dimension of the samples to derive the polynomial for
+         * @param step      the distance between the samples
+         */
+        private static Polynomial derive(double[][] samples, int dimension, double step) {
+            final double center = samples[4][dimension];
+            final double du = (samples[7][dimension] - samples[1][dimension]) / (2 * step);
+            final double dv = (samples[5][dimension] - samples[3][dimension]) / (2 * step);
+            final double duu = (samples[7][dimension] - 2 * center + samples[1][dimension]) / (step * step);
+            final double dvv = (samples[5][dimension] - 2 * center + samples[3][dimension]) / (step * step);
+            final double duv = (samples[8][dimension] - samples[6][dimension] - samples[2][dimension] + samples[0][dimension])
+                    / (4 * step * step);
+            return new Polynomial(du, dv, duu / 2, duv, dvv / 2);
+        }
+
+        private double evaluate(double u, double v) {
+            return u * (cu + cuu * u + cuv * v) + v * (cv + cvv * v);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.spatial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.math.Vector3d;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+public class GridSnapshotTest {
+
+    private Grid<Vector3d> grid;
+
+    @Before
+    public void setup() {
+        grid = new Grid<>(new SpatialItemAdapter.PointAdapter<>(), 10, 10, 0, 100, 0, 100);
+    }
+
+    @Test
+    public void queryRange_allItemsInArea() {
+        // SETUP
+        grid.addItem(new Vector3d(5, 0, 5));
+        grid.addItem(new Vector3d(15, 0, 5));
+        grid.addItem(new Vector3d(55, 0, 55));
+        grid.addItem(new Vector3d(100, 0, 100));
+
+        // RUN
+        GridSnapshot<Vector3d> snapshot = grid.createSnapshot();
+
+        // ASSERT
+        assertEquals(4, snapshot.getSize());
+        assertEquals(2, snapshot.getItemsInBoundingArea(area(0, 0, 20, 20), null).size());
+        assertEquals(1, snapshot.getItemsInBoundingArea(area(50, 50, 60, 60), null).size());
+        assertEquals(1, snapshot.getItemsInBoundingArea(area(90, 90, 120, 120), null).size());
+        assertEquals(4, snapshot.getItemsInBoundingArea(area(-10, -10, 110, 110), null).size());
+    }
+
+    @Test
+    public void queryRange_filter() {
+        // SETUP
+        grid.addItem(new Vector3d(5, 0, 5));
+        grid.addItem(new Vector3d(6, 0, 6));
+
+        // RUN
+        List<Vector3d> result = grid.createSnapshot().getItemsInBoundingArea(area(0, 0, 10, 10), v -> v.x > 5.5);
+
+        // ASSERT
+        assertEquals(1, result.size());
+        assertEquals(6, result.get(0).x, 0.0001d);
+    }
+
+    @Test
+    public void snapshotNotAffectedByLaterChanges() {
+        // SETUP
+        Vector3d item = new Vector3d(5, 0, 5);
+        grid.addItem(item);
+        GridSnapshot<Vector3d> snapshot = grid.createSnapshot();
+
+        // RUN
+        grid.removeItem(item);
+        grid.addItem(new Vector3d(7, 0, 7));
+
+        // ASSERT
+        List<Vector3d> result = snapshot.getItemsInBoundingArea(area(0, 0, 10, 10), null);
+        assertEquals(1, result.size());
+        assertTrue(result.contains(item));
+        assertEquals(1, grid.createSnapshot().getItemsInBoundingArea(area(0, 0, 10, 10), v -> v.x > 6).size());
+    }
+
+    private static BoundingBox area(double minX, double minZ, double maxX, double maxZ) {
+        BoundingBox area = new BoundingBox();
+        area.add(new Vector3d(minX, 0, minZ));
+        area.add(new Vector3d(maxX, 0, maxZ));
+        return area;
+    }
+}
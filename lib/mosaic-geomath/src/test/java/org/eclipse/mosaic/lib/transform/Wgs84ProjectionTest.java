@@ -16,6 +16,7 @@
 package org.eclipse.mosaic.lib.transform;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.eclipse.mosaic.lib.geo.CartesianPoint;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
@@ -170,6 +171,90 @@ public class Wgs84ProjectionTest {
 
     }
 
+    @Test
+    public void bulkConversion_equalsScalarConversion() {
+        GeoPoint center = GeoPoint.latLon(52.5131, 13.3249);
+        GeoProjection transform = createProjectionAround(center);
+        CartesianPoint centerCartesian = transform.geographicToCartesian(center);
+
+        double[] x = new double[10];
+        double[] y = new double[10];
+        double[] z = new double[10];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = centerCartesian.getX() + Math.cos(i * Math.PI / 5) * 2000;
+            y[i] = centerCartesian.getY() + Math.sin(i * Math.PI / 5) * 2000;
+            z[i] = i;
+        }
+        double[] latitudes = x.clone();
+        double[] longitudes = y.clone();
+        double[] altitudes = z.clone();
+
+        transform.cartesianToGeographic(latitudes, longitudes, altitudes, x.length);
+
+        for (int i = 0; i < x.length; i++) {
+            GeoPoint expected = transform.cartesianToGeographic(CartesianPoint.xyz(x[i], y[i], z[i]));
+            assertEquals(expected.getLatitude(), latitudes[i], 0d);
+            assertEquals(expected.getLongitude(), longitudes[i], 0d);
+            assertEquals(expected.getAltitude(), altitudes[i], 0d);
+        }
+
+        transform.geographicToCartesian(latitudes, longitudes, null, x.length);
+
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(x[i], latitudes[i], 0.0001d);
+            assertEquals(y[i], longitudes[i], 0.0001d);
+        }
+    }
+
+    @Test
+    public void bulkConversion_localTangentPlane() {
+        GeoPoint center = GeoPoint.latLon(52.5131, 13.3249);
+        GeoProjection transform = createProjectionAround(center).enableLocalTangentPlane(center, 0.01);
+        CartesianPoint centerCartesian = transform.geographicToCartesian(center);
+
+        assertTrue(transform.getLocalTangentPlaneRadius() > 2000);
+        assertTrue(transform.getLocalTangentPlaneRadius() < 100000);
+
+        // the last points are outside the valid radius and are converted exactly
+        double[] distances = {0, 10, 100, 1000, 2000, 50000, 200000};
+        double[] x = new double[distances.length];
+        double[] y = new double[distances.length];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = centerCartesian.getX() + Math.cos(i) * distances[i];
+            y[i] = centerCartesian.getY() + Math.sin(i) * distances[i];
+        }
+        double[] latitudes = x.clone();
+        double[] longitudes = y.clone();
+
+        transform.cartesianToGeographic(latitudes, longitudes, null, x.length);
+
+        for (int i = 0; i < x.length; i++) {
+            CartesianPoint actual = transform.geographicToCartesian(GeoPoint.latLon(latitudes[i], longitudes[i]));
+            assertEquals(x[i], actual.getX(), 0.01d);
+            assertEquals(y[i], actual.getY(), 0.01d);
+        }
+
+        transform.geographicToCartesian(latitudes, longitudes, null, x.length);
+
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(x[i], latitudes[i], 0.02d);
+            assertEquals(y[i], longitudes[i], 0.02d);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bulkConversion_localTangentPlane_invalidError() {
+        GeoPoint center = GeoPoint.latLon(52.5131, 13.3249);
+        createProjectionAround(center).enableLocalTangentPlane(center, 0);
+    }
+
+    private GeoProjection createProjectionAround(GeoPoint center) {
+        UtmPoint centerUtm = new Wgs84Projection(center).geographicToUtm(center);
+        UtmPoint origin = UtmPoint.eastNorth(UtmZone.from(center), centerUtm.getEasting() - 5000, centerUtm.getNorthing() - 5000);
+        GeoProjection projection = new Wgs84Projection(origin).useZoneOfUtmOrigin();
+        return projection.setGeoCalculator(new UtmGeoCalculator(projection));
+    }
+
     private void testUtmConversion(GeoPoint wgs84, MutableUtmPoint utm) {
         Wgs84Projection transform = new Wgs84Projection(wgs84);
 
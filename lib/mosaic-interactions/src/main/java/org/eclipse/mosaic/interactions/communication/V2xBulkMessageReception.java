@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.interactions.communication;
+
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+import org.eclipse.mosaic.lib.objects.v2x.V2xReceiverInformation;
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * This extension of {@link Interaction} is used to exchange information about one V2X message
+ * which has been received by many nodes, e.g. after a broadcast. It replaces one {@link V2xMessageReception}
+ * per receiver, and holds the name, the receive time, and the receiver information of each receiver
+ * in parallel arrays. The time of this interaction is the earliest receive time of all receivers.
+ */
+public final class V2xBulkMessageReception extends Interaction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * String identifying the type of this interaction.
+     */
+    public final static String TYPE_ID = createTypeIdentifier(V2xBulkMessageReception.class);
+
+    /**
+     * Int identifying the V2X message.
+     */
+    private final int messageId;
+
+    /**
+     * Names of all receiving nodes.
+     */
+    private final String[] receiverNames;
+
+    /**
+     * The time the message was received by each receiver, unit: [ns]
+     */
+    private final long[] receiveTimes;
+
+    /**
+     * Additional information for each receiver.
+     */
+    private final V2xReceiverInformation[] receiverInformation;
+
+    /**
+     * Constructor using fields. All arrays must be of the same length, with the values of
+     * one receiver at the same index of each array.
+     *
+     * @param time                Timestamp of this interaction, must not be later than any of the receive times, unit: [ns]
+     * @param msgId               Identifies the V2X message.
+     * @param receiverNames       Identifies the receiving nodes.
+     * @param receiveTimes        The time the message was received by each receiver, unit: [ns]
+     * @param receiverInformation Additional information for each receiver.
+     */
+    public V2xBulkMessageReception(final long time, final int msgId, @Nonnull final String[] receiverNames,
+                                   @Nonnull final long[] receiveTimes, @Nonnull final V2xReceiverInformation[] receiverInformation) {
+        super(time);
+        Validate.isTrue(receiverNames.length == receiveTimes.length && receiverNames.length == receiverInformation.length,
+                "Number of receiver names, receive times, and receiver information must be equal.");
+        for (long receiveTime : receiveTimes) {
+            Validate.isTrue(receiveTime >= time, "Receive time must not be earlier than the time of the interaction.");
+        }
+        this.messageId = msgId;
+        this.receiverNames = receiverNames;
+        this.receiveTimes = receiveTimes;
+        this.receiverInformation = receiverInformation;
+    }
+
+    public int getMessageId() {
+        return messageId;
+    }
+
+    public int getNumberOfReceivers() {
+        return receiverNames.length;
+    }
+
+    public String getReceiverName(int index) {
+        return receiverNames[index];
+    }
+
+    public long getReceiveTime(int index) {
+        return receiveTimes[index];
+    }
+
+    public V2xReceiverInformation getReceiverInformation(int index) {
+        return receiverInformation[index];
+    }
+
+    /**
+     * Creates one {@link V2xMessageReception} for each receiver of this interaction, e.g. for components
+     * which handle each reception individually.
+     *
+     * @return a list of single receptions, in the order of the receivers
+     */
+    public List<V2xMessageReception> toSingleReceptions() {
+        final List<V2xMessageReception> receptions = new ArrayList<>(receiverNames.length);
+        for (int i = 0; i < receiverNames.length; i++) {
+            receptions.add(new V2xMessageReception(receiveTimes[i], receiverNames[i], messageId, receiverInformation[i]));
+        }
+        return receptions;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(7, 59)
+                .append(messageId)
+                .append(receiverNames)
+                .append(receiveTimes)
+                .append(receiverInformation)
+                .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+
+        V2xBulkMessageReception other = (V2xBulkMessageReception) obj;
+        return new EqualsBuilder()
+                .append(this.messageId, other.messageId)
+                .append(this.receiverNames, other.receiverNames)
+                .append(this.receiveTimes, other.receiveTimes)
+                .append(this.receiverInformation, other.receiverInformation)
+                .isEquals();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .appendSuper(super.toString())
+                .append("messageId", messageId)
+                .append("receiverNames", receiverNames)
+                .append("receiveTimes", receiveTimes)
+                .toString();
+    }
+}
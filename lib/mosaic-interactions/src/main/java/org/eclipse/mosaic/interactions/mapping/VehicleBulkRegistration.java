@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.interactions.mapping;
+
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+import org.eclipse.mosaic.rti.api.Interaction;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nonnull;
+
+/**
+ * This extension of {@link Interaction} is used to register many vehicles at once, e.g. all vehicles
+ * spawned by the mapping within the same time step. It replaces one {@link VehicleRegistration} per vehicle,
+ * which may also be a {@link org.eclipse.mosaic.interactions.mapping.advanced.RoutelessVehicleRegistration}.
+ * Components handling each registration individually receive the registrations in the order they have been added.
+ */
+public final class VehicleBulkRegistration extends Interaction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * String identifying the type of this interaction.
+     */
+    public final static String TYPE_ID = createTypeIdentifier(VehicleBulkRegistration.class);
+
+    /**
+     * The registrations of all vehicles.
+     */
+    private final List<VehicleRegistration> registrations;
+
+    /**
+     * Creates a new interaction that informs about many new vehicles added to the simulation.
+     *
+     * @param time          Timestamp of this interaction, must not be later than the time of any of the registrations, unit: [ns]
+     * @param registrations the registrations of all vehicles
+     */
+    public VehicleBulkRegistration(final long time, @Nonnull final List<VehicleRegistration> registrations) {
+        super(time);
+        for (VehicleRegistration registration : registrations) {
+            Validate.isTrue(registration.getTime() >= time, "Registration time must not be earlier than the time of the interaction.");
+        }
+        this.registrations = Collections.unmodifiableList(new ArrayList<>(registrations));
+    }
+
+    public List<VehicleRegistration> getRegistrations() {
+        return registrations;
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(3, 61)
+                .append(registrations)
+                .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj == this) {
+            return true;
+        }
+        if (obj.getClass() != getClass()) {
+            return false;
+        }
+
+        VehicleBulkRegistration other = (VehicleBulkRegistration) obj;
+        return new EqualsBuilder()
+                .append(this.registrations, other.registrations)
+                .isEquals();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .appendSuper(super.toString())
+                .append("registrations", registrations)
+                .toString();
+    }
+}
@@ -26,8 +26,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 import javax.annotation.Nonnull;
@@ -40,6 +42,13 @@ public final class EncodedPayload implements Serializable {
 
     public final static EncodedPayload EMPTY_PAYLOAD = new EncodedPayload(0L);
 
+    private final static byte[] EMPTY_BYTES = new byte[0];
+
+    /**
+     * Reusable buffers to encode payloads with, one for each thread.
+     */
+    private final static ThreadLocal<EncodingBuffer> ENCODING_BUFFER = ThreadLocal.withInitial(EncodingBuffer::new);
+
     private final String contentClassName;
 
     /**
@@ -66,11 +75,10 @@ public final class EncodedPayload implements Serializable {
      * <b>This method can cause a high memory consumption.</b>
      */
     public EncodedPayload(@Nonnull ToDataOutput content, long minimalLength) {
-        try (final ByteArrayOutputStream baos = new ByteArrayOutputStream(1024); final DataOutputStream dos = new DataOutputStream(baos)) {
-            content.toDataOutput(dos);
-
-            this.bytes = Objects.requireNonNull(baos.toByteArray());
-            this.contentClassName = content.getClass().getCanonicalName();
+        try {
+            this.bytes = ENCODING_BUFFER.get().encode(content);
+            // the binary name can be loaded by Class.forName, also for nested classes
+            this.contentClassName = content.getClass().getName();
             this.lengthInBytes = bytes.length;
             this.minimalLength = minimalLength;
 
@@ -132,11 +140,22 @@ public final class EncodedPayload implements Serializable {
     @Nullable
     public byte[] getBytes() {
         if (bytes == null) {
-            return new byte[0];
+            return EMPTY_BYTES;
         }
         return bytes.clone();
     }
 
+    /**
+     * Returns a read-only view on the byte array, without copying it. Prefer this method
+     * over {@link EncodedPayload#getBytes()} if the bytes are only read, e.g. to write them onto a channel.
+     *
+     * @return the encoded bytes of the payload, or an empty buffer if no byte array exists
+     */
+    @Nonnull
+    public ByteBuffer getByteBuffer() {
+        return ByteBuffer.wrap(bytes != null ? bytes : EMPTY_BYTES).asReadOnlyBuffer();
+    }
+
     /**
      * Returns the length of the message. Please prefer this method instead
      * to get the length from {@link EncodedPayload#getBytes()}.
@@ -171,11 +190,11 @@ public final class EncodedPayload implements Serializable {
      */
     @SuppressWarnings("unchecked")
     public final <T extends ToDataOutput> T decodePayload() throws IllegalStateException {
-        if (contentClassName != null && getBytes() != null && getBytes().length > 0) {
+        if (contentClassName != null && bytes != null && bytes.length > 0) {
             try {
                 Class<?> contentClass = Class.forName(contentClassName);
                 Constructor<?> constructorDataInput = contentClass.getConstructor(DataInput.class);
-                return (T) constructorDataInput.newInstance(new DataInputStream(new ByteArrayInputStream(getBytes())));
+                return (T) constructorDataInput.newInstance(new DataInputStream(new ByteArrayInputStream(bytes)));
             } catch (Exception e) {
                 throw new IllegalStateException(e);
             }
@@ -223,4 +242,47 @@ public final class EncodedPayload implements Serializable {
                 + ", minimalLength=" + minimalLength
                 + '}';
     }
+
+    /**
+     * Buffer which is reused to encode payloads, so that only the resulting byte array
+     * of exactly the encoded length is allocated for each payload.
+     */
+    private static final class EncodingBuffer extends ByteArrayOutputStream {
+
+        private final static int INITIAL_SIZE = 1024;
+
+        /**
+         * Buffers exceeding this size are not kept after encoding, to avoid holding large arrays per thread. Unit: [bytes].
+         */
+        private final static int MAX_RETAINED_SIZE = 64 * 1024;
+
+        private final DataOutputStream dataOutput = new DataOutputStream(this);
+
+        private boolean inUse = false;
+
+        private EncodingBuffer() {
+            super(INITIAL_SIZE);
+        }
+
+        private byte[] encode(ToDataOutput content) throws IOException {
+            if (inUse) {
+                // content encodes another payload while being encoded itself
+                final EncodingBuffer nestedBuffer = new EncodingBuffer();
+                return nestedBuffer.encode(content);
+            }
+            inUse = true;
+            try {
+                reset();
+                content.toDataOutput(dataOutput);
+                dataOutput.flush();
+                return Arrays.copyOf(buf, count);
+            } finally {
+                if (buf.length > MAX_RETAINED_SIZE) {
+                    buf = new byte[INITIAL_SIZE];
+                }
+                reset();
+                inUse = false;
+            }
+        }
+    }
 }
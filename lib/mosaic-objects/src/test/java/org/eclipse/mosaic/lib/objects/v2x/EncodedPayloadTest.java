@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.objects.v2x;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.objects.ToDataOutput;
+
+import org.junit.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+public class EncodedPayloadTest {
+
+    @Test
+    public void encodeAndDecode() {
+        //RUN
+        EncodedPayload payload = new EncodedPayload(new TestContent("hello", 42), 200);
+        TestContent decoded = payload.decodePayload();
+
+        //ASSERT
+        assertNotNull(decoded);
+        assertEquals("hello", decoded.text);
+        assertEquals(42, decoded.number);
+        assertEquals(payload.getBytes().length, payload.getActualLength());
+        assertEquals(200, payload.getEffectiveLength());
+    }
+
+    @Test
+    public void subsequentEncodingsDoNotShareBytes() {
+        //RUN
+        EncodedPayload first = new EncodedPayload(new TestContent("first", 1), 0);
+        EncodedPayload large = new EncodedPayload(new TestContent("x".repeat(100_000), 2), 0);
+        EncodedPayload second = new EncodedPayload(new TestContent("second", 3), 0);
+
+        //ASSERT
+        assertEquals("first", first.<TestContent>decodePayload().text);
+        assertEquals(100_000, large.<TestContent>decodePayload().text.length());
+        assertEquals("second", second.<TestContent>decodePayload().text);
+    }
+
+    @Test
+    public void byteBufferIsReadOnlyView() {
+        //SETUP
+        EncodedPayload payload = new EncodedPayload(new TestContent("hello", 42), 0);
+
+        //RUN
+        ByteBuffer buffer = payload.getByteBuffer();
+
+        //ASSERT
+        assertTrue(buffer.isReadOnly());
+        assertEquals(payload.getActualLength(), buffer.remaining());
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertArrayEquals(payload.getBytes(), bytes);
+        assertEquals(0, new EncodedPayload(10, 10).getByteBuffer().remaining());
+    }
+
+    public static class TestContent implements ToDataOutput {
+
+        private final String text;
+        private final int number;
+
+        public TestContent(String text, int number) {
+            this.text = text;
+            this.number = number;
+        }
+
+        public TestContent(DataInput dataInput) throws IOException {
+            this.number = dataInput.readInt();
+            byte[] textBytes = new byte[dataInput.readInt()];
+            dataInput.readFully(textBytes);
+            this.text = new String(textBytes);
+        }
+
+        @Override
+        public void toDataOutput(DataOutput dataOutput) throws IOException {
+            byte[] textBytes = text.getBytes();
+            dataOutput.writeInt(number);
+            dataOutput.writeInt(textBytes.length);
+            dataOutput.write(textBytes);
+        }
+    }
+}
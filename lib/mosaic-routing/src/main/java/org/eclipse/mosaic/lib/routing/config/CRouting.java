@@ -27,4 +27,22 @@ public class CRouting implements Serializable {
      */
     public String source = null;
 
+    /**
+     * The number of landmarks to prepare for each vehicle profile, which speeds up the calculation of the best route.
+     * The preparation is done once when the routing is initialized. Default: 0 (no preparation)
+     */
+    public int landmarks = 0;
+
+    /**
+     * If set to {@code true}, the prepared routing graph is stored next to the database and is loaded from there
+     * in subsequent simulations, as long as the database remains unchanged. Default: false
+     */
+    public boolean graphCache = false;
+
+    /**
+     * If set to {@code true}, the road network of the database is held in a compact, read-only representation
+     * based on primitive arrays, which requires far less memory for large road networks. Default: false
+     */
+    public boolean compactDatabase = false;
+
 }
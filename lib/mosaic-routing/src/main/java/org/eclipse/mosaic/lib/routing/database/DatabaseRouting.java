@@ -38,6 +38,7 @@ import org.eclipse.mosaic.lib.routing.RoutingRequest;
 import org.eclipse.mosaic.lib.routing.RoutingResponse;
 import org.eclipse.mosaic.lib.routing.config.CRouting;
 import org.eclipse.mosaic.lib.routing.graphhopper.GraphHopperRouting;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphCache;
 import org.eclipse.mosaic.rti.api.InternalFederateException;
 
 import com.google.common.collect.Iterables;
@@ -46,6 +47,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -80,17 +82,32 @@ public class DatabaseRouting implements Routing {
 
         // actually try to load
         try {
-            this.scenarioDatabase = Database.loadFromFile(dbFile);
+            this.scenarioDatabase = Database.loadFromFile(dbFile, configuration != null && configuration.compactDatabase);
         } catch (RuntimeException re) {
             throw new InternalFederateException("Could not load database file! Invalid type or outdated?", re);
         }
 
         //creates an implementation of IRoutingGraph according to the configuration
-        this.routing = new GraphHopperRouting(scenarioDatabase);
+        this.routing = new GraphHopperRouting(scenarioDatabase, createGraphCache(configuration, dbFile));
+        if (configuration != null && configuration.landmarks > 0) {
+            this.routing.prepareLandmarks(configuration.landmarks);
+        }
 
         this.routeManager = new RouteManager(this.scenarioDatabase);
     }
 
+    private GraphCache createGraphCache(CRouting configuration, File dbFile) {
+        if (configuration == null || !configuration.graphCache) {
+            return null;
+        }
+        try {
+            return GraphCache.forDatabase(dbFile);
+        } catch (IOException e) {
+            log.warn("Could not determine graph cache for database '{}'", dbFile.getAbsolutePath(), e);
+            return null;
+        }
+    }
+
     @Override
     public Map<String, VehicleRoute> getRoutesFromDatabaseForMessage() {
         return routeManager.getRoutesFromDatabaseForMessage();
@@ -25,11 +25,13 @@ import org.eclipse.mosaic.lib.enums.VehicleClass;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.geo.GeoUtils;
 import org.eclipse.mosaic.lib.routing.CandidateRoute;
+import org.eclipse.mosaic.lib.routing.EdgeProperties;
 import org.eclipse.mosaic.lib.routing.RoutingCostFunction;
 import org.eclipse.mosaic.lib.routing.RoutingPosition;
 import org.eclipse.mosaic.lib.routing.RoutingRequest;
 import org.eclipse.mosaic.lib.routing.graphhopper.algorithm.RoutingAlgorithmFactory;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.DatabaseGraphLoader;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphCache;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphhopperToDatabaseMapper;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.OptionalTurnCostProvider;
 import org.eclipse.mosaic.lib.routing.graphhopper.util.VehicleEncoding;
@@ -41,13 +43,18 @@ import com.graphhopper.config.Profile;
 import com.graphhopper.routing.Path;
 import com.graphhopper.routing.RoutingAlgorithm;
 import com.graphhopper.routing.ev.BooleanEncodedValue;
+import com.graphhopper.routing.lm.LMConfig;
+import com.graphhopper.routing.lm.PrepareLandmarks;
 import com.graphhopper.routing.querygraph.QueryGraph;
 import com.graphhopper.routing.querygraph.VirtualEdgeIteratorState;
 import com.graphhopper.routing.subnetwork.PrepareRoutingSubnetworks;
 import com.graphhopper.routing.util.AccessFilter;
 import com.graphhopper.routing.util.EdgeFilter;
+import com.graphhopper.routing.weighting.TurnCostProvider;
 import com.graphhopper.routing.weighting.Weighting;
 import com.graphhopper.storage.BaseGraph;
+import com.graphhopper.storage.Directory;
+import com.graphhopper.storage.GHDirectory;
 import com.graphhopper.storage.Graph;
 import com.graphhopper.storage.NodeAccess;
 import com.graphhopper.storage.RAMDirectory;
@@ -67,12 +74,16 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import javax.annotation.Nullable;
 
 @SuppressWarnings(value = "MS_SHOULD_BE_FINAL", justification = "Static fields kept public and adjustable for user customization")
 public class GraphHopperRouting {
@@ -137,33 +148,110 @@ public class GraphHopperRouting {
 
     private final DistanceCalc distanceCalculation = new DistancePlaneProjection();
 
-    private final GraphhopperToDatabaseMapper graphMapper;
     private final Database db;
     private final VehicleEncodingManager encoding;
-    private final BaseGraph graph;
-    private final LocationIndex locationIndex;
+    private GraphhopperToDatabaseMapper graphMapper;
+    private BaseGraph graph;
+    private LocationIndex locationIndex;
+
+    /**
+     * The algorithm to use for each profile, with the name of the profile as key.
+     */
+    private final Map<String, RoutingAlgorithmFactory> algorithmFactories = new HashMap<>();
 
     public GraphHopperRouting(Database db) {
+        this(db, null);
+    }
+
+    /**
+     * Creates the routing graph from the given database, or loads it memory-mapped from the given cache, if
+     * the cache already exists. Otherwise, the prepared graph is stored in the cache after its creation.
+     *
+     * @param db         the scenario database
+     * @param graphCache the cache to load the graph from or to store it in, or {@code null} to always create the graph in memory
+     */
+    public GraphHopperRouting(Database db, @Nullable GraphCache graphCache) {
         this.db = db;
 
-        graphMapper = new GraphhopperToDatabaseMapper();
         encoding = new VehicleEncodingManager(PROFILES);
 
-        graph = createGraphFromDatabase(db);
-        locationIndex = createLocationIndex();
-        cleanUpGraph();
+        if (graphCache != null && graphCache.exists() && loadGraphFromCache(graphCache)) {
+            return;
+        }
 
+        final GHDirectory directory = createDirectory(graphCache);
+        graphMapper = new GraphhopperToDatabaseMapper();
+        graph = createGraphFromDatabase(db, directory);
+        cleanUpGraph();
         graph.flush();
+
+        locationIndex = createLocationIndex();
+        if (directory.isStoring()) {
+            storeGraphInCache(graphCache);
+        }
+    }
+
+    private GHDirectory createDirectory(GraphCache graphCache) {
+        if (graphCache != null) {
+            try {
+                return graphCache.createDirectory();
+            } catch (IOException e) {
+                LOG.warn("Could not create graph cache {}", graphCache.getCacheDirectory(), e);
+            }
+        }
+        return new RAMDirectory();
     }
 
-    private BaseGraph createGraphFromDatabase(Database db) {
-        final BaseGraph graph = new BaseGraph
+    private boolean loadGraphFromCache(GraphCache graphCache) {
+        final Directory directory = graphCache.openDirectory();
+        final BaseGraph cachedGraph = createGraph(directory);
+        final GraphhopperToDatabaseMapper cachedGraphMapper = new GraphhopperToDatabaseMapper();
+        final LocationIndexTree cachedLocationIndex;
+        try {
+            if (!cachedGraph.loadExisting()) {
+                throw new IOException("Graph is missing");
+            }
+            // the location index takes the bounds of the graph on creation, therefore the graph must be loaded before
+            cachedLocationIndex = new LocationIndexTree(cachedGraph, directory).setMaxRegionSearch(4);
+            if (!cachedLocationIndex.loadExisting()) {
+                throw new IOException("Location index is missing");
+            }
+            graphCache.readMapping(db, cachedGraphMapper);
+            graphCache.readEncodedValues(encoding.getEncodingManager());
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Could not load graph from cache {}, creating graph from database instead", graphCache.getCacheDirectory(), e);
+            directory.close();
+            return false;
+        }
+        graph = cachedGraph;
+        locationIndex = cachedLocationIndex;
+        graphMapper = cachedGraphMapper;
+        LOG.info("loaded graph from cache {}, nodes: {}, edges: {}", graphCache.getCacheDirectory(), graph.getNodes(), graph.getEdges());
+        return true;
+    }
+
+    private void storeGraphInCache(GraphCache graphCache) {
+        try {
+            ((LocationIndexTree) locationIndex).flush();
+            graphCache.commit(graphMapper, encoding.getEncodingManager());
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Could not store graph in cache {}", graphCache.getCacheDirectory(), e);
+            graphCache.discard();
+        }
+    }
+
+    private BaseGraph createGraph(Directory directory) {
+        return new BaseGraph
                 .Builder(encoding.getEncodingManager())
-                .setDir(new RAMDirectory())
+                .setDir(directory)
                 .set3D(true)
                 .withTurnCosts(encoding.getEncodingManager().needsTurnCostsSupport())
                 .setSegmentSize(-1)
                 .build();
+    }
+
+    private BaseGraph createGraphFromDatabase(Database db, Directory directory) {
+        final BaseGraph graph = createGraph(directory);
 
         final DatabaseGraphLoader reader = new DatabaseGraphLoader(db);
         reader.initialize(graph, encoding, graphMapper);
@@ -195,6 +283,47 @@ public class GraphHopperRouting {
         return jobs;
     }
 
+    /**
+     * Prepares landmarks for all profiles, which are used to guide the search for the best route towards the target, and
+     * therefore reduces the number of nodes to visit during route calculation. The landmarks are prepared using the minimum
+     * travel time of each edge. This provides a lower bound for all costs of an edge, therefore they remain valid even if
+     * the cost function changes or travel times are updated during the simulation.
+     *
+     * @param numberOfLandmarks the number of landmarks to prepare for each profile
+     * @return this object
+     */
+    public GraphHopperRouting prepareLandmarks(int numberOfLandmarks) {
+        for (Profile profile : encoding.getAllProfiles()) {
+            final VehicleEncoding vehicleEncoding = encoding.getVehicleEncoding(profile.getVehicle());
+            final double maxSpeed = vehicleEncoding.speed().getMaxOrMaxStorableDecimal() / 3.6;
+            final RoutingCostFunction minimumTravelTime = new RoutingCostFunction() {
+                @Override
+                public double calculateCosts(EdgeProperties edgeProperties) {
+                    return edgeProperties.getLength() / maxSpeed;
+                }
+
+                @Override
+                public String getCostFunctionName() {
+                    return "MinimumTravelTime";
+                }
+            };
+            // landmarks are calculated node-based and therefore don't support turn costs
+            final Weighting lowerBoundWeighting = new GraphHopperWeighting(
+                    vehicleEncoding, encoding.wayType(), TurnCostProvider.NO_TURN_COST_PROVIDER, graphMapper
+            ).setRoutingCostFunction(minimumTravelTime);
+            // the name of the configuration must match the name of the subnetwork encoded value
+            final LMConfig landmarksConfig = new LMConfig(profile.getVehicle(), lowerBoundWeighting);
+            // landmarks are kept in memory only, since the directory of the graph may be a read-only cache
+            final PrepareLandmarks prepareLandmarks =
+                    new PrepareLandmarks(new RAMDirectory(), graph, encoding.getEncodingManager(), landmarksConfig, numberOfLandmarks);
+            prepareLandmarks.doWork();
+            LOG.info("Prepared {} landmarks for profile {} in {} ms",
+                    prepareLandmarks.getLandmarkStorage().getLandmarkCount(), profile.getName(), prepareLandmarks.getTotalPrepareTime());
+            algorithmFactories.put(profile.getName(), RoutingAlgorithmFactory.landmarks(prepareLandmarks.getLandmarkStorage()));
+        }
+        return this;
+    }
+
     public List<CandidateRoute> findRoutes(RoutingRequest routingRequest) {
         if (graph == null) {
             throw new IllegalStateException("Load database at first");
@@ -233,7 +362,7 @@ public class GraphHopperRouting {
                 routingRequest.getRoutingParameters().isConsiderTurnCosts()
         );
 
-        final RoutingAlgorithm algo = RoutingAlgorithmFactory.DEFAULT.createAlgorithm(
+        final RoutingAlgorithm algo = algorithmFactories.getOrDefault(profile.getName(), RoutingAlgorithmFactory.DEFAULT).createAlgorithm(
                 queryGraph, queryGraph.wrapWeighting(weighting), algoHints
         );
 
@@ -20,6 +20,8 @@ import org.eclipse.mosaic.lib.routing.graphhopper.GraphHopperRouting;
 import com.graphhopper.routing.AStarBidirection;
 import com.graphhopper.routing.AlternativeRoute;
 import com.graphhopper.routing.RoutingAlgorithm;
+import com.graphhopper.routing.lm.LMApproximator;
+import com.graphhopper.routing.lm.LandmarkStorage;
 import com.graphhopper.routing.util.TraversalMode;
 import com.graphhopper.routing.weighting.Weighting;
 import com.graphhopper.storage.Graph;
@@ -45,6 +47,25 @@ public interface RoutingAlgorithmFactory {
 
     RoutingAlgorithmFactory BELLMAN_FORD = BellmanFordRouting::new;
 
+    /**
+     * Creates a factory which uses the given landmarks to guide the search for the best route (A* with landmarks).
+     * Alternative routes are still calculated by the {@link #DEFAULT} algorithm, since GraphHopper doesn't support
+     * landmarks for alternative route searches.
+     *
+     * @param landmarks the prepared landmarks of the profile the routes are calculated for
+     * @return the {@link RoutingAlgorithmFactory}
+     */
+    static RoutingAlgorithmFactory landmarks(LandmarkStorage landmarks) {
+        final int activeLandmarks = Math.max(1, Math.min(landmarks.getLandmarkCount() / 2, 12));
+        return (graph, weighting, hints) -> {
+            if (hints.getInt(Parameters.Algorithms.AltRoute.MAX_PATHS, 1) > 1) {
+                return DEFAULT.createAlgorithm(graph, weighting, hints);
+            }
+            return new AStarBidirection(graph, weighting, TraversalMode.EDGE_BASED)
+                    .setApproximation(LMApproximator.forLandmarks(graph, weighting, landmarks, activeLandmarks));
+        };
+    }
+
     /**
      * Creates a {@link RoutingAlgorithm} instance for calculating routes based
      * on the given {@link Graph} and {@link Weighting} function.
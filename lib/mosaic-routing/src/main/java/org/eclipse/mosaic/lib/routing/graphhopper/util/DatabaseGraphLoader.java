@@ -150,7 +150,7 @@ public class DatabaseGraphLoader {
                     continue;
                 }
 
-                boolean isUTurn = conTo.getFrom() == conFrom.getTo() && conFrom.getFrom() == conTo.getTo();
+                boolean isUTurn = conTo.getFrom().equals(conFrom.getTo()) && conFrom.getFrom().equals(conTo.getTo());
                 boolean isOnRoad = outgoing.size() == 2;
                 boolean endsAtJunction = outgoing.size() > 2;
 
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.routing.graphhopper.util;
+
+import org.eclipse.mosaic.lib.database.Database;
+
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.graphhopper.routing.ev.ArrayEdgeIntAccess;
+import com.graphhopper.routing.ev.EdgeIntAccess;
+import com.graphhopper.routing.ev.EncodedValue;
+import com.graphhopper.routing.ev.IntEncodedValueImpl;
+import com.graphhopper.routing.util.EncodingManager;
+import com.graphhopper.storage.DAType;
+import com.graphhopper.storage.Directory;
+import com.graphhopper.storage.GHDirectory;
+import com.graphhopper.storage.RAMDirectory;
+import org.apache.commons.io.FileUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores the prepared routing graph, its location index, the mapping between graph and database, and the
+ * state of the encoded values in a directory next to the scenario database. The name of the directory contains a hash of the content
+ * of the database, so a cache is only used as long as the database remains unchanged. An existing cache
+ * is opened memory-mapped and read-only, which allows several simulations to share the same cache.
+ * A new cache is written into a temporary directory first, which is moved to its final location
+ * when completed, so that incomplete caches are never used.
+ */
+public class GraphCache {
+
+    /**
+     * Must be increased whenever the content or format of the cache changes.
+     */
+    private static final int CACHE_VERSION = 1;
+
+    private static final String MAPPING_FILE = "mapping";
+
+    private static final String ENCODED_VALUES_FILE = "encoded_values";
+
+    private final File cacheDirectory;
+
+    private File temporaryDirectory;
+
+    public GraphCache(File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Creates a {@link GraphCache} for the given database file, located in the same directory as the database.
+     *
+     * @param databaseFile the file of the scenario database
+     * @return the {@link GraphCache} matching the current content of the database
+     * @throws IOException if the database file could not be read
+     */
+    public static GraphCache forDatabase(File databaseFile) throws IOException {
+        final Hasher hasher = Hashing.murmur3_128().newHasher().putInt(CACHE_VERSION);
+        try (InputStream in = Files.newInputStream(databaseFile.toPath());
+             OutputStream out = Funnels.asOutputStream(hasher)) {
+            in.transferTo(out);
+        }
+        return new GraphCache(new File(databaseFile.getAbsoluteFile().getParentFile(),
+                databaseFile.getName() + ".graph-" + hasher.hash()));
+    }
+
+    public File getCacheDirectory() {
+        return cacheDirectory;
+    }
+
+    /**
+     * Returns {@code true}, if a complete cache exists for the database.
+     */
+    public boolean exists() {
+        return new File(cacheDirectory, MAPPING_FILE).isFile();
+    }
+
+    /**
+     * Opens the directory of an existing cache, memory-mapped and read-only.
+     */
+    public Directory openDirectory() {
+        return new GHDirectory(cacheDirectory.getAbsolutePath(), DAType.MMAP_RO);
+    }
+
+    /**
+     * Creates a new temporary directory to prepare the graph in. All data is kept in memory
+     * and is written to the temporary directory when flushed.
+     *
+     * @throws IOException if the temporary directory could not be created
+     */
+    public RAMDirectory createDirectory() throws IOException {
+        temporaryDirectory = Files.createTempDirectory(
+                cacheDirectory.getAbsoluteFile().getParentFile().toPath(), cacheDirectory.getName() + ".tmp"
+        ).toFile();
+        return new RAMDirectory(temporaryDirectory.getAbsolutePath(), true);
+    }
+
+    /**
+     * Reads the mapping between graph and database of an existing cache.
+     *
+     * @param database   the database to resolve nodes and connections from
+     * @param graphMapper the mapper to fill
+     * @throws IOException if the mapping could not be read or doesn't match the database
+     */
+    public void readMapping(Database database, GraphhopperToDatabaseMapper graphMapper) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(new File(cacheDirectory, MAPPING_FILE).toPath())))) {
+            graphMapper.readFrom(in, database);
+        }
+    }
+
+    /**
+     * Restores the maximum value of all encoded values of an existing cache. GraphHopper keeps track of the maximum
+     * value stored for each encoded value while creating the graph, e.g. to estimate the minimum costs towards the target.
+     *
+     * @param encodingManager the encoding manager of the graph
+     * @throws IOException if the encoded values could not be read or don't match the encoding manager
+     */
+    public void readEncodedValues(EncodingManager encodingManager) throws IOException {
+        // the values are only set in order to update the maximum value, therefore they are written into a separate array
+        final EdgeIntAccess edgeIntAccess = new ArrayEdgeIntAccess(encodingManager.getIntsForFlags());
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(new File(cacheDirectory, ENCODED_VALUES_FILE).toPath())))) {
+            final int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                final String name = in.readUTF();
+                final int maxValue = in.readInt();
+                if (!encodingManager.hasEncodedValue(name)) {
+                    throw new IOException("Unknown encoded value " + name);
+                }
+                encodingManager.getEncodedValue(name, IntEncodedValueImpl.class).setInt(false, 0, edgeIntAccess, maxValue);
+            }
+        }
+    }
+
+    /**
+     * Writes the mapping and the encoded values into the temporary directory and moves the temporary directory to its final
+     * location. The graph and location index must have been flushed before. If another process completed the same cache
+     * in the meantime, the temporary directory is discarded.
+     *
+     * @param graphMapper     the mapping between graph and database
+     * @param encodingManager the encoding manager of the graph
+     * @throws IOException if the cache could not be written
+     */
+    public void commit(GraphhopperToDatabaseMapper graphMapper, EncodingManager encodingManager) throws IOException {
+        if (temporaryDirectory == null) {
+            throw new IllegalStateException("No temporary directory has been created.");
+        }
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(new File(temporaryDirectory, MAPPING_FILE).toPath())))) {
+                graphMapper.writeTo(out);
+            }
+            writeEncodedValues(encodingManager);
+            Files.move(temporaryDirectory.toPath(), cacheDirectory.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            FileUtils.deleteQuietly(temporaryDirectory);
+        } catch (IOException e) {
+            FileUtils.deleteQuietly(temporaryDirectory);
+            if (!exists()) {
+                throw e;
+            }
+        } finally {
+            temporaryDirectory = null;
+        }
+    }
+
+    private void writeEncodedValues(EncodingManager encodingManager) throws IOException {
+        final List<IntEncodedValueImpl> encodedValues = new ArrayList<>();
+        for (EncodedValue encodedValue : encodingManager.getEncodedValues()) {
+            if (encodedValue instanceof IntEncodedValueImpl) {
+                encodedValues.add((IntEncodedValueImpl) encodedValue);
+            }
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(new File(temporaryDirectory, ENCODED_VALUES_FILE).toPath())))) {
+            out.writeInt(encodedValues.size());
+            for (IntEncodedValueImpl encodedValue : encodedValues) {
+                out.writeUTF(encodedValue.getName());
+                out.writeInt(encodedValue.getMaxOrMaxStorableInt());
+            }
+        }
+    }
+
+    /**
+     * Removes the temporary directory, e.g. if the preparation of the graph failed.
+     */
+    public void discard() {
+        FileUtils.deleteQuietly(temporaryDirectory);
+        temporaryDirectory = null;
+    }
+}
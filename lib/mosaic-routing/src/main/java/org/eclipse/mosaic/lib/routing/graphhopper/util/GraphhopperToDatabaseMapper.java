@@ -15,6 +15,7 @@
 
 package org.eclipse.mosaic.lib.routing.graphhopper.util;
 
+import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.database.road.Connection;
 import org.eclipse.mosaic.lib.database.road.Node;
 
@@ -22,6 +23,12 @@ import com.carrotsearch.hppc.IntObjectHashMap;
 import com.carrotsearch.hppc.IntObjectMap;
 import com.carrotsearch.hppc.ObjectIntHashMap;
 import com.carrotsearch.hppc.ObjectIntMap;
+import com.carrotsearch.hppc.cursors.IntObjectCursor;
+import com.carrotsearch.hppc.cursors.ObjectIntCursor;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 public class GraphhopperToDatabaseMapper {
 
@@ -62,6 +69,84 @@ public class GraphhopperToDatabaseMapper {
         getGraphToDbNodeMap().put(nodeId, node);
     }
 
+    /**
+     * Writes the index of each node and edge in the graph together with the id of the according node or
+     * connection in the database. Both directions are written separately, since a connection may be
+     * represented by more than one edge.
+     *
+     * @param out the output to write to
+     * @throws IOException if the mapping could not be written
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(getGraphToDbNodeMap().size());
+        for (IntObjectCursor<Node> entry : getGraphToDbNodeMap()) {
+            out.writeInt(entry.key);
+            out.writeUTF(entry.value.getId());
+        }
+        out.writeInt(getDbToGraphNodeMap().size());
+        for (ObjectIntCursor<Node> entry : getDbToGraphNodeMap()) {
+            out.writeUTF(entry.key.getId());
+            out.writeInt(entry.value);
+        }
+        out.writeInt(getGraphToDbConnectionMap().size());
+        for (IntObjectCursor<Connection> entry : getGraphToDbConnectionMap()) {
+            out.writeInt(entry.key);
+            out.writeUTF(entry.value.getId());
+        }
+        out.writeInt(getDbToGraphConnectionMap().size());
+        for (ObjectIntCursor<Connection> entry : getDbToGraphConnectionMap()) {
+            out.writeUTF(entry.key.getId());
+            out.writeInt(entry.value);
+        }
+    }
+
+    /**
+     * Reads a mapping previously written by {@link #writeTo(DataOutput)} and resolves
+     * all nodes and connections from the given database.
+     *
+     * @param in       the input to read from
+     * @param database the database to resolve nodes and connections from
+     * @throws IOException if the mapping could not be read or refers to unknown nodes or connections
+     */
+    public void readFrom(DataInput in, Database database) throws IOException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            final int nodeIndex = in.readInt();
+            getGraphToDbNodeMap().put(nodeIndex, readNode(in, database));
+        }
+        size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            getDbToGraphNodeMap().put(readNode(in, database), in.readInt());
+        }
+        size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            final int edgeIndex = in.readInt();
+            getGraphToDbConnectionMap().put(edgeIndex, readConnection(in, database));
+        }
+        size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            getDbToGraphConnectionMap().put(readConnection(in, database), in.readInt());
+        }
+    }
+
+    private static Node readNode(DataInput in, Database database) throws IOException {
+        final String nodeId = in.readUTF();
+        final Node node = database.getNode(nodeId);
+        if (node == null) {
+            throw new IOException("Unknown node " + nodeId);
+        }
+        return node;
+    }
+
+    private static Connection readConnection(DataInput in, Database database) throws IOException {
+        final String connectionId = in.readUTF();
+        final Connection connection = database.getConnection(connectionId);
+        if (connection == null) {
+            throw new IOException("Unknown connection " + connectionId);
+        }
+        return connection;
+    }
+
     private ObjectIntMap<Connection> getDbToGraphConnectionMap() {
         if (dbToGraphConnectionMap == null) {
             dbToGraphConnectionMap = new ObjectIntHashMap<>();
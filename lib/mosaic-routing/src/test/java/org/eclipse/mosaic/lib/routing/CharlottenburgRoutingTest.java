@@ -16,17 +16,22 @@
 package org.eclipse.mosaic.lib.routing;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.database.road.Connection;
+import org.eclipse.mosaic.lib.database.road.Node;
 import org.eclipse.mosaic.lib.enums.VehicleClass;
 import org.eclipse.mosaic.lib.geo.GeoPoint;
 import org.eclipse.mosaic.lib.junit.GeoProjectionRule;
 import org.eclipse.mosaic.lib.routing.graphhopper.GraphHopperRouting;
+import org.eclipse.mosaic.lib.routing.graphhopper.util.GraphCache;
 
 import com.google.common.collect.Lists;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.time.StopWatch;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -34,7 +39,9 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Test routing with a real world map (Charlottenburg extract from BeST scenario).
@@ -49,12 +56,13 @@ public class CharlottenburgRoutingTest {
     @Rule
     public TemporaryFolder folder = new TemporaryFolder();
 
+    private File dbFileCopy;
     private Database database;
     private GraphHopperRouting routing;
 
     @Before
     public void setUp() throws IOException {
-        final File dbFileCopy = folder.newFile("charlottenburg.db");
+        dbFileCopy = folder.newFile("charlottenburg.db");
 
         FileUtils.copyInputStreamToFile(getClass().getResourceAsStream(dbFile), dbFileCopy);
 
@@ -84,6 +92,125 @@ public class CharlottenburgRoutingTest {
                 result.get(1).getConnectionIds());
     }
 
+    @Test
+    public void findPaths_withLandmarks_sameCostsAsWithoutLandmarks() {
+        final GraphHopperRouting routingWithLandmarks = new GraphHopperRouting(database).prepareLandmarks(16);
+        final List<Node> nodes = new ArrayList<>(database.getNodes());
+        final Random random = new Random(4711);
+
+        for (RoutingCostFunction costFunction : new RoutingCostFunction[]{RoutingCostFunction.Fastest, RoutingCostFunction.Shortest}) {
+            for (VehicleClass vehicleClass : new VehicleClass[]{VehicleClass.Car, VehicleClass.Bicycle}) {
+                for (int i = 0; i < 100; i++) {
+                    final RoutingRequest request = createRequest(nodes, random, vehicleClass, costFunction);
+                    final List<CandidateRoute> expected = routing.findRoutes(request);
+                    final List<CandidateRoute> actual = routingWithLandmarks.findRoutes(request);
+                    assertEquals(expected.size(), actual.size());
+                    if (!expected.isEmpty()) {
+                        if (costFunction == RoutingCostFunction.Shortest) {
+                            assertEquals(expected.get(0).getLength(), actual.get(0).getLength(), 0.1);
+                        } else {
+                            assertEquals(expected.get(0).getTime(), actual.get(0).getTime(), 0.1);
+                        }
+                        assertValidRoute(actual.get(0));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void findPaths_withGraphCache_sameRoutesAsWithoutCache() throws IOException {
+        final GraphCache graphCache = GraphCache.forDatabase(dbFileCopy);
+        assertFalse(graphCache.exists());
+
+        final StopWatch sw = new StopWatch();
+        sw.start();
+        new GraphHopperRouting(database, graphCache);
+        sw.stop();
+        final long creationDuration = sw.getTime();
+        assertTrue(graphCache.exists());
+
+        sw.reset();
+        sw.start();
+        final GraphHopperRouting cachedRouting = new GraphHopperRouting(database, GraphCache.forDatabase(dbFileCopy));
+        sw.stop();
+        final long loadingDuration = sw.getTime();
+
+        System.out.format("Creating graph and storing it in cache: %dms, loading graph from cache: %dms%n",
+                creationDuration, loadingDuration
+        );
+
+        final List<Node> nodes = new ArrayList<>(database.getNodes());
+        final Random random = new Random(4711);
+        for (int i = 0; i < 100; i++) {
+            final RoutingRequest request = createRequest(nodes, random, VehicleClass.Car, RoutingCostFunction.Fastest);
+            request.getRoutingParameters().alternativeRoutes(1);
+            final List<CandidateRoute> expected = routing.findRoutes(request);
+            final List<CandidateRoute> actual = cachedRouting.findRoutes(request);
+            assertEquals(expected.size(), actual.size());
+            for (int j = 0; j < expected.size(); j++) {
+                assertEquals(expected.get(j).getConnectionIds(), actual.get(j).getConnectionIds());
+            }
+        }
+    }
+
+    /**
+     * Compares the time required to calculate the best route between random nodes, as done when rerouting vehicles,
+     * with and without prepared landmarks.
+     */
+    @Test
+    public void rerouteLatency() {
+        final StopWatch sw = new StopWatch();
+        sw.start();
+        final GraphHopperRouting routingWithLandmarks = new GraphHopperRouting(database).prepareLandmarks(16);
+        sw.stop();
+        final long preparationDuration = sw.getTime();
+
+        final List<Node> nodes = new ArrayList<>(database.getNodes());
+        final Random random = new Random(4711);
+        final List<RoutingRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            requests.add(createRequest(nodes, random, VehicleClass.Car, RoutingCostFunction.Fastest));
+        }
+
+        // warm up
+        findAllRoutes(routing, requests);
+        findAllRoutes(routingWithLandmarks, requests);
+
+        sw.reset();
+        sw.start();
+        findAllRoutes(routing, requests);
+        sw.stop();
+        final long defaultDuration = sw.getTime();
+
+        sw.reset();
+        sw.start();
+        findAllRoutes(routingWithLandmarks, requests);
+        sw.stop();
+        final long landmarksDuration = sw.getTime();
+
+        System.out.format("Calculating %d routes: without landmarks: %dms, with landmarks: %dms (preparation: %dms)%n",
+                requests.size(), defaultDuration, landmarksDuration, preparationDuration
+        );
+    }
+
+    private static void findAllRoutes(GraphHopperRouting routing, List<RoutingRequest> requests) {
+        for (RoutingRequest request : requests) {
+            routing.findRoutes(request);
+        }
+    }
+
+    private static RoutingRequest createRequest(List<Node> nodes, Random random, VehicleClass vehicleClass,
+                                                RoutingCostFunction costFunction) {
+        return new RoutingRequest(
+                new RoutingPosition(nodes.get(random.nextInt(nodes.size())).getPosition()),
+                new RoutingPosition(nodes.get(random.nextInt(nodes.size())).getPosition()),
+                new RoutingParameters()
+                        .vehicleClass(vehicleClass)
+                        .costFunction(costFunction)
+        );
+    }
+
     private void assertValidRoute(CandidateRoute candidateRoute) {
         Connection currentConnection;
         Connection previousConnection = null;
@@ -19,7 +19,10 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import org.eclipse.mosaic.lib.database.Database;
 import org.eclipse.mosaic.lib.database.road.Connection;
 import org.eclipse.mosaic.lib.database.road.Node;
 import org.eclipse.mosaic.lib.database.road.Way;
@@ -27,6 +30,12 @@ import org.eclipse.mosaic.lib.geo.GeoPoint;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 public class GraphhopperToDatabaseMapperTest {
 
     /**
@@ -75,4 +84,55 @@ public class GraphhopperToDatabaseMapperTest {
         assertTrue(mapper.fromNode(new Node("3", GeoPoint.lonLat(0, 0))) < 0);
     }
 
+    @Test
+    public void writeAndRead() throws IOException {
+        Node n1 = new Node("1", GeoPoint.lonLat(0, 0));
+        Node n2 = new Node("1337", GeoPoint.lonLat(0, 0));
+        Connection con1 = new Connection("con1", new Way("", "", ""));
+        Connection con2 = new Connection("1337", new Way("", "", ""));
+
+        Database database = mock(Database.class);
+        when(database.getNode("1")).thenReturn(n1);
+        when(database.getNode("1337")).thenReturn(n2);
+        when(database.getConnection("con1")).thenReturn(con1);
+        when(database.getConnection("1337")).thenReturn(con2);
+
+        GraphhopperToDatabaseMapper mapper = new GraphhopperToDatabaseMapper();
+        mapper.setConnection(con1, 101);
+        mapper.setConnection(con2, 102);
+        // one connection represented by two edges
+        mapper.setConnection(con2, 103);
+        mapper.setNode(n1, 1);
+        mapper.setNode(n2, 2);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        mapper.writeTo(new DataOutputStream(bytes));
+
+        GraphhopperToDatabaseMapper readMapper = new GraphhopperToDatabaseMapper();
+        readMapper.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), database);
+
+        assertEquals(101, readMapper.fromConnection(con1), 0d);
+        assertEquals(103, readMapper.fromConnection(con2), 0d);
+        assertEquals(1, readMapper.fromNode(n1), 0d);
+        assertEquals(2, readMapper.fromNode(n2), 0d);
+
+        assertSame(con1, readMapper.toConnection(101));
+        assertSame(con2, readMapper.toConnection(102));
+        assertSame(con2, readMapper.toConnection(103));
+        assertSame(n1, readMapper.toNode(1));
+        assertSame(n2, readMapper.toNode(2));
+    }
+
+    @Test(expected = IOException.class)
+    public void readUnknownNode() throws IOException {
+        GraphhopperToDatabaseMapper mapper = new GraphhopperToDatabaseMapper();
+        mapper.setNode(new Node("1", GeoPoint.lonLat(0, 0)), 1);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        mapper.writeTo(new DataOutputStream(bytes));
+
+        new GraphhopperToDatabaseMapper()
+                .readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), mock(Database.class));
+    }
+
 }
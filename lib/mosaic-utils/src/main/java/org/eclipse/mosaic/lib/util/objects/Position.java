@@ -43,16 +43,17 @@ public class Position implements Serializable {
     private final CartesianPoint projectedPosition;
 
     /**
-     * Geographic position with latitude and longitude coordinate.
+     * Geographic position with latitude and longitude coordinate. If this position has been created from
+     * a projected position only, the geographic position is calculated on first access.
      */
-    private final GeoPoint geographicPosition;
+    private GeoPoint geographicPosition;
 
     private final boolean valid;
 
     private Position(boolean valid, CartesianPoint cartesianPoint, GeoPoint geoPoint) {
         this.valid = valid;
         this.projectedPosition = Validate.notNull(cartesianPoint);
-        this.geographicPosition = Validate.notNull(geoPoint);
+        this.geographicPosition = geoPoint;
     }
 
     /**
@@ -70,14 +71,32 @@ public class Position implements Serializable {
      * @param projectedPosition the {@link CartesianPoint} describing the cartessian position with x,y
      */
     public Position(final CartesianPoint projectedPosition) {
-        this(true, projectedPosition, projectedPosition.toGeo());
+        this(true, projectedPosition, null);
+    }
+
+    /**
+     * Creates a new {@link Position} object based on a cartesian position and its already known geographic position,
+     * e.g. if many positions have been converted at once using the bulk methods of the
+     * {@link org.eclipse.mosaic.lib.transform.GeoProjection}.
+     *
+     * @param projectedPosition  the {@link CartesianPoint} describing the cartesian position with x,y
+     * @param geographicPosition the {@link GeoPoint} describing the geographic position of {@code projectedPosition}
+     */
+    public Position(final CartesianPoint projectedPosition, final GeoPoint geographicPosition) {
+        this(true, projectedPosition, Validate.notNull(geographicPosition));
     }
 
     /**
      * Returns the geographic coordinate of this position.
      */
     public GeoPoint getGeographicPosition() {
-        return geographicPosition;
+        // GeoPoint is immutable, therefore concurrent initialization may only result in calculating it twice
+        GeoPoint geoPoint = geographicPosition;
+        if (geoPoint == null) {
+            geoPoint = projectedPosition.toGeo();
+            geographicPosition = geoPoint;
+        }
+        return geoPoint;
     }
 
     /**
@@ -115,7 +134,7 @@ public class Position implements Serializable {
     @Override
     public int hashCode() {
         return new HashCodeBuilder(1, 31)
-            .append(geographicPosition)
+            .append(getGeographicPosition())
             .append(projectedPosition)
             .append(valid)
             .toHashCode();
@@ -129,7 +148,7 @@ public class Position implements Serializable {
 
         Position rhs = (Position) obj;
         return new EqualsBuilder()
-                        .append(this.geographicPosition, rhs.geographicPosition)
+                        .append(this.getGeographicPosition(), rhs.getGeographicPosition())
                         .append(this.projectedPosition, rhs.projectedPosition)
                         .append(this.valid, rhs.valid)
                         .isEquals();
@@ -137,6 +156,7 @@ public class Position implements Serializable {
 
     @Override
     public String toString() {
-        return "Position [valid=" + valid + ", projectedPosition=" + projectedPosition + ", geographicPosition=" + geographicPosition + "]";
+        return "Position [valid=" + valid + ", projectedPosition=" + projectedPosition
+                + ", geographicPosition=" + getGeographicPosition() + "]";
     }
 }
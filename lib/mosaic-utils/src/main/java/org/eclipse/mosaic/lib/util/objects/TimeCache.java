@@ -15,17 +15,22 @@
 
 package org.eclipse.mosaic.lib.util.objects;
 
-import org.apache.commons.lang3.tuple.Pair;
+import org.eclipse.mosaic.rti.TIME;
+
+import org.apache.commons.lang3.Validate;
 
 import java.io.Serializable;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import javax.annotation.Nullable;
-import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
 
 /**
  * This cache is a time based cache.
@@ -33,55 +38,312 @@ import javax.annotation.concurrent.NotThreadSafe;
  * Example usage: Network simulators could't provide the information when a V2XMessage is
  * expired. V2XMessages must be remove after a certain time to save memory.
  * </p>
+ * Items are looked up by their id in an open addressing hash table with primitive int keys. Additionally,
+ * each item is recorded in a bucket covering a fixed duration of time. During {@link #garbageCollection(long)}
+ * only the oldest buckets are visited, and buckets older than the given time are dropped as a whole,
+ * instead of checking the time of every cached item.
  */
-@NotThreadSafe
+@ThreadSafe
 public class TimeCache<T extends Identifiable> implements Serializable {
 
+    private static final long serialVersionUID = 1L;
+
+    private static final long DEFAULT_BUCKET_DURATION = TIME.SECOND;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
     /**
-     * Map containing all the message ids with the corresponding messages.
+     * The hash table is resized when it is filled by more than this factor.
      */
-    @Nonnull
-    private final Map<Integer, Pair<Long, T>> cache = new ConcurrentHashMap<>();
-    
+    private static final double MAX_LOAD_FACTOR = 0.5;
+
+    private final long bucketDuration;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Ids of all cached items, with the item in {@link #items} and the time in {@link #times} at the same index.
+     */
+    private int[] ids = new int[INITIAL_CAPACITY];
+
+    private Object[] items = new Object[INITIAL_CAPACITY];
+
+    private long[] times = new long[INITIAL_CAPACITY];
+
+    private int size = 0;
+
+    /**
+     * Buckets ordered by time, with the oldest bucket first.
+     */
+    private final Deque<Bucket> buckets = new ArrayDeque<>();
+
+    private long evictedItems = 0;
+
+    /**
+     * Creates a cache with buckets covering one second each.
+     */
+    public TimeCache() {
+        this(DEFAULT_BUCKET_DURATION);
+    }
+
+    /**
+     * Creates a cache with buckets covering the given duration. Smaller durations lead to more buckets,
+     * larger durations to more items being checked individually during {@link #garbageCollection(long)}.
+     *
+     * @param bucketDuration the duration of time covered by each bucket
+     */
+    public TimeCache(long bucketDuration) {
+        Validate.isTrue(bucketDuration > 0, "Bucket duration must be greater than 0.");
+        this.bucketDuration = bucketDuration;
+    }
+
     /**
      * Returns a v2x message based on their id.
      * @param id the id of the cached message.
      * @return the cached message.
      */
+    @SuppressWarnings("unchecked")
     @Nullable
     public final T getItem(int id) {
-        Pair<Long, T> pair = cache.get(id);
-        if (pair != null) {
-            return pair.getRight();
+        lock.readLock().lock();
+        try {
+            final int slot = findSlot(id);
+            return slot >= 0 ? (T) items[slot] : null;
+        } finally {
+            lock.readLock().unlock();
         }
-        return null;
     }
 
     /**
-     * Put a {@link T} object in the cache.
+     * Put a {@link T} object in the cache. If an object with the same id is already cached,
+     * it is replaced and associated with the new time.
      * @param time the time the object is associated with
      * @param object the object to cache.
      */
     public final void putItem(final long time, final T object) {
-        cache.put(object.getId(), Pair.of(time, object));
+        lock.writeLock().lock();
+        try {
+            final int id = object.getId();
+            int slot = hash(id) & (ids.length - 1);
+            while (items[slot] != null && ids[slot] != id) {
+                slot = (slot + 1) & (ids.length - 1);
+            }
+            if (items[slot] == null) {
+                size++;
+            }
+            ids[slot] = id;
+            items[slot] = object;
+            times[slot] = time;
+            getBucketFor(time).add(id, time);
+
+            if (size > ids.length * MAX_LOAD_FACTOR) {
+                resize(ids.length * 2);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
-    
+
     /**
      * Clean the cache until the given time.
      * @param time the time until the cache is valid.
-     * @return a set of the removed messages
+     * @return the ids of the removed items
+     */
+    public final Collection<Integer> garbageCollection(final long time) {
+        if (time <= 0) {
+            return Collections.emptyList();
+        }
+        lock.writeLock().lock();
+        try {
+            final List<Integer> removedIds = new ArrayList<>();
+            while (!buckets.isEmpty()) {
+                final Bucket oldest = buckets.peekFirst();
+                if (oldest.maxTime < time) {
+                    // all items of the bucket are older, unless they have been put again later on
+                    for (int i = 0; i < oldest.size; i++) {
+                        removeIfOlder(oldest.ids[i], time, removedIds);
+                    }
+                    buckets.removeFirst();
+                } else {
+                    if (oldest.minTime < time) {
+                        oldest.removeOlder(time, removedIds);
+                    }
+                    break;
+                }
+            }
+            evictedItems += removedIds.size();
+            return removedIds.isEmpty() ? Collections.emptyList() : removedIds;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of currently cached items.
+     */
+    public final int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of buckets which currently hold items.
+     */
+    public final int getNumberOfBuckets() {
+        lock.readLock().lock();
+        try {
+            return buckets.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of items removed by all calls of {@link #garbageCollection(long)} so far.
      */
-    public final Set<Integer> garbageCollection(final long time) {
-        final Set<Integer> removedIds = new HashSet<>();
-        if (time > 0) {
-            for (Iterator<Map.Entry<Integer, Pair<Long, T>>> it = cache.entrySet().iterator(); it.hasNext(); ) {
-                Map.Entry<Integer, Pair<Long, T>> entry = it.next();
-                if (entry.getValue().getLeft() < time) {
-                    it.remove();
-                    removedIds.add(entry.getKey());
+    public final long getEvictedItems() {
+        lock.readLock().lock();
+        try {
+            return evictedItems;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Bucket getBucketFor(long time) {
+        final Bucket newest = buckets.peekLast();
+        // items put with an earlier time are added to the newest bucket, and are therefore removed later than required
+        if (newest != null && time < newest.startTime + bucketDuration) {
+            return newest;
+        }
+        final Bucket bucket = new Bucket(time - Math.floorMod(time, bucketDuration));
+        buckets.addLast(bucket);
+        return bucket;
+    }
+
+    private void removeIfOlder(int id, long time, List<Integer> removedIds) {
+        final int slot = findSlot(id);
+        if (slot >= 0 && times[slot] < time) {
+            removeSlot(slot);
+            removedIds.add(id);
+        }
+    }
+
+    private int findSlot(int id) {
+        int slot = hash(id) & (ids.length - 1);
+        while (items[slot] != null) {
+            if (ids[slot] == id) {
+                return slot;
+            }
+            slot = (slot + 1) & (ids.length - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the item at the given slot and moves following items of the same probe sequence
+     * backwards, so that no tombstones are required.
+     */
+    private void removeSlot(int slot) {
+        final int mask = ids.length - 1;
+        int free = slot;
+        int current = (slot + 1) & mask;
+        while (items[current] != null) {
+            final int desired = hash(ids[current]) & mask;
+            // move the item if its desired slot is not located between the free slot and its current slot
+            if (((current - desired) & mask) >= ((current - free) & mask)) {
+                ids[free] = ids[current];
+                items[free] = items[current];
+                times[free] = times[current];
+                free = current;
+            }
+            current = (current + 1) & mask;
+        }
+        items[free] = null;
+        size--;
+    }
+
+    private void resize(int capacity) {
+        final int[] oldIds = ids;
+        final Object[] oldItems = items;
+        final long[] oldTimes = times;
+        ids = new int[capacity];
+        items = new Object[capacity];
+        times = new long[capacity];
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldItems[i] != null) {
+                int slot = hash(oldIds[i]) & (capacity - 1);
+                while (items[slot] != null) {
+                    slot = (slot + 1) & (capacity - 1);
+                }
+                ids[slot] = oldIds[i];
+                items[slot] = oldItems[i];
+                times[slot] = oldTimes[i];
+            }
+        }
+    }
+
+    private static int hash(int id) {
+        final int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Records the ids and times of all items put into the cache within the covered duration.
+     */
+    private class Bucket implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long startTime;
+
+        private long minTime = Long.MAX_VALUE;
+
+        private long maxTime = Long.MIN_VALUE;
+
+        private int[] ids = new int[64];
+
+        private long[] times = new long[64];
+
+        private int size = 0;
+
+        private Bucket(long startTime) {
+            this.startTime = startTime;
+        }
+
+        private void add(int id, long time) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                times = Arrays.copyOf(times, size * 2);
+            }
+            ids[size] = id;
+            times[size] = time;
+            size++;
+            minTime = Math.min(minTime, time);
+            maxTime = Math.max(maxTime, time);
+        }
+
+        /**
+         * Removes all entries older than the given time from this bucket and the items from the cache.
+         */
+        private void removeOlder(long time, List<Integer> removedIds) {
+            int remaining = 0;
+            minTime = Long.MAX_VALUE;
+            for (int i = 0; i < size; i++) {
+                if (times[i] < time) {
+                    removeIfOlder(ids[i], time, removedIds);
+                } else {
+                    ids[remaining] = ids[i];
+                    times[remaining] = times[i];
+                    minTime = Math.min(minTime, times[i]);
+                    remaining++;
                 }
             }
+            size = remaining;
         }
-        return removedIds;
     }
 }
@@ -19,11 +19,7 @@ import org.eclipse.mosaic.lib.util.ClassUtils;
 
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 import org.apache.commons.lang3.Validate;
-import org.apache.commons.lang3.builder.CompareToBuilder;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import javax.annotation.Nonnull;
@@ -107,7 +103,7 @@ public class Event implements Comparable<Event> {
      */
     public Event(final long time, @Nonnull final EventProcessor processor,
                  @Nullable final Object resource) {
-        this(time, Collections.singletonList(processor), resource, NICE_DEFAULT_PRIORITY);
+        this(time, singleProcessor(processor), resource, NICE_DEFAULT_PRIORITY);
     }
 
     /**
@@ -121,7 +117,14 @@ public class Event implements Comparable<Event> {
      */
     public Event(final long time, @Nonnull final EventProcessor processor,
                  @Nullable final Object resource, final long nice) {
-        this(time, Collections.singletonList(processor), resource, nice);
+        this(time, singleProcessor(processor), resource, nice);
+    }
+
+    /**
+     * Returns an immutable list containing the given processor, which is not copied again by {@link List#copyOf}.
+     */
+    private static List<EventProcessor> singleProcessor(final EventProcessor processor) {
+        return List.of(Objects.requireNonNull(processor, "All event processors must not be null."));
     }
 
     /**
@@ -232,21 +235,23 @@ public class Event implements Comparable<Event> {
 
     @Override
     public int compareTo(final Event event) {
-        return new CompareToBuilder()
-                .append(this.time, event.time)
-                .append(this.nice, event.nice)
-                .append(this.seqNr, event.seqNr)
-                .toComparison();
+        // called very often by the event schedulers, therefore no builder is used here
+        if (this.time != event.time) {
+            return Long.compare(this.time, event.time);
+        }
+        if (this.nice != event.nice) {
+            return Long.compare(this.nice, event.nice);
+        }
+        return Long.compare(this.seqNr, event.seqNr);
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder(5, 11)
-                .append(time)
-                .append(nice)
-                .append(processors)
-                .append(resource)
-                .toHashCode();
+        int result = Long.hashCode(time);
+        result = 31 * result + Long.hashCode(nice);
+        result = 31 * result + processors.hashCode();
+        result = 31 * result + Objects.hashCode(resource);
+        return result;
     }
 
     @Override
@@ -262,12 +267,10 @@ public class Event implements Comparable<Event> {
         }
 
         Event rhs = (Event) obj;
-        return new EqualsBuilder()
-                .append(this.time, rhs.time)
-                .append(this.nice, rhs.nice)
-                .append(this.processors, rhs.processors)
-                .append(this.resource, rhs.resource)
-                .isEquals();
+        return this.time == rhs.time
+                && this.nice == rhs.nice
+                && this.processors.equals(rhs.processors)
+                && Objects.equals(this.resource, rhs.resource);
     }
 
     @Override
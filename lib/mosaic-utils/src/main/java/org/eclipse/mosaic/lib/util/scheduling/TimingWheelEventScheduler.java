@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import org.eclipse.mosaic.rti.TIME;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.Nonnull;
+
+/**
+ * Sequential implementation of the {@link EventScheduler} based on a hierarchical timing wheel. Events are
+ * processed in exactly the same order as by the {@link DefaultEventScheduler}, i.e. ordered by their time, their
+ * nice value, and the order in which they have been added.
+ * <br/><br/>
+ * Instead of sorting all events in one heap, the simulation time is divided into ticks, and events are
+ * put into the slots of several wheels, each having {@value #SLOTS} slots. A slot of the first wheel holds the
+ * events of one tick, a slot of each following wheel covers a {@value #SLOTS} times larger time span. Whenever the
+ * scheduled time reaches the slot of a higher wheel, its events are distributed to the lower wheels. Only the
+ * events of the currently scheduled time are sorted, and events too far in the future are kept in an overflow heap.
+ * This way, adding an event takes constant time, regardless of the number of scheduled events.
+ */
+public class TimingWheelEventScheduler implements EventScheduler {
+
+    /**
+     * The default duration of one tick of the first wheel. Unit: [ns].
+     */
+    public static final long DEFAULT_TICK_DURATION = TIME.MILLI_SECOND;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 5;
+
+    /**
+     * Orders events of the same time by their nice value and the order they have been added.
+     */
+    private static final Comparator<Event> SAME_TIME_ORDER = (a, b) -> a.getNice() != b.getNice()
+            ? Long.compare(a.getNice(), b.getNice())
+            : Long.compare(a.seqNr, b.seqNr);
+
+    /**
+     * The duration of one tick of the first wheel. Unit: [ns].
+     */
+    private final long tickDuration;
+
+    /**
+     * The events of each slot of each wheel. Lists are created on demand and reused once their slot has been emptied.
+     */
+    @SuppressWarnings("unchecked")
+    private final ArrayList<Event>[][] slots = new ArrayList[LEVELS][SLOTS];
+
+    /**
+     * The earliest time of all events in each slot of each wheel.
+     */
+    private final long[][] slotMinTimes = new long[LEVELS][SLOTS];
+
+    /**
+     * A bitmask of all non-empty slots for each wheel.
+     */
+    private final long[] occupiedSlots = new long[LEVELS];
+
+    /**
+     * Events which lie too far in the future to be put into the wheels.
+     */
+    private final PriorityQueue<Event> overflowEvents = new PriorityQueue<>();
+
+    /**
+     * Events of the currently scheduled time, sorted by their nice value and insertion order.
+     */
+    private final PriorityQueue<Event> dueEvents = new PriorityQueue<>(SAME_TIME_ORDER);
+
+    /**
+     * The tick of the scheduled time, which all wheels are aligned to.
+     */
+    private long currentTick;
+
+    /**
+     * The last scheduled time.
+     */
+    private long scheduledTime = Long.MIN_VALUE;
+
+    private long sequence = 0;
+
+    private int size = 0;
+
+    /**
+     * Creates a new {@link TimingWheelEventScheduler} with a tick duration of {@link #DEFAULT_TICK_DURATION}.
+     */
+    public TimingWheelEventScheduler() {
+        this(DEFAULT_TICK_DURATION);
+    }
+
+    /**
+     * Creates a new {@link TimingWheelEventScheduler}.
+     *
+     * @param tickDuration the duration of one tick of the first wheel, should match the typical time between events. Unit: [ns].
+     */
+    public TimingWheelEventScheduler(long tickDuration) {
+        Validate.isTrue(tickDuration > 0, "The tick duration must be greater than zero.");
+        this.tickDuration = tickDuration;
+        this.currentTick = tickOf(scheduledTime);
+    }
+
+    @Override
+    public void addEvent(@Nonnull final Event event) {
+        if (event.getTime() < getScheduledTime()) {
+            throw new IllegalArgumentException("Event lies in the past.");
+        }
+        event.seqNr = sequence++;
+        size++;
+        if (event.getTime() == scheduledTime) {
+            dueEvents.add(event);
+        } else {
+            insert(event);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public long getNextEventTime() {
+        if (isEmpty()) {
+            throw new IllegalStateException("No event in the queue.");
+        }
+        if (!dueEvents.isEmpty()) {
+            return scheduledTime;
+        }
+        // each wheel only holds events later than the events of all lower wheels
+        for (int level = 0; level < LEVELS; level++) {
+            if (occupiedSlots[level] != 0) {
+                return slotMinTimes[level][Long.numberOfTrailingZeros(occupiedSlots[level])];
+            }
+        }
+        return overflowEvents.peek().getTime();
+    }
+
+    @Override
+    public long getScheduledTime() {
+        return scheduledTime;
+    }
+
+    @Override
+    @Nonnull
+    public int scheduleEvents(final long time) {
+        if (!isEmpty() && getNextEventTime() < time) {
+            throw new RuntimeException("Scheduled event lies in the past.");
+        }
+        scheduledTime = time;
+        advanceTo(tickOf(time));
+        collectDueEvents(time);
+
+        int processedEvents = 0;
+        Event nextEvent;
+        // events added during processing at the same time are added to the due events directly
+        while ((nextEvent = dueEvents.poll()) != null) {
+            size--;
+            processedEvents += nextEvent.execute();
+        }
+        return processedEvents;
+    }
+
+    @Override
+    @Nonnull
+    public Set<Event> getAllEvents() {
+        final Set<Event> allEvents = new TreeSet<>(dueEvents);
+        for (int level = 0; level < LEVELS; level++) {
+            for (List<Event> events : slots[level]) {
+                if (events != null) {
+                    allEvents.addAll(events);
+                }
+            }
+        }
+        allEvents.addAll(overflowEvents);
+        return Collections.unmodifiableSet(allEvents);
+    }
+
+    private long tickOf(long time) {
+        return Math.floorDiv(time, tickDuration);
+    }
+
+    /**
+     * Puts the event into the lowest wheel whose current revolution contains the tick of the event. Requires
+     * the tick of the event to be not earlier than the current tick.
+     */
+    private void insert(final Event event) {
+        final long tick = tickOf(event.getTime());
+        for (int level = 0; level < LEVELS; level++) {
+            final int parentShift = SLOT_BITS * (level + 1);
+            if ((tick >> parentShift) == (currentTick >> parentShift)) {
+                addToSlot(level, (int) (tick >> (SLOT_BITS * level)) & SLOT_MASK, event);
+                return;
+            }
+        }
+        overflowEvents.add(event);
+    }
+
+    private void addToSlot(final int level, final int slot, final Event event) {
+        ArrayList<Event> events = slots[level][slot];
+        if (events == null) {
+            events = new ArrayList<>();
+            slots[level][slot] = events;
+        }
+        if (events.isEmpty()) {
+            occupiedSlots[level] |= 1L << slot;
+            slotMinTimes[level][slot] = event.getTime();
+        } else if (event.getTime() < slotMinTimes[level][slot]) {
+            slotMinTimes[level][slot] = event.getTime();
+        }
+        events.add(event);
+    }
+
+    /**
+     * Aligns all wheels to the given tick. Events of higher wheels, whose slot has been reached by the new tick,
+     * are moved to the lower wheels. Since no event lies before the new tick, earlier slots are empty.
+     */
+    private void advanceTo(final long tick) {
+        if (tick == currentTick) {
+            return;
+        }
+        if (tick < currentTick) {
+            // the scheduled time has been set back, which requires to align all events to the new tick
+            currentTick = tick;
+            reinsertAllEvents();
+            return;
+        }
+        currentTick = tick;
+
+        final int overflowShift = SLOT_BITS * LEVELS;
+        while (!overflowEvents.isEmpty()
+                && (tickOf(overflowEvents.peek().getTime()) >> overflowShift) == (tick >> overflowShift)) {
+            insert(overflowEvents.poll());
+        }
+        for (int level = LEVELS - 1; level > 0; level--) {
+            final int slot = (int) (tick >> (SLOT_BITS * level)) & SLOT_MASK;
+            if ((occupiedSlots[level] & (1L << slot)) != 0) {
+                final ArrayList<Event> events = slots[level][slot];
+                occupiedSlots[level] &= ~(1L << slot);
+                // all events are moved to lower wheels, therefore the list is not modified while iterating
+                for (int i = 0; i < events.size(); i++) {
+                    insert(events.get(i));
+                }
+                events.clear();
+            }
+        }
+    }
+
+    /**
+     * Moves all events of the given time from the slot of the current tick to the due events.
+     */
+    private void collectDueEvents(final long time) {
+        final int slot = (int) currentTick & SLOT_MASK;
+        if ((occupiedSlots[0] & (1L << slot)) == 0 || slotMinTimes[0][slot] != time) {
+            return;
+        }
+        final ArrayList<Event> events = slots[0][slot];
+        long minTime = Long.MAX_VALUE;
+        int remaining = 0;
+        for (int i = 0; i < events.size(); i++) {
+            final Event event = events.get(i);
+            if (event.getTime() == time) {
+                dueEvents.add(event);
+            } else {
+                events.set(remaining++, event);
+                minTime = Math.min(minTime, event.getTime());
+            }
+        }
+        for (int i = events.size() - 1; i >= remaining; i--) {
+            events.remove(i);
+        }
+        if (remaining == 0) {
+            occupiedSlots[0] &= ~(1L << slot);
+        } else {
+            slotMinTimes[0][slot] = minTime;
+        }
+    }
+
+    private void reinsertAllEvents() {
+        final List<Event> allEvents = new ArrayList<>(size);
+        allEvents.addAll(dueEvents);
+        dueEvents.clear();
+        for (int level = 0; level < LEVELS; level++) {
+            for (ArrayList<Event> events : slots[level]) {
+                if (events != null) {
+                    allEvents.addAll(events);
+                    events.clear();
+                }
+            }
+            occupiedSlots[level] = 0;
+        }
+        allEvents.addAll(overflowEvents);
+        overflowEvents.clear();
+        for (Event event : allEvents) {
+            if (event.getTime() == scheduledTime) {
+                dueEvents.add(event);
+            } else {
+                insert(event);
+            }
+        }
+    }
+}
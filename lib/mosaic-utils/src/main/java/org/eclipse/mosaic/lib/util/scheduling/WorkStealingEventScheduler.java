@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+
+/**
+ * Event scheduler which processes events of the same time on multiple threads using work stealing.
+ * <br/><br/>
+ * All events sharing the same affinity (by default, their first {@link EventProcessor}) are processed by one thread
+ * in their usual order, so that no locking is required within e.g. one simulation unit. Each such group of events is
+ * assigned to the queue of a fixed worker, and idle workers steal groups from the queues of other workers.
+ * Unlike the {@link MultiThreadedEventScheduler}, which waits for all events of one nice value before processing
+ * the next nice value, this scheduler only waits at the given barrier nice values. All events of the same time
+ * with a nice value below a barrier are processed completely before any event with a nice value at or above the
+ * barrier is started.
+ * <br/><br/>
+ * As with the {@link MultiThreadedEventScheduler}, events of different groups are processed in undetermined
+ * order, which might lead to different simulation results if processed events use the random number generator.
+ */
+public class WorkStealingEventScheduler extends DefaultEventScheduler {
+
+    private final int threads;
+
+    /**
+     * Executes the workers besides the calling thread, {@code null} if only one thread is used.
+     */
+    private final ExecutorService executorService;
+
+    private final Function<Event, Object> affinity;
+
+    private final long[] barriers;
+
+    private final ConcurrentLinkedDeque<List<Event>>[] workQueues;
+
+    /**
+     * Creates a new {@link WorkStealingEventScheduler} which groups events by their first processor,
+     * and does not wait between events of different nice values.
+     *
+     * @param threads the number of threads to process events with, including the calling thread
+     */
+    public WorkStealingEventScheduler(int threads) {
+        this(threads, event -> event.getProcessors().get(0));
+    }
+
+    /**
+     * Creates a new {@link WorkStealingEventScheduler}.
+     *
+     * @param threads  the number of threads to process events with, including the calling thread
+     * @param affinity returns the key for each event, events with the same key are processed by the same thread in order
+     * @param barriers nice values, before which all events with a lower nice value and the same time must be processed
+     */
+    @SuppressWarnings("unchecked")
+    public WorkStealingEventScheduler(int threads, @Nonnull Function<Event, Object> affinity, long... barriers) {
+        Validate.isTrue(threads > 0, "The number of threads must be greater than zero.");
+        this.threads = threads;
+        this.executorService = threads > 1 ? Executors.newFixedThreadPool(threads - 1) : null;
+        this.affinity = affinity;
+        this.barriers = barriers.clone();
+        Arrays.sort(this.barriers);
+        this.workQueues = new ConcurrentLinkedDeque[threads];
+        for (int i = 0; i < threads; i++) {
+            workQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public synchronized void addEvent(@Nonnull final Event event) {
+        super.addEvent(event);
+    }
+
+    @Override
+    public int scheduleEvents(long time) {
+        int processedEvents = 0;
+        scheduledTime = time;
+
+        while (true) {
+            Event nextEvent = eventQueue.peek();
+            if (nextEvent == null || nextEvent.getTime() > time) {
+                return processedEvents;
+            }
+            if (nextEvent.getTime() < time) {
+                throw new RuntimeException("Scheduled event lies in the past.");
+            }
+
+            // collect all events until the next barrier, grouped by their affinity
+            final int phase = getPhase(nextEvent.getNice());
+            final Map<Object, List<Event>> groupsByAffinity = new IdentityHashMap<>();
+            while (nextEvent != null && nextEvent.getTime() == time && getPhase(nextEvent.getNice()) == phase) {
+                eventQueue.remove();
+                final Object key = affinity.apply(nextEvent);
+                List<Event> group = groupsByAffinity.get(key);
+                if (group == null) {
+                    group = new ArrayList<>();
+                    groupsByAffinity.put(key, group);
+                    // the same key is always assigned to the same worker first
+                    workQueues[Math.floorMod(System.identityHashCode(key), threads)].addLast(group);
+                }
+                group.add(nextEvent);
+                nextEvent = eventQueue.peek();
+            }
+            try {
+                processedEvents += executeGroups(groupsByAffinity.size());
+            } catch (RuntimeException e) {
+                for (ConcurrentLinkedDeque<List<Event>> workQueue : workQueues) {
+                    workQueue.clear();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of barriers lying at or below the given nice value.
+     */
+    private int getPhase(long nice) {
+        int phase = 0;
+        while (phase < barriers.length && barriers[phase] <= nice) {
+            phase++;
+        }
+        return phase;
+    }
+
+    /**
+     * Processes all groups in the work queues and waits until all of them are finished.
+     *
+     * @param groups the number of groups in the work queues
+     * @return the total of processed events by all threads
+     */
+    private int executeGroups(int groups) {
+        if (executorService == null || groups == 1) {
+            int processedEvents = 0;
+            for (int worker = 0; worker < threads; worker++) {
+                processedEvents += processWorkQueue(worker);
+            }
+            return processedEvents;
+        }
+
+        final List<Future<Integer>> futures = new ArrayList<>(threads - 1);
+        for (int i = 1; i < threads; i++) {
+            final int worker = i;
+            futures.add(executorService.submit(() -> processWorkQueue(worker)));
+        }
+
+        int processedEvents = 0;
+        RuntimeException failure = null;
+        try {
+            processedEvents += processWorkQueue(0);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        // wait for all other workers, even if processing failed, so that no events are processed afterwards
+        for (Future<Integer> future : futures) {
+            try {
+                processedEvents += future.get();
+            } catch (InterruptedException | ExecutionException e) {
+                if (failure == null) {
+                    failure = new RuntimeException(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return processedEvents;
+    }
+
+    /**
+     * Processes the groups of the work queue of the given worker, and steals groups from other workers
+     * once its own queue is empty.
+     */
+    private int processWorkQueue(int worker) {
+        int processedEvents = 0;
+        List<Event> group;
+        while ((group = nextGroup(worker)) != null) {
+            for (int i = 0; i < group.size(); i++) {
+                processedEvents += group.get(i).execute();
+            }
+        }
+        return processedEvents;
+    }
+
+    private List<Event> nextGroup(int worker) {
+        final List<Event> group = workQueues[worker].pollFirst();
+        if (group != null) {
+            return group;
+        }
+        for (int i = 1; i < threads; i++) {
+            final List<Event> stolenGroup = workQueues[(worker + i) % threads].pollLast();
+            if (stolenGroup != null) {
+                return stolenGroup;
+            }
+        }
+        return null;
+    }
+}
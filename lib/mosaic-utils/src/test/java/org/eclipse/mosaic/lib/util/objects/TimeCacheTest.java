@@ -18,13 +18,21 @@ package org.eclipse.mosaic.lib.util.objects;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import org.eclipse.mosaic.rti.TIME;
+
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Random;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
@@ -63,7 +71,7 @@ public class TimeCacheTest {
         }
 
         // try to clean only the first message (sent at time 0)
-        Set<Integer> collected = cache.garbageCollection(1);
+        Collection<Integer> collected = cache.garbageCollection(1);
         // get the first sent message
         Integer firstMessageId = timeIdMapping.get(timeIdMapping.firstKey());
         // collected should contain the first message
@@ -102,6 +110,84 @@ public class TimeCacheTest {
         assertEquals(0, collected.size());
     }
 
+    @Test
+    public void testBucketEvictionAndMetrics() {
+        TimeCache<Item> cache = new TimeCache<>(TIME.SECOND);
+
+        List<Item> items = new ArrayList<>();
+        // 100 items per second over 10 seconds
+        for (int i = 0; i < 1000; i++) {
+            Item item = new Item();
+            cache.putItem(i * 10 * TIME.MILLI_SECOND, item);
+            items.add(item);
+        }
+        assertEquals(1000, cache.size());
+        assertEquals(10, cache.getNumberOfBuckets());
+
+        // removes the first 5 buckets as a whole
+        Collection<Integer> collected = cache.garbageCollection(5 * TIME.SECOND);
+        assertEquals(500, collected.size());
+        assertEquals(500, cache.size());
+        assertEquals(5, cache.getNumberOfBuckets());
+        assertEquals(500, cache.getEvictedItems());
+        assertNull(cache.getItem(items.get(499).getId()));
+        assertSame(items.get(500), cache.getItem(items.get(500).getId()));
+
+        // removes a part of the oldest bucket
+        collected = cache.garbageCollection(5 * TIME.SECOND + 500 * TIME.MILLI_SECOND);
+        assertEquals(50, collected.size());
+        assertEquals(450, cache.size());
+        assertEquals(5, cache.getNumberOfBuckets());
+        assertEquals(550, cache.getEvictedItems());
+        assertNull(cache.getItem(items.get(549).getId()));
+        assertSame(items.get(550), cache.getItem(items.get(550).getId()));
+
+        collected = cache.garbageCollection(Long.MAX_VALUE);
+        assertEquals(450, collected.size());
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getNumberOfBuckets());
+        assertEquals(1000, cache.getEvictedItems());
+    }
+
+    @Test
+    public void testRandomOperationsEqualToMap() {
+        TimeCache<Item> cache = new TimeCache<>(TIME.SECOND);
+        Map<Integer, Long> expectedTimes = new HashMap<>();
+        Map<Integer, Item> expectedItems = new HashMap<>();
+        List<Item> allItems = new ArrayList<>();
+        Random random = new Random(4711);
+
+        long time = 0;
+        for (int step = 0; step < 200; step++) {
+            time += random.nextInt(200) * TIME.MILLI_SECOND;
+            for (int i = 0; i < random.nextInt(500); i++) {
+                // put new items, or existing items again
+                Item item = allItems.isEmpty() || random.nextInt(10) > 0
+                        ? new Item()
+                        : allItems.get(random.nextInt(allItems.size()));
+                allItems.add(item);
+                cache.putItem(time, item);
+                expectedTimes.put(item.getId(), time);
+                expectedItems.put(item.getId(), item);
+            }
+
+            long collectionTime = time - random.nextInt(3000) * TIME.MILLI_SECOND;
+            Collection<Integer> collected = cache.garbageCollection(collectionTime);
+
+            Collection<Integer> expectedCollected = new HashSet<>();
+            if (collectionTime > 0) {
+                expectedTimes.entrySet().removeIf(e -> e.getValue() < collectionTime && expectedCollected.add(e.getKey()));
+                expectedItems.keySet().retainAll(expectedTimes.keySet());
+            }
+            assertEquals(expectedCollected, new HashSet<>(collected));
+            assertEquals(expectedItems.size(), cache.size());
+        }
+
+        for (Item item : allItems) {
+            assertSame(expectedItems.get(item.getId()), cache.getItem(item.getId()));
+        }
+    }
+
     static class Item implements Identifiable {
 
         private static int idCounter = 0;
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.rti.TIME;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class TimingWheelEventSchedulerTest {
+
+    @Test
+    public void sameOrderAsDefaultScheduler_nearEvents() {
+        assertSameOrder(1, 200, 1);
+    }
+
+    @Test
+    public void sameOrderAsDefaultScheduler_cascadingEvents() {
+        // events span several wheels, which requires to move events to lower wheels frequently
+        assertSameOrder(2, 1L << 20, 1);
+    }
+
+    @Test
+    public void sameOrderAsDefaultScheduler_overflowEvents() {
+        // events lie beyond the range of the highest wheel
+        assertSameOrder(3, 1L << 40, 1);
+    }
+
+    @Test
+    public void sameOrderAsDefaultScheduler_defaultTickDuration() {
+        assertSameOrder(4, 100 * TIME.SECOND, TimingWheelEventScheduler.DEFAULT_TICK_DURATION);
+    }
+
+    @Test
+    public void nextEventTime() {
+        final TimingWheelEventScheduler scheduler = new TimingWheelEventScheduler(1);
+        final List<Event> processed = new ArrayList<>();
+        scheduler.addEvent(5000, processed::add);
+        scheduler.addEvent(70, processed::add);
+        scheduler.addEvent(1L << 35, processed::add);
+
+        assertEquals(70, scheduler.getNextEventTime());
+        scheduler.scheduleEvents(70);
+        assertEquals(5000, scheduler.getNextEventTime());
+        scheduler.scheduleEvents(5000);
+        assertEquals(1L << 35, scheduler.getNextEventTime());
+        scheduler.scheduleEvents(1L << 35);
+
+        assertEquals(3, processed.size());
+        assertTrue(scheduler.isEmpty());
+    }
+
+    /**
+     * Schedules the same randomized events with the {@link DefaultEventScheduler} and the {@link TimingWheelEventScheduler}
+     * and compares the order in which they are processed. Processed events add further events, some of them
+     * at the current time.
+     */
+    private static void assertSameOrder(long seed, long maxDelay, long tickDuration) {
+        final List<Object> expected = schedule(new DefaultEventScheduler(), seed, maxDelay);
+        final List<Object> actual = schedule(new TimingWheelEventScheduler(tickDuration), seed, maxDelay);
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected, actual);
+    }
+
+    private static List<Object> schedule(EventScheduler scheduler, long seed, long maxDelay) {
+        final Random random = new Random(seed);
+        final List<Object> processed = new ArrayList<>();
+        final int[] counter = {0};
+        final EventProcessor processor = new EventProcessor() {
+            @Override
+            public void processEvent(Event event) {
+                processed.add(event.getResource());
+                if (counter[0] < 20000) {
+                    final long delay = random.nextInt(4) == 0 ? 0 : 1 + (long) (random.nextDouble() * maxDelay);
+                    scheduler.addEvent(new Event(event.getTime() + delay, this, counter[0]++, random.nextInt(3)));
+                }
+            }
+        };
+        for (int i = 0; i < 500; i++) {
+            scheduler.addEvent(new Event((long) (random.nextDouble() * maxDelay), processor, counter[0]++, random.nextInt(3)));
+        }
+        while (!scheduler.isEmpty()) {
+            scheduler.scheduleEvents(scheduler.getNextEventTime());
+        }
+        return processed;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.lib.util.scheduling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class WorkStealingEventSchedulerTest {
+
+    private final AtomicBoolean concurrentProcessing = new AtomicBoolean(false);
+
+    private final AtomicBoolean barrierViolated = new AtomicBoolean(false);
+
+    private final AtomicInteger processedBeforeBarrier = new AtomicInteger();
+
+    @Test
+    public void eventsOfSameProcessorAreProcessedInOrder() {
+        final WorkStealingEventScheduler scheduler = new WorkStealingEventScheduler(4);
+        final List<RecordingProcessor> processors = createProcessors(32);
+
+        final Random random = new Random(1);
+        for (int i = 0; i < 3200; i++) {
+            final RecordingProcessor processor = processors.get(random.nextInt(processors.size()));
+            scheduler.addEvent(new Event(0, processor, i, random.nextInt(5)));
+        }
+        assertEquals(3200, scheduler.scheduleEvents(0));
+
+        assertFalse(concurrentProcessing.get());
+        for (RecordingProcessor processor : processors) {
+            final List<Event> expectedOrder = new ArrayList<>(processor.processedEvents);
+            Collections.sort(expectedOrder);
+            assertEquals(expectedOrder, processor.processedEvents);
+        }
+    }
+
+    @Test
+    public void eventsAfterBarrierWaitForAllEventsBefore() {
+        final WorkStealingEventScheduler scheduler = new WorkStealingEventScheduler(
+                4, event -> event.getProcessors().get(0), 0
+        );
+        final List<RecordingProcessor> processors = createProcessors(32);
+
+        final Random random = new Random(2);
+        int eventsBeforeBarrier = 0;
+        for (int i = 0; i < 3200; i++) {
+            final long nice = random.nextInt(5) - 2;
+            if (nice < 0) {
+                eventsBeforeBarrier++;
+            }
+            scheduler.addEvent(new Event(0, processors.get(random.nextInt(processors.size())), i, nice));
+        }
+        for (RecordingProcessor processor : processors) {
+            processor.expectedBeforeBarrier = eventsBeforeBarrier;
+        }
+        assertEquals(3200, scheduler.scheduleEvents(0));
+
+        assertFalse(concurrentProcessing.get());
+        assertFalse(barrierViolated.get());
+        assertEquals(eventsBeforeBarrier, processedBeforeBarrier.get());
+    }
+
+    @Test
+    public void eventsAddedDuringProcessing() {
+        final WorkStealingEventScheduler scheduler = new WorkStealingEventScheduler(4);
+        final AtomicInteger processedEvents = new AtomicInteger();
+        final EventProcessor processor = new EventProcessor() {
+            @Override
+            public void processEvent(Event event) {
+                processedEvents.incrementAndGet();
+                if ((Integer) event.getResource() < 1000) {
+                    scheduler.addEvent(new Event(event.getTime(), this, (Integer) event.getResource() + 100));
+                    scheduler.addEvent(new Event(event.getTime() + 1, this, (Integer) event.getResource() + 100));
+                }
+            }
+        };
+        for (int i = 0; i < 100; i++) {
+            scheduler.addEvent(new Event(0, processor, i));
+        }
+
+        assertEquals(1100, scheduler.scheduleEvents(0));
+        assertEquals(1100, processedEvents.get());
+        assertFalse(scheduler.isEmpty());
+        assertEquals(1, scheduler.getNextEventTime());
+        assertTrue(scheduler.scheduleEvents(1) > 0);
+    }
+
+    private List<RecordingProcessor> createProcessors(int count) {
+        final List<RecordingProcessor> processors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            processors.add(new RecordingProcessor());
+        }
+        return processors;
+    }
+
+    /**
+     * Records all processed events and detects, if events are processed by several threads at once.
+     */
+    private class RecordingProcessor implements EventProcessor {
+
+        private final List<Event> processedEvents = new ArrayList<>();
+
+        private final AtomicBoolean processing = new AtomicBoolean(false);
+
+        private int expectedBeforeBarrier = -1;
+
+        @Override
+        public void processEvent(Event event) {
+            if (!processing.compareAndSet(false, true)) {
+                concurrentProcessing.set(true);
+            }
+            if (event.getNice() < 0) {
+                processedBeforeBarrier.incrementAndGet();
+            } else if (expectedBeforeBarrier >= 0 && processedBeforeBarrier.get() != expectedBeforeBarrier) {
+                barrierViolated.set(true);
+            }
+            processedEvents.add(event);
+            processing.set(false);
+        }
+    }
+}
@@ -32,5 +32,11 @@ public class CProjection {
      * The cartesian offset which is considered when transformation from or to geographic coordinates.
      */
     public CartesianPoint cartesianOffset;
+
+    /**
+     * If set, the projection is approximated on a local tangent plane around the center coordinates when converting
+     * many coordinates at once. The value defines the maximum allowed deviation from the exact projection in meters.
+     */
+    public Double localTangentPlaneMaxError;
 }
 
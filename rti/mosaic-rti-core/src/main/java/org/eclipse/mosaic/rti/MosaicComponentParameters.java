@@ -42,6 +42,12 @@ public class MosaicComponentParameters {
      */
     private int numberOfThreads = 1;
 
+    /**
+     * Defines whether federates within a complete lookahead window should be advanced in parallel,
+     * regardless of their priority. Only effective if more than one thread is used.
+     */
+    private boolean lookaheadWindowScheduling = false;
+
     public String getFederationId() {
         return federationId;
     }
@@ -87,4 +93,13 @@ public class MosaicComponentParameters {
         return this;
     }
 
+    public boolean isLookaheadWindowScheduling() {
+        return lookaheadWindowScheduling;
+    }
+
+    public MosaicComponentParameters setLookaheadWindowScheduling(boolean lookaheadWindowScheduling) {
+        this.lookaheadWindowScheduling = lookaheadWindowScheduling;
+        return this;
+    }
+
 }
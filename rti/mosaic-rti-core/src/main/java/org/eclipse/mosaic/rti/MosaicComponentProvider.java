@@ -27,6 +27,7 @@ import org.eclipse.mosaic.rti.federation.DistributedFederationManagement;
 import org.eclipse.mosaic.rti.federation.LocalFederationManagement;
 import org.eclipse.mosaic.rti.interaction.TypeBasedInteractionManagement;
 import org.eclipse.mosaic.rti.monitor.ActivityLoggingMonitor;
+import org.eclipse.mosaic.rti.time.LookaheadWindowTimeManagement;
 import org.eclipse.mosaic.rti.time.MultiThreadedTimeManagement;
 import org.eclipse.mosaic.rti.time.SequentialTimeManagement;
 
@@ -74,7 +75,9 @@ public class MosaicComponentProvider implements ComponentProvider {
     }
 
     protected TimeManagement createTimeManagement(MosaicComponentParameters componentParameters) {
-        if (componentParameters.getNumberOfThreads() > 1) {
+        if (componentParameters.getNumberOfThreads() > 1 && componentParameters.isLookaheadWindowScheduling()) {
+            return new LookaheadWindowTimeManagement(this, componentParameters);
+        } else if (componentParameters.getNumberOfThreads() > 1) {
             return new MultiThreadedTimeManagement(this, componentParameters);
         } else {
             return new SequentialTimeManagement(this, componentParameters);
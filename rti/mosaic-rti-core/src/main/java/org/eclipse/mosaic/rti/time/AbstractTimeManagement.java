@@ -15,7 +15,6 @@
 
 package org.eclipse.mosaic.rti.time;
 
-import org.eclipse.mosaic.lib.util.EfficientPriorityQueue;
 import org.eclipse.mosaic.lib.util.PerformanceMonitor;
 import org.eclipse.mosaic.rti.ExternalWatchDog;
 import org.eclipse.mosaic.rti.MosaicComponentParameters;
@@ -40,7 +39,6 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Observable;
-import java.util.Queue;
 import javax.annotation.Nonnull;
 
 /**
@@ -68,7 +66,8 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
     private long simStartRealtimeNs;
 
     /**
-     * Ordered queue holding all requested times of federates.
+     * Ordered queue holding all requested times of federates. Requests of the same federate
+     * for the same time are merged by the queue.
      * TODO: the ordering of this queue has to be revisited:
      * <ul>
      *     <li/> {@link org.eclipse.mosaic.rti.api.parameters.FederatePriority} is used as reference values
@@ -76,7 +75,7 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
      *     <li/> maybe it's enough to just reverse the compareTo logic
      * </ul>
      */
-    protected final Queue<FederateEvent> events;
+    protected final FederateEventQueue events;
 
     protected final ComponentProvider federation;
 
@@ -96,7 +95,7 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
     protected AbstractTimeManagement(ComponentProvider federation, MosaicComponentParameters componentParameters) {
         this.progressLogger = LoggerFactory.getLogger("SimulationProgress");
         this.logger = LoggerFactory.getLogger(getClass());
-        this.events = new EfficientPriorityQueue<>();
+        this.events = new FederateEventQueue();
         this.federation = federation;
         this.endTime = componentParameters.getEndTime();
     }
@@ -119,12 +118,7 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
                     federateId, time, this.time
             ));
         }
-        synchronized (this.events) {
-            FederateEvent e = new FederateEvent(federateId, time, lookahead, priority);
-            if (!this.events.contains(e)) {
-                this.events.add(e);
-            }
-        }
+        this.events.add(new FederateEvent(federateId, time, lookahead, priority));
     }
 
     /**
@@ -202,8 +196,9 @@ public abstract class AbstractTimeManagement extends Observable implements TimeM
 
     @Override
     public long getNextEventTimestamp() throws IllegalValueException {
-        if (events.peek() != null) {
-            return events.peek().getRequestedTime();
+        final FederateEvent nextEvent = events.peek();
+        if (nextEvent != null) {
+            return nextEvent.getRequestedTime();
         } else {
             throw new IllegalValueException("No next event in queue.");
         }
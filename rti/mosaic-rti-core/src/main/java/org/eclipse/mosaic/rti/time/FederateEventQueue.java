@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thread-safe priority queue holding the time advance requests of all federates. Instead of
+ * sorting all requests in one heap, this queue holds one entry per federate in an indexed binary heap,
+ * which is ordered by the earliest request of each federate. All further requests of a federate are kept
+ * in a sorted array of the federate entry. Therefore, adding, removing and polling requests as well as
+ * checking if a request is already contained are done in O(log n) with n being the number of federates,
+ * since each federate usually has only very few pending requests.
+ * <p/>
+ * Multiple requests of the same federate for the same time are merged in place into one request, which
+ * uses the lower lookahead and the higher priority of both requests, since one time advance of the federate
+ * processes everything up to the requested time.
+ * <p/>
+ * All modifying methods are synchronized on this queue. The head of the queue and the size are
+ * published in volatile fields, so that {@link #peek()}, {@link #getNextRequestedTime()} and {@link #size()}
+ * do not need to acquire the lock.
+ */
+public class FederateEventQueue extends AbstractQueue<FederateEvent> {
+
+    private final Map<String, FederateEntry> federateEntries = new HashMap<>();
+
+    private FederateEntry[] heap = new FederateEntry[16];
+
+    private int heapSize = 0;
+
+    private int numberOfEvents = 0;
+
+    private volatile FederateEvent head = null;
+
+    private volatile int size = 0;
+
+    @Override
+    public synchronized boolean offer(FederateEvent event) {
+        final FederateEntry entry = federateEntries.computeIfAbsent(event.getFederateId(), FederateEntry::new);
+        final int index = entry.indexOf(event.getRequestedTime());
+        if (index >= 0) {
+            final FederateEvent existing = entry.events[index];
+            final FederateEvent merged = merge(existing, event);
+            if (merged == existing) {
+                return false;
+            }
+            entry.events[index] = merged;
+            if (index == 0) {
+                siftUp(entry.heapIndex, entry);
+            }
+            publish();
+            return true;
+        }
+
+        final int insertionIndex = -(index + 1);
+        entry.insert(insertionIndex, event);
+        numberOfEvents++;
+        if (entry.heapIndex < 0) {
+            addToHeap(entry);
+        } else if (insertionIndex == 0) {
+            siftUp(entry.heapIndex, entry);
+        }
+        publish();
+        return true;
+    }
+
+    /**
+     * Adds the given event to this queue, or merges it with an already queued event
+     * of the same federate for the same time.
+     *
+     * @param event the event to add
+     * @return {@code true}, if the queue changed due to this call
+     */
+    @Override
+    public boolean add(FederateEvent event) {
+        return offer(event);
+    }
+
+    @Override
+    public synchronized FederateEvent poll() {
+        if (heapSize == 0) {
+            return null;
+        }
+        final FederateEntry entry = heap[0];
+        final FederateEvent event = entry.removeAt(0);
+        numberOfEvents--;
+        if (entry.size == 0) {
+            removeFromHeap(0);
+        } else {
+            siftDown(0, entry);
+        }
+        publish();
+        return event;
+    }
+
+    /**
+     * Returns the event with the lowest time of this queue without acquiring the lock of this queue.
+     *
+     * @return the head of this queue, or {@code null} if this queue is empty
+     */
+    @Override
+    public FederateEvent peek() {
+        return head;
+    }
+
+    /**
+     * Returns the lowest requested time of all events in this queue without acquiring the lock of this queue.
+     *
+     * @return the lowest requested time, or {@link Long#MAX_VALUE} if this queue is empty
+     */
+    public long getNextRequestedTime() {
+        final FederateEvent currentHead = head;
+        return currentHead != null ? currentHead.getRequestedTime() : Long.MAX_VALUE;
+    }
+
+    @Override
+    public synchronized boolean contains(Object o) {
+        if (!(o instanceof FederateEvent)) {
+            return false;
+        }
+        final FederateEvent event = (FederateEvent) o;
+        final FederateEntry entry = federateEntries.get(event.getFederateId());
+        if (entry == null) {
+            return false;
+        }
+        final int index = entry.indexOf(event.getRequestedTime());
+        return index >= 0 && event.equals(entry.events[index]);
+    }
+
+    @Override
+    public synchronized boolean remove(Object o) {
+        if (!contains(o)) {
+            return false;
+        }
+        final FederateEvent event = (FederateEvent) o;
+        final FederateEntry entry = federateEntries.get(event.getFederateId());
+        final int index = entry.indexOf(event.getRequestedTime());
+        entry.removeAt(index);
+        numberOfEvents--;
+        if (entry.size == 0) {
+            removeFromHeap(entry.heapIndex);
+        } else if (index == 0) {
+            siftDown(entry.heapIndex, entry);
+        }
+        publish();
+        return true;
+    }
+
+    @Override
+    public synchronized void clear() {
+        federateEntries.clear();
+        Arrays.fill(heap, 0, heapSize, null);
+        heapSize = 0;
+        numberOfEvents = 0;
+        publish();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns an iterator over a snapshot of all events of this queue. The events are not returned in any particular order.
+     */
+    @Override
+    public synchronized Iterator<FederateEvent> iterator() {
+        final List<FederateEvent> snapshot = new ArrayList<>(numberOfEvents);
+        for (int i = 0; i < heapSize; i++) {
+            snapshot.addAll(Arrays.asList(heap[i].events).subList(0, heap[i].size));
+        }
+        return snapshot.iterator();
+    }
+
+    private void publish() {
+        head = heapSize > 0 ? heap[0].getFirstEvent() : null;
+        size = numberOfEvents;
+    }
+
+    private static FederateEvent merge(FederateEvent existing, FederateEvent event) {
+        final long lookahead = Math.min(existing.getLookahead(), event.getLookahead());
+        // lower values represent higher priorities
+        final byte priority = (byte) Math.min(existing.getPriority(), event.getPriority());
+        if (lookahead == existing.getLookahead() && priority == existing.getPriority()) {
+            return existing;
+        }
+        return new FederateEvent(existing.getFederateId(), existing.getRequestedTime(), lookahead, priority);
+    }
+
+    private void addToHeap(FederateEntry entry) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        siftUp(heapSize++, entry);
+    }
+
+    private void removeFromHeap(int index) {
+        final FederateEntry removed = heap[index];
+        removed.heapIndex = -1;
+        final FederateEntry last = heap[--heapSize];
+        heap[heapSize] = null;
+        if (index < heapSize) {
+            siftDown(index, last);
+            if (heap[index] == last) {
+                siftUp(index, last);
+            }
+        }
+    }
+
+    private void siftUp(int index, FederateEntry entry) {
+        while (index > 0) {
+            final int parentIndex = (index - 1) >>> 1;
+            final FederateEntry parent = heap[parentIndex];
+            if (entry.getFirstEvent().compareTo(parent.getFirstEvent()) >= 0) {
+                break;
+            }
+            place(index, parent);
+            index = parentIndex;
+        }
+        place(index, entry);
+    }
+
+    private void siftDown(int index, FederateEntry entry) {
+        final int half = heapSize >>> 1;
+        while (index < half) {
+            int childIndex = (index << 1) + 1;
+            FederateEntry child = heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < heapSize && heap[rightIndex].getFirstEvent().compareTo(child.getFirstEvent()) < 0) {
+                childIndex = rightIndex;
+                child = heap[childIndex];
+            }
+            if (entry.getFirstEvent().compareTo(child.getFirstEvent()) <= 0) {
+                break;
+            }
+            place(index, child);
+            index = childIndex;
+        }
+        place(index, entry);
+    }
+
+    private void place(int index, FederateEntry entry) {
+        heap[index] = entry;
+        entry.heapIndex = index;
+    }
+
+    private static class FederateEntry {
+
+        private final String federateId;
+
+        /**
+         * All pending events of the federate, sorted by their requested time. Usually, a federate
+         * has only very few pending requests, therefore a sorted array is sufficient.
+         */
+        private FederateEvent[] events = new FederateEvent[4];
+
+        private int size = 0;
+
+        private int heapIndex = -1;
+
+        private FederateEntry(String federateId) {
+            this.federateId = federateId;
+        }
+
+        private FederateEvent getFirstEvent() {
+            return events[0];
+        }
+
+        /**
+         * Searches the pending event with the given time.
+         *
+         * @return the index of the event, or {@code -(insertion point) - 1} if there is no such event
+         */
+        private int indexOf(long time) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final long midTime = events[mid].getRequestedTime();
+                if (midTime < time) {
+                    low = mid + 1;
+                } else if (midTime > time) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void insert(int index, FederateEvent event) {
+            if (size == events.length) {
+                events = Arrays.copyOf(events, events.length * 2);
+            }
+            System.arraycopy(events, index, events, index + 1, size - index);
+            events[index] = event;
+            size++;
+        }
+
+        private FederateEvent removeAt(int index) {
+            final FederateEvent removed = events[index];
+            System.arraycopy(events, index + 1, events, index, size - index - 1);
+            events[--size] = null;
+            return removed;
+        }
+
+        @Override
+        public String toString() {
+            return federateId;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import org.eclipse.mosaic.rti.MosaicComponentParameters;
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.FederateAmbassador;
+import org.eclipse.mosaic.rti.api.IllegalValueException;
+import org.eclipse.mosaic.rti.api.InternalFederateException;
+import org.eclipse.mosaic.rti.api.TimeManagement;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A conservative, parallel implementation of the {@link TimeManagement} interface. In contrast
+ * to the {@link MultiThreadedTimeManagement}, which only advances federates with equal priorities in parallel,
+ * this implementation collects a complete window of events which can be processed safely in parallel, regardless
+ * of their priority.
+ * <p/>
+ * Each pending time advance request of a federate acts as its promise (comparable to a null message in
+ * conservative distributed simulation) to not send any interaction with a time stamp lower than
+ * {@code requestedTime + lookahead}. Since the RTI knows the requests of all federates, the lower bound
+ * on time stamps (LBTS) of the window is computed centrally as the minimum of these promises over all events
+ * within the window. An event is added to the window if its time lies strictly before the current LBTS,
+ * or if it lies on the LBTS and all events of the window share its priority. Furthermore, a federate
+ * is advanced at most once per window. All events of a window are then dispatched at once to the worker threads,
+ * and the next window is computed after all federates of the current window have finished their time advance.
+ */
+public class LookaheadWindowTimeManagement extends AbstractTimeManagement {
+
+    private static final AtomicInteger idCounter = new AtomicInteger();
+
+    private final int numberOfThreads;
+
+    private final List<FederateEvent> window = new ArrayList<>();
+
+    private final Set<String> federatesInWindow = new HashSet<>();
+
+    private final List<Future<?>> pendingAdvances = new ArrayList<>();
+
+    private ExecutorService executorService;
+
+    /**
+     * Creates a new instance of the lookahead window based time management.
+     *
+     * @param federation          reference to the <code>ComponentFactory</code> to access simulation components
+     * @param componentParameters parameters specifically for this {@link TimeManagement},
+     *                            e.g., the number of threads to advance federates in parallel.
+     */
+    public LookaheadWindowTimeManagement(ComponentProvider federation, MosaicComponentParameters componentParameters) {
+        super(federation, componentParameters);
+        this.numberOfThreads = Math.max(1, componentParameters.getNumberOfThreads());
+    }
+
+    @Override
+    protected void prepareSimulationRun() throws IllegalValueException, InternalFederateException {
+        // the coordinating thread advances one of the federates in each window by itself
+        final AtomicInteger threadCounter = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(Math.max(1, numberOfThreads - 1),
+                r -> new Thread(r, String.format("TimeAdvance-%04d", threadCounter.incrementAndGet()))
+        );
+        super.prepareSimulationRun();
+    }
+
+    /**
+     * Runs the simulation by advancing all federates within the current lookahead window in parallel.
+     *
+     * @throws InternalFederateException an exception inside of a joined federate occurs
+     * @throws IllegalValueException     a parameter has an invalid value
+     */
+    @Override
+    public void runSimulation() throws InternalFederateException, IllegalValueException {
+        federation.getMonitor().onBeginSimulation(federation.getFederationManagement(), this, numberOfThreads);
+
+        this.prepareSimulationRun();
+
+        final PerformanceCalculator performanceCalculator = new PerformanceCalculator();
+        long currentRealtimeNs;
+
+        while (this.time <= getEndTime()) {
+            final long lowerBoundTimeStamp = collectWindow();
+            if (window.isEmpty()) {
+                this.logger.trace("No more events within simulation time. Finishing simulation run.");
+                this.time = getEndTime();
+                break;
+            }
+            this.time = window.get(0).getRequestedTime();
+
+            this.logger.trace("New minimum valid simulation time: {}, LBTS of window: {}", this.time, lowerBoundTimeStamp);
+
+            if (window.size() == 1) {
+                advanceFederate(window.get(0));
+            } else {
+                advanceFederatesInParallel();
+            }
+
+            currentRealtimeNs = System.nanoTime();
+
+            final PerformanceInformation performanceInformation =
+                    performanceCalculator.update(time, getEndTime(), currentRealtimeNs);
+
+            printProgress(currentRealtimeNs, performanceInformation);
+            updateWatchDog();
+        }
+
+        this.finishSimulationRun(STATUS_CODE_SUCCESS);
+    }
+
+    /**
+     * Removes all events from the event queue which can be processed in parallel and adds them to the window.
+     *
+     * @return the lower bound on time stamps of all interactions which can be sent by federates within the window
+     */
+    private long collectWindow() {
+        window.clear();
+        federatesInWindow.clear();
+
+        long lowerBoundTimeStamp = Long.MAX_VALUE;
+        boolean uniformPriority = true;
+
+        synchronized (this.events) {
+            FederateEvent candidate;
+            while ((candidate = this.events.peek()) != null && candidate.getRequestedTime() <= getEndTime()) {
+                if (!window.isEmpty()) {
+                    uniformPriority &= candidate.getPriority() == window.get(0).getPriority();
+                    final boolean safe = candidate.getRequestedTime() < lowerBoundTimeStamp
+                            || (uniformPriority && candidate.getRequestedTime() == lowerBoundTimeStamp);
+                    // a federate must never be advanced concurrently to itself
+                    if (!safe || federatesInWindow.contains(candidate.getFederateId())) {
+                        break;
+                    }
+                }
+                this.events.poll();
+                window.add(candidate);
+                federatesInWindow.add(candidate.getFederateId());
+                lowerBoundTimeStamp = Math.min(lowerBoundTimeStamp,
+                        saturatedAdd(candidate.getRequestedTime(), candidate.getLookahead())
+                );
+            }
+        }
+        return lowerBoundTimeStamp;
+    }
+
+    private void advanceFederatesInParallel() throws InternalFederateException {
+        final int id = createEventId();
+        for (FederateEvent event : window) {
+            this.logger.trace("Parallel execution: {} time={} lookahead={}", event.getFederateId(), event.getRequestedTime(), event.getLookahead());
+            federation.getMonitor().onScheduling(id, event);
+        }
+
+        pendingAdvances.clear();
+        for (int i = 1; i < window.size(); i++) {
+            final FederateEvent event = window.get(i);
+            pendingAdvances.add(executorService.submit(() -> {
+                advanceFederate(event);
+                return null;
+            }));
+        }
+
+        InternalFederateException exception = null;
+        try {
+            advanceFederate(window.get(0));
+        } catch (InternalFederateException e) {
+            exception = e;
+        }
+
+        // wait until all federates of the window have finished their time advance
+        for (Future<?> pendingAdvance : pendingAdvances) {
+            try {
+                pendingAdvance.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exception = new InternalFederateException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof InternalFederateException) {
+                    exception = (InternalFederateException) e.getCause();
+                } else {
+                    exception = new InternalFederateException(e);
+                }
+            }
+        }
+        pendingAdvances.clear();
+
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private void advanceFederate(FederateEvent event) throws InternalFederateException {
+        final FederateAmbassador ambassador = federation.getFederationManagement().getAmbassador(event.getFederateId());
+        if (ambassador != null) {
+            federation.getMonitor().onBeginActivity(event);
+            long startTime = System.currentTimeMillis();
+            ambassador.advanceTime(event.getRequestedTime());
+            federation.getMonitor().onEndActivity(event, System.currentTimeMillis() - startTime);
+        }
+    }
+
+    private static long saturatedAdd(long time, long lookahead) {
+        final long result = time + lookahead;
+        // on overflow both summands have the same sign which differs from the sign of the result
+        if (((time ^ result) & (lookahead ^ result)) < 0) {
+            return Long.MAX_VALUE;
+        }
+        return result;
+    }
+
+    private static int createEventId() {
+        return idCounter.incrementAndGet();
+    }
+
+    @Override
+    public void finishSimulationRun(int statusCode) throws InternalFederateException {
+        if (this.executorService != null) {
+            this.executorService.shutdownNow();
+        }
+        this.events.clear();
+        super.finishSimulationRun(statusCode);
+    }
+}
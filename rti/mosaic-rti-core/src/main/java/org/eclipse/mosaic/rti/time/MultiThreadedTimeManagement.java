@@ -77,9 +77,7 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
         while (this.events.size() > 0 && this.time < getEndTime()) {
 
             // remove first event of queue
-            synchronized (this.events) {
-                event = this.events.poll();
-            }
+            event = this.events.poll();
 
             if (event != null) {
                 this.time = event.getRequestedTime();
@@ -113,9 +111,7 @@ public class MultiThreadedTimeManagement extends AbstractTimeManagement {
                         && priority == this.events.peek().getPriority()
                         && scheduledEvents.getMaximumValidTime() >= this.events.peek().getRequestedTime()
                 ) {
-                    synchronized (events) {
-                        event = this.events.poll();
-                    }
+                    event = this.events.poll();
                     this.logger.trace("Parallel execution: {} time={} lookahead={}", event.getFederateId(), event.getRequestedTime(), event.getLookahead());
                     federation.getMonitor().onScheduling(id, event);
                     this.scheduledEvents.addEvent(event);
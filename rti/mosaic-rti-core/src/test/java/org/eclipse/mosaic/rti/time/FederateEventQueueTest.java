@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.lib.util.EfficientPriorityQueue;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.parameters.FederatePriority;
+import org.eclipse.mosaic.rti.api.time.FederateEvent;
+
+import org.apache.commons.lang3.time.StopWatch;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+
+public class FederateEventQueueTest {
+
+    @Test
+    public void pollInOrderOfTimeAndPriority() {
+        FederateEventQueue queue = new FederateEventQueue();
+        queue.add(new FederateEvent("sumo", 2 * TIME.SECOND, 0, (byte) 10));
+        queue.add(new FederateEvent("application", TIME.SECOND, 0, (byte) 50));
+        queue.add(new FederateEvent("sumo", TIME.SECOND, 0, (byte) 10));
+        queue.add(new FederateEvent("sns", 3 * TIME.SECOND, 0, (byte) 50));
+
+        assertEquals(4, queue.size());
+        assertEquals(TIME.SECOND, queue.getNextRequestedTime());
+
+        assertEvent(queue.poll(), "sumo", TIME.SECOND);
+        assertEvent(queue.poll(), "application", TIME.SECOND);
+        assertEvent(queue.poll(), "sumo", 2 * TIME.SECOND);
+        assertEvent(queue.poll(), "sns", 3 * TIME.SECOND);
+        assertNull(queue.poll());
+        assertNull(queue.peek());
+        assertTrue(queue.isEmpty());
+        assertEquals(Long.MAX_VALUE, queue.getNextRequestedTime());
+    }
+
+    @Test
+    public void equalRequestIsNotAddedTwice() {
+        FederateEventQueue queue = new FederateEventQueue();
+        assertTrue(queue.add(new FederateEvent("sumo", TIME.SECOND, 0, (byte) 10)));
+        assertFalse(queue.add(new FederateEvent("sumo", TIME.SECOND, 0, (byte) 10)));
+
+        assertTrue(queue.contains(new FederateEvent("sumo", TIME.SECOND, 0, (byte) 10)));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void requestsOfSameFederateAndTimeAreMerged() {
+        FederateEventQueue queue = new FederateEventQueue();
+        queue.add(new FederateEvent("application", TIME.SECOND, 0, (byte) 60));
+        queue.add(new FederateEvent("sumo", TIME.SECOND, 0, FederatePriority.DEFAULT));
+        queue.add(new FederateEvent("application", TIME.SECOND, 5 * TIME.SECOND, (byte) 40));
+
+        assertEquals(2, queue.size());
+
+        FederateEvent merged = queue.poll();
+        assertEvent(merged, "application", TIME.SECOND);
+        assertEquals(0, merged.getLookahead());
+        assertEquals(40, merged.getPriority());
+
+        assertEvent(queue.poll(), "sumo", TIME.SECOND);
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void removeRequest() {
+        FederateEventQueue queue = new FederateEventQueue();
+        FederateEvent first = new FederateEvent("sumo", TIME.SECOND, 0, (byte) 10);
+        FederateEvent second = new FederateEvent("sumo", 2 * TIME.SECOND, 0, (byte) 10);
+        queue.add(first);
+        queue.add(second);
+        queue.add(new FederateEvent("application", 3 * TIME.SECOND, 0, (byte) 10));
+
+        assertFalse(queue.remove(new FederateEvent("sumo", TIME.SECOND, 0, (byte) 20)));
+        assertTrue(queue.remove(first));
+
+        assertEquals(2, queue.size());
+        assertSame(second, queue.peek());
+
+        assertTrue(queue.remove(second));
+        assertEvent(queue.peek(), "application", 3 * TIME.SECOND);
+    }
+
+    @Test
+    public void sameOrderAsEfficientPriorityQueue() {
+        final Random random = new Random(1337);
+        final FederateEventQueue queue = new FederateEventQueue();
+        final Queue<FederateEvent> reference = new EfficientPriorityQueue<>();
+        final Set<String> requested = new HashSet<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            String federateId = "federate_" + random.nextInt(20);
+            long time = random.nextInt(1000) * TIME.MILLI_SECOND;
+            // requests of the same federate for the same time would be merged, which the reference queue doesn't do
+            if (requested.add(federateId + "@" + time)) {
+                FederateEvent event = new FederateEvent(federateId, time, 0, (byte) random.nextInt(FederatePriority.LOWEST));
+                queue.add(event);
+                reference.add(event);
+            }
+        }
+
+        assertEquals(reference.size(), queue.size());
+        while (!reference.isEmpty()) {
+            // events with equal time, priority, and lookahead have no defined order
+            FederateEvent expected = reference.poll();
+            FederateEvent actual = queue.poll();
+            assertEquals(expected.getRequestedTime(), actual.getRequestedTime());
+            assertEquals(expected.getPriority(), actual.getPriority());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Simulates 10 federates, which request 100 time advances per simulated second each over 100 simulated seconds.
+     */
+    @Test
+    public void throughputComparedToEfficientPriorityQueue() {
+        // warm up
+        requestAndPollTimeAdvances(new FederateEventQueue());
+        requestAndPollTimeAdvances(new EfficientPriorityQueue<>());
+
+        final long federateEventQueueDuration = requestAndPollTimeAdvances(new FederateEventQueue());
+        final long efficientPriorityQueueDuration = requestAndPollTimeAdvances(new EfficientPriorityQueue<>());
+
+        System.out.format("Time advance requests: FederateEventQueue: %dms, EfficientPriorityQueue: %dms%n",
+                federateEventQueueDuration, efficientPriorityQueueDuration
+        );
+    }
+
+    private long requestAndPollTimeAdvances(Queue<FederateEvent> queue) {
+        final int federates = 10;
+        final long stepSize = 10 * TIME.MILLI_SECOND;
+        final long endTime = 100 * TIME.SECOND;
+
+        StopWatch sw = new StopWatch();
+        sw.start();
+
+        for (int i = 0; i < federates; i++) {
+            queue.add(new FederateEvent("federate_" + i, 0, 0, (byte) i));
+        }
+        int processed = 0;
+        FederateEvent event;
+        while ((event = queue.poll()) != null && event.getRequestedTime() < endTime) {
+            final long nextTime = event.getRequestedTime() + stepSize;
+            // each federate requests its next step, and receives an interaction from another federate for the same time
+            requestAdvanceTime(queue, new FederateEvent(event.getFederateId(), nextTime, 0, event.getPriority()));
+            requestAdvanceTime(queue, new FederateEvent(event.getFederateId(), nextTime, 0, event.getPriority()));
+            processed++;
+        }
+
+        sw.stop();
+        assertEquals(federates * (endTime / stepSize), processed);
+        return sw.getTime();
+    }
+
+    /**
+     * Adds the event in the same way as the time management did before and after introducing the {@link FederateEventQueue}.
+     */
+    private static void requestAdvanceTime(Queue<FederateEvent> queue, FederateEvent event) {
+        if (queue instanceof FederateEventQueue) {
+            queue.add(event);
+        } else {
+            synchronized (queue) {
+                if (!queue.contains(event)) {
+                    queue.add(event);
+                }
+            }
+        }
+    }
+
+    private static void assertEvent(FederateEvent event, String federateId, long time) {
+        assertEquals(federateId, event.getFederateId());
+        assertEquals(time, event.getRequestedTime());
+    }
+}
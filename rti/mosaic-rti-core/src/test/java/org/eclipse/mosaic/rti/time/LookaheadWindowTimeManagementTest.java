@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.rti.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+import org.eclipse.mosaic.rti.MosaicComponentParameters;
+import org.eclipse.mosaic.rti.TIME;
+import org.eclipse.mosaic.rti.api.ComponentProvider;
+import org.eclipse.mosaic.rti.api.TimeManagement;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class LookaheadWindowTimeManagementTest extends SequentialTimeManagementTest {
+
+    @Override
+    protected TimeManagement createTimeManagement(ComponentProvider componentProvider) {
+        return new LookaheadWindowTimeManagement(componentProvider, new MosaicComponentParameters()
+                .setNumberOfThreads(2)
+                .setLookaheadWindowScheduling(true)
+                .setEndTime(20 * TIME.SECOND)
+        );
+    }
+
+    /**
+     * The first ambassador promises to not send any interaction within the next 5 seconds, therefore
+     * the second ambassador with a lower priority can be advanced to 2 seconds at the same time.
+     */
+    @Test
+    public void differentPrioritiesWithinLookahead_advancedInParallel() throws Exception {
+        final CountDownLatch secondAmbassadorStarted = new CountDownLatch(1);
+        final AtomicBoolean advancedInParallel = new AtomicBoolean(false);
+
+        doAnswer(invocation -> {
+            advancedInParallel.set(secondAmbassadorStarted.await(5, TimeUnit.SECONDS));
+            return null;
+        }).when(fedManagement.getAmbassador("ambassador1")).advanceTime(eq(0L));
+        doAnswer(invocation -> {
+            secondAmbassadorStarted.countDown();
+            return null;
+        }).when(fedManagement.getAmbassador("ambassador2")).advanceTime(eq(2 * TIME.SECOND));
+
+        //SETUP
+        timeManagement.requestAdvanceTime("ambassador1", 0, 5 * TIME.SECOND, (byte) 10);
+        timeManagement.requestAdvanceTime("ambassador2", 2 * TIME.SECOND, 0, (byte) 50);
+
+        //RUN
+        timeManagement.runSimulation();
+
+        //ASSERT
+        assertTrue(advancedInParallel.get());
+    }
+
+    /**
+     * The first ambassador could send interactions at time 0 to the second ambassador, therefore
+     * the second ambassador must wait until the first one has finished its time advance.
+     */
+    @Test
+    public void differentPrioritiesWithoutLookahead_advancedSequentially() throws Exception {
+        final List<String> advances = new CopyOnWriteArrayList<>();
+        final AtomicBoolean advancedInParallel = new AtomicBoolean(false);
+
+        doAnswer(invocation -> {
+            advances.add("ambassador1-begin");
+            Thread.sleep(100);
+            advances.add("ambassador1-end");
+            return null;
+        }).when(fedManagement.getAmbassador("ambassador1")).advanceTime(eq(0L));
+        doAnswer(invocation -> {
+            advancedInParallel.set(!advances.contains("ambassador1-end"));
+            advances.add("ambassador2");
+            return null;
+        }).when(fedManagement.getAmbassador("ambassador2")).advanceTime(eq(0L));
+
+        //SETUP
+        timeManagement.requestAdvanceTime("ambassador1", 0, 0, (byte) 10);
+        timeManagement.requestAdvanceTime("ambassador2", 0, 0, (byte) 50);
+
+        //RUN
+        timeManagement.runSimulation();
+
+        //ASSERT
+        assertFalse(advancedInParallel.get());
+        assertEquals(List.of("ambassador1-begin", "ambassador1-end", "ambassador2"), advances);
+    }
+}
@@ -179,7 +179,8 @@ public class MosaicSimulation {
             printMosaicVersion();
 
             final MosaicComponentParameters simParams = readSimulationParameters(scenarioConfiguration)
-                    .setNumberOfThreads(runtimeConfiguration.threads);
+                    .setNumberOfThreads(runtimeConfiguration.threads)
+                    .setLookaheadWindowScheduling(runtimeConfiguration.lookaheadWindowScheduling);
 
             initializeSingletons(scenarioConfiguration);
 
@@ -215,6 +216,12 @@ public class MosaicSimulation {
     private void initializeSingletons(CScenario scenarioConfiguration) {
         GeoProjection.initialize(createTransformation(scenarioConfiguration));
         GeoProjection.getInstance().setGeoCalculator(new UtmGeoCalculator());
+        final CProjection projectionConfig = scenarioConfiguration.simulation.projectionConfig;
+        if (projectionConfig.localTangentPlaneMaxError != null) {
+            GeoProjection.getInstance().enableLocalTangentPlane(
+                    projectionConfig.centerCoordinates, projectionConfig.localTangentPlaneMaxError
+            );
+        }
         IpResolver.setSingleton(createIpResolver(scenarioConfiguration));
         UnitNameGenerator.reset();
     }
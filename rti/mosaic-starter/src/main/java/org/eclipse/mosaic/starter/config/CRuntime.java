@@ -33,6 +33,13 @@ public class CRuntime {
      */
     public int threads = 1;
 
+    /**
+     * If set to {@code true} and more than one thread is used, all federates whose time advance requests lie within
+     * the lookahead window of the current simulation time are advanced in parallel, regardless of their priority.
+     * The window is derived from the lookahead each federate provides with its time advance requests.
+     */
+    public boolean lookaheadWindowScheduling = false;
+
 
     public List<CFederate> federates = new ArrayList<>();
 
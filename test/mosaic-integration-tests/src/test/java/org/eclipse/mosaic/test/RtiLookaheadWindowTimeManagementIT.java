@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 Fraunhofer FOKUS and others. All rights reserved.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contact: mosaic@fokus.fraunhofer.de
+ */
+
+package org.eclipse.mosaic.test;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.mosaic.starter.MosaicSimulation;
+import org.eclipse.mosaic.test.junit.MosaicSimulationRule;
+
+import org.apache.commons.lang3.time.StopWatch;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Runs the same scenario with the sequential time management and with the lookahead window time management,
+ * and reports the wall-clock duration of both runs.
+ */
+public class RtiLookaheadWindowTimeManagementIT {
+
+    @ClassRule
+    public static MosaicSimulationRule simulationRule = new MosaicSimulationRule();
+
+    private static MosaicSimulation.SimulationResult sequentialResult;
+    private static MosaicSimulation.SimulationResult lookaheadWindowResult;
+
+    @BeforeClass
+    public static void runSimulation() {
+        StopWatch sw = new StopWatch();
+
+        simulationRule.getRuntimeConfiguration().threads = 1;
+        simulationRule.getRuntimeConfiguration().lookaheadWindowScheduling = false;
+        sw.start();
+        sequentialResult = simulationRule.executeTestScenario("rti-multi-threaded-time-management");
+        sw.stop();
+        final long sequentialDuration = sw.getTime();
+
+        simulationRule.getRuntimeConfiguration().threads = 4;
+        simulationRule.getRuntimeConfiguration().lookaheadWindowScheduling = true;
+        sw.reset();
+        sw.start();
+        lookaheadWindowResult = simulationRule.executeTestScenario("rti-multi-threaded-time-management");
+        sw.stop();
+        final long lookaheadWindowDuration = sw.getTime();
+
+        System.out.format("Sequential: %dms, Lookahead Window (4 threads): %dms, Speed-up: %.2f%n",
+                sequentialDuration, lookaheadWindowDuration, sequentialDuration / (double) Math.max(1, lookaheadWindowDuration)
+        );
+    }
+
+    @Test
+    public void executionSuccessful() {
+        assertNull(sequentialResult.exception);
+        assertTrue(sequentialResult.success);
+
+        assertNull(lookaheadWindowResult.exception);
+        assertTrue(lookaheadWindowResult.success);
+    }
+}